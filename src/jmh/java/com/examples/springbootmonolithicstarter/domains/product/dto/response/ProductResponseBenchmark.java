@@ -0,0 +1,67 @@
+package com.examples.springbootmonolithicstarter.domains.product.dto.response;
+
+import com.examples.springbootmonolithicstarter.domains.product.model.Product;
+import com.examples.springbootmonolithicstarter.domains.product.model.ProductStatus;
+import com.examples.springbootmonolithicstarter.domains.product.repository.ProductRow;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 엔티티 / 프로젝션(ProductRow) 목록을 응답 DTO 목록으로 변환하는 비용 (목록 크기별)
+ * <p>
+ * 실행: ./gradlew jmh -PjmhIncludes="ProductResponseBenchmark"
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ProductResponseBenchmark {
+
+    /**
+     * 단건 조회, 페이지 크기(20, 최대 100), 대량 조회
+     */
+    @Param({"1", "20", "100", "1000"})
+    private int size;
+
+    private List<Product> products;
+    private List<ProductRow> rows;
+
+    @Setup
+    public void setUp() {
+        products = new ArrayList<>(size);
+        rows = new ArrayList<>(size);
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < size; i++) {
+            BigDecimal price = BigDecimal.valueOf(1_000_000 + i, 2);
+            products.add(Product.create("상품 " + i, "상품 설명 " + i, price, 100));
+            rows.add(new ProductRow((long) i, "상품 " + i, "상품 설명 " + i, price, 100, ProductStatus.AVAILABLE, now, now));
+        }
+    }
+
+    @Benchmark
+    public List<ProductResponse> fromProducts() {
+        return products.stream().map(ProductResponse::from).toList();
+    }
+
+    @Benchmark
+    public List<ProductResponse> fromRows() {
+        return rows.stream().map(ProductResponse::from).toList();
+    }
+}
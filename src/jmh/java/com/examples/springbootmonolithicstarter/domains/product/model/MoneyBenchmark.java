@@ -0,0 +1,124 @@
+package com.examples.springbootmonolithicstarter.domains.product.model;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문 금액 계산 경로 (Money.multiply, Money.add, Product.calculateTotalPrice) 의 연산당 시간과 할당량
+ * <p>
+ * baseline* 은 long 계산 도입 전의 BigDecimal 연산 (결과마다 BigDecimal + Money 생성) 과 같은 비교 기준이다.
+ * <p>
+ * 실행: ./gradlew jmh -PjmhIncludes="MoneyBenchmark"
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MoneyBenchmark {
+
+    /**
+     * 정수 금액과 소수점 둘째 자리 금액 (price 컬럼 scale)
+     */
+    @Param({"15000", "12345.67"})
+    private String price;
+
+    @Param({"3"})
+    private int quantity;
+
+    /**
+     * 장바구니 상품 수
+     */
+    @Param({"20"})
+    private int lines;
+
+    private Money money;
+    private Product product;
+    private Product[] cart;
+    private BigDecimalMoney baseline;
+    private BigDecimalMoney[] baselineCart;
+
+    @Setup
+    public void setUp() {
+        money = Money.of(new BigDecimal(price));
+        product = Product.create("벤치마크 상품", "설명", new BigDecimal(price), 1_000);
+        baseline = new BigDecimalMoney(new BigDecimal(price));
+        cart = new Product[lines];
+        baselineCart = new BigDecimalMoney[lines];
+        for (int i = 0; i < lines; i++) {
+            BigDecimal linePrice = new BigDecimal(price).add(BigDecimal.valueOf(i));
+            cart[i] = Product.create("상품 " + i, "설명", linePrice, 1_000);
+            baselineCart[i] = new BigDecimalMoney(linePrice);
+        }
+    }
+
+    @Benchmark
+    public Money multiply() {
+        return money.multiply(quantity);
+    }
+
+    @Benchmark
+    public Money add() {
+        return money.add(money);
+    }
+
+    @Benchmark
+    public Money calculateTotalPrice() {
+        return product.calculateTotalPrice(quantity);
+    }
+
+    @Benchmark
+    public Money cartTotal() {
+        Money total = Money.zero();
+        for (Product line : cart) {
+            total = total.add(line.calculateTotalPrice(quantity));
+        }
+        return total;
+    }
+
+    @Benchmark
+    public BigDecimalMoney baselineMultiply() {
+        return baseline.multiply(quantity);
+    }
+
+    @Benchmark
+    public BigDecimalMoney baselineAdd() {
+        return baseline.add(baseline);
+    }
+
+    @Benchmark
+    public BigDecimalMoney baselineCartTotal() {
+        BigDecimalMoney total = new BigDecimalMoney(BigDecimal.ZERO);
+        for (BigDecimalMoney line : baselineCart) {
+            total = total.add(line.multiply(quantity));
+        }
+        return total;
+    }
+
+    /**
+     * long 계산 도입 전 Money 의 연산
+     */
+    public record BigDecimalMoney(BigDecimal amount) {
+
+        BigDecimalMoney multiply(int quantity) {
+            return new BigDecimalMoney(amount.multiply(BigDecimal.valueOf(quantity)));
+        }
+
+        BigDecimalMoney add(BigDecimalMoney other) {
+            return new BigDecimalMoney(amount.add(other.amount));
+        }
+    }
+}
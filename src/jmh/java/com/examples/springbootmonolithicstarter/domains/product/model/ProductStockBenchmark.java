@@ -0,0 +1,46 @@
+package com.examples.springbootmonolithicstarter.domains.product.model;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 엔티티 재고 차감 (Product.removeStock, updatedAt 갱신 포함) 의 연산당 시간과 할당량
+ * <p>
+ * 실행: ./gradlew jmh -PjmhIncludes="ProductStockBenchmark"
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ProductStockBenchmark {
+
+    private Product product;
+
+    /**
+     * 반복(iteration)마다 재고를 채워 측정 중 재고가 소진되지 않도록 한다.
+     */
+    @Setup(Level.Iteration)
+    public void setUp() {
+        product = Product.create("벤치마크 상품", "설명", BigDecimal.valueOf(15000), Integer.MAX_VALUE);
+    }
+
+    @Benchmark
+    public Product removeStock() {
+        product.removeStock(1);
+        return product;
+    }
+}
@@ -0,0 +1,83 @@
+package com.examples.springbootmonolithicstarter.global.metrics;
+
+import com.examples.springbootmonolithicstarter.domains.product.stock.StockMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 서비스 메서드 호출 한 번에 더해지는 지표 기록 비용
+ * <p>
+ * direct 는 대상 객체 직접 호출, proxied 는 어드바이스 없는 AOP 프록시 호출, measured 는 {@link MeasuredAspect} 를 적용한 호출이다.
+ * measured - proxied 가 타이머 기록(p50/p99/p999 포함) 비용이다. 4개 스레드에서 같은 타이머에 동시에 기록한다.
+ * <p>
+ * 실행: ./gradlew jmh -PjmhIncludes="MeasuredAspectBenchmark"
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class MeasuredAspectBenchmark {
+
+    private SampleService direct;
+    private SampleService proxied;
+    private SampleService measured;
+    private StockMetrics stockMetrics;
+
+    @Setup
+    public void setUp() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        direct = new SampleService();
+        proxied = new AspectJProxyFactory(new SampleService()).getProxy();
+        AspectJProxyFactory factory = new AspectJProxyFactory(new SampleService());
+        factory.addAspect(new MeasuredAspect(meterRegistry));
+        measured = factory.getProxy();
+        stockMetrics = new StockMetrics(meterRegistry);
+    }
+
+    @Benchmark
+    public long direct() {
+        return direct.work(42L);
+    }
+
+    @Benchmark
+    public long proxied() {
+        return proxied.work(42L);
+    }
+
+    @Benchmark
+    public long measured() {
+        return measured.work(42L);
+    }
+
+    /**
+     * 트랜잭션 밖의 재고 차감 카운터 증가
+     */
+    @Benchmark
+    public void stockReserved() {
+        stockMetrics.recordReserved();
+    }
+
+    @Measured
+    public static class SampleService {
+
+        public long work(long value) {
+            return value * 31 + 7;
+        }
+    }
+}
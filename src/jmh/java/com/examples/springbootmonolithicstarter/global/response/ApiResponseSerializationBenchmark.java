@@ -0,0 +1,69 @@
+package com.examples.springbootmonolithicstarter.global.response;
+
+import com.examples.springbootmonolithicstarter.domains.product.dto.response.ProductResponse;
+import com.examples.springbootmonolithicstarter.domains.product.model.ProductStatus;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ApiResponse&lt;List&lt;ProductResponse&gt;&gt; 의 JSON 직렬화 비용 (목록 크기별)
+ * <p>
+ * ObjectMapper 는 Spring Boot 기본 설정(JavaTimeModule, 날짜를 ISO-8601 문자열로 기록)과 같게 구성한다.
+ * <p>
+ * 실행: ./gradlew jmh -PjmhIncludes="ApiResponseSerializationBenchmark"
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ApiResponseSerializationBenchmark {
+
+    @Param({"1", "20", "100", "1000"})
+    private int size;
+
+    private ObjectWriter writer;
+    private ApiResponse<List<ProductResponse>> response;
+
+    @Setup
+    public void setUp() {
+        writer = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, SerializationFeature.WRITE_DURATIONS_AS_TIMESTAMPS)
+                .build()
+                .writerFor(new TypeReference<ApiResponse<List<ProductResponse>>>() {
+                });
+        List<ProductResponse> products = new ArrayList<>(size);
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < size; i++) {
+            products.add(new ProductResponse((long) i, "상품 " + i, "상품 설명 " + i, BigDecimal.valueOf(1_000_000 + i, 2),
+                    100, ProductStatus.AVAILABLE, true, now, now));
+        }
+        response = ApiResponse.ok(products);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws JsonProcessingException {
+        return writer.writeValueAsBytes(response);
+    }
+}
@@ -0,0 +1,55 @@
+package com.examples.springbootmonolithicstarter.global.timing;
+
+import com.examples.springbootmonolithicstarter.global.timing.RequestTiming.Phase;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GET /api/products 한 건에 해당하는 구간 기록 비용 (JDBC 프록시 호출 비용 제외)
+ * <p>
+ * 요청 시작, 문장 실행 2회, 커밋, 변환 구간 계산, Server-Timing 헤더 생성, 요청 종료까지를 한 번의 연산으로 측정한다.
+ * inactive 는 요청 밖(측정하지 않는 스레드)에서의 기록 호출 비용이다.
+ * <p>
+ * 실행: ./gradlew jmh -PjmhIncludes="RequestTimingBenchmark"
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RequestTimingBenchmark {
+
+    @Benchmark
+    public String request() {
+        RequestTiming timing = RequestTiming.begin();
+        try {
+            for (int i = 0; i < 2; i++) {
+                long start = RequestTiming.start();
+                RequestTiming.stop(Phase.DB, start);
+            }
+            long commitStart = RequestTiming.start();
+            RequestTiming.stop(Phase.COMMIT, commitStart);
+            timing.markBodyWrite();
+            return timing.toServerTiming();
+        } finally {
+            RequestTiming.clear();
+            timing.finish();
+        }
+    }
+
+    @Benchmark
+    public void inactive() {
+        long start = RequestTiming.start();
+        RequestTiming.stop(Phase.DB, start);
+    }
+}
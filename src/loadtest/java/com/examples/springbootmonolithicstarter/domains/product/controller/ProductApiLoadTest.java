@@ -0,0 +1,169 @@
+package com.examples.springbootmonolithicstarter.domains.product.controller;
+
+import com.examples.springbootmonolithicstarter.SpringBootMonolithicStarterApplication;
+import com.examples.springbootmonolithicstarter.domains.product.service.application.ProductSearchApplicationService;
+import com.examples.springbootmonolithicstarter.support.benchmark.ProductTableSeeder;
+import com.examples.springbootmonolithicstarter.support.loadtest.LoadOperation;
+import com.examples.springbootmonolithicstarter.support.loadtest.LoadProfile;
+import com.examples.springbootmonolithicstarter.support.loadtest.LoadReport;
+import com.examples.springbootmonolithicstarter.support.loadtest.OpenLoadGenerator;
+import com.examples.springbootmonolithicstarter.support.loadtest.ZipfSampler;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.random.RandomGenerator;
+
+/**
+ * 상품 API 를 실제 HTTP 로 호출하는 부하 테스트 (내장 H2 로 애플리케이션을 무작위 포트에 띄움)
+ * <p>
+ * 상품을 JDBC 로 적재하고 검색 색인을 다시 구축한 뒤, 설정한 도착률과 혼합 비율로 요청을 보낸다. (open model)
+ * 단건 조회는 전체 상품에서, 재고 변경은 인기 상품(hot set)에서 Zipf 분포로 대상을 고르며, 검색어는 상품명 키워드에서 고른다.
+ * 예열 후 측정 구간의 요청 종류별 처리량과 응답 시간 분포를 출력하고 build/reports/loadtest/{버전} 에 저장한다.
+ * 부하 생성기와 서버가 한 JVM 의 CPU 를 함께 쓰므로, 빌드 간 비교는 같은 장비와 같은 설정에서만 의미가 있다.
+ * <p>
+ * 요청 종류: getProduct, search, list, removeStock, addStock
+ * 설정(-P): load.rate, load.arrival, load.warmUp, load.duration, load.mix, load.maxInFlight, load.requestTimeout,
+ * load.seed, load.products, load.hotProducts, load.zipfExponent
+ * <p>
+ * 실행: ./gradlew loadTest -Pload.rate=500 -Pload.duration=60s -Pload.mix="getProduct=90,search=8,removeStock=2"
+ * 애플리케이션 설정 변경: ./gradlew loadTest --args="--product.cache.enabled=false --product.stock.lock-strategy=ATOMIC_UPDATE"
+ */
+public final class ProductApiLoadTest {
+
+    private static final String DEFAULT_MIX = "getProduct=90,search=8,removeStock=2";
+    private static final String[] KEYWORDS = {"노트북", "키보드", "마우스", "모니터", "스피커", "헤드셋", "충전기", "케이블"};
+    private static final int INITIAL_STOCK = 1_000_000_000;
+
+    /**
+     * 같은 키를 명령행 인자로 주면 그 값을 사용한다. (명령행 인자가 중복되면 값이 합쳐지므로 기본값을 빼고 전달)
+     */
+    private static final List<String> DEFAULT_ARGUMENTS = List.of(
+            "--server.port=0",
+            "--spring.datasource.url=jdbc:h2:mem:load-test;DB_CLOSE_DELAY=-1",
+            "--spring.datasource.driver-class-name=org.h2.Driver",
+            "--spring.datasource.username=sa",
+            "--spring.datasource.password=",
+            "--spring.jpa.hibernate.ddl-auto=create-drop",
+            "--spring.jpa.show-sql=false",
+            "--spring.jpa.properties.hibernate.show_sql=false",
+            "--logging.level.org.springframework=warn",
+            "--logging.level.org.hibernate.SQL=warn",
+            "--logging.level.org.hibernate.orm.jdbc.bind=warn"
+    );
+
+    private ProductApiLoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadProfile profile = LoadProfile.fromSystemProperties(DEFAULT_MIX);
+        int products = Integer.getInteger("load.products", 100_000);
+        int hotProducts = Math.min(Integer.getInteger("load.hotProducts", 100), products);
+        double zipfExponent = Double.parseDouble(System.getProperty("load.zipfExponent", "1.0"));
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(SpringBootMonolithicStarterApplication.class)
+                .run(arguments(args))) {
+            long firstId = seed(context, products);
+            context.getBean(ProductSearchApplicationService.class).rebuild();
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+
+            ProductRequests requests = new ProductRequests("http://localhost:" + port + "/api/products", profile.requestTimeout(),
+                    firstId, new ZipfSampler(products, zipfExponent), new ZipfSampler(hotProducts, zipfExponent));
+            try (HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(profile.requestTimeout())
+                    .build()) {
+                OpenLoadGenerator generator = new OpenLoadGenerator(client, requests.operations(profile.mix()), profile);
+
+                System.out.printf("[WarmUp] products=%d hotProducts=%d zipfExponent=%.2f %s%n",
+                        products, hotProducts, zipfExponent, profile);
+                generator.run(profile.warmUp(), profile.seed() + 1);
+
+                LoadReport report = generator.run(profile.duration(), profile.seed());
+                report.print(System.out);
+                if (profile.reportDirectory() != null) {
+                    report.write(profile.reportDirectory());
+                    System.out.println("report: " + profile.reportDirectory().toAbsolutePath());
+                }
+            }
+        }
+    }
+
+    private static String[] arguments(String[] args) {
+        List<String> arguments = new ArrayList<>(Arrays.asList(args));
+        for (String defaultArgument : DEFAULT_ARGUMENTS) {
+            String key = defaultArgument.substring(0, defaultArgument.indexOf('=') + 1);
+            if (Arrays.stream(args).noneMatch(arg -> arg.startsWith(key))) {
+                arguments.add(defaultArgument);
+            }
+        }
+        return arguments.toArray(String[]::new);
+    }
+
+    private static long seed(ConfigurableApplicationContext context, int products) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> rows = new ArrayList<>(products);
+        for (int i = 0; i < products; i++) {
+            rows.add(new Object[]{KEYWORDS[i % KEYWORDS.length] + " " + i, "부하 테스트 상품 " + i,
+                    10000 + (i % 100) * 100, INITIAL_STOCK, "AVAILABLE", now, now, 0L});
+        }
+        return ProductTableSeeder.insert(context.getBean(JdbcTemplate.class), context.getBean(TransactionTemplate.class), rows);
+    }
+
+    /**
+     * 요청 종류별 요청 생성 (Zipf 순위 0 이 가장 많이 호출되는 상품)
+     */
+    private record ProductRequests(
+            String baseUrl,
+            Duration timeout,
+            long firstId,
+            ZipfSampler catalog,
+            ZipfSampler hotSet
+    ) {
+
+        List<LoadOperation> operations(Map<String, Integer> mix) {
+            Map<String, Function<RandomGenerator, HttpRequest>> requests = new LinkedHashMap<>();
+            requests.put("getProduct", random -> get("/" + (firstId + catalog.sample(random))));
+            requests.put("search", random -> get("/search?name="
+                    + URLEncoder.encode(KEYWORDS[random.nextInt(KEYWORDS.length)], StandardCharsets.UTF_8)));
+            requests.put("list", random -> get("?size=20"));
+            requests.put("removeStock", random -> post("/" + (firstId + hotSet.sample(random)) + "/stock/remove?quantity=1"));
+            requests.put("addStock", random -> post("/" + (firstId + hotSet.sample(random)) + "/stock/add?quantity=1"));
+
+            return mix.entrySet().stream()
+                    .map(entry -> {
+                        Function<RandomGenerator, HttpRequest> request = requests.get(entry.getKey());
+                        if (request == null) {
+                            throw new IllegalArgumentException(
+                                    "알 수 없는 요청 종류입니다: " + entry.getKey() + " (가능한 값: " + requests.keySet() + ")");
+                        }
+                        return new LoadOperation(entry.getKey(), entry.getValue(), request);
+                    })
+                    .toList();
+        }
+
+        private HttpRequest get(String path) {
+            return HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(timeout).GET().build();
+        }
+
+        private HttpRequest post(String path) {
+            return HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(timeout)
+                    .POST(HttpRequest.BodyPublishers.noBody()).build();
+        }
+    }
+}
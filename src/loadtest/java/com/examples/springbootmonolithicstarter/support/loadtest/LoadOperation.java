@@ -0,0 +1,25 @@
+package com.examples.springbootmonolithicstarter.support.loadtest;
+
+import java.net.http.HttpRequest;
+import java.util.function.Function;
+import java.util.random.RandomGenerator;
+
+/**
+ * 부하 혼합(mix)의 요청 종류 하나
+ *
+ * @param name    보고서에 표시할 이름
+ * @param weight  혼합 비율 (전체 가중치 합에 대한 비율로 뽑힘)
+ * @param request 요청을 만든다. (요청 대상 선택에 쓰는 난수를 받음)
+ */
+public record LoadOperation(
+        String name,
+        int weight,
+        Function<RandomGenerator, HttpRequest> request
+) {
+
+    public LoadOperation {
+        if (weight < 0) {
+            throw new IllegalArgumentException("weight must not be negative: " + name);
+        }
+    }
+}
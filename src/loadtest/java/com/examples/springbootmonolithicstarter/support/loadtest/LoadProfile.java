@@ -0,0 +1,79 @@
+package com.examples.springbootmonolithicstarter.support.loadtest;
+
+import org.springframework.boot.convert.DurationStyle;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 부하 생성 설정 (시스템 속성 load.* 에서 읽음, Gradle 에서는 -Pload.rate=500 처럼 전달)
+ *
+ * @param ratePerSecond   초당 요청 도착 수 (응답을 기다리지 않고 이 비율로 보냄)
+ * @param arrival         도착 간격 분포 (POISSON: 지수 분포, UNIFORM: 고정 간격)
+ * @param warmUp          결과에서 제외하는 예열 시간
+ * @param duration        측정 시간
+ * @param mix             요청 종류별 가중치 (예: getProduct=90,search=8,removeStock=2)
+ * @param maxInFlight     동시에 응답을 기다리는 최대 요청 수 (넘으면 보내지 않고 dropped 로 집계)
+ * @param requestTimeout  요청 하나의 최대 대기 시간
+ * @param seed            요청 종류/대상 선택 난수 시드 (같은 시드면 같은 요청 순서)
+ * @param reportDirectory 지연 시간 분포(.hgrm)와 요약을 저장할 디렉터리 (없으면 저장하지 않음)
+ */
+public record LoadProfile(
+        double ratePerSecond,
+        Arrival arrival,
+        Duration warmUp,
+        Duration duration,
+        Map<String, Integer> mix,
+        int maxInFlight,
+        Duration requestTimeout,
+        long seed,
+        Path reportDirectory
+) {
+
+    public enum Arrival {
+        POISSON, UNIFORM
+    }
+
+    public static LoadProfile fromSystemProperties(String defaultMix) {
+        String reportDirectory = System.getProperty("load.reportDirectory");
+        return new LoadProfile(
+                Double.parseDouble(System.getProperty("load.rate", "200")),
+                Arrival.valueOf(System.getProperty("load.arrival", "POISSON").toUpperCase(Locale.ROOT)),
+                duration("load.warmUp", "10s"),
+                duration("load.duration", "30s"),
+                parseMix(System.getProperty("load.mix", defaultMix)),
+                Integer.parseInt(System.getProperty("load.maxInFlight", "1000")),
+                duration("load.requestTimeout", "10s"),
+                Long.parseLong(System.getProperty("load.seed", "42")),
+                reportDirectory != null ? Path.of(reportDirectory) : null
+        );
+    }
+
+    /**
+     * "getProduct=90,search=8,removeStock=2" 형식 (순서 유지)
+     */
+    static Map<String, Integer> parseMix(String mix) {
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        for (String entry : mix.split(",")) {
+            String[] nameAndWeight = entry.strip().split("=");
+            if (nameAndWeight.length != 2) {
+                throw new IllegalArgumentException("load.mix 형식이 올바르지 않습니다: " + mix);
+            }
+            weights.put(nameAndWeight[0].strip(), Integer.parseInt(nameAndWeight[1].strip()));
+        }
+        return weights;
+    }
+
+    private static Duration duration(String key, String defaultValue) {
+        return DurationStyle.detectAndParse(System.getProperty(key, defaultValue));
+    }
+
+    @Override
+    public String toString() {
+        return "rate=%.0f/s arrival=%s warmUp=%s duration=%s mix=%s maxInFlight=%d seed=%d"
+                .formatted(ratePerSecond, arrival, warmUp, duration, mix, maxInFlight, seed);
+    }
+}
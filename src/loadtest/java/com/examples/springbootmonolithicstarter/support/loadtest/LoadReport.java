@@ -0,0 +1,94 @@
+package com.examples.springbootmonolithicstarter.support.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 부하 실행 결과: 요청 종류별 처리량, 오류 수, 지연 시간 분포
+ * <p>
+ * 디렉터리에 저장하면 요청 종류별 응답 시간 분포를 .hgrm(HdrHistogram 백분위 분포, 밀리초) 파일로,
+ * 요약을 summary.txt 로 남긴다. 빌드별 디렉터리의 .hgrm 파일을 HdrHistogram plotter 에 함께 올려 비교한다.
+ */
+public record LoadReport(
+        LoadProfile profile,
+        Duration duration,
+        Duration elapsed,
+        long sent,
+        long dropped,
+        Map<String, OperationResult> operations
+) {
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    /**
+     * @param responseTime 예정된 도착 시각부터 응답 완료까지 (성공 요청만)
+     * @param serviceTime  실제로 보낸 시각부터 응답 완료까지 (성공 요청만)
+     * @param errors       실패 원인(HTTP 상태 코드 또는 예외 이름)별 수
+     */
+    public record OperationResult(
+            String name,
+            Histogram responseTime,
+            Histogram serviceTime,
+            Map<String, Long> errors
+    ) {
+
+        public long succeeded() {
+            return responseTime.getTotalCount();
+        }
+
+        public long failed() {
+            return errors.values().stream().mapToLong(Long::longValue).sum();
+        }
+    }
+
+    public void print(PrintStream out) {
+        out.println(summary());
+    }
+
+    public void write(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        for (OperationResult operation : operations.values()) {
+            try (PrintStream out = new PrintStream(
+                    Files.newOutputStream(directory.resolve(operation.name() + ".hgrm")), false, StandardCharsets.UTF_8)) {
+                operation.responseTime().outputPercentileDistribution(out, NANOS_PER_MILLI);
+            }
+        }
+        Files.writeString(directory.resolve("summary.txt"), summary(), StandardCharsets.UTF_8);
+    }
+
+    public String summary() {
+        StringBuilder summary = new StringBuilder();
+        double seconds = duration.toNanos() / 1_000_000_000.0;
+        long completed = operations.values().stream().mapToLong(operation -> operation.succeeded() + operation.failed()).sum();
+        summary.append(String.format(Locale.ROOT, "profile: %s%n", profile));
+        summary.append(String.format(Locale.ROOT, "sent=%d dropped=%d completed=%d offered=%.1f/s throughput=%.1f/s elapsed=%dms%n",
+                sent, dropped, completed, (sent + dropped) / seconds, completed / (elapsed.toNanos() / 1_000_000_000.0),
+                elapsed.toMillis()));
+        summary.append(String.format(Locale.ROOT, "%-14s %9s %7s %9s %9s %9s %9s %9s %9s  %s%n",
+                "operation", "ok", "errors", "ok/s", "p50(ms)", "p90(ms)", "p99(ms)", "p99.9(ms)", "max(ms)", "service p50/p99(ms)"));
+        for (OperationResult operation : operations.values()) {
+            Histogram response = operation.responseTime();
+            Histogram service = operation.serviceTime();
+            summary.append(String.format(Locale.ROOT, "%-14s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f  %.2f/%.2f%s%n",
+                    operation.name(), operation.succeeded(), operation.failed(), operation.succeeded() / seconds,
+                    millis(response.getValueAtPercentile(50)), millis(response.getValueAtPercentile(90)),
+                    millis(response.getValueAtPercentile(99)), millis(response.getValueAtPercentile(99.9)),
+                    millis(response.getMaxValue()),
+                    millis(service.getValueAtPercentile(50)), millis(service.getValueAtPercentile(99)),
+                    operation.errors().isEmpty() ? "" : " errors=" + operation.errors()));
+        }
+        return summary.toString();
+    }
+
+    private static double millis(long nanos) {
+        return nanos / NANOS_PER_MILLI;
+    }
+}
@@ -0,0 +1,143 @@
+package com.examples.springbootmonolithicstarter.support.loadtest;
+
+import org.HdrHistogram.Recorder;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 응답과 관계없이 정해진 도착률로 요청을 보내는 부하 생성기 (open model)
+ * <p>
+ * 한 스레드가 도착 시각마다 요청 종류를 뽑아 가상 스레드로 보내며, 이전 요청의 응답을 기다리지 않는다.
+ * 응답 시간은 실제로 보낸 시각이 아닌 예정된 도착 시각부터 측정하므로, 서버가 밀려 생성기가 늦게 보낸 시간도
+ * 지연 시간에 포함된다. (coordinated omission 보정) 실제로 보낸 시각부터의 시간은 service time 으로 따로 기록한다.
+ * 응답을 기다리는 요청이 maxInFlight 에 도달하면 그 도착은 보내지 않고 dropped 로 집계한다.
+ */
+public final class OpenLoadGenerator {
+
+    private final HttpClient client;
+    private final List<LoadOperation> operations;
+    private final int totalWeight;
+    private final LoadProfile profile;
+
+    public OpenLoadGenerator(HttpClient client, List<LoadOperation> operations, LoadProfile profile) {
+        this.client = client;
+        this.operations = operations.stream().filter(operation -> operation.weight() > 0).toList();
+        this.totalWeight = this.operations.stream().mapToInt(LoadOperation::weight).sum();
+        this.profile = profile;
+        if (totalWeight == 0) {
+            throw new IllegalArgumentException("가중치가 0 보다 큰 요청 종류가 없습니다.");
+        }
+    }
+
+    public LoadReport run(Duration duration, long seed) throws InterruptedException {
+        SplittableRandom random = new SplittableRandom(seed);
+        Map<String, OperationStats> stats = new LinkedHashMap<>();
+        operations.forEach(operation -> stats.put(operation.name(), new OperationStats()));
+        AtomicInteger inFlight = new AtomicInteger();
+        long sent = 0;
+        long dropped = 0;
+
+        long startedAt = System.nanoTime();
+        long endAt = startedAt + duration.toNanos();
+        double intervalNanos = TimeUnit.SECONDS.toNanos(1) / profile.ratePerSecond();
+        double offsetNanos = 0;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long intendedAt = startedAt; intendedAt < endAt; intendedAt = startedAt + (long) offsetNanos) {
+                long waitNanos = intendedAt - System.nanoTime();
+                if (waitNanos > 0) {
+                    LockSupport.parkNanos(waitNanos);
+                }
+                LoadOperation operation = pick(random);
+                if (inFlight.get() >= profile.maxInFlight()) {
+                    dropped++;
+                } else {
+                    HttpRequest request = operation.request().apply(random);
+                    OperationStats operationStats = stats.get(operation.name());
+                    long scheduledAt = intendedAt;
+                    inFlight.incrementAndGet();
+                    executor.execute(() -> send(request, scheduledAt, operationStats, inFlight));
+                    sent++;
+                }
+                offsetNanos += profile.arrival() == LoadProfile.Arrival.POISSON
+                        ? -Math.log(1 - random.nextDouble()) * intervalNanos
+                        : intervalNanos;
+            }
+            executor.shutdown();
+            if (!executor.awaitTermination(profile.requestTimeout().toNanos() * 2, TimeUnit.NANOSECONDS)) {
+                executor.shutdownNow();
+            }
+        }
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - startedAt);
+
+        Map<String, LoadReport.OperationResult> results = new LinkedHashMap<>();
+        stats.forEach((name, operationStats) -> results.put(name, operationStats.toResult(name)));
+        return new LoadReport(profile, duration, elapsed, sent, dropped, results);
+    }
+
+    private LoadOperation pick(SplittableRandom random) {
+        int value = random.nextInt(totalWeight);
+        for (LoadOperation operation : operations) {
+            value -= operation.weight();
+            if (value < 0) {
+                return operation;
+            }
+        }
+        return operations.getLast();
+    }
+
+    private void send(HttpRequest request, long intendedAt, OperationStats stats, AtomicInteger inFlight) {
+        long sentAt = System.nanoTime();
+        try {
+            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+            long completedAt = System.nanoTime();
+            if (response.statusCode() < 400) {
+                stats.responseTime.recordValue(completedAt - intendedAt);
+                stats.serviceTime.recordValue(completedAt - sentAt);
+            } else {
+                stats.error(String.valueOf(response.statusCode()));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            stats.error(e.getClass().getSimpleName());
+        } catch (Exception e) {
+            stats.error(e.getClass().getSimpleName());
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    /**
+     * 요청 종류별 지연 시간 (HdrHistogram Recorder 는 여러 스레드에서 동시에 기록 가능)
+     */
+    private static final class OperationStats {
+
+        private final Recorder responseTime = new Recorder(3);
+        private final Recorder serviceTime = new Recorder(3);
+        private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+
+        void error(String cause) {
+            errors.computeIfAbsent(cause, key -> new LongAdder()).increment();
+        }
+
+        LoadReport.OperationResult toResult(String name) {
+            Map<String, Long> errorCounts = new LinkedHashMap<>();
+            errors.forEach((cause, count) -> errorCounts.put(cause, count.sum()));
+            return new LoadReport.OperationResult(name, responseTime.getIntervalHistogram(),
+                    serviceTime.getIntervalHistogram(), errorCounts);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.examples.springbootmonolithicstarter.support.loadtest;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/**
+ * 0 ~ size-1 의 순위를 Zipf 분포로 뽑는다. (순위 k 의 확률이 1 / (k+1)^exponent 에 비례, 0 이 가장 자주 뽑힘)
+ * <p>
+ * 누적 분포를 미리 계산해 두고 이진 탐색으로 뽑으므로 한 번 뽑는 비용은 O(log size) 이다.
+ */
+public final class ZipfSampler {
+
+    private final double[] cumulative;
+
+    public ZipfSampler(int size, double exponent) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("size must be positive: " + size);
+        }
+        cumulative = new double[size];
+        double sum = 0;
+        for (int rank = 0; rank < size; rank++) {
+            sum += 1 / Math.pow(rank + 1, exponent);
+            cumulative[rank] = sum;
+        }
+        for (int rank = 0; rank < size; rank++) {
+            cumulative[rank] /= sum;
+        }
+    }
+
+    public int sample(RandomGenerator random) {
+        int index = Arrays.binarySearch(cumulative, random.nextDouble());
+        int rank = index >= 0 ? index : -index - 1;
+        return Math.min(rank, cumulative.length - 1);
+    }
+}
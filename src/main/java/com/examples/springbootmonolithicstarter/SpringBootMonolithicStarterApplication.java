@@ -2,8 +2,10 @@ package com.examples.springbootmonolithicstarter;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 
 @SpringBootApplication
+@ConfigurationPropertiesScan
 public class SpringBootMonolithicStarterApplication {
 
     public static void main(String[] args) {
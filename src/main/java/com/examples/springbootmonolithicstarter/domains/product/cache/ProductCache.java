@@ -0,0 +1,166 @@
+package com.examples.springbootmonolithicstarter.domains.product.cache;
+
+import com.examples.springbootmonolithicstarter.domains.product.config.ProductCacheProperties;
+import com.examples.springbootmonolithicstarter.domains.product.dto.response.ProductResponse;
+import com.examples.springbootmonolithicstarter.domains.product.event.ProductChangedEvent;
+import com.examples.springbootmonolithicstarter.domains.product.event.ProductStatusChangedEvent;
+import com.examples.springbootmonolithicstarter.domains.product.event.ProductStockChangedEvent;
+import com.examples.springbootmonolithicstarter.domains.product.event.ProductsRepricedEvent;
+import com.examples.springbootmonolithicstarter.domains.product.jfr.ProductCacheLookupEvent;
+import com.examples.springbootmonolithicstarter.global.concurrent.SingleFlight;
+import com.examples.springbootmonolithicstarter.global.datasource.PrimaryRead;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+
+/**
+ * 상품 단건 조회 결과(ProductResponse)를 보관하는 read-through 캐시
+ * <p>
+ * 크기(W-TinyLFU)와 적재 후 경과 시간 기준으로 제거되며, 상품 정보/재고/상태 변경이 커밋된 후 해당 상품을 무효화한다.
+ * 일괄 가격 변경은 변경된 ID 구간 단위로 무효화한다.
+ * 같은 상품을 동시에 적재하는 요청은 하나만 DB 를 조회하고(single-flight), 나머지는 load-timeout 까지 그 결과를 기다린다.
+ * 적재 중에 무효화되면 그 결과는 캐시에 남지 않는다.
+ * 적재할 때는 복제본이 아닌 primary 에서 조회한다. (무효화 직후 복제 지연만큼 오래된 값이 만료 시간 동안 남지 않도록)
+ * DB 조회는 캐시 내부 잠금(synchronized) 밖에서 수행하므로, 가상 스레드에서 조회를 기다려도 캐리어 스레드가 고정되지 않는다.
+ * 적중/미스/제거 수는 actuator 의 cache.gets, cache.evictions 지표(cache=product)로 확인할 수 있다.
+ * 조회마다 JFR 이벤트({@link ProductCacheLookupEvent})를 기록한다. (recording 이 없으면 기록하지 않음)
+ */
+@Component
+public class ProductCache {
+
+    public static final String NAME = "product";
+
+    // 적재 중 무효화 여부를 판단하는 상품 ID 별 무효화 횟수 (ID 를 나누어 담으므로 다른 상품의 무효화로 적재가 버려질 수 있음)
+    private static final int INVALIDATION_SLOTS = 1024;
+
+    private final boolean enabled;
+    private final Duration loadTimeout;
+    private final Cache<Long, ProductResponse> cache;
+    private final SingleFlight<Long, ProductResponse> loads = new SingleFlight<>();
+    private final AtomicLongArray invalidations = new AtomicLongArray(INVALIDATION_SLOTS);
+    private final AtomicLong rangeInvalidations = new AtomicLong();
+
+    public ProductCache(ProductCacheProperties productCacheProperties, MeterRegistry meterRegistry) {
+        this.enabled = productCacheProperties.enabled();
+        this.loadTimeout = productCacheProperties.loadTimeout();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(productCacheProperties.maximumSize())
+                .expireAfterWrite(productCacheProperties.expireAfterWrite())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, NAME);
+    }
+
+    /**
+     * 캐시된 상품을 반환하고, 없으면 loader 로 조회하여 적재한다.
+     * loader 에서 발생한 예외는 함께 기다리던 요청에도 그대로 전달되며 적재되지 않는다.
+     * 캐시를 비활성화해도 동시 조회는 하나로 합친다.
+     *
+     * @throws com.examples.springbootmonolithicstarter.global.exception.BusinessException 다른 요청의 적재를 기다리다 시간이 초과된 경우
+     */
+    public ProductResponse get(Long productId, Function<Long, ProductResponse> loader) {
+        ProductCacheLookupEvent event = new ProductCacheLookupEvent(productId);
+        event.begin();
+        String result = ProductCacheLookupEvent.DISABLED;
+        try {
+            if (!enabled) {
+                return loads.execute(productId, loadTimeout, () -> loader.apply(productId));
+            }
+            ProductResponse cached = cache.getIfPresent(productId);
+            if (cached != null) {
+                result = ProductCacheLookupEvent.HIT;
+                return cached;
+            }
+            result = ProductCacheLookupEvent.MISS;
+            // 대기 요청이 Caffeine 의 적재 잠금이 아닌 single-flight 에서 기다리도록 하여 대기 시간을 제한
+            return loads.execute(productId, loadTimeout, () -> load(productId, loader));
+        } finally {
+            event.finish(result);
+        }
+    }
+
+    /**
+     * 캐시된 상품만 반환한다. (없는 상품은 적재하지 않으며, 캐시를 비활성화하면 빈 Map)
+     */
+    public Map<Long, ProductResponse> getAllPresent(Collection<Long> productIds) {
+        return enabled ? cache.getAllPresent(productIds) : Map.of();
+    }
+
+    /**
+     * loader 를 캐시 잠금 밖에서 실행하고, 그 사이 무효화가 없었을 때만 적재한다.
+     * (적중/미스는 get 의 getIfPresent 에서 한 번만 기록되도록 compute 로 적재)
+     */
+    private ProductResponse load(Long productId, Function<Long, ProductResponse> loader) {
+        int slot = slot(productId);
+        long invalidation = invalidations.get(slot);
+        long rangeInvalidation = rangeInvalidations.get();
+        ProductResponse loaded = PrimaryRead.execute(() -> loader.apply(productId));
+        cache.asMap().compute(productId, (id, current) -> {
+            if (current != null) {
+                return current;
+            }
+            boolean invalidated = invalidations.get(slot) != invalidation || rangeInvalidations.get() != rangeInvalidation;
+            return invalidated ? null : loaded;
+        });
+        return loaded;
+    }
+
+    public void invalidate(Long productId) {
+        // 진행 중인 적재가 결과를 넣지 않도록 캐시에서 제거하기 전에 증가
+        invalidations.incrementAndGet(slot(productId));
+        cache.invalidate(productId);
+    }
+
+    /**
+     * ID 구간 안의 캐시된 상품을 모두 무효화한다. (캐시 크기만큼 순회)
+     */
+    public void invalidateRange(Long fromId, Long toId) {
+        rangeInvalidations.incrementAndGet();
+        cache.asMap().keySet().removeIf(productId -> productId >= fromId && productId <= toId);
+    }
+
+    private static int slot(Long productId) {
+        return (int) Math.floorMod(productId, (long) INVALIDATION_SLOTS);
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    /**
+     * 비동기로 처리되는 제거 작업을 즉시 수행한다.
+     */
+    void cleanUp() {
+        cache.cleanUp();
+    }
+
+    @TransactionalEventListener
+    public void onProductChanged(ProductChangedEvent event) {
+        invalidate(event.productId());
+    }
+
+    @TransactionalEventListener
+    public void onProductStockChanged(ProductStockChangedEvent event) {
+        invalidate(event.productId());
+    }
+
+    @TransactionalEventListener
+    public void onProductStatusChanged(ProductStatusChangedEvent event) {
+        invalidate(event.productId());
+    }
+
+    @TransactionalEventListener
+    public void onProductsRepriced(ProductsRepricedEvent event) {
+        invalidateRange(event.fromId(), event.toId());
+    }
+}
@@ -0,0 +1,40 @@
+package com.examples.springbootmonolithicstarter.domains.product.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * 인기 상품(hot SKU) 재고를 메모리에서 처리하는 모드 설정
+ *
+ * @param enabled          활성화 여부
+ * @param productIds       메모리 원장으로 재고를 처리할 상품 ID 목록
+ * @param flushInterval    누적된 재고 변경분을 DB에 반영하는 주기
+ * @param journalDirectory 반영 전 재고 변경분을 기록하는 저널 디렉터리 (장애 복구용)
+ * @param journalStripes   저널을 나누는 stripe 수 (상품 ID 기준, stripe 마다 파일과 교체 잠금을 따로 사용)
+ * @param journalFsync     응답 전에 저널을 디스크에 동기화할지 여부 (false 면 프로세스 장애에만 유실되지 않음)
+ */
+@ConfigurationProperties(prefix = "product.stock.hot")
+public record HotStockProperties(
+        @DefaultValue("false")
+        boolean enabled,
+
+        @DefaultValue
+        Set<Long> productIds,
+
+        @DefaultValue("100ms")
+        Duration flushInterval,
+
+        @DefaultValue("./data/hot-stock-journal")
+        Path journalDirectory,
+
+        @DefaultValue("8")
+        int journalStripes,
+
+        @DefaultValue("true")
+        boolean journalFsync
+) {
+}
@@ -0,0 +1,24 @@
+package com.examples.springbootmonolithicstarter.domains.product.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 상품 대량 등록 설정
+ *
+ * @param batchSize 한 번의 JDBC 배치로 전송할 INSERT 수
+ * @param flushSize 영속성 컨텍스트를 flush + clear 하는 주기 (등록한 상품 수 기준, batchSize 의 배수 권장)
+ * @param updateChunkSize 일괄 변경 시 UPDATE 한 문장(한 트랜잭션)이 다루는 ID 구간 폭 또는 ID 목록 크기
+ */
+@ConfigurationProperties(prefix = "product.bulk")
+public record ProductBulkProperties(
+        @DefaultValue("100")
+        int batchSize,
+
+        @DefaultValue("1000")
+        int flushSize,
+
+        @DefaultValue("5000")
+        int updateChunkSize
+) {
+}
@@ -0,0 +1,30 @@
+package com.examples.springbootmonolithicstarter.domains.product.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 상품 단건 조회 캐시 설정
+ *
+ * @param enabled          캐시 사용 여부 (비활성화하면 항상 DB 에서 조회)
+ * @param maximumSize      최대 보관 상품 수 (초과 시 W-TinyLFU 정책으로 제거)
+ * @param expireAfterWrite 적재 후 만료 시간 (커밋 후 무효화가 누락되더라도 이 시간 이후에는 DB 값으로 갱신)
+ * @param loadTimeout      같은 상품을 먼저 조회 중인 요청의 결과를 기다리는 최대 시간
+ */
+@ConfigurationProperties(prefix = "product.cache")
+public record ProductCacheProperties(
+        @DefaultValue("true")
+        boolean enabled,
+
+        @DefaultValue("10000")
+        long maximumSize,
+
+        @DefaultValue("10m")
+        Duration expireAfterWrite,
+
+        @DefaultValue("3s")
+        Duration loadTimeout
+) {
+}
@@ -0,0 +1,31 @@
+package com.examples.springbootmonolithicstarter.domains.product.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 상품 CSV 가져오기 설정
+ * <p>
+ * 단계 사이의 큐에는 최대 queueCapacity 개의 청크만 대기하므로,
+ * 파일 크기와 관계없이 메모리에 올라오는 행 수는 대략 (2 * queueCapacity + parserThreads + 2) * chunkSize 로 제한된다.
+ *
+ * @param parserThreads     CSV 행 파싱 + 검증을 병렬로 수행하는 스레드 수
+ * @param chunkSize         단계 사이에 전달하는 행 묶음 크기 (한 트랜잭션으로 저장되는 최대 행 수)
+ * @param queueCapacity     단계 사이 큐에 대기할 수 있는 최대 청크 수 (가득 차면 앞 단계가 대기)
+ * @param maxReportedErrors 응답에 포함할 최대 행 오류 수 (초과분은 건수만 집계)
+ */
+@ConfigurationProperties(prefix = "product.import")
+public record ProductImportProperties(
+        @DefaultValue("4")
+        int parserThreads,
+
+        @DefaultValue("1000")
+        int chunkSize,
+
+        @DefaultValue("4")
+        int queueCapacity,
+
+        @DefaultValue("1000")
+        int maxReportedErrors
+) {
+}
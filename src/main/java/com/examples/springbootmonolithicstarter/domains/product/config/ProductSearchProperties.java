@@ -0,0 +1,16 @@
+package com.examples.springbootmonolithicstarter.domains.product.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 상품 검색 설정
+ *
+ * @param indexEnabled 메모리 검색/자동완성 색인 사용 여부 (비활성화 또는 색인 구축 전에는 DB 에서 조회)
+ */
+@ConfigurationProperties(prefix = "product.search")
+public record ProductSearchProperties(
+        @DefaultValue("true")
+        boolean indexEnabled
+) {
+}
@@ -0,0 +1,43 @@
+package com.examples.springbootmonolithicstarter.domains.product.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.List;
+
+/**
+ * 상품 저장소를 여러 DB(샤드)로 나누는 설정
+ * <p>
+ * 상품은 productId 를 샤드 수로 나눈 나머지로 샤드가 정해지므로, 데이터가 있는 상태에서 샤드 목록(순서, 개수)을 바꿀 수 없다.
+ *
+ * @param enabled         활성화 여부
+ * @param shards          샤드 접속 정보 (목록 순서가 샤드 번호)
+ * @param maximumPoolSize 샤드별 커넥션 풀 크기
+ * @param idBlockSize     샤드별 ID 시퀀스에서 한 번에 할당받는 ID 수
+ * @param fetchSize       전체 조회(스트리밍) 시 샤드별로 한 번에 가져오는 행 수
+ */
+@ConfigurationProperties(prefix = "product.sharding")
+public record ProductShardingProperties(
+        @DefaultValue("false")
+        boolean enabled,
+
+        @DefaultValue
+        List<Shard> shards,
+
+        @DefaultValue("10")
+        int maximumPoolSize,
+
+        @DefaultValue("100")
+        int idBlockSize,
+
+        @DefaultValue("1000")
+        int fetchSize
+) {
+
+    public record Shard(
+            String url,
+            String username,
+            String password
+    ) {
+    }
+}
@@ -0,0 +1,34 @@
+package com.examples.springbootmonolithicstarter.domains.product.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 같은 상품에 대한 동시 재고 변경 요청을 모아서 한 트랜잭션으로 처리하는 설정
+ *
+ * @param enabled       활성화 여부
+ * @param window        첫 요청 이후 다른 요청을 모으는 최대 대기 시간
+ * @param maxBatchSize  한 트랜잭션에서 처리할 최대 요청 수 (도달 시 대기 없이 즉시 처리)
+ * @param workerThreads 배치를 처리하는 스레드 수 (DB 커넥션 풀 크기보다 작게 설정)
+ * @param timeout       요청이 배치 처리를 기다리는 최대 시간 (넘으면 요청을 반영하지 않고 실패)
+ */
+@ConfigurationProperties(prefix = "product.stock.batch")
+public record StockBatchProperties(
+        @DefaultValue("false")
+        boolean enabled,
+
+        @DefaultValue("2ms")
+        Duration window,
+
+        @DefaultValue("256")
+        int maxBatchSize,
+
+        @DefaultValue("4")
+        int workerThreads,
+
+        @DefaultValue("5s")
+        Duration timeout
+) {
+}
@@ -0,0 +1,22 @@
+package com.examples.springbootmonolithicstarter.domains.product.config;
+
+/**
+ * 재고 차감/추가 시 동시성 제어 전략
+ */
+public enum StockLockStrategy {
+
+    /**
+     * SELECT ... FOR UPDATE 로 행을 잠근 뒤 엔티티의 비즈니스 메서드로 변경
+     */
+    PESSIMISTIC,
+
+    /**
+     * @Version 기반 낙관적 락, 충돌 시 트랜잭션 단위로 재시도
+     */
+    OPTIMISTIC,
+
+    /**
+     * 조건부 UPDATE 한 문장으로 검증과 변경을 동시에 수행
+     */
+    ATOMIC_UPDATE
+}
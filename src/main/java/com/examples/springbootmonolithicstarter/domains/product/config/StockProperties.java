@@ -0,0 +1,11 @@
+package com.examples.springbootmonolithicstarter.domains.product.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "product.stock")
+public record StockProperties(
+        @DefaultValue("PESSIMISTIC")
+        StockLockStrategy lockStrategy
+) {
+}
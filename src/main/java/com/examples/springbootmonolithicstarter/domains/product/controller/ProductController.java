@@ -1,16 +1,40 @@
 package com.examples.springbootmonolithicstarter.domains.product.controller;
 
+import com.examples.springbootmonolithicstarter.domains.product.dto.request.BulkChangeStatusRequest;
+import com.examples.springbootmonolithicstarter.domains.product.dto.request.BulkCreateProductRequest;
+import com.examples.springbootmonolithicstarter.domains.product.dto.request.BulkRepriceRequest;
 import com.examples.springbootmonolithicstarter.domains.product.dto.request.CreateProductRequest;
+import com.examples.springbootmonolithicstarter.domains.product.dto.request.QuoteRequest;
+import com.examples.springbootmonolithicstarter.domains.product.dto.request.ReserveStockRequest;
 import com.examples.springbootmonolithicstarter.domains.product.dto.request.UpdateProductRequest;
+import com.examples.springbootmonolithicstarter.domains.product.dto.response.BulkCreateProductResponse;
+import com.examples.springbootmonolithicstarter.domains.product.dto.response.BulkUpdateProductResponse;
+import com.examples.springbootmonolithicstarter.domains.product.dto.response.ProductImportResponse;
 import com.examples.springbootmonolithicstarter.domains.product.dto.response.ProductResponse;
+import com.examples.springbootmonolithicstarter.domains.product.dto.response.ProductSuggestionResponse;
+import com.examples.springbootmonolithicstarter.domains.product.dto.response.QuoteResponse;
+import com.examples.springbootmonolithicstarter.domains.product.export.ProductExportFormat;
 import com.examples.springbootmonolithicstarter.domains.product.service.application.ProductApplicationService;
+import com.examples.springbootmonolithicstarter.domains.product.service.application.ProductBulkService;
+import com.examples.springbootmonolithicstarter.domains.product.service.application.ProductBulkUpdateService;
+import com.examples.springbootmonolithicstarter.domains.product.service.application.ProductExportService;
+import com.examples.springbootmonolithicstarter.domains.product.service.application.ProductImportService;
 import com.examples.springbootmonolithicstarter.global.response.ApiResponse;
+import com.examples.springbootmonolithicstarter.global.response.CursorPageResponse;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.WebAsyncTask;
+import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
 import java.util.List;
 
 @RestController
@@ -18,7 +42,16 @@ import java.util.List;
 @RequiredArgsConstructor
 public class ProductController {
 
+    /**
+     * 상품 전체 내보내기 최대 처리 시간
+     */
+    static final Duration EXPORT_TIMEOUT = Duration.ofMinutes(30);
+
     private final ProductApplicationService productApplicationService;
+    private final ProductExportService productExportService;
+    private final ProductBulkService productBulkService;
+    private final ProductBulkUpdateService productBulkUpdateService;
+    private final ProductImportService productImportService;
 
     @PostMapping
     public ResponseEntity<ApiResponse<ProductResponse>> createProduct(
@@ -29,6 +62,63 @@ public class ProductController {
                 .body(ApiResponse.ok(response));
     }
 
+    /**
+     * 여러 상품을 한 트랜잭션에서 등록한다. (JDBC 배치 INSERT)
+     */
+    @PostMapping("/bulk")
+    public ResponseEntity<ApiResponse<BulkCreateProductResponse>> createProducts(
+            @Valid @RequestBody BulkCreateProductRequest request
+    ) {
+        BulkCreateProductResponse response = productBulkService.createProducts(request.products());
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(ApiResponse.ok(response));
+    }
+
+    /**
+     * 조건에 맞는 상품의 가격을 비율로 일괄 변경한다. (청크 단위 UPDATE 문)
+     */
+    @PostMapping("/bulk/reprice")
+    public ResponseEntity<ApiResponse<BulkUpdateProductResponse>> repriceProducts(
+            @Valid @RequestBody BulkRepriceRequest request
+    ) {
+        BulkUpdateProductResponse response = productBulkUpdateService.reprice(request);
+        return ResponseEntity.ok(ApiResponse.ok(response));
+    }
+
+    /**
+     * 여러 상품의 판매 상태를 일괄 변경한다. (청크 단위 UPDATE 문)
+     */
+    @PostMapping("/bulk/status")
+    public ResponseEntity<ApiResponse<BulkUpdateProductResponse>> changeProductStatuses(
+            @Valid @RequestBody BulkChangeStatusRequest request
+    ) {
+        BulkUpdateProductResponse response = productBulkUpdateService.changeStatus(request);
+        return ResponseEntity.ok(ApiResponse.ok(response));
+    }
+
+    /**
+     * CSV 파일(name, description, price, stockQuantity[, id])을 스트림으로 읽어 상품을 등록/수정한다.
+     * 행 단위 오류는 응답에 포함되며, 오류가 있어도 나머지 행은 반영된다.
+     */
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ApiResponse<ProductImportResponse>> importProducts(
+            @RequestParam("file") MultipartFile file
+    ) throws IOException {
+        ProductImportResponse response;
+        try (InputStream inputStream = file.getInputStream()) {
+            response = productImportService.importCsv(file.getOriginalFilename(), inputStream);
+        }
+        return ResponseEntity.ok(ApiResponse.ok(response));
+    }
+
+    /**
+     * 진행 중인 가져오기의 진행 상황
+     */
+    @GetMapping("/import")
+    public ResponseEntity<ApiResponse<List<ProductImportResponse>>> getRunningImports() {
+        return ResponseEntity.ok(ApiResponse.ok(productImportService.getRunningImports()));
+    }
+
     @GetMapping("/{productId}")
     public ResponseEntity<ApiResponse<ProductResponse>> getProduct(
             @PathVariable Long productId
@@ -38,22 +128,56 @@ public class ProductController {
     }
 
     @GetMapping
-    public ResponseEntity<ApiResponse<List<ProductResponse>>> getAllProducts() {
-        List<ProductResponse> response = productApplicationService.getAllProducts();
+    public ResponseEntity<ApiResponse<CursorPageResponse<ProductResponse>>> getAllProducts(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        CursorPageResponse<ProductResponse> response = productApplicationService.getAllProducts(cursor, size);
         return ResponseEntity.ok(ApiResponse.ok(response));
     }
 
     @GetMapping("/available")
-    public ResponseEntity<ApiResponse<List<ProductResponse>>> getAvailableProducts() {
-        List<ProductResponse> response = productApplicationService.getAvailableProducts();
+    public ResponseEntity<ApiResponse<CursorPageResponse<ProductResponse>>> getAvailableProducts(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        CursorPageResponse<ProductResponse> response = productApplicationService.getAvailableProducts(cursor, size);
         return ResponseEntity.ok(ApiResponse.ok(response));
     }
 
+    /**
+     * 전체 상품을 NDJSON 또는 CSV 로 스트리밍한다. (응답 본문을 메모리에 만들지 않음)
+     * 다른 비동기 요청은 기본 제한 시간을 쓰고, 이 요청에만 {@link #EXPORT_TIMEOUT}을 적용한다.
+     */
+    @GetMapping("/export")
+    public WebAsyncTask<Void> exportProducts(
+            @RequestParam(defaultValue = "NDJSON") ProductExportFormat format,
+            HttpServletResponse response
+    ) {
+        productExportService.checkExportable();
+        response.setContentType(format.getMediaType().toString());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"products." + format.getExtension() + "\"");
+        return new WebAsyncTask<>(EXPORT_TIMEOUT.toMillis(), () -> {
+            productExportService.export(format, response.getOutputStream());
+            return null;
+        });
+    }
+
     @GetMapping("/search")
     public ResponseEntity<ApiResponse<List<ProductResponse>>> searchProducts(
-            @RequestParam String name
+            @RequestParam String name,
+            @RequestParam(defaultValue = "20") int limit
+    ) {
+        List<ProductResponse> response = productApplicationService.searchProducts(name, limit);
+        return ResponseEntity.ok(ApiResponse.ok(response));
+    }
+
+    @GetMapping("/suggest")
+    public ResponseEntity<ApiResponse<List<ProductSuggestionResponse>>> suggestProducts(
+            @RequestParam String prefix,
+            @RequestParam(defaultValue = "10") int limit
     ) {
-        List<ProductResponse> response = productApplicationService.searchProducts(name);
+        List<ProductSuggestionResponse> response = productApplicationService.suggestProducts(prefix, limit);
         return ResponseEntity.ok(ApiResponse.ok(response));
     }
 
@@ -84,6 +208,25 @@ public class ProductController {
         return ResponseEntity.ok(ApiResponse.ok(null));
     }
 
+    /**
+     * 상품별 수량의 금액과 합계를 계산한다. (재고는 예약하지 않음)
+     */
+    @PostMapping("/quote")
+    public ResponseEntity<ApiResponse<QuoteResponse>> quote(
+            @Valid @RequestBody QuoteRequest request
+    ) {
+        QuoteResponse response = productApplicationService.quote(request);
+        return ResponseEntity.ok(ApiResponse.ok(response));
+    }
+
+    @PostMapping("/stock/reserve")
+    public ResponseEntity<ApiResponse<Void>> reserveStocks(
+            @Valid @RequestBody ReserveStockRequest request
+    ) {
+        productApplicationService.reserveStocks(request);
+        return ResponseEntity.ok(ApiResponse.ok(null));
+    }
+
     @PostMapping("/{productId}/discontinue")
     public ResponseEntity<ApiResponse<Void>> discontinueProduct(
             @PathVariable Long productId
@@ -0,0 +1,21 @@
+package com.examples.springbootmonolithicstarter.domains.product.dto.request;
+
+import com.examples.springbootmonolithicstarter.domains.product.model.ProductStatus;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * @param status 변경할 상태 (AVAILABLE: 판매 재개, DISCONTINUED: 판매 중지)
+ */
+public record BulkChangeStatusRequest(
+        @NotEmpty(message = "상품 ID 목록은 필수입니다.")
+        @Size(max = 100_000, message = "한 번에 변경할 수 있는 상품은 100,000개 이하입니다.")
+        List<@NotNull Long> productIds,
+
+        @NotNull(message = "변경할 상태는 필수입니다.")
+        ProductStatus status
+) {
+}
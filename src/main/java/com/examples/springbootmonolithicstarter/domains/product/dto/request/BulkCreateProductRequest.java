@@ -0,0 +1,14 @@
+package com.examples.springbootmonolithicstarter.domains.product.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record BulkCreateProductRequest(
+        @NotEmpty(message = "등록할 상품은 필수입니다.")
+        @Size(max = 10_000, message = "한 번에 등록할 수 있는 상품은 10,000개 이하입니다.")
+        List<@Valid CreateProductRequest> products
+) {
+}
@@ -0,0 +1,33 @@
+package com.examples.springbootmonolithicstarter.domains.product.dto.request;
+
+import com.examples.springbootmonolithicstarter.domains.product.model.ProductStatus;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotNull;
+
+import java.math.BigDecimal;
+
+/**
+ * 조건에 맞는 상품의 가격을 일정 비율로 변경한다. 조건을 지정하지 않으면 전체 상품이 대상이다.
+ *
+ * @param percent      가격 변경률 (%, 7 이면 7% 인상, -10 이면 10% 인하)
+ * @param status       대상 상품 상태
+ * @param nameContains 상품명에 포함된 문자열
+ * @param minPrice     변경 전 가격 하한 (포함)
+ * @param maxPrice     변경 전 가격 상한 (포함)
+ */
+public record BulkRepriceRequest(
+        @NotNull(message = "가격 변경률은 필수입니다.")
+        @DecimalMin(value = "-100", message = "가격 변경률은 -100% 이상이어야 합니다.")
+        BigDecimal percent,
+
+        ProductStatus status,
+
+        String nameContains,
+
+        @DecimalMin(value = "0", message = "가격 하한은 0 이상이어야 합니다.")
+        BigDecimal minPrice,
+
+        @DecimalMin(value = "0", message = "가격 상한은 0 이상이어야 합니다.")
+        BigDecimal maxPrice
+) {
+}
@@ -0,0 +1,26 @@
+package com.examples.springbootmonolithicstarter.domains.product.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record QuoteRequest(
+        @NotEmpty(message = "견적할 상품은 필수입니다.")
+        @Size(max = 1000, message = "한 번에 견적할 수 있는 상품은 1000개 이하입니다.")
+        List<@Valid Line> lines
+) {
+
+    public record Line(
+            @NotNull(message = "상품 ID는 필수입니다.")
+            Long productId,
+
+            @NotNull(message = "수량은 필수입니다.")
+            @Min(value = 1, message = "수량은 1 이상이어야 합니다.")
+            Integer quantity
+    ) {
+    }
+}
@@ -0,0 +1,15 @@
+package com.examples.springbootmonolithicstarter.domains.product.dto.response;
+
+import java.util.List;
+
+/**
+ * @param ids 요청 순서와 같은 순서의 생성된 상품 ID
+ */
+public record BulkCreateProductResponse(
+        int createdCount,
+        List<Long> ids
+) {
+    public static BulkCreateProductResponse of(List<Long> ids) {
+        return new BulkCreateProductResponse(ids.size(), ids);
+    }
+}
@@ -0,0 +1,11 @@
+package com.examples.springbootmonolithicstarter.domains.product.dto.response;
+
+/**
+ * @param updatedCount   변경된 상품 수
+ * @param statementCount 실행한 UPDATE 문 수 (청크 수)
+ */
+public record BulkUpdateProductResponse(
+        long updatedCount,
+        int statementCount
+) {
+}
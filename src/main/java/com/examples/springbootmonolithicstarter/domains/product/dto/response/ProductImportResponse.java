@@ -0,0 +1,42 @@
+package com.examples.springbootmonolithicstarter.domains.product.dto.response;
+
+import com.examples.springbootmonolithicstarter.domains.product.importer.ProductImportError;
+import com.examples.springbootmonolithicstarter.domains.product.importer.ProductImportProgress;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * @param readRows        읽은 데이터 행 수 (헤더 제외)
+ * @param errors          가져오지 못한 행 (줄 번호 순, 최대 보관 건수까지)
+ * @param errorsTruncated 오류가 최대 보관 건수를 넘어 일부만 포함되었는지 여부
+ */
+public record ProductImportResponse(
+        String importId,
+        String fileName,
+        boolean completed,
+        long readRows,
+        long createdRows,
+        long updatedRows,
+        long failedRows,
+        List<ProductImportError> errors,
+        boolean errorsTruncated,
+        LocalDateTime startedAt,
+        long elapsedMillis
+) {
+    public static ProductImportResponse from(ProductImportProgress progress) {
+        return new ProductImportResponse(
+                progress.getImportId(),
+                progress.getFileName(),
+                progress.isCompleted(),
+                progress.getReadRows(),
+                progress.getCreatedRows(),
+                progress.getUpdatedRows(),
+                progress.getFailedRows(),
+                progress.getErrors(),
+                progress.isErrorsTruncated(),
+                progress.getStartedAt(),
+                progress.getElapsed().toMillis()
+        );
+    }
+}
@@ -2,6 +2,7 @@ package com.examples.springbootmonolithicstarter.domains.product.dto.response;
 
 import com.examples.springbootmonolithicstarter.domains.product.model.Product;
 import com.examples.springbootmonolithicstarter.domains.product.model.ProductStatus;
+import com.examples.springbootmonolithicstarter.domains.product.repository.ProductRow;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -30,4 +31,26 @@ public record ProductResponse(
                 product.getUpdatedAt()
         );
     }
+
+    public static ProductResponse from(ProductRow row) {
+        return new ProductResponse(
+                row.id(),
+                row.name(),
+                row.description(),
+                row.price(),
+                row.stockQuantity(),
+                row.status(),
+                row.isAvailable(),
+                row.createdAt(),
+                row.updatedAt()
+        );
+    }
+
+    /**
+     * 재고 수량만 바꾼 응답 (판매 가능 여부도 새 수량으로 계산)
+     */
+    public ProductResponse withStockQuantity(int stockQuantity) {
+        return new ProductResponse(id, name, description, price, stockQuantity, status,
+                Product.isAvailable(status, stockQuantity), createdAt, updatedAt);
+    }
 }
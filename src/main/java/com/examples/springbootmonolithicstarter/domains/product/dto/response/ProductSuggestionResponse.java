@@ -0,0 +1,22 @@
+package com.examples.springbootmonolithicstarter.domains.product.dto.response;
+
+import com.examples.springbootmonolithicstarter.domains.product.model.ProductStatus;
+import com.examples.springbootmonolithicstarter.domains.product.repository.ProductRow;
+import com.examples.springbootmonolithicstarter.domains.product.search.Suggestion;
+
+/**
+ * @param available 판매 상태가 AVAILABLE 인지 (자동완성은 재고 수량을 보지 않음)
+ */
+public record ProductSuggestionResponse(
+        Long id,
+        String name,
+        boolean available
+) {
+    public static ProductSuggestionResponse from(Suggestion suggestion) {
+        return new ProductSuggestionResponse(suggestion.productId(), suggestion.name(), suggestion.available());
+    }
+
+    public static ProductSuggestionResponse from(ProductRow row) {
+        return new ProductSuggestionResponse(row.id(), row.name(), row.status() == ProductStatus.AVAILABLE);
+    }
+}
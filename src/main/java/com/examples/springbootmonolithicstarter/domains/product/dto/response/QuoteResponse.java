@@ -0,0 +1,29 @@
+package com.examples.springbootmonolithicstarter.domains.product.dto.response;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * @param lines      요청한 줄 순서의 줄별 금액
+ * @param totalPrice 줄별 금액의 합계
+ */
+public record QuoteResponse(
+        List<Line> lines,
+        BigDecimal totalPrice
+) {
+
+    /**
+     * @param unitPrice 상품 가격
+     * @param lineTotal 상품 가격 × 수량
+     * @param available 판매 가능 여부 (판매 중지/품절 상품도 금액은 계산)
+     */
+    public record Line(
+            Long productId,
+            String name,
+            BigDecimal unitPrice,
+            int quantity,
+            BigDecimal lineTotal,
+            boolean available
+    ) {
+    }
+}
@@ -0,0 +1,14 @@
+package com.examples.springbootmonolithicstarter.domains.product.event;
+
+import com.examples.springbootmonolithicstarter.domains.product.model.ProductStatus;
+
+/**
+ * 상품이 생성되거나 정보가 수정되었을 때 발행된다. (변경 후 값)
+ */
+public record ProductChangedEvent(
+        Long productId,
+        String name,
+        String description,
+        ProductStatus status
+) {
+}
@@ -0,0 +1,9 @@
+package com.examples.springbootmonolithicstarter.domains.product.event;
+
+import com.examples.springbootmonolithicstarter.domains.product.model.ProductStatus;
+
+public record ProductStatusChangedEvent(
+        Long productId,
+        ProductStatus status
+) {
+}
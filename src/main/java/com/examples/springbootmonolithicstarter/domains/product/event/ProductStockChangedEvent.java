@@ -0,0 +1,6 @@
+package com.examples.springbootmonolithicstarter.domains.product.event;
+
+public record ProductStockChangedEvent(
+        Long productId
+) {
+}
@@ -0,0 +1,10 @@
+package com.examples.springbootmonolithicstarter.domains.product.event;
+
+/**
+ * ID 구간 안의 상품 가격이 일괄 변경되었을 때 발행된다. (구간 안의 일부 상품만 변경되었을 수 있음)
+ */
+public record ProductsRepricedEvent(
+        Long fromId,
+        Long toId
+) {
+}
@@ -0,0 +1,11 @@
+package com.examples.springbootmonolithicstarter.domains.product.exception;
+
+import com.examples.springbootmonolithicstarter.global.exception.BusinessException;
+import com.examples.springbootmonolithicstarter.global.exception.CommonErrorCode;
+
+public class InvalidProductImportFileException extends BusinessException {
+
+    public InvalidProductImportFileException(String message) {
+        super(CommonErrorCode.PRODUCT_IMPORT_INVALID_FILE, message);
+    }
+}
@@ -0,0 +1,14 @@
+package com.examples.springbootmonolithicstarter.domains.product.exception;
+
+import com.examples.springbootmonolithicstarter.global.exception.BusinessException;
+import com.examples.springbootmonolithicstarter.global.exception.CommonErrorCode;
+
+/**
+ * 단일 DB 의 products 테이블을 직접 다루는 기능을 샤드 저장소 사용 중에 호출했을 때 발생한다.
+ */
+public class ProductShardingUnsupportedException extends BusinessException {
+
+    public ProductShardingUnsupportedException(String feature) {
+        super(CommonErrorCode.PRODUCT_SHARDING_UNSUPPORTED, "샤드 저장소를 사용하는 동안에는 지원하지 않는 기능입니다: " + feature);
+    }
+}
@@ -0,0 +1,45 @@
+package com.examples.springbootmonolithicstarter.domains.product.exception;
+
+import com.examples.springbootmonolithicstarter.global.exception.BusinessException;
+import com.examples.springbootmonolithicstarter.global.exception.CommonErrorCode;
+import lombok.Getter;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 여러 상품의 재고를 한 번에 예약할 때 부족한 상품이 하나라도 있으면 발생한다.
+ * 응답의 errors 에 상품 ID 별 부족 내역이 담긴다.
+ */
+@Getter
+public class ProductStockShortageException extends BusinessException {
+
+    private final List<Shortage> shortages;
+
+    public ProductStockShortageException(List<Shortage> shortages) {
+        super(CommonErrorCode.PRODUCT_STOCK_SHORTAGE,
+                "재고가 부족한 상품이 있습니다. 상품 수: " + shortages.size(),
+                toFieldErrors(shortages));
+        this.shortages = shortages;
+    }
+
+    private static Map<String, String> toFieldErrors(List<Shortage> shortages) {
+        Map<String, String> fieldErrors = new LinkedHashMap<>();
+        shortages.forEach(shortage -> fieldErrors.put(
+                String.valueOf(shortage.productId()),
+                shortage.found()
+                        ? String.format("요청: %d, 가용: %d", shortage.requestedQuantity(), shortage.availableQuantity())
+                        : "상품을 찾을 수 없습니다."
+        ));
+        return fieldErrors;
+    }
+
+    public record Shortage(
+            Long productId,
+            boolean found,
+            int requestedQuantity,
+            int availableQuantity
+    ) {
+    }
+}
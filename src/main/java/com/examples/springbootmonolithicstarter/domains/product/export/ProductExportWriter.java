@@ -0,0 +1,112 @@
+package com.examples.springbootmonolithicstarter.domains.product.export;
+
+import com.examples.springbootmonolithicstarter.domains.product.dto.response.ProductResponse;
+import com.examples.springbootmonolithicstarter.domains.product.model.Product;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 상품을 한 건씩 출력 스트림에 기록한다. (전체 목록을 메모리에 만들지 않음)
+ */
+public abstract class ProductExportWriter {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    protected final Writer writer;
+
+    private ProductExportWriter(OutputStream outputStream) {
+        this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), BUFFER_SIZE);
+    }
+
+    public static ProductExportWriter of(ProductExportFormat format, OutputStream outputStream, ObjectMapper objectMapper) {
+        return switch (format) {
+            case NDJSON -> new NdjsonWriter(outputStream, objectMapper);
+            case CSV -> new CsvWriter(outputStream);
+        };
+    }
+
+    public void writeHeader() throws IOException {
+    }
+
+    public abstract void write(Product product) throws IOException;
+
+    /**
+     * 버퍼를 비운다. 출력 스트림은 서블릿 컨테이너가 닫는다.
+     */
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    private static final class NdjsonWriter extends ProductExportWriter {
+
+        private final ObjectWriter objectWriter;
+
+        private NdjsonWriter(OutputStream outputStream, ObjectMapper objectMapper) {
+            super(outputStream);
+            this.objectWriter = objectMapper.writerFor(ProductResponse.class)
+                    .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        }
+
+        @Override
+        public void write(Product product) throws IOException {
+            objectWriter.writeValue(writer, ProductResponse.from(product));
+            writer.write('\n');
+        }
+    }
+
+    private static final class CsvWriter extends ProductExportWriter {
+
+        private CsvWriter(OutputStream outputStream) {
+            super(outputStream);
+        }
+
+        @Override
+        public void writeHeader() throws IOException {
+            writer.write("id,name,description,price,stockQuantity,status,createdAt,updatedAt\n");
+        }
+
+        @Override
+        public void write(Product product) throws IOException {
+            writer.write(String.valueOf(product.getId()));
+            writer.write(',');
+            writeField(product.getName());
+            writer.write(',');
+            writeField(product.getDescription());
+            writer.write(',');
+            writer.write(product.getPrice().getAmount().toPlainString());
+            writer.write(',');
+            writer.write(String.valueOf(product.getStockQuantity()));
+            writer.write(',');
+            writer.write(product.getStatus().name());
+            writer.write(',');
+            writeField(product.getCreatedAt() == null ? null : product.getCreatedAt().toString());
+            writer.write(',');
+            writeField(product.getUpdatedAt() == null ? null : product.getUpdatedAt().toString());
+            writer.write('\n');
+        }
+
+        /**
+         * RFC 4180: 쉼표, 큰따옴표, 줄바꿈이 포함된 값은 큰따옴표로 감싸고 내부 큰따옴표는 두 번 쓴다.
+         */
+        private void writeField(String value) throws IOException {
+            if (value == null) {
+                return;
+            }
+            if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+                writer.write(value);
+                return;
+            }
+            writer.write('"');
+            writer.write(value.replace("\"", "\"\""));
+            writer.write('"');
+        }
+    }
+}
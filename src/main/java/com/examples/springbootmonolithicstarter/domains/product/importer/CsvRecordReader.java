@@ -0,0 +1,126 @@
+package com.examples.springbootmonolithicstarter.domains.product.importer;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * CSV(RFC 4180) 입력을 레코드 단위의 원문으로 나눈다.
+ * <p>
+ * 따옴표 안의 줄바꿈을 구분하기 위해 레코드 경계만 순차적으로 찾고,
+ * 필드 분리와 따옴표 해제는 {@link #parseFields(String)} 로 다른 스레드에서 수행할 수 있다.
+ * 입력 전체를 메모리에 올리지 않으며, 한 번에 한 레코드만 보관한다.
+ */
+public class CsvRecordReader {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Reader reader;
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private final StringBuilder record = new StringBuilder(256);
+    private int position;
+    private int limit;
+    private long lineNumber = 1;
+
+    public CsvRecordReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * 다음 레코드를 읽는다. 빈 줄은 건너뛴다.
+     *
+     * @return 입력이 끝났으면 null
+     */
+    public RawRecord next() throws IOException {
+        while (true) {
+            record.setLength(0);
+            long startLine = lineNumber;
+            boolean quoted = false;
+            boolean ended = false;
+
+            while (!ended) {
+                if (position == limit && !fill()) {
+                    if (record.isEmpty()) {
+                        return null;
+                    }
+                    break;
+                }
+                char c = buffer[position++];
+                if (c == '"') {
+                    quoted = !quoted;
+                } else if (c == '\n') {
+                    lineNumber++;
+                    if (!quoted) {
+                        ended = true;
+                        continue;
+                    }
+                }
+                record.append(c);
+            }
+
+            int length = record.length();
+            if (length > 0 && record.charAt(length - 1) == '\r') {
+                record.setLength(length - 1);
+            }
+            if (!record.isEmpty()) {
+                return new RawRecord(startLine, record.toString());
+            }
+        }
+    }
+
+    private boolean fill() throws IOException {
+        int read = reader.read(buffer, 0, buffer.length);
+        if (read <= 0) {
+            return false;
+        }
+        position = 0;
+        limit = read;
+        return true;
+    }
+
+    /**
+     * 레코드 원문을 필드로 나누고 따옴표를 해제한다. ("" 는 " 로 변환)
+     *
+     * @throws IllegalArgumentException 따옴표가 닫히지 않은 경우
+     */
+    public static List<String> parseFields(String text) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        int i = 0;
+        int length = text.length();
+        while (i < length) {
+            char c = text.charAt(i++);
+            if (quoted) {
+                if (c != '"') {
+                    field.append(c);
+                } else if (i < length && text.charAt(i) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("따옴표가 닫히지 않았습니다.");
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    /**
+     * @param lineNumber 레코드가 시작하는 줄 번호 (1부터)
+     * @param text       줄바꿈을 제외한 레코드 원문
+     */
+    public record RawRecord(long lineNumber, String text) {
+    }
+}
@@ -0,0 +1,131 @@
+package com.examples.springbootmonolithicstarter.domains.product.importer;
+
+import com.examples.springbootmonolithicstarter.domains.product.dto.request.CreateProductRequest;
+import com.examples.springbootmonolithicstarter.domains.product.exception.InvalidProductImportFileException;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 헤더 행으로 결정되는 상품 CSV 컬럼 위치
+ * <p>
+ * name, price, stockQuantity 는 필수, description, id 는 선택 컬럼이며 순서와 대소문자는 구분하지 않는다.
+ * id 가 있는 행은 기존 상품 수정, 없는 행은 새 상품 등록으로 처리된다.
+ */
+public final class ProductCsvColumns {
+
+    private static final String ID = "id";
+    private static final String NAME = "name";
+    private static final String DESCRIPTION = "description";
+    private static final String PRICE = "price";
+    private static final String STOCK_QUANTITY = "stockquantity";
+
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+    private static final int ABSENT = -1;
+
+    private final int columnCount;
+    private final int id;
+    private final int name;
+    private final int description;
+    private final int price;
+    private final int stockQuantity;
+
+    private ProductCsvColumns(List<String> header) {
+        this.columnCount = header.size();
+        this.id = indexOf(header, ID);
+        this.name = indexOf(header, NAME);
+        this.description = indexOf(header, DESCRIPTION);
+        this.price = indexOf(header, PRICE);
+        this.stockQuantity = indexOf(header, STOCK_QUANTITY);
+    }
+
+    /**
+     * @throws InvalidProductImportFileException 필수 컬럼이 없는 경우
+     */
+    public static ProductCsvColumns of(List<String> header) {
+        ProductCsvColumns columns = new ProductCsvColumns(header);
+        if (columns.name == ABSENT || columns.price == ABSENT || columns.stockQuantity == ABSENT) {
+            throw new InvalidProductImportFileException(
+                    "CSV 헤더에 필수 컬럼(name, price, stockQuantity)이 없습니다. 헤더: " + header);
+        }
+        return columns;
+    }
+
+    /**
+     * 필드 값을 상품 정보로 변환한다. 빈 값은 null 로 변환되어 이후 검증에서 걸러진다.
+     *
+     * @throws IllegalArgumentException 컬럼 수가 헤더와 다르거나 숫자 형식이 올바르지 않은 경우
+     */
+    public ProductImportRow toRow(long lineNumber, List<String> fields) {
+        if (fields.size() != columnCount) {
+            throw new IllegalArgumentException(
+                    "컬럼 수가 헤더와 다릅니다. (헤더: " + columnCount + ", 행: " + fields.size() + ")");
+        }
+        CreateProductRequest request = new CreateProductRequest(
+                text(fields, name),
+                text(fields, description),
+                parsePrice(text(fields, price)),
+                parseStockQuantity(text(fields, stockQuantity))
+        );
+        return new ProductImportRow(lineNumber, parseId(text(fields, id)), request);
+    }
+
+    private static int indexOf(List<String> header, String column) {
+        for (int i = 0; i < header.size(); i++) {
+            String value = header.get(i).strip();
+            if (i == 0 && !value.isEmpty() && value.charAt(0) == BYTE_ORDER_MARK) {
+                value = value.substring(1);
+            }
+            if (value.toLowerCase(Locale.ROOT).equals(column)) {
+                return i;
+            }
+        }
+        return ABSENT;
+    }
+
+    private static String text(List<String> fields, int index) {
+        if (index == ABSENT) {
+            return null;
+        }
+        String value = fields.get(index).strip();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static Long parseId(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            long id = Long.parseLong(value);
+            if (id <= 0) {
+                throw new IllegalArgumentException("상품 ID 는 양수여야 합니다: " + value);
+            }
+            return id;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("상품 ID 형식이 올바르지 않습니다: " + value);
+        }
+    }
+
+    private static BigDecimal parsePrice(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return new BigDecimal(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("가격 형식이 올바르지 않습니다: " + value);
+        }
+    }
+
+    private static Integer parseStockQuantity(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Integer.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("재고 수량 형식이 올바르지 않습니다: " + value);
+        }
+    }
+}
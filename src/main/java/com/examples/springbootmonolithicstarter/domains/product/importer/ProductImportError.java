@@ -0,0 +1,10 @@
+package com.examples.springbootmonolithicstarter.domains.product.importer;
+
+/**
+ * 가져오지 못한 행과 그 사유
+ */
+public record ProductImportError(
+        long lineNumber,
+        String message
+) {
+}
@@ -0,0 +1,207 @@
+package com.examples.springbootmonolithicstarter.domains.product.importer;
+
+import com.examples.springbootmonolithicstarter.domains.product.config.ProductImportProperties;
+import com.examples.springbootmonolithicstarter.domains.product.dto.request.CreateProductRequest;
+import com.examples.springbootmonolithicstarter.domains.product.exception.InvalidProductImportFileException;
+import com.examples.springbootmonolithicstarter.domains.product.importer.CsvRecordReader.RawRecord;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * 상품 CSV 를 읽기 → 파싱/검증(병렬) → 저장 단계로 나누어 처리한다.
+ * <p>
+ * 각 단계는 크기가 제한된 큐로 연결되어, 저장이 느리면 큐가 차면서 파싱과 읽기가 함께 대기한다. (backpressure)
+ * 따라서 입력 파일이 커져도 메모리에 올라오는 행 수는 일정하다.
+ * 레코드 경계 찾기만 호출 스레드에서 순차적으로 수행하고, 필드 분리/변환/검증은 parserThreads 개의 스레드가 나누어 수행한다.
+ * 저장은 하나의 스레드가 청크 단위로 수행하므로 청크 간 저장 순서는 파일 순서와 다를 수 있다.
+ */
+@Slf4j
+public class ProductImportPipeline {
+
+    // 단계 종료 신호 (동일성으로 비교)
+    private static final List<RawRecord> END_OF_RECORDS = new ArrayList<>();
+    private static final List<ProductImportRow> END_OF_ROWS = new ArrayList<>();
+
+    private static final long OFFER_TIMEOUT_MILLIS = 100;
+
+    private final ProductImportProperties properties;
+    private final Validator validator;
+    private final ChunkWriter chunkWriter;
+
+    public ProductImportPipeline(ProductImportProperties properties, Validator validator, ChunkWriter chunkWriter) {
+        this.properties = properties;
+        this.validator = validator;
+        this.chunkWriter = chunkWriter;
+    }
+
+    /**
+     * 입력이 끝나고 모든 청크가 저장될 때까지 대기한다.
+     * 입력을 읽는 도중 실패하면 남은 단계를 중단하며, 이미 저장된 청크는 유지된다.
+     *
+     * @throws InvalidProductImportFileException 헤더가 없거나 필수 컬럼이 없는 경우
+     */
+    public void run(Reader reader, ProductImportProgress progress) throws IOException {
+        CsvRecordReader records = new CsvRecordReader(reader);
+        RawRecord header = records.next();
+        if (header == null) {
+            throw new InvalidProductImportFileException("CSV 헤더가 없습니다.");
+        }
+        ProductCsvColumns columns = ProductCsvColumns.of(CsvRecordReader.parseFields(header.text()));
+
+        int parserThreads = properties.parserThreads();
+        BlockingQueue<List<RawRecord>> parseQueue = new ArrayBlockingQueue<>(properties.queueCapacity());
+        BlockingQueue<List<ProductImportRow>> writeQueue = new ArrayBlockingQueue<>(properties.queueCapacity());
+        AtomicInteger runningParsers = new AtomicInteger(parserThreads);
+
+        ExecutorService executor = Executors.newFixedThreadPool(parserThreads + 1,
+                Thread.ofPlatform().name("product-import-", 0).factory());
+        try {
+            Future<?> writer = executor.submit(() -> {
+                write(writeQueue, progress);
+                return null;
+            });
+            for (int i = 0; i < parserThreads; i++) {
+                executor.submit(() -> {
+                    parse(columns, parseQueue, writeQueue, runningParsers, progress);
+                    return null;
+                });
+            }
+
+            read(records, parseQueue, writer, progress);
+            for (int i = 0; i < parserThreads; i++) {
+                put(parseQueue, END_OF_RECORDS, writer);
+            }
+            writer.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("상품 가져오기가 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("상품 저장 단계가 실패했습니다.", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void read(CsvRecordReader records,
+                      BlockingQueue<List<RawRecord>> parseQueue,
+                      Future<?> writer,
+                      ProductImportProgress progress) throws IOException, InterruptedException, ExecutionException {
+        int chunkSize = properties.chunkSize();
+        List<RawRecord> chunk = new ArrayList<>(chunkSize);
+        RawRecord record;
+        while ((record = records.next()) != null) {
+            chunk.add(record);
+            if (chunk.size() == chunkSize) {
+                progress.read(chunk.size());
+                put(parseQueue, chunk, writer);
+                chunk = new ArrayList<>(chunkSize);
+            }
+        }
+        if (!chunk.isEmpty()) {
+            progress.read(chunk.size());
+            put(parseQueue, chunk, writer);
+        }
+    }
+
+    private void parse(ProductCsvColumns columns,
+                       BlockingQueue<List<RawRecord>> parseQueue,
+                       BlockingQueue<List<ProductImportRow>> writeQueue,
+                       AtomicInteger runningParsers,
+                       ProductImportProgress progress) throws InterruptedException {
+        try {
+            List<RawRecord> chunk;
+            while ((chunk = parseQueue.take()) != END_OF_RECORDS) {
+                List<ProductImportRow> rows = parseChunk(columns, chunk, progress);
+                if (!rows.isEmpty()) {
+                    writeQueue.put(rows);
+                }
+            }
+        } finally {
+            // 마지막으로 끝난 파싱 스레드가 저장 단계에 종료를 알림
+            if (runningParsers.decrementAndGet() == 0) {
+                writeQueue.put(END_OF_ROWS);
+            }
+        }
+    }
+
+    private List<ProductImportRow> parseChunk(ProductCsvColumns columns, List<RawRecord> chunk, ProductImportProgress progress) {
+        List<ProductImportRow> rows = new ArrayList<>(chunk.size());
+        for (RawRecord record : chunk) {
+            try {
+                ProductImportRow row = columns.toRow(record.lineNumber(), CsvRecordReader.parseFields(record.text()));
+                String violations = validate(row.request());
+                if (violations == null) {
+                    rows.add(row);
+                } else {
+                    progress.fail(record.lineNumber(), violations);
+                }
+            } catch (RuntimeException e) {
+                progress.fail(record.lineNumber(), e.getMessage());
+            }
+        }
+        return rows;
+    }
+
+    private void write(BlockingQueue<List<ProductImportRow>> writeQueue,
+                       ProductImportProgress progress) throws InterruptedException {
+        List<ProductImportRow> chunk;
+        while ((chunk = writeQueue.take()) != END_OF_ROWS) {
+            try {
+                progress.written(chunkWriter.write(chunk));
+            } catch (RuntimeException e) {
+                log.warn("Product import chunk failed. importId: {}, rows: {}", progress.getImportId(), chunk.size(), e);
+                String message = "저장에 실패했습니다: " + e.getMessage();
+                chunk.forEach(row -> progress.fail(row.lineNumber(), message));
+            }
+        }
+    }
+
+    private String validate(CreateProductRequest request) {
+        Set<ConstraintViolation<CreateProductRequest>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.joining(" "));
+    }
+
+    /**
+     * 큐에 빈자리가 생길 때까지 대기한다.
+     * 저장 단계가 먼저 끝난 경우(실패) 뒤 단계가 더 이상 큐를 비우지 않으므로 대기를 멈춘다.
+     */
+    private static <T> void put(BlockingQueue<T> queue, T item, Future<?> writer) throws InterruptedException, ExecutionException {
+        while (!queue.offer(item, OFFER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+            if (writer.isDone()) {
+                writer.get();
+                throw new IllegalStateException("상품 저장 단계가 종료되었습니다.");
+            }
+        }
+    }
+
+    /**
+     * 검증을 통과한 행 묶음을 저장한다. (한 번의 호출이 하나의 트랜잭션)
+     */
+    @FunctionalInterface
+    public interface ChunkWriter {
+
+        ProductUpsertResult write(List<ProductImportRow> rows);
+    }
+}
@@ -0,0 +1,100 @@
+package com.examples.springbootmonolithicstarter.domains.product.importer;
+
+import lombok.Getter;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 진행 중인 가져오기의 집계 (여러 단계의 스레드에서 동시에 갱신된다)
+ * <p>
+ * 행 오류는 maxReportedErrors 건까지만 보관하고, 그 이후는 건수만 집계한다.
+ */
+public class ProductImportProgress {
+
+    @Getter
+    private final String importId;
+    @Getter
+    private final String fileName;
+    @Getter
+    private final LocalDateTime startedAt = LocalDateTime.now();
+    private final long startedNanos = System.nanoTime();
+    private final int maxReportedErrors;
+
+    private final LongAdder readRows = new LongAdder();
+    private final LongAdder createdRows = new LongAdder();
+    private final LongAdder updatedRows = new LongAdder();
+    private final AtomicLong failedRows = new AtomicLong();
+    private final Queue<ProductImportError> errors = new ConcurrentLinkedQueue<>();
+    private volatile long completedNanos;
+
+    public ProductImportProgress(String importId, String fileName, int maxReportedErrors) {
+        this.importId = importId;
+        this.fileName = fileName;
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    public void read(int rows) {
+        readRows.add(rows);
+    }
+
+    public void written(ProductUpsertResult result) {
+        createdRows.add(result.createdCount());
+        updatedRows.add(result.updatedCount());
+        result.errors().forEach(error -> fail(error.lineNumber(), error.message()));
+    }
+
+    public void fail(long lineNumber, String message) {
+        if (failedRows.incrementAndGet() <= maxReportedErrors) {
+            errors.add(new ProductImportError(lineNumber, message));
+        }
+    }
+
+    public void complete() {
+        completedNanos = System.nanoTime();
+    }
+
+    public boolean isCompleted() {
+        return completedNanos != 0;
+    }
+
+    public long getReadRows() {
+        return readRows.sum();
+    }
+
+    public long getCreatedRows() {
+        return createdRows.sum();
+    }
+
+    public long getUpdatedRows() {
+        return updatedRows.sum();
+    }
+
+    public long getFailedRows() {
+        return failedRows.get();
+    }
+
+    /**
+     * 보관된 행 오류 (줄 번호 순)
+     */
+    public List<ProductImportError> getErrors() {
+        return errors.stream()
+                .sorted(Comparator.comparingLong(ProductImportError::lineNumber))
+                .toList();
+    }
+
+    public boolean isErrorsTruncated() {
+        return failedRows.get() > maxReportedErrors;
+    }
+
+    public Duration getElapsed() {
+        long end = isCompleted() ? completedNanos : System.nanoTime();
+        return Duration.ofNanos(end - startedNanos);
+    }
+}
@@ -0,0 +1,21 @@
+package com.examples.springbootmonolithicstarter.domains.product.importer;
+
+import com.examples.springbootmonolithicstarter.domains.product.dto.request.CreateProductRequest;
+
+/**
+ * 검증을 통과한 가져오기 행
+ *
+ * @param lineNumber 파일에서의 줄 번호
+ * @param productId  수정할 상품 ID (없으면 새로 등록)
+ * @param request    상품 정보
+ */
+public record ProductImportRow(
+        long lineNumber,
+        Long productId,
+        CreateProductRequest request
+) {
+
+    public boolean isNew() {
+        return productId == null;
+    }
+}
@@ -0,0 +1,17 @@
+package com.examples.springbootmonolithicstarter.domains.product.importer;
+
+import java.util.List;
+
+/**
+ * 한 청크를 저장한 결과
+ *
+ * @param createdCount 새로 등록된 상품 수
+ * @param updatedCount 수정된 상품 수
+ * @param errors       저장하지 못한 행 (존재하지 않는 상품 ID 등)
+ */
+public record ProductUpsertResult(
+        int createdCount,
+        int updatedCount,
+        List<ProductImportError> errors
+) {
+}
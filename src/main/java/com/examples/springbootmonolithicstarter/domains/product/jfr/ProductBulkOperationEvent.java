@@ -0,0 +1,53 @@
+package com.examples.springbootmonolithicstarter.domains.product.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * 상품 대량 등록, 일괄 가격/상태 변경, CSV 가져오기 한 번 (JFR 이벤트)
+ */
+@Name(ProductBulkOperationEvent.NAME)
+@Label("Product Bulk Operation")
+@Category({"Application", "Product"})
+@Description("상품 대량 작업 (작업 종류, 요청/반영 건수, 실행 문장 수)")
+public class ProductBulkOperationEvent extends Event {
+
+    public static final String NAME = "com.examples.product.BulkOperation";
+
+    public static final String CREATE = "create";
+    public static final String REPRICE = "reprice";
+    public static final String CHANGE_STATUS = "change-status";
+    public static final String IMPORT = "import";
+
+    @Label("Operation")
+    private String operation;
+
+    @Label("Requested")
+    @Description("요청 건수 (가격 변경은 조건에 맞는 상품을 미리 알 수 없어 0, 가져오기는 읽은 행 수)")
+    private long requested;
+
+    @Label("Affected")
+    @Description("등록/변경된 상품 수")
+    private long affected;
+
+    @Label("Statements")
+    @Description("UPDATE 문 수 (일괄 변경만 해당)")
+    private int statements;
+
+    public ProductBulkOperationEvent(String operation) {
+        this.operation = operation;
+    }
+
+    public void finish(long requested, long affected, int statements) {
+        end();
+        if (shouldCommit()) {
+            this.requested = requested;
+            this.affected = affected;
+            this.statements = statements;
+            commit();
+        }
+    }
+}
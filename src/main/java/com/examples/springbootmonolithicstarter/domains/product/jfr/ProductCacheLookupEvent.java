@@ -0,0 +1,46 @@
+package com.examples.springbootmonolithicstarter.domains.product.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 상품 단건 조회 캐시 조회 한 번 (JFR 이벤트)
+ * <p>
+ * 이벤트 시간은 캐시 미스 시 DB 조회 또는 다른 요청의 조회를 기다린 시간을 포함한다.
+ */
+@Name(ProductCacheLookupEvent.NAME)
+@Label("Product Cache Lookup")
+@Category({"Application", "Product"})
+@Description("상품 단건 조회 캐시 조회 (상품 ID, 결과)")
+@StackTrace(false)
+public class ProductCacheLookupEvent extends Event {
+
+    public static final String NAME = "com.examples.product.CacheLookup";
+
+    public static final String HIT = "hit";
+    public static final String MISS = "miss";
+    public static final String DISABLED = "disabled";
+
+    @Label("Product Id")
+    private long productId;
+
+    @Label("Result")
+    @Description("hit, miss, disabled (캐시 비활성화)")
+    private String result;
+
+    public ProductCacheLookupEvent(long productId) {
+        this.productId = productId;
+    }
+
+    public void finish(String result) {
+        end();
+        if (shouldCommit()) {
+            this.result = result;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.examples.springbootmonolithicstarter.domains.product.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * 상품 재고 차감/추가 한 번 (JFR 이벤트)
+ * <p>
+ * 재고 변경 경로(샤드, 메모리 원장, 배치, 조건부 UPDATE, 행 잠금)와 관계없이 애플리케이션 서비스에서 기록하며,
+ * 이벤트 시간은 트랜잭션 커밋 전까지다. 낙관적 락 재시도는 시도마다 기록된다.
+ * 기록 중인 recording 이 없으면 shouldCommit() 이 false 이므로 필드를 채우지 않는다.
+ */
+@Name(StockOperationEvent.NAME)
+@Label("Stock Operation")
+@Category({"Application", "Product"})
+@Description("상품 재고 차감/추가 (상품 ID, 수량, 처리 경로, 결과, 행 잠금 대기 시간)")
+@StackTrace(false)
+public class StockOperationEvent extends Event {
+
+    public static final String NAME = "com.examples.product.StockOperation";
+
+    public static final String RESERVE = "reserve";
+    public static final String RELEASE = "release";
+
+    public static final String PATH_SHARDED = "SHARDED";
+    public static final String PATH_HOT = "HOT";
+    public static final String PATH_BATCH = "BATCH";
+
+    public static final String SUCCESS = "success";
+    public static final String OUT_OF_STOCK = "out-of-stock";
+    public static final String NOT_FOUND = "not-found";
+    public static final String ERROR = "error";
+
+    @Label("Product Id")
+    private long productId;
+
+    @Label("Quantity")
+    private int quantity;
+
+    @Label("Operation")
+    private String operation;
+
+    @Label("Path")
+    @Description("SHARDED, HOT, BATCH 또는 재고 동시성 제어 전략 (PESSIMISTIC, OPTIMISTIC, ATOMIC_UPDATE)")
+    private String path;
+
+    @Label("Outcome")
+    @Description("success, out-of-stock, not-found, error")
+    private String outcome;
+
+    @Label("Lock Wait")
+    @Timespan(Timespan.NANOSECONDS)
+    private long lockWait;
+
+    public StockOperationEvent(long productId, int quantity, String operation) {
+        this.productId = productId;
+        this.quantity = quantity;
+        this.operation = operation;
+    }
+
+    public void setPath(String path) {
+        this.path = path;
+    }
+
+    public void setLockWait(long lockWaitNanos) {
+        this.lockWait = lockWaitNanos;
+    }
+
+    public void finish(String outcome) {
+        end();
+        if (shouldCommit()) {
+            this.outcome = outcome;
+            commit();
+        }
+    }
+}
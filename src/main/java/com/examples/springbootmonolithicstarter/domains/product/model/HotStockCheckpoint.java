@@ -0,0 +1,48 @@
+package com.examples.springbootmonolithicstarter.domains.product.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 인기 상품 재고 저널 중 DB에 반영이 끝난 마지막 세그먼트 번호
+ * 재고 변경분 반영과 같은 트랜잭션에서 갱신하여, 재기동 시 저널을 중복 반영하지 않도록 한다.
+ */
+@Entity
+@Table(name = "hot_stock_checkpoints")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class HotStockCheckpoint {
+
+    public static final Long SINGLETON_ID = 1L;
+
+    @Id
+    private Long id;
+
+    @Column(nullable = false)
+    private Long lastSequence;
+
+    private LocalDateTime updatedAt;
+
+    private HotStockCheckpoint(Long id, Long lastSequence) {
+        this.id = id;
+        this.lastSequence = lastSequence;
+    }
+
+    public static HotStockCheckpoint initial() {
+        return new HotStockCheckpoint(SINGLETON_ID, 0L);
+    }
+
+    public void advanceTo(long sequence) {
+        if (sequence > this.lastSequence) {
+            this.lastSequence = sequence;
+            this.updatedAt = LocalDateTime.now();
+        }
+    }
+}
@@ -1,23 +1,55 @@
 package com.examples.springbootmonolithicstarter.domains.product.model;
 
+import jakarta.persistence.Access;
+import jakarta.persistence.AccessType;
 import jakarta.persistence.Embeddable;
+import jakarta.persistence.Transient;
 import lombok.AccessLevel;
-import lombok.EqualsAndHashCode;
-import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
 
+/**
+ * 금액 값 객체
+ * <p>
+ * 금액은 BigDecimal 과 같은 (unscaled 값, scale) 으로 표현하며, unscaled 값이 long 범위이면 long 으로 계산한다.
+ * (예: 12345.67 은 1234567 × 10^-2, price 컬럼의 scale 2 는 최소 통화 단위)
+ * 계산 결과가 long 범위를 벗어날 때만 BigDecimal 로 계산하므로 결과(값, scale, equals)는 BigDecimal 연산과 같다.
+ * <p>
+ * JPA 에는 amount 속성(BigDecimal)으로 매핑되며, getter/setter 로 접근하므로 컬럼 매핑은 그대로다.
+ */
 @Embeddable
-@Getter
-@EqualsAndHashCode
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Money {
 
-    private BigDecimal amount;
+    private static final long[] POWERS_OF_TEN = {
+            1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L, 100_000_000L, 1_000_000_000L,
+            10_000_000_000L, 100_000_000_000L, 1_000_000_000_000L, 10_000_000_000_000L, 100_000_000_000_000L,
+            1_000_000_000_000_000L, 10_000_000_000_000_000L, 100_000_000_000_000_000L, 1_000_000_000_000_000_000L
+    };
+
+    // unscaled 값이 long 범위이면 true (decimal 은 getAmount() 호출 시 생성)
+    @Transient
+    private boolean compact;
+
+    @Transient
+    private long unscaled;
+
+    @Transient
+    private int scale;
+
+    // long 범위를 벗어난 금액 또는 getAmount() 로 생성한 값
+    @Transient
+    private BigDecimal decimal;
+
+    private Money(long unscaled, int scale) {
+        this.compact = true;
+        this.unscaled = unscaled;
+        this.scale = scale;
+    }
 
     private Money(BigDecimal amount) {
-        this.amount = amount;
+        setAmount(amount);
     }
 
     public static Money of(BigDecimal amount) {
@@ -26,11 +58,14 @@ public class Money {
     }
 
     public static Money of(long amount) {
-        return of(BigDecimal.valueOf(amount));
+        if (amount < 0) {
+            throw new IllegalArgumentException("금액은 0 이상이어야 합니다.");
+        }
+        return new Money(amount, 0);
     }
 
     public static Money zero() {
-        return new Money(BigDecimal.ZERO);
+        return new Money(0, 0);
     }
 
     private static void validateAmount(BigDecimal amount) {
@@ -39,25 +74,129 @@ public class Money {
         }
     }
 
+    @Access(AccessType.PROPERTY)
+    public BigDecimal getAmount() {
+        BigDecimal amount = decimal;
+        if (amount == null) {
+            amount = BigDecimal.valueOf(unscaled, scale);
+            decimal = amount;
+        }
+        return amount;
+    }
+
+    /**
+     * JPA 가 조회한 금액을 설정할 때와 생성할 때만 사용한다.
+     */
+    private void setAmount(BigDecimal amount) {
+        this.decimal = amount;
+        this.compact = amount != null && amount.unscaledValue().bitLength() < Long.SIZE;
+        if (compact) {
+            this.unscaled = amount.unscaledValue().longValue();
+            this.scale = amount.scale();
+        }
+    }
+
     public Money add(Money other) {
-        return new Money(this.amount.add(other.amount));
+        if (compact && other.compact) {
+            int resultScale = Math.max(scale, other.scale);
+            long left = rescale(unscaled, resultScale - scale);
+            long right = rescale(other.unscaled, resultScale - other.scale);
+            if (left != Long.MIN_VALUE && right != Long.MIN_VALUE) {
+                long sum = left + right;
+                if (((left ^ sum) & (right ^ sum)) >= 0) {
+                    return new Money(sum, resultScale);
+                }
+            }
+        }
+        return new Money(getAmount().add(other.getAmount()));
     }
 
     public Money subtract(Money other) {
-        BigDecimal result = this.amount.subtract(other.amount);
+        if (compact && other.compact) {
+            int resultScale = Math.max(scale, other.scale);
+            long left = rescale(unscaled, resultScale - scale);
+            long right = rescale(other.unscaled, resultScale - other.scale);
+            if (left != Long.MIN_VALUE && right != Long.MIN_VALUE) {
+                long difference = left - right;
+                if (((left ^ right) & (left ^ difference)) >= 0) {
+                    if (difference < 0) {
+                        throw new IllegalArgumentException("금액은 0 이상이어야 합니다.");
+                    }
+                    return new Money(difference, resultScale);
+                }
+            }
+        }
+        BigDecimal result = getAmount().subtract(other.getAmount());
         validateAmount(result);
         return new Money(result);
     }
 
     public Money multiply(int quantity) {
-        return new Money(this.amount.multiply(BigDecimal.valueOf(quantity)));
+        if (compact) {
+            long high = Math.multiplyHigh(unscaled, quantity);
+            long product = unscaled * quantity;
+            if ((high == 0 && product >= 0) || (high == -1 && product < 0)) {
+                return new Money(product, scale);
+            }
+        }
+        return new Money(getAmount().multiply(BigDecimal.valueOf(quantity)));
     }
 
     public boolean isGreaterThan(Money other) {
-        return this.amount.compareTo(other.amount) > 0;
+        return compareTo(other) > 0;
     }
 
     public boolean isLessThan(Money other) {
-        return this.amount.compareTo(other.amount) < 0;
+        return compareTo(other) < 0;
+    }
+
+    private int compareTo(Money other) {
+        if (compact && other.compact) {
+            int resultScale = Math.max(scale, other.scale);
+            long left = rescale(unscaled, resultScale - scale);
+            long right = rescale(other.unscaled, resultScale - other.scale);
+            if (left != Long.MIN_VALUE && right != Long.MIN_VALUE) {
+                return Long.compare(left, right);
+            }
+        }
+        return getAmount().compareTo(other.getAmount());
+    }
+
+    /**
+     * @return value × 10^digits, long 범위를 벗어나면 Long.MIN_VALUE (호출 측은 BigDecimal 로 계산)
+     */
+    private static long rescale(long value, int digits) {
+        if (digits == 0) {
+            return value;
+        }
+        if (digits >= POWERS_OF_TEN.length || value == Long.MIN_VALUE) {
+            return Long.MIN_VALUE;
+        }
+        long multiplier = POWERS_OF_TEN[digits];
+        long high = Math.multiplyHigh(value, multiplier);
+        long result = value * multiplier;
+        return (high == 0 && result >= 0) || (high == -1 && result < 0) ? result : Long.MIN_VALUE;
+    }
+
+    /**
+     * BigDecimal.equals 와 같다. (값과 scale 이 모두 같아야 함, 1.0 과 1.00 은 다름)
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Money other)) {
+            return false;
+        }
+        if (compact && other.compact) {
+            return unscaled == other.unscaled && scale == other.scale;
+        }
+        return getAmount().equals(other.getAmount());
+    }
+
+    @Override
+    public int hashCode() {
+        return compact ? 31 * Long.hashCode(unscaled) + scale : getAmount().hashCode();
     }
 }
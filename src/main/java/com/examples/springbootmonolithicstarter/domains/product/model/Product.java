@@ -9,13 +9,22 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "products")
+@Table(name = "products", indexes = {
+        @Index(name = "idx_products_status_id", columnList = "status, id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Product {
 
+    /**
+     * 시퀀스(MySQL 은 products_seq 테이블로 대체)에서 한 번에 할당받는 ID 수 (pooled 최적화)
+     * IDENTITY 와 달리 INSERT 전에 ID 를 알 수 있으므로 여러 INSERT 를 JDBC 배치로 묶을 수 있다.
+     */
+    public static final int ID_ALLOCATION_SIZE = 100;
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "product_id")
+    @SequenceGenerator(name = "product_id", sequenceName = "products_seq", allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
     @Column(nullable = false)
@@ -39,6 +48,10 @@ public class Product {
 
     private LocalDateTime updatedAt;
 
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     private Product(String name, String description, Money price, Integer stockQuantity) {
         this.name = name;
         this.description = description;
@@ -90,7 +103,11 @@ public class Product {
     }
 
     public boolean isAvailable() {
-        return this.status == ProductStatus.AVAILABLE && this.stockQuantity > 0;
+        return isAvailable(this.status, this.stockQuantity);
+    }
+
+    public static boolean isAvailable(ProductStatus status, int stockQuantity) {
+        return status == ProductStatus.AVAILABLE && stockQuantity > 0;
     }
 
     public Money calculateTotalPrice(int quantity) {
@@ -0,0 +1,7 @@
+package com.examples.springbootmonolithicstarter.domains.product.repository;
+
+import com.examples.springbootmonolithicstarter.domains.product.model.HotStockCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface HotStockCheckpointRepository extends JpaRepository<HotStockCheckpoint, Long> {
+}
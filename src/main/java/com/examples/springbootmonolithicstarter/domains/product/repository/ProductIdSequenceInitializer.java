@@ -0,0 +1,45 @@
+package com.examples.springbootmonolithicstarter.domains.product.repository;
+
+import com.examples.springbootmonolithicstarter.domains.product.model.Product;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 상품 ID 시퀀스 테이블(products_seq)이 기존 상품 ID 보다 뒤에서 시작하도록 맞춘다. (MySQL)
+ * <p>
+ * 상품 ID 를 IDENTITY(auto_increment)로 발급하던 DB 에서는 products_seq 가 1 부터 새로 만들어지므로,
+ * 그대로 두면 새 상품 ID 가 기존 상품과 겹친다. 기동 시(요청을 받기 전) next_val 이 max(id) + 할당 크기보다
+ * 작으면 올린다. 조건부 UPDATE 이므로 여러 인스턴스가 동시에 기동해도 값이 줄어들지 않는다.
+ * 시퀀스를 지원하는 DB(H2 등)는 새로 만든 스키마에서만 사용하므로 확인하지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductIdSequenceInitializer implements InitializingBean {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    public void afterPropertiesSet() {
+        String database = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                connection.getMetaData().getDatabaseProductName());
+        if (database == null || !(database.contains("MySQL") || database.contains("MariaDB"))) {
+            return;
+        }
+        // pooled 최적화는 읽은 값보다 할당 크기만큼 작은 ID 부터 발급할 수 있으므로 할당 크기만큼 더 띄운다
+        Integer adjusted = transactionTemplate.execute(status -> {
+            long maxId = jdbcTemplate.queryForObject("select coalesce(max(id), 0) from products", Long.class);
+            long nextValue = maxId + Product.ID_ALLOCATION_SIZE + 1;
+            return jdbcTemplate.update("update products_seq set next_val = ? where next_val < ?", nextValue, nextValue);
+        });
+        if (adjusted != null && adjusted > 0) {
+            log.warn("Product id sequence moved past existing products. table: products_seq");
+        }
+    }
+}
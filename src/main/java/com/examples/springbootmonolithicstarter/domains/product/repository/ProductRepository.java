@@ -2,13 +2,199 @@ package com.examples.springbootmonolithicstarter.domains.product.repository;
 
 import com.examples.springbootmonolithicstarter.domains.product.model.Product;
 import com.examples.springbootmonolithicstarter.domains.product.model.ProductStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface ProductRepository extends JpaRepository<Product, Long> {
 
+    String SELECT_ROW = """
+            select new com.examples.springbootmonolithicstarter.domains.product.repository.ProductRow(
+                   p.id, p.name, p.description, p.price.amount, p.stockQuantity, p.status, p.createdAt, p.updatedAt)
+              from Product p
+            """;
+
     List<Product> findByStatus(ProductStatus status);
 
     List<Product> findByNameContaining(String name);
+
+    List<Product> findByNameStartingWithOrderByNameAsc(String prefix, Limit limit);
+
+    /**
+     * 조회 API 용 프로젝션 쿼리: 엔티티 대신 ProductRow 를 결과 집합에서 바로 생성한다.
+     * 영속성 컨텍스트를 거치지 않으며, 조회 전 자동 flush 도 하지 않는다.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL")
+    })
+    @Query(SELECT_ROW + " where p.id = :productId")
+    Optional<ProductRow> findRowById(@Param("productId") Long productId);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL")
+    })
+    @Query(SELECT_ROW + " where p.id in :productIds")
+    List<ProductRow> findRowsByIdIn(@Param("productIds") Collection<Long> productIds);
+
+    /**
+     * 키셋 페이지네이션: 마지막으로 조회한 ID 이후의 상품을 ID 순으로 조회한다. (OFFSET 스캔 없음)
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL")
+    })
+    @Query(SELECT_ROW + " where p.id > :lastId order by p.id")
+    List<ProductRow> findRowsByIdGreaterThan(@Param("lastId") Long lastId, Limit limit);
+
+    /**
+     * 키셋 페이지네이션: (status, id) 인덱스를 사용하여 상태별 상품을 ID 순으로 조회한다.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL")
+    })
+    @Query(SELECT_ROW + " where p.status = :status and p.id > :lastId order by p.id")
+    List<ProductRow> findRowsByStatusAndIdGreaterThan(@Param("status") ProductStatus status,
+                                                      @Param("lastId") Long lastId,
+                                                      Limit limit);
+
+    /**
+     * 상품명에 name 이 포함된 상품 (대소문자 구분 없음, 검색어의 %, _ 는 문자 그대로 비교)
+     * 메모리 역색인과 같은 결과가 나오도록 양쪽을 소문자로 바꿔 비교한다.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL")
+    })
+    @Query(SELECT_ROW + " where lower(p.name) like %:#{escape(#name.toLowerCase(T(java.util.Locale).ROOT))}% escape :#{escapeCharacter()}")
+    List<ProductRow> findRowsByNameContaining(@Param("name") String name, Limit limit);
+
+    @Query("select min(p.id) from Product p")
+    Optional<Long> findMinId();
+
+    @Query("select max(p.id) from Product p")
+    Optional<Long> findMaxId();
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select p from Product p where p.id = :productId")
+    Optional<Product> findByIdForUpdate(@Param("productId") Long productId);
+
+    /**
+     * 여러 상품을 한 번의 쿼리로 잠근다.
+     * 항상 ID 오름차순으로 잠그므로 서로 겹치는 주문이 동시에 들어와도 교착 상태가 발생하지 않는다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select p from Product p where p.id in :productIds order by p.id")
+    List<Product> findAllByIdInForUpdate(@Param("productIds") Collection<Long> productIds);
+
+    /**
+     * 판매 중이고 재고가 충분한 경우에만 재고를 차감한다.
+     *
+     * @return 변경된 행 수 (0이면 상품이 없거나, 판매 중이 아니거나, 재고 부족)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update Product p
+               set p.stockQuantity = p.stockQuantity - :quantity,
+                   p.updatedAt = :now,
+                   p.version = p.version + 1
+             where p.id = :productId
+               and p.stockQuantity >= :quantity
+               and p.status = com.examples.springbootmonolithicstarter.domains.product.model.ProductStatus.AVAILABLE
+            """)
+    int decreaseStock(@Param("productId") Long productId,
+                      @Param("quantity") int quantity,
+                      @Param("now") LocalDateTime now);
+
+    /**
+     * @return 변경된 행 수 (0이면 상품이 없음)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update Product p
+               set p.stockQuantity = p.stockQuantity + :quantity,
+                   p.updatedAt = :now,
+                   p.version = p.version + 1
+             where p.id = :productId
+            """)
+    int increaseStock(@Param("productId") Long productId,
+                      @Param("quantity") int quantity,
+                      @Param("now") LocalDateTime now);
+
+    /**
+     * 누적된 재고 변경분(음수 가능)을 한 번에 반영한다.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update Product p
+               set p.stockQuantity = p.stockQuantity + :delta,
+                   p.updatedAt = :now,
+                   p.version = p.version + 1
+             where p.id = :productId
+            """)
+    int adjustStock(@Param("productId") Long productId,
+                    @Param("delta") int delta,
+                    @Param("now") LocalDateTime now);
+
+    /**
+     * ID 구간 안에서 조건에 맞는 상품의 가격에 factor 를 곱한다. (소수점 둘째 자리까지 반올림, price 컬럼 scale)
+     * 조건 파라미터가 null 이면 해당 조건은 적용하지 않는다.
+     *
+     * @param factor      0 이상 (가격이 음수가 되지 않도록 호출 측에서 보장)
+     * @param namePattern LIKE 패턴 (이스케이프 문자 '!')
+     * @return 변경된 행 수
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update Product p
+               set p.price.amount = round(p.price.amount * :factor, 2),
+                   p.updatedAt = :now,
+                   p.version = p.version + 1
+             where p.id between :fromId and :toId
+               and (:status is null or p.status = :status)
+               and (:namePattern is null or p.name like :namePattern escape '!')
+               and (:minPrice is null or p.price.amount >= :minPrice)
+               and (:maxPrice is null or p.price.amount <= :maxPrice)
+            """)
+    int reprice(@Param("fromId") Long fromId,
+                @Param("toId") Long toId,
+                @Param("factor") BigDecimal factor,
+                @Param("status") ProductStatus status,
+                @Param("namePattern") String namePattern,
+                @Param("minPrice") BigDecimal minPrice,
+                @Param("maxPrice") BigDecimal maxPrice,
+                @Param("now") LocalDateTime now);
+
+    /**
+     * 상태가 다른 상품만 변경한다.
+     *
+     * @return 변경된 행 수 (이미 같은 상태이거나 존재하지 않는 상품은 제외)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update Product p
+               set p.status = :status,
+                   p.updatedAt = :now,
+                   p.version = p.version + 1
+             where p.id in :productIds
+               and p.status <> :status
+            """)
+    int changeStatus(@Param("productIds") Collection<Long> productIds,
+                     @Param("status") ProductStatus status,
+                     @Param("now") LocalDateTime now);
 }
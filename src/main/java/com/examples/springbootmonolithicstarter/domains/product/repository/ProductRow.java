@@ -0,0 +1,40 @@
+package com.examples.springbootmonolithicstarter.domains.product.repository;
+
+import com.examples.springbootmonolithicstarter.domains.product.model.Product;
+import com.examples.springbootmonolithicstarter.domains.product.model.ProductStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 조회 전용 상품 행 (JPQL 생성자 표현식으로 결과 집합에서 바로 생성)
+ * <p>
+ * 엔티티가 아니므로 영속성 컨텍스트에 등록되지 않고, 스냅샷 보관과 변경 감지 대상이 되지 않는다.
+ */
+public record ProductRow(
+        Long id,
+        String name,
+        String description,
+        BigDecimal price,
+        Integer stockQuantity,
+        ProductStatus status,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+    public static ProductRow from(Product product) {
+        return new ProductRow(
+                product.getId(),
+                product.getName(),
+                product.getDescription(),
+                product.getPrice().getAmount(),
+                product.getStockQuantity(),
+                product.getStatus(),
+                product.getCreatedAt(),
+                product.getUpdatedAt()
+        );
+    }
+
+    public boolean isAvailable() {
+        return Product.isAvailable(status, stockQuantity);
+    }
+}
@@ -0,0 +1,51 @@
+package com.examples.springbootmonolithicstarter.domains.product.repository;
+
+import com.examples.springbootmonolithicstarter.domains.product.model.Product;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.stream.Stream;
+
+/**
+ * 전체 상품을 한 번에 적재하지 않고 DB 커서로 읽어온다.
+ * <p>
+ * MySQL 드라이버는 useCursorFetch 없이 fetch size 를 무시하고 결과 전체를 메모리에 받는다.
+ * useCursorFetch 는 커넥션의 모든 쿼리를 서버 측 prepared statement 로 바꾸므로 켜지 않고,
+ * 이 조회에만 fetch size 를 Integer.MIN_VALUE 로 주어 행 단위로 스트리밍한다.
+ * (스트리밍 중에는 같은 커넥션으로 다른 쿼리를 실행할 수 없음) 그 외 DB 는 fetch size 만큼씩 가져온다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProductStreamRepository implements InitializingBean {
+
+    private static final int FETCH_SIZE = 1000;
+
+    private final EntityManager entityManager;
+    private final JdbcTemplate jdbcTemplate;
+
+    private int fetchSize = FETCH_SIZE;
+
+    @Override
+    public void afterPropertiesSet() {
+        String database = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                connection.getMetaData().getDatabaseProductName());
+        if (database != null && (database.contains("MySQL") || database.contains("MariaDB"))) {
+            fetchSize = Integer.MIN_VALUE;
+        }
+    }
+
+    /**
+     * 반환된 Stream 은 트랜잭션 안에서 사용하고 반드시 닫아야 한다.
+     */
+    public Stream<Product> streamAllByOrderByIdAsc() {
+        return entityManager.createQuery("select p from Product p order by p.id", Product.class)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+}
@@ -0,0 +1,91 @@
+package com.examples.springbootmonolithicstarter.domains.product.repository.shard;
+
+import com.examples.springbootmonolithicstarter.domains.product.config.ProductShardingProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 상품 샤드 DataSource 목록
+ * <p>
+ * 상품은 productId 를 샤드 수로 나눈 나머지 번호의 샤드에 저장한다. ({@link #shardOf(long)})
+ */
+public class ProductShards implements Closeable {
+
+    private final List<DataSource> dataSources;
+    private final List<JdbcTemplate> jdbcTemplates;
+    private final List<TransactionTemplate> transactionTemplates;
+
+    /**
+     * @param fetchSize 샤드 조회 시 한 번에 가져오는 행 수 (MySQL 은 useCursorFetch=true 일 때 적용)
+     */
+    public ProductShards(List<DataSource> dataSources, int fetchSize) {
+        if (dataSources.isEmpty()) {
+            throw new IllegalArgumentException("샤드는 하나 이상이어야 합니다.");
+        }
+        this.dataSources = List.copyOf(dataSources);
+        this.jdbcTemplates = new ArrayList<>(dataSources.size());
+        this.transactionTemplates = new ArrayList<>(dataSources.size());
+        for (DataSource dataSource : dataSources) {
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+            jdbcTemplate.setFetchSize(fetchSize);
+            jdbcTemplates.add(jdbcTemplate);
+            transactionTemplates.add(new TransactionTemplate(new DataSourceTransactionManager(dataSource)));
+        }
+    }
+
+    /**
+     * 샤드마다 커넥션 풀을 만든다. 커넥션은 auto-commit 이며, 여러 문장을 묶을 때만 샤드별 트랜잭션을 사용한다.
+     */
+    public static ProductShards connect(ProductShardingProperties properties) {
+        List<DataSource> dataSources = new ArrayList<>(properties.shards().size());
+        for (int shard = 0; shard < properties.shards().size(); shard++) {
+            ProductShardingProperties.Shard connection = properties.shards().get(shard);
+            HikariDataSource dataSource = new HikariDataSource();
+            dataSource.setPoolName("product-shard-" + shard);
+            dataSource.setJdbcUrl(connection.url());
+            dataSource.setUsername(connection.username());
+            dataSource.setPassword(connection.password());
+            dataSource.setMaximumPoolSize(properties.maximumPoolSize());
+            dataSources.add(dataSource);
+        }
+        return new ProductShards(dataSources, properties.fetchSize());
+    }
+
+    public int size() {
+        return dataSources.size();
+    }
+
+    public int shardOf(long productId) {
+        return Math.floorMod(productId, dataSources.size());
+    }
+
+    public JdbcTemplate jdbcTemplate(int shard) {
+        return jdbcTemplates.get(shard);
+    }
+
+    public TransactionTemplate transactionTemplate(int shard) {
+        return transactionTemplates.get(shard);
+    }
+
+    @Override
+    public void close() {
+        for (DataSource dataSource : dataSources) {
+            if (dataSource instanceof Closeable closeable) {
+                try {
+                    closeable.close();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        }
+    }
+}
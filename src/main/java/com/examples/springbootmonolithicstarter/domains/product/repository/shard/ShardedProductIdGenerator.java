@@ -0,0 +1,76 @@
+package com.examples.springbootmonolithicstarter.domains.product.repository.shard;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 새 상품의 샤드를 돌아가며 정하고, 그 샤드로 라우팅되는 ID 를 발급한다.
+ * <p>
+ * ID = (샤드 시퀀스 값 × 샤드 수) + 샤드 번호 이므로 ID 만으로 샤드를 알 수 있다. (별도 조회 테이블 없음)
+ * 샤드 시퀀스는 샤드의 product_id_blocks 테이블에서 blockSize 단위로 할당받으므로, 여러 인스턴스가 같은 샤드를 사용해도 ID 가 겹치지 않는다.
+ */
+class ShardedProductIdGenerator {
+
+    static final String TABLE = "product_id_blocks";
+
+    private final ProductShards shards;
+    private final int blockSize;
+    private final Block[] blocks;
+    private final AtomicInteger nextShard = new AtomicInteger();
+
+    ShardedProductIdGenerator(ProductShards shards, int blockSize) {
+        if (blockSize <= 0) {
+            throw new IllegalArgumentException("ID 할당 크기는 0보다 커야 합니다.");
+        }
+        this.shards = shards;
+        this.blockSize = blockSize;
+        this.blocks = new Block[shards.size()];
+        for (int shard = 0; shard < blocks.length; shard++) {
+            blocks[shard] = new Block(shard);
+        }
+    }
+
+    long nextId() {
+        int shard = Math.floorMod(nextShard.getAndIncrement(), blocks.length);
+        return blocks[shard].next() * blocks.length + shard;
+    }
+
+    private class Block {
+
+        private final int shard;
+        // 블록 할당(DB 조회) 중 캐리어 스레드를 고정하지 않도록 synchronized 대신 사용
+        private final ReentrantLock lock = new ReentrantLock();
+        private long next;
+        private long end;
+
+        Block(int shard) {
+            this.shard = shard;
+        }
+
+        long next() {
+            lock.lock();
+            try {
+                if (next == end) {
+                    next = allocate();
+                    end = next + blockSize;
+                }
+                return next++;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * @return 할당받은 블록의 첫 번째 시퀀스 값 ([값, 값 + blockSize) 구간을 사용)
+         */
+        private long allocate() {
+            return shards.transactionTemplate(shard).execute(status -> {
+                Long first = shards.jdbcTemplate(shard).queryForObject(
+                        "select next_val from " + TABLE + " where id = 1 for update", Long.class);
+                shards.jdbcTemplate(shard).update(
+                        "update " + TABLE + " set next_val = ? where id = 1", first + blockSize);
+                return first;
+            });
+        }
+    }
+}
@@ -0,0 +1,343 @@
+package com.examples.springbootmonolithicstarter.domains.product.repository.shard;
+
+import com.examples.springbootmonolithicstarter.domains.product.config.ProductShardingProperties;
+import com.examples.springbootmonolithicstarter.domains.product.model.Money;
+import com.examples.springbootmonolithicstarter.domains.product.model.ProductStatus;
+import com.examples.springbootmonolithicstarter.domains.product.repository.ProductRow;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.BadSqlGrammarException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.IntFunction;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * 상품을 productId 기준으로 여러 DB(샤드)에 나누어 저장한다. (product.sharding.enabled=true 일 때 사용)
+ * <p>
+ * 단건 조회와 재고/정보/상태 변경은 productId 로 정한 샤드 하나에서만 실행한다.
+ * 목록 조회와 검색은 모든 샤드에 동시에 조회한 뒤(scatter-gather) ID 순으로 병합하며,
+ * 샤드마다 limit 건까지만 조회하므로 병합 비용은 샤드 수 × limit 이다.
+ * 전체 조회는 샤드별 커서를 열어 필요한 만큼만 읽으면서 병합한다.
+ * <p>
+ * 샤드 스키마(products, product_id_blocks)는 없으면 기동 시 생성한다.
+ */
+@Slf4j
+@Component
+public class ShardedProductRepository implements DisposableBean {
+
+    private static final String SELECT_ROW = """
+            select id, name, description, price, stock_quantity, status, created_at, updated_at
+              from products
+            """;
+    private static final RowMapper<ProductRow> ROW_MAPPER = (rs, rowNum) -> new ProductRow(
+            rs.getLong("id"),
+            rs.getString("name"),
+            rs.getString("description"),
+            rs.getBigDecimal("price"),
+            rs.getInt("stock_quantity"),
+            ProductStatus.valueOf(rs.getString("status")),
+            rs.getObject("created_at", LocalDateTime.class),
+            rs.getObject("updated_at", LocalDateTime.class));
+    private static final Comparator<ProductRow> BY_ID = Comparator.comparing(ProductRow::id);
+    private static final Comparator<ProductRow> BY_NAME = Comparator.comparing(ProductRow::name).thenComparing(BY_ID);
+    private static final char LIKE_ESCAPE = '!';
+
+    private final ProductShards shards;
+    private final ShardedProductIdGenerator idGenerator;
+    private final ExecutorService scatterExecutor;
+
+    @Autowired
+    public ShardedProductRepository(ProductShardingProperties productShardingProperties) {
+        this(productShardingProperties.enabled() ? ProductShards.connect(productShardingProperties) : null,
+                productShardingProperties.idBlockSize());
+    }
+
+    /**
+     * @param shards null 이면 비활성화
+     */
+    public ShardedProductRepository(ProductShards shards, int idBlockSize) {
+        this.shards = shards;
+        if (shards == null) {
+            this.idGenerator = null;
+            this.scatterExecutor = null;
+            return;
+        }
+        for (int shard = 0; shard < shards.size(); shard++) {
+            initializeSchema(shards.jdbcTemplate(shard));
+        }
+        this.idGenerator = new ShardedProductIdGenerator(shards, idBlockSize);
+        // 샤드 조회는 대부분 DB 응답 대기이므로 가상 스레드로 동시에 실행
+        this.scatterExecutor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("product-shard-", 0).factory());
+        log.info("Product sharding enabled. shards: {}", shards.size());
+    }
+
+    public boolean isEnabled() {
+        return shards != null;
+    }
+
+    public int shardCount() {
+        return shards.size();
+    }
+
+    public ProductRow insert(String name, String description, BigDecimal price, int stockQuantity) {
+        BigDecimal amount = Money.of(price).getAmount();
+        long productId = idGenerator.nextId();
+        LocalDateTime now = LocalDateTime.now();
+        shardOf(productId).update("""
+                insert into products (id, name, description, price, stock_quantity, status, created_at, updated_at, version)
+                values (?, ?, ?, ?, ?, ?, ?, null, 0)
+                """, productId, name, description, amount, stockQuantity, ProductStatus.AVAILABLE.name(), now);
+        return new ProductRow(productId, name, description, amount, stockQuantity, ProductStatus.AVAILABLE, now, null);
+    }
+
+    public Optional<ProductRow> findRowById(Long productId) {
+        return shardOf(productId).query(SELECT_ROW + " where id = ?", ROW_MAPPER, productId).stream().findFirst();
+    }
+
+    /**
+     * ID 를 샤드별로 나누어 상품이 있는 샤드에만 조회한다. (결과 순서는 보장하지 않음)
+     */
+    public List<ProductRow> findRowsByIdIn(Collection<Long> productIds) {
+        Map<Integer, List<Long>> idsByShard = productIds.stream()
+                .distinct()
+                .collect(Collectors.groupingBy(shards::shardOf, TreeMap::new, Collectors.toList()));
+        List<Integer> targets = List.copyOf(idsByShard.keySet());
+        return scatter(targets.size(), index -> {
+            List<Long> ids = idsByShard.get(targets.get(index));
+            String placeholders = String.join(", ", Collections.nCopies(ids.size(), "?"));
+            return shards.jdbcTemplate(targets.get(index))
+                    .query(SELECT_ROW + " where id in (" + placeholders + ")", ROW_MAPPER, ids.toArray());
+        }).stream().flatMap(List::stream).toList();
+    }
+
+    /**
+     * 키셋 페이지네이션: 샤드마다 lastId 이후 limit 건을 조회하여 ID 순으로 병합한 뒤 limit 건을 반환한다.
+     */
+    public List<ProductRow> findRowsByIdGreaterThan(long lastId, int limit) {
+        return merge(scatter(shard -> shards.jdbcTemplate(shard).query(
+                SELECT_ROW + " where id > ? order by id limit ?", ROW_MAPPER, lastId, limit)), BY_ID, limit);
+    }
+
+    public List<ProductRow> findRowsByStatusAndIdGreaterThan(ProductStatus status, long lastId, int limit) {
+        return merge(scatter(shard -> shards.jdbcTemplate(shard).query(
+                SELECT_ROW + " where status = ? and id > ? order by id limit ?",
+                ROW_MAPPER, status.name(), lastId, limit)), BY_ID, limit);
+    }
+
+    /**
+     * 상품명에 name 이 포함된 상품을 ID 순으로 limit 건 반환한다. (대소문자 구분 없음, 검색어의 %, _ 는 문자 그대로 비교)
+     */
+    public List<ProductRow> findRowsByNameContaining(String name, int limit) {
+        String pattern = "%" + escapeLike(name.toLowerCase(Locale.ROOT)) + "%";
+        return merge(scatter(shard -> shards.jdbcTemplate(shard).query(
+                SELECT_ROW + " where lower(name) like ? escape '" + LIKE_ESCAPE + "' order by id limit ?",
+                ROW_MAPPER, pattern, limit)), BY_ID, limit);
+    }
+
+    /**
+     * 상품명이 prefix 로 시작하는 상품을 이름 순으로 limit 건 반환한다.
+     */
+    public List<ProductRow> findRowsByNameStartingWith(String prefix, int limit) {
+        String pattern = escapeLike(prefix) + "%";
+        return merge(scatter(shard -> shards.jdbcTemplate(shard).query(
+                SELECT_ROW + " where name like ? escape '" + LIKE_ESCAPE + "' order by name, id limit ?",
+                ROW_MAPPER, pattern, limit)), BY_NAME, limit);
+    }
+
+    /**
+     * 전체 상품을 ID 순으로 읽는다. 반환된 Stream 은 샤드마다 커넥션을 점유하므로 반드시 닫아야 한다.
+     */
+    public Stream<ProductRow> streamAll() {
+        return stream(SELECT_ROW + " order by id");
+    }
+
+    /**
+     * 상태별 상품을 ID 순으로 읽는다. 반환된 Stream 은 샤드마다 커넥션을 점유하므로 반드시 닫아야 한다.
+     */
+    public Stream<ProductRow> streamByStatus(ProductStatus status) {
+        return stream(SELECT_ROW + " where status = ? order by id", status.name());
+    }
+
+    /**
+     * @return 변경된 행 수 (0이면 상품이 없음)
+     */
+    public int updateInfo(Long productId, String name, String description, BigDecimal price, LocalDateTime now) {
+        return shardOf(productId).update("""
+                update products
+                   set name = ?, description = ?, price = ?, updated_at = ?, version = version + 1
+                 where id = ?
+                """, name, description, Money.of(price).getAmount(), now, productId);
+    }
+
+    /**
+     * @return 변경된 행 수 (0이면 상품이 없음)
+     */
+    public int changeStatus(Long productId, ProductStatus status, LocalDateTime now) {
+        return shardOf(productId).update("""
+                update products
+                   set status = ?, updated_at = ?, version = version + 1
+                 where id = ?
+                """, status.name(), now, productId);
+    }
+
+    /**
+     * 판매 중이고 재고가 충분한 경우에만 재고를 차감한다.
+     *
+     * @return 변경된 행 수 (0이면 상품이 없거나, 판매 중이 아니거나, 재고 부족)
+     */
+    public int decreaseStock(Long productId, int quantity, LocalDateTime now) {
+        return shardOf(productId).update("""
+                update products
+                   set stock_quantity = stock_quantity - ?, updated_at = ?, version = version + 1
+                 where id = ?
+                   and stock_quantity >= ?
+                   and status = ?
+                """, quantity, now, productId, quantity, ProductStatus.AVAILABLE.name());
+    }
+
+    /**
+     * @return 변경된 행 수 (0이면 상품이 없음)
+     */
+    public int increaseStock(Long productId, int quantity, LocalDateTime now) {
+        return shardOf(productId).update("""
+                update products
+                   set stock_quantity = stock_quantity + ?, updated_at = ?, version = version + 1
+                 where id = ?
+                """, quantity, now, productId);
+    }
+
+    @Override
+    public void destroy() {
+        if (shards != null) {
+            scatterExecutor.shutdownNow();
+            shards.close();
+        }
+    }
+
+    private JdbcTemplate shardOf(Long productId) {
+        return shards.jdbcTemplate(shards.shardOf(productId));
+    }
+
+    private <T> List<T> scatter(IntFunction<T> query) {
+        return scatter(shards.size(), query);
+    }
+
+    /**
+     * 대상이 하나면 호출 스레드에서 바로 실행하고, 여럿이면 동시에 실행하여 모든 결과를 기다린다.
+     */
+    private <T> List<T> scatter(int targets, IntFunction<T> query) {
+        if (targets == 1) {
+            return List.of(query.apply(0));
+        }
+        List<Future<T>> futures = new ArrayList<>(targets);
+        for (int target = 0; target < targets; target++) {
+            int index = target;
+            futures.add(scatterExecutor.submit(() -> query.apply(index)));
+        }
+        List<T> results = new ArrayList<>(targets);
+        try {
+            for (Future<T> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } finally {
+            futures.forEach(future -> future.cancel(true));
+        }
+    }
+
+    private static List<ProductRow> merge(List<List<ProductRow>> sortedRows, Comparator<ProductRow> comparator, int limit) {
+        Iterator<ProductRow> merged = new SortedMergeIterator<>(sortedRows.stream().map(List::iterator).toList(), comparator);
+        List<ProductRow> rows = new ArrayList<>(limit);
+        while (rows.size() < limit && merged.hasNext()) {
+            rows.add(merged.next());
+        }
+        return rows;
+    }
+
+    private Stream<ProductRow> stream(String sql, Object... args) {
+        List<Stream<ProductRow>> streams = new ArrayList<>(shards.size());
+        try {
+            for (int shard = 0; shard < shards.size(); shard++) {
+                streams.add(shards.jdbcTemplate(shard).queryForStream(sql, ROW_MAPPER, args));
+            }
+        } catch (RuntimeException e) {
+            streams.forEach(Stream::close);
+            throw e;
+        }
+        Iterator<ProductRow> merged = new SortedMergeIterator<>(streams.stream().map(Stream::iterator).toList(), BY_ID);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(merged, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(() -> streams.forEach(Stream::close));
+    }
+
+    private static String escapeLike(String text) {
+        StringBuilder escaped = new StringBuilder(text.length());
+        for (char c : text.toCharArray()) {
+            if (c == '%' || c == '_' || c == LIKE_ESCAPE) {
+                escaped.append(LIKE_ESCAPE);
+            }
+            escaped.append(c);
+        }
+        return escaped.toString();
+    }
+
+    /**
+     * products 테이블이 없으면 (status, id) 인덱스, ID 시퀀스 테이블과 함께 생성한다.
+     */
+    private static void initializeSchema(JdbcTemplate jdbcTemplate) {
+        try {
+            jdbcTemplate.queryForList("select id from products where 1 = 0");
+            return;
+        } catch (BadSqlGrammarException e) {
+            log.info("Creating product shard schema.");
+        }
+        jdbcTemplate.execute("""
+                create table products (
+                    id             bigint         not null primary key,
+                    name           varchar(255)   not null,
+                    description    varchar(255),
+                    price          decimal(38, 2) not null,
+                    stock_quantity integer        not null,
+                    status         varchar(20)    not null,
+                    created_at     datetime(6)    not null,
+                    updated_at     datetime(6),
+                    version        bigint         not null
+                )
+                """);
+        jdbcTemplate.execute("create index idx_products_status_id on products (status, id)");
+        jdbcTemplate.execute("create table if not exists " + ShardedProductIdGenerator.TABLE
+                + " (id int primary key, next_val bigint not null)");
+        jdbcTemplate.update("insert into " + ShardedProductIdGenerator.TABLE + " (id, next_val) values (1, 1)");
+    }
+}
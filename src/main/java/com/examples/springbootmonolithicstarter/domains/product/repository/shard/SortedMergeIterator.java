@@ -0,0 +1,47 @@
+package com.examples.springbootmonolithicstarter.domains.product.repository.shard;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+
+/**
+ * 각각 정렬된 여러 Iterator 를 하나의 정렬된 Iterator 로 합친다. (k-way merge)
+ * <p>
+ * 각 Iterator 에서 다음 원소를 하나씩만 미리 읽으므로, 샤드별 커서를 끝까지 적재하지 않고 필요한 만큼만 읽는다.
+ */
+class SortedMergeIterator<T> implements Iterator<T> {
+
+    private final PriorityQueue<Head<T>> heads;
+
+    SortedMergeIterator(List<? extends Iterator<T>> iterators, Comparator<? super T> comparator) {
+        this.heads = new PriorityQueue<>(Math.max(iterators.size(), 1),
+                (left, right) -> comparator.compare(left.value, right.value));
+        for (Iterator<T> iterator : iterators) {
+            if (iterator.hasNext()) {
+                heads.add(new Head<>(iterator.next(), iterator));
+            }
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        return !heads.isEmpty();
+    }
+
+    @Override
+    public T next() {
+        Head<T> head = heads.poll();
+        if (head == null) {
+            throw new NoSuchElementException();
+        }
+        if (head.rest.hasNext()) {
+            heads.add(new Head<>(head.rest.next(), head.rest));
+        }
+        return head.value;
+    }
+
+    private record Head<T>(T value, Iterator<T> rest) {
+    }
+}
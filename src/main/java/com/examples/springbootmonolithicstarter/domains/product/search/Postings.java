@@ -0,0 +1,116 @@
+package com.examples.springbootmonolithicstarter.domains.product.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 토큰을 포함하는 상품 ID 목록 (오름차순 long 배열)
+ * <p>
+ * 상품 ID 는 대부분 증가하는 순서로 추가되므로 삽입은 보통 배열 끝에 일어난다.
+ * 외부에서 동기화하여 사용한다.
+ */
+final class Postings {
+
+    private long[] ids = new long[4];
+    private int size;
+
+    void add(long id) {
+        int index = Arrays.binarySearch(ids, 0, size, id);
+        if (index >= 0) {
+            return;
+        }
+        int insertAt = -index - 1;
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, size + (size >> 1) + 1);
+        }
+        System.arraycopy(ids, insertAt, ids, insertAt + 1, size - insertAt);
+        ids[insertAt] = id;
+        size++;
+    }
+
+    void remove(long id) {
+        int index = Arrays.binarySearch(ids, 0, size, id);
+        if (index < 0) {
+            return;
+        }
+        System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+        size--;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    long capacityBytes() {
+        return (long) ids.length * Long.BYTES;
+    }
+
+    /**
+     * 모든 목록에 공통으로 포함된 ID 를 오름차순으로 하나씩 꺼내는 커서를 만든다.
+     * 필요한 만큼만 계산하므로 상위 몇 건만 필요할 때 전체 교집합을 만들지 않는다.
+     */
+    static Intersection intersect(List<Postings> postings) {
+        return new Intersection(postings);
+    }
+
+    /**
+     * 가장 짧은 목록을 기준으로 나머지 목록을 이진 탐색한다.
+     * ID 가 오름차순으로 증가하므로 각 목록의 탐색 시작 위치를 앞으로만 옮긴다.
+     */
+    static final class Intersection {
+
+        static final long END = -1L;
+
+        private final Postings smallest;
+        private final Postings[] others;
+        private final int[] lowerBounds;
+        private int position;
+
+        private Intersection(List<Postings> postings) {
+            Postings min = null;
+            for (Postings candidate : postings) {
+                if (min == null || candidate.size < min.size) {
+                    min = candidate;
+                }
+            }
+            this.smallest = min;
+            List<Postings> rest = new ArrayList<>(postings);
+            rest.remove(min);
+            this.others = rest.toArray(Postings[]::new);
+            this.lowerBounds = new int[others.length];
+        }
+
+        /**
+         * @return 다음 ID, 없으면 {@link #END}
+         */
+        long next() {
+            if (smallest == null) {
+                return END;
+            }
+            while (position < smallest.size) {
+                long id = smallest.ids[position++];
+                if (containedInOthers(id)) {
+                    return id;
+                }
+            }
+            return END;
+        }
+
+        private boolean containedInOthers(long id) {
+            for (int i = 0; i < others.length; i++) {
+                Postings other = others[i];
+                int index = Arrays.binarySearch(other.ids, lowerBounds[i], other.size, id);
+                lowerBounds[i] = index >= 0 ? index + 1 : -index - 1;
+                if (index < 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,236 @@
+package com.examples.springbootmonolithicstarter.domains.product.search;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 상품명과 설명에 대한 메모리 역색인 (2-gram → 상품 ID 목록)
+ * <p>
+ * 검색어의 모든 토큰을 포함하는 상품을 찾고, 다음 순서로 정렬한다.
+ * <ol>
+ *     <li>상품명에 검색어가 그대로 포함된 상품</li>
+ *     <li>상품명에 검색어의 토큰이 모두 포함된 상품</li>
+ *     <li>설명에만 검색어의 토큰이 모두 포함된 상품</li>
+ * </ol>
+ * 같은 순위에서는 상품 ID 순이다. 검색은 동시에 수행되며, 색인 변경 중에는 대기한다.
+ * <p>
+ * 색인은 인스턴스(JVM)마다 따로 있으며, 기동 시 DB 에서 구축한 뒤에는 이 인스턴스에서 커밋된 상품 변경 이벤트로만 갱신된다.
+ * 여러 인스턴스로 운영하거나 DB 를 직접 수정하면 다른 인스턴스의 변경은 재기동(재구축) 전까지 반영되지 않는다.
+ * (자동완성 색인 {@link ProductSuggestIndex} 도 같다)
+ */
+@Component
+public class ProductSearchIndex {
+
+    private static final int EXACT_NAME_SCORE = 4;
+    private static final int NAME_SCORE = 2;
+    private static final int DESCRIPTION_SCORE = 1;
+    private static final int MAX_SCORE = EXACT_NAME_SCORE + DESCRIPTION_SCORE;
+
+    private final Map<String, Postings> nameIndex = new HashMap<>();
+    private final Map<String, Postings> descriptionIndex = new HashMap<>();
+    private final Map<Long, IndexedProduct> products = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private volatile boolean ready;
+
+    /**
+     * 상품을 색인한다. 이미 색인된 상품이면 기존 토큰을 제거한 뒤 다시 색인한다.
+     */
+    public void index(Long productId, String name, String description) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(productId);
+            addInternal(productId, name, description);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 아직 색인되지 않은 상품만 색인한다.
+     * DB 에서 전체 색인을 다시 구축하는 동안 커밋된 변경(더 최신 값)을 덮어쓰지 않기 위해 사용한다.
+     */
+    public void indexIfAbsent(Long productId, String name, String description) {
+        lock.writeLock().lock();
+        try {
+            if (!products.containsKey(productId)) {
+                addInternal(productId, name, description);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long productId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(productId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 2-gram 색인으로 찾을 수 있는 검색어인지 (한 글자 단어가 있으면 DB 에서 검색해야 함)
+     */
+    public static boolean supports(String query) {
+        return !ProductTokenizer.hasSingleCharacterWord(ProductTokenizer.normalize(query));
+    }
+
+    /**
+     * @return 순위 순으로 정렬된 상품 ID (최대 limit 건)
+     */
+    public List<Long> search(String query, int limit) {
+        String normalized = ProductTokenizer.normalize(query);
+        Set<String> grams = ProductTokenizer.grams(normalized);
+        if (grams.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            Postings.Intersection nameHits = Postings.intersect(lookup(nameIndex, grams));
+            Postings.Intersection descriptionHits = Postings.intersect(lookup(descriptionIndex, grams));
+            return rank(normalized, nameHits, descriptionHits, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return products.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 색인 구조(상품 ID 목록 배열)가 차지하는 대략적인 메모리 크기
+     */
+    public long postingsBytes() {
+        lock.readLock().lock();
+        try {
+            long bytes = 0;
+            for (Postings postings : nameIndex.values()) {
+                bytes += postings.capacityBytes();
+            }
+            for (Postings postings : descriptionIndex.values()) {
+                bytes += postings.capacityBytes();
+            }
+            return bytes;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public void markReady() {
+        this.ready = true;
+    }
+
+    /**
+     * 두 결과 모두 ID 오름차순이므로 병합하며 점수를 매기고, 점수별로 앞에서부터 limit 건만 남긴다.
+     */
+    private List<Long> rank(String normalizedQuery, Postings.Intersection nameHits,
+                            Postings.Intersection descriptionHits, int limit) {
+        List<List<Long>> byScore = new ArrayList<>(MAX_SCORE + 1);
+        for (int score = 0; score <= MAX_SCORE; score++) {
+            byScore.add(new ArrayList<>());
+        }
+
+        long nameId = nameHits.next();
+        long descriptionId = descriptionHits.next();
+        while (nameId != Postings.Intersection.END || descriptionId != Postings.Intersection.END) {
+            // 남은 후보가 받을 수 있는 최고 점수의 자리가 이미 찼으면, 이후(더 큰 ID)는 결과에 들어갈 수 없다
+            int ceiling = (nameId != Postings.Intersection.END ? EXACT_NAME_SCORE : 0)
+                    + (descriptionId != Postings.Intersection.END ? DESCRIPTION_SCORE : 0);
+            if (byScore.get(ceiling).size() >= limit) {
+                break;
+            }
+            long id;
+            int score = 0;
+            if (descriptionId == Postings.Intersection.END
+                    || (nameId != Postings.Intersection.END && nameId <= descriptionId)) {
+                id = nameId;
+                score += products.get(id).name().contains(normalizedQuery) ? EXACT_NAME_SCORE : NAME_SCORE;
+                if (descriptionId == id) {
+                    score += DESCRIPTION_SCORE;
+                    descriptionId = descriptionHits.next();
+                }
+                nameId = nameHits.next();
+            } else {
+                id = descriptionId;
+                score += DESCRIPTION_SCORE;
+                descriptionId = descriptionHits.next();
+            }
+            List<Long> bucket = byScore.get(score);
+            if (bucket.size() < limit) {
+                bucket.add(id);
+            }
+        }
+
+        List<Long> result = new ArrayList<>(limit);
+        for (int score = MAX_SCORE; score > 0 && result.size() < limit; score--) {
+            List<Long> bucket = byScore.get(score);
+            result.addAll(bucket.subList(0, Math.min(bucket.size(), limit - result.size())));
+        }
+        return result;
+    }
+
+    private List<Postings> lookup(Map<String, Postings> index, Set<String> grams) {
+        List<Postings> postings = new ArrayList<>(grams.size());
+        for (String gram : grams) {
+            Postings found = index.get(gram);
+            if (found == null) {
+                return List.of();
+            }
+            postings.add(found);
+        }
+        return postings;
+    }
+
+    private void addInternal(Long productId, String name, String description) {
+        IndexedProduct product = new IndexedProduct(
+                ProductTokenizer.normalize(name), ProductTokenizer.normalize(description));
+        products.put(productId, product);
+        ProductTokenizer.grams(product.name())
+                .forEach(gram -> nameIndex.computeIfAbsent(gram, key -> new Postings()).add(productId));
+        ProductTokenizer.grams(product.description())
+                .forEach(gram -> descriptionIndex.computeIfAbsent(gram, key -> new Postings()).add(productId));
+    }
+
+    private void removeInternal(Long productId) {
+        IndexedProduct product = products.remove(productId);
+        if (product == null) {
+            return;
+        }
+        ProductTokenizer.grams(product.name()).forEach(gram -> removePosting(nameIndex, gram, productId));
+        ProductTokenizer.grams(product.description()).forEach(gram -> removePosting(descriptionIndex, gram, productId));
+    }
+
+    private void removePosting(Map<String, Postings> index, String gram, Long productId) {
+        Postings postings = index.get(gram);
+        if (postings == null) {
+            return;
+        }
+        postings.remove(productId);
+        if (postings.isEmpty()) {
+            index.remove(gram);
+        }
+    }
+
+    private record IndexedProduct(String name, String description) {
+    }
+}
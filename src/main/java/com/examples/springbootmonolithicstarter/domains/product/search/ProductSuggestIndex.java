@@ -0,0 +1,256 @@
+package com.examples.springbootmonolithicstarter.domains.product.search;
+
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 상품명 접두사 자동완성 색인
+ * <p>
+ * 판매 가능 / 불가 상품을 각각 이름 순으로 정렬된 배열에 보관한다. 판매 가능 여부는 판매 상태(AVAILABLE)로만 정하며,
+ * 자주 바뀌는 재고 수량은 색인하지 않는다. (재고가 0 인 판매 중 상품도 판매 가능으로 제안)
+ * 접두사 구간은 이진 탐색으로 찾으므로 O(log n + k) 로 판매 가능 상품부터 이름 순으로 k 건을 반환한다.
+ * 트리 노드를 만들지 않아 상품당 메모리는 상품명 문자열, 배열 원소 두 개, ID 맵 항목 하나 수준이다.
+ * 상품 한 건 변경은 배열 원소를 한 칸씩 미는 비용이 드므로, 한 트랜잭션의 변경은 {@link Updates} 로 모아
+ * {@link #apply} 로 반영한다. 변경이 많으면 배열을 한 번 병합하여 다시 만든다.
+ */
+@Component
+public class ProductSuggestIndex {
+
+    /**
+     * 이 건수 이상 변경되면 한 건씩 옮기지 않고 배열을 병합하여 다시 만든다.
+     */
+    static final int BATCH_THRESHOLD = 32;
+
+    private SortedNames available = new SortedNames();
+    private SortedNames unavailable = new SortedNames();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private volatile boolean ready;
+
+    /**
+     * 적재 중에 반영된 변경 (적재가 끝나면 스냅샷 위에 다시 반영, 첫 적재 전에도 기록)
+     */
+    private List<Updates> pendingDuringLoad = new ArrayList<>();
+
+    /**
+     * 상품을 추가하거나, 이름/판매 상태가 바뀐 상품의 위치를 옮긴다.
+     */
+    public void put(Long productId, String name, boolean isAvailable) {
+        Updates updates = new Updates();
+        updates.put(productId, name, isAvailable);
+        apply(updates);
+    }
+
+    /**
+     * 판매 상태만 바뀐 상품을 반대쪽 목록으로 옮긴다.
+     */
+    public void changeAvailability(Long productId, boolean isAvailable) {
+        Updates updates = new Updates();
+        updates.changeAvailability(productId, isAvailable);
+        apply(updates);
+    }
+
+    public void remove(Long productId) {
+        Updates updates = new Updates();
+        updates.remove(productId);
+        apply(updates);
+    }
+
+    /**
+     * 모아 둔 변경을 한 번의 쓰기 잠금으로 반영한다.
+     */
+    public void apply(Updates updates) {
+        if (updates.isEmpty()) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (pendingDuringLoad != null) {
+                pendingDuringLoad.add(updates);
+            }
+            applyLocked(updates);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 판매 가능 상품을 먼저, 같은 그룹 안에서는 이름 순(대소문자 무시)으로 최대 limit 건을 반환한다.
+     */
+    public List<Suggestion> suggest(String prefix, int limit) {
+        String normalizedPrefix = normalize(prefix);
+        if (normalizedPrefix.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        List<Suggestion> result = new ArrayList<>(limit);
+        lock.readLock().lock();
+        try {
+            available.collect(normalizedPrefix, limit, true, result);
+            unavailable.collect(normalizedPrefix, limit, false, result);
+        } finally {
+            lock.readLock().unlock();
+        }
+        return result;
+    }
+
+    /**
+     * DB 에서 상품을 읽기 시작하기 전에 호출한다. 이후 반영되는 변경을 {@link #load} 가 끝날 때까지 기록한다.
+     */
+    public void beginLoad() {
+        lock.writeLock().lock();
+        try {
+            if (pendingDuringLoad == null) {
+                pendingDuringLoad = new ArrayList<>();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * DB 에서 읽은 상품으로 한 번에 정렬하여 채운 뒤, 읽는 동안 반영된 변경(더 최신 값)을 순서대로 다시 반영한다.
+     */
+    public void load(List<LoadEntry> entries) {
+        lock.writeLock().lock();
+        try {
+            List<SortedNames.Entry> availableEntries = new ArrayList<>();
+            List<SortedNames.Entry> unavailableEntries = new ArrayList<>();
+            for (LoadEntry entry : entries) {
+                SortedNames.Entry sortedEntry = new SortedNames.Entry(normalize(entry.name()), entry.productId());
+                (entry.available() ? availableEntries : unavailableEntries).add(sortedEntry);
+            }
+            available = SortedNames.of(availableEntries);
+            unavailable = SortedNames.of(unavailableEntries);
+            if (pendingDuringLoad != null) {
+                pendingDuringLoad.forEach(this::applyLocked);
+                pendingDuringLoad = null;
+            }
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return available.size() + unavailable.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 정렬 배열과 상품명 문자열이 차지하는 대략적인 메모리 크기
+     */
+    public long estimatedBytes() {
+        lock.readLock().lock();
+        try {
+            return available.estimatedBytes() + unavailable.estimatedBytes();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void applyLocked(Updates updates) {
+        if (updates.changes.size() < BATCH_THRESHOLD) {
+            updates.changes.forEach(this::applyInternal);
+        } else {
+            applyBatch(updates.changes);
+        }
+    }
+
+    private void applyInternal(Long productId, Change change) {
+        String name = removeInternal(productId);
+        if (change.removed()) {
+            return;
+        }
+        String newName = change.name() != null ? change.name() : name;
+        if (newName != null) {
+            (change.available() ? available : unavailable).add(newName, productId);
+        }
+    }
+
+    private void applyBatch(Map<Long, Change> changes) {
+        List<SortedNames.Entry> availableAdded = new ArrayList<>();
+        List<SortedNames.Entry> unavailableAdded = new ArrayList<>();
+        changes.forEach((productId, change) -> {
+            String name = change.name() != null ? change.name() : nameOf(productId);
+            if (!change.removed() && name != null) {
+                (change.available() ? availableAdded : unavailableAdded).add(new SortedNames.Entry(name, productId));
+            }
+        });
+        available.apply(changes.keySet(), availableAdded);
+        unavailable.apply(changes.keySet(), unavailableAdded);
+    }
+
+    private String nameOf(Long productId) {
+        String name = available.nameOf(productId);
+        return name != null ? name : unavailable.nameOf(productId);
+    }
+
+    private String removeInternal(Long productId) {
+        String name = available.remove(productId);
+        return name != null ? name : unavailable.remove(productId);
+    }
+
+    private static String normalize(String text) {
+        return text == null ? "" : Normalizer.normalize(text, Normalizer.Form.NFC).strip();
+    }
+
+    /**
+     * 한 번에 반영할 상품 변경 (상품별로 마지막 변경만 남는다)
+     */
+    public static final class Updates {
+
+        private final Map<Long, Change> changes = new LinkedHashMap<>();
+
+        public void put(Long productId, String name, boolean isAvailable) {
+            changes.put(productId, new Change(normalize(name), isAvailable, false));
+        }
+
+        /**
+         * 이름은 그대로 두고 판매 상태만 바꾼다. (색인에 없는 상품이면 무시)
+         */
+        public void changeAvailability(Long productId, boolean isAvailable) {
+            changes.merge(productId, new Change(null, isAvailable, false),
+                    (previous, changed) -> previous.removed() ? previous : new Change(previous.name(), isAvailable, false));
+        }
+
+        public void remove(Long productId) {
+            changes.put(productId, new Change(null, false, true));
+        }
+
+        public boolean isEmpty() {
+            return changes.isEmpty();
+        }
+    }
+
+    /**
+     * @param name null 이면 색인에 있는 이름을 유지
+     */
+    private record Change(
+            String name,
+            boolean available,
+            boolean removed
+    ) {
+    }
+
+    public record LoadEntry(
+            Long productId,
+            String name,
+            boolean available
+    ) {
+    }
+}
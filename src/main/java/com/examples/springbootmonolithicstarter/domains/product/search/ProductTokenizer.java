@@ -0,0 +1,78 @@
+package com.examples.springbootmonolithicstarter.domains.product.search;
+
+import java.text.Normalizer;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 검색어와 상품 텍스트를 같은 규칙으로 2-gram 토큰으로 나눈다.
+ * <p>
+ * 한글은 띄어쓰기 없이 붙여 쓰는 경우가 많아 단어 단위로는 부분 일치를 찾을 수 없으므로,
+ * 문자/숫자로 이루어진 단어를 2글자씩 겹쳐 나눈다. ("노트북" → "노트", "트북")
+ * 한 글자 단어는 그대로 토큰으로 사용한다. 따라서 한 글자 검색어("책")는 더 긴 단어("책상")를 찾지 못한다.
+ * ({@link #hasSingleCharacterWord(String)} 인 검색어는 색인 대신 DB 에서 검색)
+ */
+public final class ProductTokenizer {
+
+    private ProductTokenizer() {
+    }
+
+    /**
+     * 대소문자와 유니코드 조합 형태를 통일한다. (NFC, 소문자)
+     */
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT).strip();
+    }
+
+    /**
+     * @param normalized {@link #normalize(String)} 를 거친 텍스트
+     */
+    public static Set<String> grams(String normalized) {
+        Set<String> grams = new LinkedHashSet<>();
+        int start = -1;
+        for (int i = 0; i <= normalized.length(); i++) {
+            boolean wordChar = i < normalized.length() && Character.isLetterOrDigit(normalized.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                addWordGrams(normalized, start, i, grams);
+                start = -1;
+            }
+        }
+        return grams;
+    }
+
+    /**
+     * 한 글자 단어가 있으면 2-gram 색인으로는 그 글자를 포함한 긴 단어를 찾을 수 없다.
+     *
+     * @param normalized {@link #normalize(String)} 를 거친 텍스트
+     */
+    public static boolean hasSingleCharacterWord(String normalized) {
+        int wordLength = 0;
+        for (int i = 0; i <= normalized.length(); i++) {
+            if (i < normalized.length() && Character.isLetterOrDigit(normalized.charAt(i))) {
+                wordLength++;
+                continue;
+            }
+            if (wordLength == 1) {
+                return true;
+            }
+            wordLength = 0;
+        }
+        return false;
+    }
+
+    private static void addWordGrams(String text, int start, int end, Set<String> grams) {
+        if (end - start == 1) {
+            grams.add(text.substring(start, end));
+            return;
+        }
+        for (int i = start; i + 2 <= end; i++) {
+            grams.add(text.substring(i, i + 2));
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package com.examples.springbootmonolithicstarter.domains.product.search;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * (상품명, 상품 ID) 순으로 정렬된 병렬 배열 (상품명은 대소문자 구분 없이 비교)
+ * <p>
+ * 접두사가 같은 이름은 연속된 구간에 모이므로, 이진 탐색으로 구간의 시작을 찾고 앞에서부터 k 건을 읽는다.
+ * 상품 ID 로 상품명을 찾는 맵을 함께 두어, 삭제할 위치도 (상품명, 상품 ID) 이진 탐색으로 찾는다.
+ * 한 건 추가/삭제는 뒤쪽 원소를 한 칸 미는 비용이 들므로, 여러 건은 {@link #apply} 로 한 번에 다시 만든다.
+ * 외부에서 동기화하여 사용한다.
+ */
+final class SortedNames {
+
+    private static final Comparator<String> NAME_ORDER = String.CASE_INSENSITIVE_ORDER;
+
+    private String[] names;
+    private long[] ids;
+    private int size;
+    private final Map<Long, String> nameById;
+
+    SortedNames() {
+        this(new String[0], new long[0], 0);
+    }
+
+    private SortedNames(String[] names, long[] ids, int size) {
+        this.names = names;
+        this.ids = ids;
+        this.size = size;
+        this.nameById = HashMap.newHashMap(size);
+        for (int i = 0; i < size; i++) {
+            nameById.put(ids[i], names[i]);
+        }
+    }
+
+    /**
+     * 정렬되지 않은 항목으로 한 번에 만든다.
+     */
+    static SortedNames of(List<Entry> entries) {
+        Entry[] sorted = entries.toArray(Entry[]::new);
+        Arrays.sort(sorted, (left, right) -> compare(left.name(), left.id(), right.name(), right.id()));
+        String[] names = new String[sorted.length];
+        long[] ids = new long[sorted.length];
+        for (int i = 0; i < sorted.length; i++) {
+            names[i] = sorted[i].name();
+            ids[i] = sorted[i].id();
+        }
+        return new SortedNames(names, ids, sorted.length);
+    }
+
+    void add(String name, long id) {
+        int insertAt = -indexOf(name, id) - 1;
+        if (size == names.length) {
+            int capacity = size + (size >> 1) + 16;
+            names = Arrays.copyOf(names, capacity);
+            ids = Arrays.copyOf(ids, capacity);
+        }
+        System.arraycopy(names, insertAt, names, insertAt + 1, size - insertAt);
+        System.arraycopy(ids, insertAt, ids, insertAt + 1, size - insertAt);
+        names[insertAt] = name;
+        ids[insertAt] = id;
+        size++;
+        nameById.put(id, name);
+    }
+
+    /**
+     * @return 삭제된 항목의 상품명, 없으면 null
+     */
+    String remove(long id) {
+        String name = nameById.remove(id);
+        if (name == null) {
+            return null;
+        }
+        int index = indexOf(name, id);
+        System.arraycopy(names, index + 1, names, index, size - index - 1);
+        System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+        size--;
+        names[size] = null;
+        return name;
+    }
+
+    String nameOf(long id) {
+        return nameById.get(id);
+    }
+
+    /**
+     * 여러 항목을 한 번에 삭제/추가한다. 기존 배열과 정렬한 추가 항목을 병합하여 새 배열을 만든다. (O(n + k log k))
+     * 추가 항목의 상품 ID 는 서로 겹치지 않아야 하며, 이미 있는 상품 ID 는 removedIds 에 포함해야 한다.
+     */
+    void apply(Collection<Long> removedIds, List<Entry> added) {
+        removedIds.forEach(nameById::remove);
+        Entry[] sortedAdded = added.toArray(Entry[]::new);
+        Arrays.sort(sortedAdded, (left, right) -> compare(left.name(), left.id(), right.name(), right.id()));
+
+        int capacity = nameById.size() + sortedAdded.length;
+        String[] mergedNames = new String[capacity + (capacity >> 3)];
+        long[] mergedIds = new long[mergedNames.length];
+        int merged = 0;
+        int next = 0;
+        for (int i = 0; i < size; i++) {
+            if (!names[i].equals(nameById.get(ids[i]))) {
+                continue;
+            }
+            while (next < sortedAdded.length
+                    && compare(sortedAdded[next].name(), sortedAdded[next].id(), names[i], ids[i]) < 0) {
+                mergedNames[merged] = sortedAdded[next].name();
+                mergedIds[merged++] = sortedAdded[next++].id();
+            }
+            mergedNames[merged] = names[i];
+            mergedIds[merged++] = ids[i];
+        }
+        for (; next < sortedAdded.length; next++) {
+            mergedNames[merged] = sortedAdded[next].name();
+            mergedIds[merged++] = sortedAdded[next].id();
+        }
+        for (Entry entry : sortedAdded) {
+            nameById.put(entry.id(), entry.name());
+        }
+        names = mergedNames;
+        ids = mergedIds;
+        size = merged;
+    }
+
+    /**
+     * 접두사로 시작하는 항목을 이름 순으로 최대 limit 건 추가한다.
+     */
+    void collect(String prefix, int limit, boolean available, List<Suggestion> result) {
+        int index = indexOf(prefix, Long.MIN_VALUE);
+        int from = index >= 0 ? index : -index - 1;
+        for (int i = from; i < size && result.size() < limit
+                && names[i].regionMatches(true, 0, prefix, 0, prefix.length()); i++) {
+            result.add(new Suggestion(ids[i], names[i], available));
+        }
+    }
+
+    List<Entry> entries() {
+        Entry[] entries = new Entry[size];
+        for (int i = 0; i < size; i++) {
+            entries[i] = new Entry(names[i], ids[i]);
+        }
+        return Arrays.asList(entries);
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * 배열, 문자열, ID 맵(항목 32 + Long 16 + 테이블 칸 4 바이트)이 차지하는 대략적인 메모리 크기 (압축 OOP 기준)
+     */
+    long estimatedBytes() {
+        long bytes = (long) names.length * 4 + (long) ids.length * Long.BYTES + (long) size * (32 + 16 + 4);
+        for (int i = 0; i < size; i++) {
+            String name = names[i];
+            boolean latin1 = name.chars().allMatch(c -> c < 256);
+            long array = 16 + (long) name.length() * (latin1 ? 1 : 2);
+            bytes += 24 + ((array + 7) & ~7);
+        }
+        return bytes;
+    }
+
+    private int indexOf(String name, long id) {
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int comparison = compare(names[mid], ids[mid], name, id);
+            if (comparison < 0) {
+                low = mid + 1;
+            } else if (comparison > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    private static int compare(String leftName, long leftId, String rightName, long rightId) {
+        int comparison = NAME_ORDER.compare(leftName, rightName);
+        return comparison != 0 ? comparison : Long.compare(leftId, rightId);
+    }
+
+    record Entry(String name, long id) {
+    }
+}
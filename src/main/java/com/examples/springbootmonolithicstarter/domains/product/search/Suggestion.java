@@ -0,0 +1,8 @@
+package com.examples.springbootmonolithicstarter.domains.product.search;
+
+public record Suggestion(
+        long productId,
+        String name,
+        boolean available
+) {
+}
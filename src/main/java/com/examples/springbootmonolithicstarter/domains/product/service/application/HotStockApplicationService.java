@@ -0,0 +1,199 @@
+package com.examples.springbootmonolithicstarter.domains.product.service.application;
+
+import com.examples.springbootmonolithicstarter.domains.product.config.HotStockProperties;
+import com.examples.springbootmonolithicstarter.domains.product.config.ProductShardingProperties;
+import com.examples.springbootmonolithicstarter.domains.product.event.ProductStatusChangedEvent;
+import com.examples.springbootmonolithicstarter.domains.product.event.ProductStockChangedEvent;
+import com.examples.springbootmonolithicstarter.domains.product.model.HotStockCheckpoint;
+import com.examples.springbootmonolithicstarter.domains.product.model.ProductStatus;
+import com.examples.springbootmonolithicstarter.domains.product.repository.HotStockCheckpointRepository;
+import com.examples.springbootmonolithicstarter.domains.product.repository.ProductRepository;
+import com.examples.springbootmonolithicstarter.domains.product.stock.HotStockDrain;
+import com.examples.springbootmonolithicstarter.domains.product.stock.HotStockJournal;
+import com.examples.springbootmonolithicstarter.domains.product.stock.HotStockLedger;
+import com.examples.springbootmonolithicstarter.global.datasource.PrimaryRead;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 인기 상품 메모리 원장의 기동 시 복구, 주기적 DB 반영(write-behind)을 담당한다.
+ * 단일 DB 의 products 테이블에 반영하므로 샤드 저장소와 함께 켜면 기동하지 않는다.
+ * <p>
+ * 원장은 웹 서버가 요청을 받기 전에 등록하고, 웹 서버가 멈춘 뒤 마지막 변경분을 반영한다.
+ * (등록 전에 들어온 인기 상품 요청이 DB 재고를 바로 바꾸면 원장이 그 변경을 모른 채 초기화되어 초과 판매될 수 있음)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class HotStockApplicationService implements SmartLifecycle {
+
+    /**
+     * 웹 서버(DEFAULT_PHASE - 2048)보다 먼저 시작하고 나중에 멈춘다.
+     */
+    static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+
+    private final HotStockProperties hotStockProperties;
+    private final ProductShardingProperties productShardingProperties;
+    private final HotStockLedger hotStockLedger;
+    private final HotStockJournal hotStockJournal;
+    private final ProductRepository productRepository;
+    private final HotStockCheckpointRepository hotStockCheckpointRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private volatile boolean started;
+    // 반영 여부를 확인하지 못한 변경분 (확인 전까지 다음 변경분을 반영하지 않음)
+    private volatile HotStockDrain unresolved;
+
+    @PostConstruct
+    public void validate() {
+        if (hotStockProperties.enabled() && productShardingProperties.enabled()) {
+            throw new IllegalStateException(
+                    "product.stock.hot.enabled 와 product.sharding.enabled 는 함께 사용할 수 없습니다.");
+        }
+    }
+
+    /**
+     * 반영되지 않은 저널을 DB에 복구한 뒤, 복구된 재고로 원장을 초기화한다.
+     */
+    @Override
+    public void start() {
+        if (!hotStockProperties.enabled()) {
+            return;
+        }
+        long lastSequence = recover();
+        hotStockJournal.open(lastSequence + 1);
+        productRepository.findAllById(hotStockProperties.productIds())
+                .forEach(product -> hotStockLedger.register(
+                        product.getId(),
+                        product.getStockQuantity(),
+                        product.getStatus() == ProductStatus.AVAILABLE
+                ));
+        started = true;
+        log.info("Hot stock ledger started. products: {}, journal sequence: {}",
+                hotStockProperties.productIds(), lastSequence + 1);
+    }
+
+    /**
+     * 반영에 실패하면 체크포인트를 다시 읽어 변경분이 실제로 커밋되었는지 확인한다.
+     * (커밋 후 예외가 나거나 커밋 결과를 받지 못한 경우 되돌리면 다음 주기에 두 번 반영됨)
+     * 체크포인트도 읽을 수 없으면 반영 여부를 알 수 없으므로, 확인될 때까지 다음 변경분을 반영하지 않는다.
+     */
+    @Scheduled(fixedDelayString = "${product.stock.hot.flush-interval:100ms}")
+    public void flush() {
+        if (!started) {
+            return;
+        }
+        if (unresolved != null) {
+            resolve(unresolved);
+            unresolved = null;
+        }
+        hotStockLedger.drain().ifPresent(drain -> {
+            try {
+                applyDeltas(drain.deltas(), drain.sequence());
+            } catch (RuntimeException e) {
+                log.error("Hot stock flush failed. sequence: {}", drain.sequence(), e);
+                unresolved = drain;
+                resolve(drain);
+                unresolved = null;
+                return;
+            }
+            hotStockLedger.complete(drain);
+        });
+    }
+
+    private void resolve(HotStockDrain drain) {
+        // 복제본은 방금 커밋된 체크포인트를 아직 모를 수 있으므로 primary 에서 읽음
+        boolean applied = PrimaryRead.execute(() -> hotStockCheckpointRepository.findById(HotStockCheckpoint.SINGLETON_ID)
+                .map(checkpoint -> checkpoint.getLastSequence() >= drain.sequence())
+                .orElse(false));
+        if (applied) {
+            hotStockLedger.complete(drain);
+        } else {
+            hotStockLedger.restore(drain);
+        }
+    }
+
+    @Override
+    public void stop() {
+        if (!started) {
+            return;
+        }
+        flush();
+        started = false;
+        hotStockJournal.close();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return started;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    @TransactionalEventListener
+    public void onProductStatusChanged(ProductStatusChangedEvent event) {
+        hotStockLedger.changeAvailability(event.productId(), event.status() == ProductStatus.AVAILABLE);
+    }
+
+    /**
+     * 체크포인트 이후의 저널 세그먼트를 합산하여 DB에 반영하고 모든 세그먼트를 정리한다.
+     *
+     * @return 마지막 세그먼트 번호
+     */
+    private long recover() {
+        long checkpoint = hotStockCheckpointRepository.findById(HotStockCheckpoint.SINGLETON_ID)
+                .map(HotStockCheckpoint::getLastSequence)
+                .orElse(0L);
+        List<Long> segments = hotStockJournal.segments();
+
+        long lastSequence = checkpoint;
+        Map<Long, Long> deltas = new HashMap<>();
+        for (long segment : segments) {
+            if (segment > checkpoint) {
+                hotStockJournal.readDeltas(segment).forEach((productId, delta) -> deltas.merge(productId, delta, Long::sum));
+            }
+            lastSequence = Math.max(lastSequence, segment);
+        }
+
+        if (lastSequence > checkpoint) {
+            applyDeltas(deltas, lastSequence);
+            log.warn("Hot stock journal recovered. segments: {}, deltas: {}", segments, deltas);
+        }
+        segments.forEach(hotStockJournal::delete);
+        return lastSequence;
+    }
+
+    /**
+     * 재고 변경분과 체크포인트를 하나의 트랜잭션으로 반영한다.
+     * 반영된 상품은 커밋 후 조회 캐시에서 무효화된다.
+     */
+    private void applyDeltas(Map<Long, Long> deltas, long sequence) {
+        transactionTemplate.executeWithoutResult(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            deltas.forEach((productId, delta) -> {
+                productRepository.adjustStock(productId, Math.toIntExact(delta), now);
+                eventPublisher.publishEvent(new ProductStockChangedEvent(productId));
+            });
+            HotStockCheckpoint checkpoint = hotStockCheckpointRepository.findById(HotStockCheckpoint.SINGLETON_ID)
+                    .orElseGet(HotStockCheckpoint::initial);
+            checkpoint.advanceTo(sequence);
+            hotStockCheckpointRepository.save(checkpoint);
+        });
+    }
+}
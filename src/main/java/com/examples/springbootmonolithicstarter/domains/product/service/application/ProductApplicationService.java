@@ -1,95 +1,281 @@
 package com.examples.springbootmonolithicstarter.domains.product.service.application;
 
+import com.examples.springbootmonolithicstarter.domains.product.cache.ProductCache;
 import com.examples.springbootmonolithicstarter.domains.product.dto.request.CreateProductRequest;
+import com.examples.springbootmonolithicstarter.domains.product.dto.request.QuoteRequest;
+import com.examples.springbootmonolithicstarter.domains.product.dto.request.ReserveStockRequest;
 import com.examples.springbootmonolithicstarter.domains.product.dto.request.UpdateProductRequest;
 import com.examples.springbootmonolithicstarter.domains.product.dto.response.ProductResponse;
+import com.examples.springbootmonolithicstarter.domains.product.dto.response.ProductSuggestionResponse;
+import com.examples.springbootmonolithicstarter.domains.product.dto.response.QuoteResponse;
+import com.examples.springbootmonolithicstarter.domains.product.event.ProductChangedEvent;
+import com.examples.springbootmonolithicstarter.domains.product.event.ProductStatusChangedEvent;
+import com.examples.springbootmonolithicstarter.domains.product.jfr.StockOperationEvent;
 import com.examples.springbootmonolithicstarter.domains.product.exception.ProductNotFoundException;
-import com.examples.springbootmonolithicstarter.domains.product.model.Product;
+import com.examples.springbootmonolithicstarter.domains.product.exception.ProductOutOfStockException;
+import com.examples.springbootmonolithicstarter.domains.product.exception.ProductStockShortageException;
+import com.examples.springbootmonolithicstarter.domains.product.model.Money;
 import com.examples.springbootmonolithicstarter.domains.product.model.ProductStatus;
-import com.examples.springbootmonolithicstarter.domains.product.repository.ProductRepository;
-import com.examples.springbootmonolithicstarter.domains.product.service.domain.StockService;
+import com.examples.springbootmonolithicstarter.domains.product.repository.ProductRow;
+import com.examples.springbootmonolithicstarter.domains.product.search.ProductSearchIndex;
+import com.examples.springbootmonolithicstarter.domains.product.search.ProductSuggestIndex;
+import com.examples.springbootmonolithicstarter.domains.product.stock.HotStockLedger;
+import com.examples.springbootmonolithicstarter.domains.product.stock.StockMetrics;
+import com.examples.springbootmonolithicstarter.domains.product.store.ProductStore;
+import com.examples.springbootmonolithicstarter.domains.product.store.StockStore;
+import com.examples.springbootmonolithicstarter.global.metrics.Measured;
+import com.examples.springbootmonolithicstarter.global.pagination.CursorCodec;
+import com.examples.springbootmonolithicstarter.global.response.CursorPageResponse;
+import com.examples.springbootmonolithicstarter.global.retry.OptimisticLockRetry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+/**
+ * 상품 등록/조회/검색/변경과 재고 변경은 설정으로 선택된 저장소({@link ProductStore}, {@link StockStore})에서 처리한다.
+ * <p>
+ * {@code @Transactional} 은 단일 DB 저장소의 변경을 원자적으로 묶고, 변경 이벤트를 커밋 후에 전달하기 위한 것이다.
+ * 샤드 저장소(product.sharding.enabled=true)의 변경은 문장마다 샤드에서 커밋되므로 트랜잭션이 롤백되어도 취소되지 않는다.
+ * <p>
+ * 메서드별 실행 시간은 service.method 지표, 재고 차감 결과는 product.stock.reservations 지표로 확인할 수 있다.
+ * 단건 재고 차감/추가는 JFR 이벤트({@link StockOperationEvent})로도 기록된다.
+ * <p>
+ * 인기 상품 메모리 원장의 재고 변경은 DB와 캐시에 주기적으로만 반영되므로,
+ * 상품 조회 응답의 재고 수량과 판매 가능 여부는 원장 값으로 덮어써서 반환한다.
+ */
+@Measured
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class ProductApplicationService {
 
-    private final ProductRepository productRepository;
-    private final StockService stockService;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_SUGGESTIONS = 20;
+
+    private final ProductStore productStore;
+    private final StockStore stockStore;
+    private final HotStockLedger hotStockLedger;
+    private final StockMetrics stockMetrics;
+    private final ProductSearchIndex productSearchIndex;
+    private final ProductSuggestIndex productSuggestIndex;
+    private final ProductCache productCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public ProductResponse createProduct(CreateProductRequest request) {
-        Product product = Product.create(
+        ProductRow row = productStore.create(
                 request.name(),
                 request.description(),
                 request.price(),
                 request.stockQuantity()
         );
-        Product savedProduct = productRepository.save(product);
-        return ProductResponse.from(savedProduct);
+        publishProductChanged(row);
+        return ProductResponse.from(row);
     }
 
+    /**
+     * 캐시에 없을 때만 DB 에서 조회한다. 캐시는 상품 변경이 커밋된 후 무효화된다.
+     * 캐시 적중이나 다른 요청의 조회를 기다리는 동안 DB 커넥션을 점유하지 않도록 트랜잭션 없이 실행한다.
+     * (readOnly 이므로 쓰기로 취급되지 않으며, 캐시 적재 조회는 primary, 캐시를 끄면 복제본에서 읽음)
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public ProductResponse getProduct(Long productId) {
-        Product product = findProductById(productId);
-        return ProductResponse.from(product);
+        return withHotStock(productCache.get(productId, id -> productStore.findRowById(id)
+                .map(ProductResponse::from)
+                .orElseThrow(() -> new ProductNotFoundException(id))));
     }
 
-    public List<ProductResponse> getAllProducts() {
-        return productRepository.findAll().stream()
-                .map(ProductResponse::from)
-                .toList();
+    /**
+     * 줄마다 상품 가격 × 수량과 전체 합계를 계산한다. 같은 상품이 여러 줄에 있으면 줄마다 계산한다.
+     * 가격은 캐시된 상품에서 먼저 찾고, 캐시에 없는 상품만 한 번의 쿼리로 조회한다. (조회 결과는 캐시에 적재하지 않음)
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public QuoteResponse quote(QuoteRequest request) {
+        Set<Long> productIds = new LinkedHashSet<>();
+        request.lines().forEach(line -> productIds.add(line.productId()));
+        Map<Long, ProductResponse> products = new HashMap<>(productCache.getAllPresent(productIds));
+        if (products.size() < productIds.size()) {
+            List<Long> missingIds = productIds.stream()
+                    .filter(productId -> !products.containsKey(productId))
+                    .toList();
+            productStore.findRowsByIdIn(missingIds).forEach(row -> products.put(row.id(), ProductResponse.from(row)));
+        }
+
+        List<QuoteResponse.Line> lines = new ArrayList<>(request.lines().size());
+        Money totalPrice = Money.zero();
+        for (QuoteRequest.Line line : request.lines()) {
+            ProductResponse product = products.get(line.productId());
+            if (product == null) {
+                throw new ProductNotFoundException(line.productId());
+            }
+            product = withHotStock(product);
+            Money lineTotal = Money.of(product.price()).multiply(line.quantity());
+            totalPrice = totalPrice.add(lineTotal);
+            lines.add(new QuoteResponse.Line(product.id(), product.name(), product.price(), line.quantity(),
+                    lineTotal.getAmount(), product.available()));
+        }
+        return new QuoteResponse(lines, totalPrice.getAmount());
     }
 
-    public List<ProductResponse> getAvailableProducts() {
-        return productRepository.findByStatus(ProductStatus.AVAILABLE).stream()
-                .map(ProductResponse::from)
+    public CursorPageResponse<ProductResponse> getAllProducts(String cursor, int size) {
+        int pageSize = Math.clamp(size, 1, MAX_PAGE_SIZE);
+        long lastId = CursorCodec.decode(cursor);
+        List<ProductRow> rows = productStore.findRowsByIdGreaterThan(lastId, pageSize + 1);
+        return CursorPageResponse.of(rows, pageSize, ProductRow::id, this::toResponse);
+    }
+
+    public CursorPageResponse<ProductResponse> getAvailableProducts(String cursor, int size) {
+        int pageSize = Math.clamp(size, 1, MAX_PAGE_SIZE);
+        long lastId = CursorCodec.decode(cursor);
+        List<ProductRow> rows = productStore.findRowsByStatusAndIdGreaterThan(ProductStatus.AVAILABLE, lastId, pageSize + 1);
+        return CursorPageResponse.of(rows, pageSize, ProductRow::id, this::toResponse);
+    }
+
+    /**
+     * 메모리 역색인에서 순위 순으로 검색한다.
+     * 색인이 준비되지 않았거나 한 글자 단어가 있는 검색어("책")는 DB 에서 상품명 LIKE 로 검색한다.
+     */
+    public List<ProductResponse> searchProducts(String name, int limit) {
+        int maxResults = Math.clamp(limit, 1, MAX_PAGE_SIZE);
+        if (!productSearchIndex.isReady() || !ProductSearchIndex.supports(name)) {
+            return productStore.findRowsByNameContaining(name, maxResults).stream()
+                    .map(this::toResponse)
+                    .toList();
+        }
+        List<Long> productIds = productSearchIndex.search(name, maxResults);
+        if (productIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, ProductRow> rowsById = productStore.findRowsByIdIn(productIds).stream()
+                .collect(Collectors.toMap(ProductRow::id, Function.identity()));
+        return productIds.stream()
+                .map(rowsById::get)
+                .filter(Objects::nonNull)
+                .map(this::toResponse)
                 .toList();
     }
 
-    public List<ProductResponse> searchProducts(String name) {
-        return productRepository.findByNameContaining(name).stream()
-                .map(ProductResponse::from)
+    /**
+     * 상품명이 접두사로 시작하는 상품을 판매 가능 상품부터 이름 순으로 반환한다. (자동완성)
+     * 색인이 준비되지 않았으면 DB 에서 이름 순으로 조회한다.
+     */
+    public List<ProductSuggestionResponse> suggestProducts(String prefix, int limit) {
+        int maxResults = Math.clamp(limit, 1, MAX_SUGGESTIONS);
+        if (!productSuggestIndex.isReady()) {
+            return productStore.findRowsByNameStartingWith(prefix, maxResults).stream()
+                    .map(ProductSuggestionResponse::from)
+                    .toList();
+        }
+        return productSuggestIndex.suggest(prefix, maxResults).stream()
+                .map(ProductSuggestionResponse::from)
                 .toList();
     }
 
     @Transactional
     public ProductResponse updateProduct(Long productId, UpdateProductRequest request) {
-        Product product = findProductById(productId);
-        product.updateInfo(request.name(), request.description(), request.price());
-        return ProductResponse.from(product);
+        ProductRow row = productStore.updateInfo(productId, request.name(), request.description(), request.price());
+        publishProductChanged(row);
+        return toResponse(row);
     }
 
+    @OptimisticLockRetry
     @Transactional
     public void addStock(Long productId, int quantity) {
-        Product product = findProductById(productId);
-        stockService.releaseStock(product, quantity);
+        StockOperationEvent event = new StockOperationEvent(productId, quantity, StockOperationEvent.RELEASE);
+        event.begin();
+        String outcome = StockOperationEvent.ERROR;
+        try {
+            stockStore.release(productId, quantity, event);
+            outcome = StockOperationEvent.SUCCESS;
+        } catch (ProductNotFoundException e) {
+            outcome = StockOperationEvent.NOT_FOUND;
+            throw e;
+        } finally {
+            event.finish(outcome);
+        }
     }
 
+    @OptimisticLockRetry
     @Transactional
     public void removeStock(Long productId, int quantity) {
-        Product product = findProductById(productId);
-        stockService.reserveStock(product, quantity);
+        StockOperationEvent event = new StockOperationEvent(productId, quantity, StockOperationEvent.RESERVE);
+        event.begin();
+        String outcome = StockOperationEvent.ERROR;
+        try {
+            stockStore.reserve(productId, quantity, event);
+            outcome = StockOperationEvent.SUCCESS;
+        } catch (ProductOutOfStockException e) {
+            outcome = StockOperationEvent.OUT_OF_STOCK;
+            stockMetrics.recordRejected();
+            throw e;
+        } catch (ProductNotFoundException e) {
+            outcome = StockOperationEvent.NOT_FOUND;
+            throw e;
+        } finally {
+            event.finish(outcome);
+        }
+        stockMetrics.recordReserved();
+    }
+
+    /**
+     * 여러 상품의 재고를 모두 차감하거나, 하나라도 부족하면 아무것도 차감하지 않는다.
+     * 같은 상품이 여러 줄에 있으면 수량을 합쳐 상품 ID 오름차순으로 차감한다.
+     */
+    @Transactional
+    public void reserveStocks(ReserveStockRequest request) {
+        Map<Long, Integer> quantities = new TreeMap<>();
+        request.lines().forEach(line -> quantities.merge(line.productId(), line.quantity(), Integer::sum));
+        try {
+            stockStore.reserveAll(quantities);
+        } catch (ProductStockShortageException e) {
+            stockMetrics.recordRejected();
+            throw e;
+        }
+        stockMetrics.recordReserved();
     }
 
     @Transactional
     public void discontinueProduct(Long productId) {
-        Product product = findProductById(productId);
-        product.discontinue();
+        changeStatus(productId, ProductStatus.DISCONTINUED);
     }
 
     @Transactional
     public void activateProduct(Long productId) {
-        Product product = findProductById(productId);
-        product.activate();
+        changeStatus(productId, ProductStatus.AVAILABLE);
+    }
+
+    private void changeStatus(Long productId, ProductStatus status) {
+        productStore.changeStatus(productId, status);
+        eventPublisher.publishEvent(new ProductStatusChangedEvent(productId, status));
+    }
+
+    private void publishProductChanged(ProductRow row) {
+        eventPublisher.publishEvent(new ProductChangedEvent(row.id(), row.name(), row.description(), row.status()));
+    }
+
+    private ProductResponse toResponse(ProductRow row) {
+        return withHotStock(ProductResponse.from(row));
     }
 
-    private Product findProductById(Long productId) {
-        return productRepository.findById(productId)
-                .orElseThrow(() -> new ProductNotFoundException(productId));
+    /**
+     * 인기 상품이면 DB/캐시의 재고 대신 메모리 원장의 재고로 바꾼다.
+     */
+    private ProductResponse withHotStock(ProductResponse product) {
+        OptionalInt stockQuantity = hotStockLedger.stockQuantity(product.id());
+        return stockQuantity.isPresent() ? product.withStockQuantity(stockQuantity.getAsInt()) : product;
     }
 }
@@ -0,0 +1,139 @@
+package com.examples.springbootmonolithicstarter.domains.product.service.application;
+
+import com.examples.springbootmonolithicstarter.domains.product.config.ProductBulkProperties;
+import com.examples.springbootmonolithicstarter.domains.product.dto.request.CreateProductRequest;
+import com.examples.springbootmonolithicstarter.domains.product.dto.response.BulkCreateProductResponse;
+import com.examples.springbootmonolithicstarter.domains.product.event.ProductChangedEvent;
+import com.examples.springbootmonolithicstarter.domains.product.exception.ProductShardingUnsupportedException;
+import com.examples.springbootmonolithicstarter.domains.product.importer.ProductImportError;
+import com.examples.springbootmonolithicstarter.domains.product.jfr.ProductBulkOperationEvent;
+import com.examples.springbootmonolithicstarter.domains.product.importer.ProductImportRow;
+import com.examples.springbootmonolithicstarter.domains.product.importer.ProductUpsertResult;
+import com.examples.springbootmonolithicstarter.domains.product.model.Product;
+import com.examples.springbootmonolithicstarter.domains.product.repository.ProductRepository;
+import com.examples.springbootmonolithicstarter.domains.product.repository.shard.ShardedProductRepository;
+import com.examples.springbootmonolithicstarter.domains.product.stock.HotStockLedger;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 여러 상품을 한 트랜잭션에서 JDBC 배치 INSERT 로 등록한다.
+ * <p>
+ * 상품 ID 는 시퀀스에서 미리 할당받으므로 INSERT 가 batchSize 단위로 묶여 전송되고,
+ * flushSize 마다 flush + clear 하여 등록 건수와 관계없이 영속성 컨텍스트 크기가 일정하다.
+ * CSV 가져오기의 청크 저장(등록 + 수정)도 담당한다.
+ * 단일 DB 의 products 테이블에 저장하므로 샤드 저장소를 사용하는 동안에는 거부한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductBulkService {
+
+    private final ProductBulkProperties productBulkProperties;
+    private final EntityManager entityManager;
+    private final ProductRepository productRepository;
+    private final ShardedProductRepository shardedProductRepository;
+    private final HotStockLedger hotStockLedger;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional
+    public BulkCreateProductResponse createProducts(List<CreateProductRequest> requests) {
+        if (shardedProductRepository.isEnabled()) {
+            throw new ProductShardingUnsupportedException("상품 대량 등록");
+        }
+        ProductBulkOperationEvent event = new ProductBulkOperationEvent(ProductBulkOperationEvent.CREATE);
+        event.begin();
+        entityManager.unwrap(Session.class).setJdbcBatchSize(productBulkProperties.batchSize());
+
+        List<Long> ids = new ArrayList<>(requests.size());
+        for (CreateProductRequest request : requests) {
+            ids.add(persist(request).getId());
+
+            if (ids.size() % productBulkProperties.flushSize() == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        log.info("Products created in bulk. count: {}", ids.size());
+        event.finish(requests.size(), ids.size(), 0);
+        return BulkCreateProductResponse.of(ids);
+    }
+
+    /**
+     * 가져오기 행 묶음을 한 트랜잭션으로 저장한다.
+     * 상품 ID 가 없는 행은 등록(배치 INSERT), 있는 행은 한 번의 IN 조회 후 정보 수정(배치 UPDATE)으로 처리한다.
+     * 재고는 예약과 충돌하지 않도록 재고 API 로만 변경하므로, 수정 행의 stockQuantity 는 반영하지 않는다.
+     * 존재하지 않는 상품 ID 의 행과, 재고를 메모리 원장에서 관리하는 인기 상품의 행은 저장하지 않고 오류로 돌려준다.
+     * (엔티티 수정은 재고 컬럼도 함께 기록하므로 원장의 DB 반영과 충돌하여 청크 전체가 롤백될 수 있음)
+     */
+    @Transactional
+    public ProductUpsertResult upsertProducts(List<ProductImportRow> rows) {
+        if (shardedProductRepository.isEnabled()) {
+            throw new ProductShardingUnsupportedException("상품 가져오기");
+        }
+        entityManager.unwrap(Session.class).setJdbcBatchSize(productBulkProperties.batchSize());
+
+        List<Long> productIds = rows.stream()
+                .filter(row -> !row.isNew())
+                .map(ProductImportRow::productId)
+                .toList();
+        Map<Long, Product> products = productIds.isEmpty()
+                ? Map.of()
+                : productRepository.findAllById(productIds).stream()
+                        .collect(Collectors.toMap(Product::getId, Function.identity()));
+
+        int created = 0;
+        int updated = 0;
+        List<ProductImportError> errors = new ArrayList<>();
+        for (ProductImportRow row : rows) {
+            CreateProductRequest request = row.request();
+            if (row.isNew()) {
+                persist(request);
+                created++;
+                continue;
+            }
+            Product product = products.get(row.productId());
+            if (product == null) {
+                errors.add(new ProductImportError(row.lineNumber(), "상품을 찾을 수 없습니다. ID: " + row.productId()));
+                continue;
+            }
+            if (hotStockLedger.isHot(product.getId())) {
+                errors.add(new ProductImportError(row.lineNumber(),
+                        "재고를 메모리 원장에서 관리하는 상품은 가져오기로 수정할 수 없습니다. ID: " + row.productId()));
+                continue;
+            }
+            product.updateInfo(request.name(), request.description(), request.price());
+            publishChanged(product);
+            updated++;
+        }
+        return new ProductUpsertResult(created, updated, errors);
+    }
+
+    private Product persist(CreateProductRequest request) {
+        Product product = Product.create(
+                request.name(),
+                request.description(),
+                request.price(),
+                request.stockQuantity()
+        );
+        entityManager.persist(product);
+        publishChanged(product);
+        return product;
+    }
+
+    private void publishChanged(Product product) {
+        eventPublisher.publishEvent(new ProductChangedEvent(
+                product.getId(), product.getName(), product.getDescription(), product.getStatus()));
+    }
+}
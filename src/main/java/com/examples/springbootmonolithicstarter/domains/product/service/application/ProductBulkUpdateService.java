@@ -0,0 +1,147 @@
+package com.examples.springbootmonolithicstarter.domains.product.service.application;
+
+import com.examples.springbootmonolithicstarter.domains.product.config.ProductBulkProperties;
+import com.examples.springbootmonolithicstarter.domains.product.dto.request.BulkChangeStatusRequest;
+import com.examples.springbootmonolithicstarter.domains.product.dto.request.BulkRepriceRequest;
+import com.examples.springbootmonolithicstarter.domains.product.dto.response.BulkUpdateProductResponse;
+import com.examples.springbootmonolithicstarter.domains.product.event.ProductStatusChangedEvent;
+import com.examples.springbootmonolithicstarter.domains.product.event.ProductsRepricedEvent;
+import com.examples.springbootmonolithicstarter.domains.product.exception.ProductShardingUnsupportedException;
+import com.examples.springbootmonolithicstarter.domains.product.jfr.ProductBulkOperationEvent;
+import com.examples.springbootmonolithicstarter.domains.product.model.ProductStatus;
+import com.examples.springbootmonolithicstarter.domains.product.repository.ProductRepository;
+import com.examples.springbootmonolithicstarter.domains.product.repository.shard.ShardedProductRepository;
+import com.examples.springbootmonolithicstarter.global.exception.BusinessException;
+import com.examples.springbootmonolithicstarter.global.exception.CommonErrorCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 여러 상품의 가격/상태를 엔티티를 조회하지 않고 UPDATE 문으로 일괄 변경한다.
+ * <p>
+ * 대상 전체를 한 문장으로 변경하면 잠금과 undo 로그가 커지므로, ID 구간(가격) 또는 ID 목록(상태)을
+ * updateChunkSize 단위로 나누어 청크마다 별도 트랜잭션으로 실행한다.
+ * 따라서 도중에 실패하면 이전 청크까지의 변경은 유지된다.
+ * 변경된 상품은 청크 커밋 후 조회 캐시에서 무효화된다.
+ * 단일 DB 의 products 테이블을 변경하므로 샤드 저장소를 사용하는 동안에는 거부한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductBulkUpdateService {
+
+    private static final char LIKE_ESCAPE = '!';
+
+    private final ProductBulkProperties productBulkProperties;
+    private final ProductRepository productRepository;
+    private final ShardedProductRepository shardedProductRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 조건에 맞는 상품의 가격을 percent 만큼 변경한다.
+     * 변경률은 -100% 이상이므로 변경 후 가격도 0 이상이다. (Money 불변식)
+     */
+    public BulkUpdateProductResponse reprice(BulkRepriceRequest request) {
+        if (shardedProductRepository.isEnabled()) {
+            throw new ProductShardingUnsupportedException("상품 가격 일괄 변경");
+        }
+        BigDecimal factor = BigDecimal.ONE.add(request.percent().movePointLeft(2));
+        if (factor.signum() < 0) {
+            throw new BusinessException(CommonErrorCode.INVALID_INPUT_VALUE, "가격 변경률은 -100% 이상이어야 합니다.");
+        }
+        String namePattern = toContainsPattern(request.nameContains());
+
+        Long minId = productRepository.findMinId().orElse(null);
+        Long maxId = productRepository.findMaxId().orElse(null);
+        if (minId == null || maxId == null) {
+            return new BulkUpdateProductResponse(0, 0);
+        }
+
+        ProductBulkOperationEvent event = new ProductBulkOperationEvent(ProductBulkOperationEvent.REPRICE);
+        event.begin();
+        long startedAt = System.currentTimeMillis();
+        long updated = 0;
+        int statements = 0;
+        int chunkSize = productBulkProperties.updateChunkSize();
+        for (long fromId = minId; fromId <= maxId; fromId += chunkSize) {
+            long from = fromId;
+            long to = Math.min(fromId + chunkSize - 1, maxId);
+            Integer count = transactionTemplate.execute(status -> {
+                int changed = productRepository.reprice(from, to, factor, request.status(), namePattern,
+                        request.minPrice(), request.maxPrice(), LocalDateTime.now());
+                if (changed > 0) {
+                    eventPublisher.publishEvent(new ProductsRepricedEvent(from, to));
+                }
+                return changed;
+            });
+            updated += count;
+            statements++;
+        }
+        log.info("Products repriced. percent: {}, updated: {}, statements: {}, elapsed: {}ms",
+                request.percent(), updated, statements, System.currentTimeMillis() - startedAt);
+        event.finish(0, updated, statements);
+        return new BulkUpdateProductResponse(updated, statements);
+    }
+
+    /**
+     * 상품들의 판매 상태를 일괄 변경한다. 이미 같은 상태이거나 존재하지 않는 상품은 변경 수에서 제외된다.
+     * 수동으로 지정할 수 있는 상태는 AVAILABLE, DISCONTINUED 뿐이다. (Product.activate / discontinue 와 동일)
+     * 재고 컬럼은 바꾸지 않으며, 인기 상품의 판매 여부는 커밋 후 상태 변경 이벤트로 메모리 원장에 반영된다.
+     */
+    public BulkUpdateProductResponse changeStatus(BulkChangeStatusRequest request) {
+        if (shardedProductRepository.isEnabled()) {
+            throw new ProductShardingUnsupportedException("상품 상태 일괄 변경");
+        }
+        ProductStatus target = request.status();
+        if (target != ProductStatus.AVAILABLE && target != ProductStatus.DISCONTINUED) {
+            throw new BusinessException(CommonErrorCode.INVALID_INPUT_VALUE, "변경할 수 있는 상태는 AVAILABLE, DISCONTINUED 입니다.");
+        }
+
+        List<Long> productIds = request.productIds().stream().distinct().toList();
+        ProductBulkOperationEvent event = new ProductBulkOperationEvent(ProductBulkOperationEvent.CHANGE_STATUS);
+        event.begin();
+        long startedAt = System.currentTimeMillis();
+        long updated = 0;
+        int statements = 0;
+        int chunkSize = productBulkProperties.updateChunkSize();
+        for (int from = 0; from < productIds.size(); from += chunkSize) {
+            List<Long> chunk = productIds.subList(from, Math.min(from + chunkSize, productIds.size()));
+            Integer count = transactionTemplate.execute(status -> {
+                int changed = productRepository.changeStatus(chunk, target, LocalDateTime.now());
+                // 상태 변경 처리(캐시 무효화, 자동완성/재고 원장의 판매 여부)는 멱등이므로 변경되지 않은 상품에 발행되어도 무방
+                if (changed > 0) {
+                    chunk.forEach(productId -> eventPublisher.publishEvent(new ProductStatusChangedEvent(productId, target)));
+                }
+                return changed;
+            });
+            updated += count;
+            statements++;
+        }
+        log.info("Product status changed in bulk. status: {}, requested: {}, updated: {}, statements: {}, elapsed: {}ms",
+                target, productIds.size(), updated, statements, System.currentTimeMillis() - startedAt);
+        event.finish(productIds.size(), updated, statements);
+        return new BulkUpdateProductResponse(updated, statements);
+    }
+
+    private static String toContainsPattern(String text) {
+        if (text == null || text.isBlank()) {
+            return null;
+        }
+        StringBuilder pattern = new StringBuilder(text.length() + 2).append('%');
+        for (char c : text.toCharArray()) {
+            if (c == '%' || c == '_' || c == LIKE_ESCAPE) {
+                pattern.append(LIKE_ESCAPE);
+            }
+            pattern.append(c);
+        }
+        return pattern.append('%').toString();
+    }
+}
@@ -0,0 +1,68 @@
+package com.examples.springbootmonolithicstarter.domains.product.service.application;
+
+import com.examples.springbootmonolithicstarter.domains.product.exception.ProductShardingUnsupportedException;
+import com.examples.springbootmonolithicstarter.domains.product.export.ProductExportFormat;
+import com.examples.springbootmonolithicstarter.domains.product.export.ProductExportWriter;
+import com.examples.springbootmonolithicstarter.domains.product.model.Product;
+import com.examples.springbootmonolithicstarter.domains.product.repository.ProductStreamRepository;
+import com.examples.springbootmonolithicstarter.domains.product.repository.shard.ShardedProductRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * 전체 상품을 DB 커서로 한 건씩 읽어 응답 스트림에 바로 기록한다.
+ * 기록한 엔티티는 영속성 컨텍스트에서 분리하므로 상품 수와 관계없이 힙 사용량이 일정하다.
+ * 단일 DB 의 products 테이블을 읽으므로 샤드 저장소를 사용하는 동안에는 거부한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductExportService {
+
+    private final ProductStreamRepository productStreamRepository;
+    private final ShardedProductRepository shardedProductRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 응답을 보내기 시작하기 전에 호출한다. (스트리밍이 시작된 뒤에는 오류 응답을 보낼 수 없음)
+     */
+    public void checkExportable() {
+        if (shardedProductRepository.isEnabled()) {
+            throw new ProductShardingUnsupportedException("상품 내보내기");
+        }
+    }
+
+    /**
+     * @return 기록한 상품 수
+     */
+    @Transactional(readOnly = true)
+    public long export(ProductExportFormat format, OutputStream outputStream) throws IOException {
+        checkExportable();
+        ProductExportWriter writer = ProductExportWriter.of(format, outputStream, objectMapper);
+        long count = 0;
+        try (Stream<Product> products = productStreamRepository.streamAllByOrderByIdAsc()) {
+            writer.writeHeader();
+            Iterator<Product> iterator = products.iterator();
+            while (iterator.hasNext()) {
+                Product product = iterator.next();
+                writer.write(product);
+                entityManager.detach(product);
+                count++;
+            }
+        } finally {
+            writer.flush();
+        }
+        log.info("Product export finished. format: {}, count: {}", format, count);
+        return count;
+    }
+}
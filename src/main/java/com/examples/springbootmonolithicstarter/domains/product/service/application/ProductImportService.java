@@ -0,0 +1,80 @@
+package com.examples.springbootmonolithicstarter.domains.product.service.application;
+
+import com.examples.springbootmonolithicstarter.domains.product.config.ProductImportProperties;
+import com.examples.springbootmonolithicstarter.domains.product.dto.response.ProductImportResponse;
+import com.examples.springbootmonolithicstarter.domains.product.exception.ProductShardingUnsupportedException;
+import com.examples.springbootmonolithicstarter.domains.product.importer.ProductImportPipeline;
+import com.examples.springbootmonolithicstarter.domains.product.importer.ProductImportProgress;
+import com.examples.springbootmonolithicstarter.domains.product.repository.shard.ShardedProductRepository;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 상품 CSV 파일을 스트림으로 읽어 등록/수정한다. (파일 전체를 메모리에 올리지 않음)
+ * <p>
+ * 청크마다 별도 트랜잭션으로 저장하므로, 일부 행이 실패해도 나머지 행은 반영된다.
+ * 진행 중인 가져오기의 진행 상황은 {@link #getRunningImports()} 로 조회할 수 있다.
+ * 샤드 저장소를 사용하는 동안에는 파일을 읽기 전에 거부한다.
+ */
+@Slf4j
+@Service
+public class ProductImportService {
+
+    private final ProductImportPipeline pipeline;
+    private final ProductImportProperties productImportProperties;
+    private final ShardedProductRepository shardedProductRepository;
+    private final Map<String, ProductImportProgress> running = new ConcurrentHashMap<>();
+
+    public ProductImportService(ProductImportProperties productImportProperties,
+                                Validator validator,
+                                ProductBulkService productBulkService,
+                                ShardedProductRepository shardedProductRepository) {
+        this.productImportProperties = productImportProperties;
+        this.shardedProductRepository = shardedProductRepository;
+        this.pipeline = new ProductImportPipeline(productImportProperties, validator, productBulkService::upsertProducts);
+    }
+
+    public ProductImportResponse importCsv(String fileName, InputStream inputStream) throws IOException {
+        if (shardedProductRepository.isEnabled()) {
+            throw new ProductShardingUnsupportedException("상품 가져오기");
+        }
+        String importId = UUID.randomUUID().toString();
+        ProductImportProgress progress = new ProductImportProgress(importId, fileName, productImportProperties.maxReportedErrors());
+        running.put(importId, progress);
+        ProductBulkOperationEvent event = new ProductBulkOperationEvent(ProductBulkOperationEvent.IMPORT);
+        event.begin();
+        try (Reader reader = new InputStreamReader(inputStream, StandardCharsets.UTF_8)) {
+            pipeline.run(reader, progress);
+        } finally {
+            progress.complete();
+            running.remove(importId);
+            event.finish(progress.getReadRows(), progress.getCreatedRows() + progress.getUpdatedRows(), 0);
+        }
+        log.info("Products imported. importId: {}, file: {}, read: {}, created: {}, updated: {}, failed: {}, elapsed: {}ms",
+                importId, fileName, progress.getReadRows(), progress.getCreatedRows(), progress.getUpdatedRows(),
+                progress.getFailedRows(), progress.getElapsed().toMillis());
+        return ProductImportResponse.from(progress);
+    }
+
+    /**
+     * 진행 중인 가져오기 목록 (시작 순)
+     */
+    public List<ProductImportResponse> getRunningImports() {
+        return running.values().stream()
+                .sorted(Comparator.comparing(ProductImportProgress::getStartedAt))
+                .map(ProductImportResponse::from)
+                .toList();
+    }
+}
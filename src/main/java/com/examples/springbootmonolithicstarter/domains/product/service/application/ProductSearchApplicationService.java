@@ -0,0 +1,147 @@
+package com.examples.springbootmonolithicstarter.domains.product.service.application;
+
+import com.examples.springbootmonolithicstarter.domains.product.config.ProductSearchProperties;
+import com.examples.springbootmonolithicstarter.domains.product.event.ProductChangedEvent;
+import com.examples.springbootmonolithicstarter.domains.product.event.ProductStatusChangedEvent;
+import com.examples.springbootmonolithicstarter.domains.product.model.Product;
+import com.examples.springbootmonolithicstarter.domains.product.model.ProductStatus;
+import com.examples.springbootmonolithicstarter.domains.product.repository.ProductStreamRepository;
+import com.examples.springbootmonolithicstarter.domains.product.repository.ProductRow;
+import com.examples.springbootmonolithicstarter.domains.product.repository.shard.ShardedProductRepository;
+import com.examples.springbootmonolithicstarter.domains.product.search.ProductSearchIndex;
+import com.examples.springbootmonolithicstarter.domains.product.search.ProductSuggestIndex;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * 상품 검색 역색인과 자동완성 색인의 기동 시 구축, 커밋된 상품 변경의 반영을 담당한다.
+ * <p>
+ * 자동완성 색인 변경은 트랜잭션마다 모아 커밋 후 한 번에 반영한다. (대량 등록/가져오기에서 상품마다 정렬 배열을 옮기지 않도록)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductSearchApplicationService {
+
+    private final ProductSearchProperties productSearchProperties;
+    private final ProductSearchIndex productSearchIndex;
+    private final ProductSuggestIndex productSuggestIndex;
+    private final ProductStreamRepository productStreamRepository;
+    private final ShardedProductRepository shardedProductRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * DB 의 전체 상품으로 색인을 구축한다. 구축이 끝나기 전까지 검색과 자동완성은 DB 에서 수행된다.
+     * 샤드 저장소를 사용하면 모든 샤드의 상품을 ID 순으로 병합하여 읽는다.
+     * 읽는 동안 커밋된 자동완성 변경은 적재 후 다시 반영한다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        if (!productSearchProperties.indexEnabled()) {
+            return;
+        }
+        long startedAt = System.currentTimeMillis();
+        List<ProductSuggestIndex.LoadEntry> suggestEntries = new ArrayList<>();
+        productSuggestIndex.beginLoad();
+        if (shardedProductRepository.isEnabled()) {
+            try (Stream<ProductRow> rows = shardedProductRepository.streamAll()) {
+                rows.forEach(row -> load(row.id(), row.name(), row.description(), row.status(), suggestEntries));
+            }
+        } else {
+            transactionTemplate.executeWithoutResult(status -> {
+                try (Stream<Product> products = productStreamRepository.streamAllByOrderByIdAsc()) {
+                    products.forEach(product -> {
+                        load(product.getId(), product.getName(), product.getDescription(), product.getStatus(), suggestEntries);
+                        entityManager.detach(product);
+                    });
+                }
+            });
+        }
+        productSearchIndex.markReady();
+        productSuggestIndex.load(suggestEntries);
+        log.info("Product search index built. products: {}, elapsed: {}ms, suggest memory: {}KB",
+                productSearchIndex.size(), System.currentTimeMillis() - startedAt,
+                productSuggestIndex.estimatedBytes() / 1024);
+    }
+
+    @TransactionalEventListener
+    public void onProductChanged(ProductChangedEvent event) {
+        if (!productSearchProperties.indexEnabled()) {
+            return;
+        }
+        productSearchIndex.index(event.productId(), event.name(), event.description());
+    }
+
+    @EventListener
+    public void collectSuggestChange(ProductChangedEvent event) {
+        if (!productSearchProperties.indexEnabled()) {
+            return;
+        }
+        updateSuggestIndex(updates ->
+                updates.put(event.productId(), event.name(), event.status() == ProductStatus.AVAILABLE));
+    }
+
+    @EventListener
+    public void collectSuggestAvailabilityChange(ProductStatusChangedEvent event) {
+        if (!productSearchProperties.indexEnabled()) {
+            return;
+        }
+        updateSuggestIndex(updates ->
+                updates.changeAvailability(event.productId(), event.status() == ProductStatus.AVAILABLE));
+    }
+
+    /**
+     * 현재 트랜잭션의 변경 목록에 추가한다. 트랜잭션 밖이면 바로 반영한다.
+     */
+    private void updateSuggestIndex(Consumer<ProductSuggestIndex.Updates> change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            ProductSuggestIndex.Updates updates = new ProductSuggestIndex.Updates();
+            change.accept(updates);
+            productSuggestIndex.apply(updates);
+            return;
+        }
+        SuggestUpdatesSynchronization synchronization = TransactionSynchronizationManager.getSynchronizations().stream()
+                .filter(SuggestUpdatesSynchronization.class::isInstance)
+                .map(SuggestUpdatesSynchronization.class::cast)
+                .findFirst()
+                .orElseGet(() -> {
+                    SuggestUpdatesSynchronization registered = new SuggestUpdatesSynchronization();
+                    TransactionSynchronizationManager.registerSynchronization(registered);
+                    return registered;
+                });
+        change.accept(synchronization.updates);
+    }
+
+    private void load(Long productId, String name, String description, ProductStatus status,
+                      List<ProductSuggestIndex.LoadEntry> suggestEntries) {
+        productSearchIndex.indexIfAbsent(productId, name, description);
+        suggestEntries.add(new ProductSuggestIndex.LoadEntry(productId, name, status == ProductStatus.AVAILABLE));
+    }
+
+    /**
+     * 트랜잭션(REQUIRES_NEW 로 분리된 트랜잭션은 따로)마다 자동완성 변경을 모아 커밋 후 반영한다.
+     */
+    private final class SuggestUpdatesSynchronization implements TransactionSynchronization {
+
+        private final ProductSuggestIndex.Updates updates = new ProductSuggestIndex.Updates();
+
+        @Override
+        public void afterCommit() {
+            productSuggestIndex.apply(updates);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.examples.springbootmonolithicstarter.domains.product.service.domain;
+
+import com.examples.springbootmonolithicstarter.domains.product.exception.ProductNotFoundException;
+import com.examples.springbootmonolithicstarter.domains.product.exception.ProductOutOfStockException;
+import com.examples.springbootmonolithicstarter.domains.product.exception.ProductStockShortageException;
+import com.examples.springbootmonolithicstarter.domains.product.exception.ProductStockShortageException.Shortage;
+import com.examples.springbootmonolithicstarter.domains.product.repository.ProductRow;
+import com.examples.springbootmonolithicstarter.domains.product.repository.shard.ShardedProductRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 샤드 저장소의 재고 변경 (product.sharding.enabled=true)
+ * <p>
+ * 상품이 있는 샤드 하나에서 조건부 UPDATE 한 문장으로 처리하며, 실패한 경우에만 상품을 조회하여 사유를 판별한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class ShardedStockService {
+
+    private final ShardedProductRepository shardedProductRepository;
+
+    public void reserveStock(Long productId, int quantity) {
+        if (quantity <= 0) {
+            throw new IllegalArgumentException("차감할 재고 수량은 0보다 커야 합니다.");
+        }
+        if (shardedProductRepository.decreaseStock(productId, quantity, LocalDateTime.now()) == 0) {
+            ProductRow row = shardedProductRepository.findRowById(productId)
+                    .orElseThrow(() -> new ProductNotFoundException(productId));
+            throw new ProductOutOfStockException(productId, quantity, availableQuantity(row));
+        }
+    }
+
+    public void releaseStock(Long productId, int quantity) {
+        if (quantity <= 0) {
+            throw new IllegalArgumentException("추가할 재고 수량은 0보다 커야 합니다.");
+        }
+        if (shardedProductRepository.increaseStock(productId, quantity, LocalDateTime.now()) == 0) {
+            throw new ProductNotFoundException(productId);
+        }
+    }
+
+    /**
+     * 모든 상품의 재고가 충분할 때만 전부 차감한다. (all-or-nothing)
+     * <p>
+     * 여러 샤드에 걸친 변경은 한 트랜잭션으로 묶을 수 없으므로 상품별로 차감한 뒤,
+     * 하나라도 실패하면 차감한 재고를 되돌리고 부족한 상품 목록과 함께 예외가 발생한다.
+     * 되돌리기 전까지는 다른 요청에 차감된 재고가 보일 수 있다.
+     *
+     * @param quantities 상품 ID 별 차감 수량
+     */
+    public void reserveAll(Map<Long, Integer> quantities) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Map.Entry<Long, Integer>> reserved = new ArrayList<>();
+        List<Shortage> shortages = new ArrayList<>();
+        quantities.entrySet().forEach(line -> {
+            if (shardedProductRepository.decreaseStock(line.getKey(), line.getValue(), now) == 1) {
+                reserved.add(line);
+                return;
+            }
+            Optional<ProductRow> row = shardedProductRepository.findRowById(line.getKey());
+            shortages.add(new Shortage(line.getKey(), row.isPresent(), line.getValue(), row.map(this::availableQuantity).orElse(0)));
+        });
+        if (!shortages.isEmpty()) {
+            reserved.forEach(line -> shardedProductRepository.increaseStock(line.getKey(), line.getValue(), now));
+            throw new ProductStockShortageException(shortages);
+        }
+    }
+
+    private int availableQuantity(ProductRow row) {
+        return row.isAvailable() ? row.stockQuantity() : 0;
+    }
+}
@@ -1,12 +1,29 @@
 package com.examples.springbootmonolithicstarter.domains.product.service.domain;
 
+import com.examples.springbootmonolithicstarter.domains.product.exception.ProductNotFoundException;
 import com.examples.springbootmonolithicstarter.domains.product.exception.ProductOutOfStockException;
+import com.examples.springbootmonolithicstarter.domains.product.exception.ProductStockShortageException;
+import com.examples.springbootmonolithicstarter.domains.product.exception.ProductStockShortageException.Shortage;
 import com.examples.springbootmonolithicstarter.domains.product.model.Product;
+import com.examples.springbootmonolithicstarter.domains.product.repository.ProductRepository;
+import com.examples.springbootmonolithicstarter.global.metrics.Measured;
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Measured
 @Service
+@RequiredArgsConstructor
 public class StockService {
 
+    private final ProductRepository productRepository;
+
     public void reserveStock(Product product, int quantity) {
         if (!product.isAvailable()) {
             throw new ProductOutOfStockException(product.getId(), quantity, 0);
@@ -25,6 +42,61 @@ public class StockService {
         product.addStock(quantity);
     }
 
+    /**
+     * 모든 상품의 재고가 충분할 때만 전부 차감한다. (all-or-nothing)
+     * 하나라도 부족하면 아무것도 차감하지 않고 부족한 상품 목록과 함께 예외가 발생한다.
+     *
+     * @param quantities 상품 ID 별 차감 수량
+     * @param products   잠금을 획득한 상품 목록
+     */
+    public void reserveAll(Map<Long, Integer> quantities, List<Product> products) {
+        Map<Long, Product> productsById = products.stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+
+        List<Shortage> shortages = new ArrayList<>();
+        quantities.forEach((productId, quantity) -> {
+            Product product = productsById.get(productId);
+            if (product == null) {
+                shortages.add(new Shortage(productId, false, quantity, 0));
+            } else if (!hasEnoughStock(product, quantity)) {
+                int availableQuantity = product.isAvailable() ? product.getStockQuantity() : 0;
+                shortages.add(new Shortage(productId, true, quantity, availableQuantity));
+            }
+        });
+        if (!shortages.isEmpty()) {
+            throw new ProductStockShortageException(shortages);
+        }
+
+        quantities.forEach((productId, quantity) -> productsById.get(productId).removeStock(quantity));
+    }
+
+    /**
+     * 조건부 UPDATE 한 문장으로 재고를 차감한다. (엔티티를 조회하지 않음)
+     * 차감에 실패한 경우에만 상품을 조회하여 실패 사유를 판별한다.
+     */
+    public void reserveStockAtomically(Long productId, int quantity) {
+        if (quantity <= 0) {
+            throw new IllegalArgumentException("차감할 재고 수량은 0보다 커야 합니다.");
+        }
+        int updated = productRepository.decreaseStock(productId, quantity, LocalDateTime.now());
+        if (updated == 0) {
+            Product product = productRepository.findById(productId)
+                    .orElseThrow(() -> new ProductNotFoundException(productId));
+            int availableQuantity = product.isAvailable() ? product.getStockQuantity() : 0;
+            throw new ProductOutOfStockException(productId, quantity, availableQuantity);
+        }
+    }
+
+    public void releaseStockAtomically(Long productId, int quantity) {
+        if (quantity <= 0) {
+            throw new IllegalArgumentException("추가할 재고 수량은 0보다 커야 합니다.");
+        }
+        int updated = productRepository.increaseStock(productId, quantity, LocalDateTime.now());
+        if (updated == 0) {
+            throw new ProductNotFoundException(productId);
+        }
+    }
+
     public boolean hasEnoughStock(Product product, int quantity) {
         return product.isAvailable() && product.getStockQuantity() >= quantity;
     }
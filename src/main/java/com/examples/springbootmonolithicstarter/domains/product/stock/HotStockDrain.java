@@ -0,0 +1,15 @@
+package com.examples.springbootmonolithicstarter.domains.product.stock;
+
+import java.util.Map;
+
+/**
+ * DB 반영을 위해 원장에서 꺼낸 재고 변경분
+ *
+ * @param sequence 변경분이 기록된 마지막 저널 세그먼트 번호
+ * @param deltas   상품별 누적 재고 변경분 (차감은 음수)
+ */
+public record HotStockDrain(
+        long sequence,
+        Map<Long, Long> deltas
+) {
+}
@@ -0,0 +1,303 @@
+package com.examples.springbootmonolithicstarter.domains.product.stock;
+
+import com.examples.springbootmonolithicstarter.domains.product.config.HotStockProperties;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * DB에 아직 반영되지 않은 재고 변경분을 기록하는 append-only 저널
+ * <p>
+ * 상품 ID 로 나눈 stripe 마다 세그먼트 파일(hot-stock-{sequence}-{stripe}.log)을 따로 두고,
+ * 변경분을 (productId, delta) 12바이트 레코드로 기록한다. 서로 다른 stripe 의 기록은 같은 파일 채널을 두고 경쟁하지 않는다.
+ * DB 반영 주기마다 모든 stripe 를 같은 번호의 다음 세그먼트로 교체(rotate)하고, 반영이 끝난 세그먼트는 삭제한다.
+ * <p>
+ * 내구성은 fsync 설정에 따른다.
+ * <ul>
+ *     <li>fsync 사용(기본): {@link #sync}가 레코드를 디스크에 동기화한 뒤 요청에 응답하므로 OS/전원 장애에도 응답한 변경분이 남는다.
+ *     동시에 기다리는 요청은 stripe 별로 한 번의 fsync 로 묶어(group commit) 동기화한다.</li>
+ *     <li>fsync 미사용: 레코드는 OS 페이지 캐시까지만 쓰이므로 프로세스 장애에만 유실되지 않는다.
+ *     OS/전원 장애 시에는 마지막 세그먼트 교체(교체 시 fsync) 이후 응답한 변경분이 유실될 수 있다.</li>
+ * </ul>
+ * 세그먼트 교체와 동기화는 가상 스레드에서 실행될 수 있으므로 synchronized 대신 ReentrantLock 으로 보호한다. (fsync 대기 중 캐리어 스레드 고정 방지)
+ * 같은 stripe 의 기록과 교체가 겹치지 않도록 하는 것은 호출자({@link HotStockLedger})가 stripe 별 잠금으로 보장한다.
+ */
+@Component
+public class HotStockJournal implements AutoCloseable {
+
+    // stripe 번호가 없는 이름은 stripe 로 나누기 전에 기록된 세그먼트 (복구 시 함께 읽음)
+    private static final Pattern SEGMENT_NAME = Pattern.compile("hot-stock-(\\d+)(?:-\\d+)?\\.log");
+    private static final int RECORD_SIZE = Long.BYTES + Integer.BYTES;
+
+    private final Path directory;
+    private final boolean fsync;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Stripe[] stripes;
+
+    public HotStockJournal(HotStockProperties hotStockProperties) {
+        this.directory = hotStockProperties.journalDirectory();
+        this.fsync = hotStockProperties.journalFsync();
+        this.stripes = new Stripe[hotStockProperties.journalStripes()];
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new Stripe(i);
+        }
+    }
+
+    public int stripeCount() {
+        return stripes.length;
+    }
+
+    public int stripeOf(Long productId) {
+        return Math.floorMod(Long.hashCode(productId), stripes.length);
+    }
+
+    /**
+     * 모든 stripe 에 지정한 번호로 새 세그먼트를 연다.
+     */
+    public void open(long sequence) {
+        lock.lock();
+        try {
+            Files.createDirectories(directory);
+            for (Stripe stripe : stripes) {
+                stripe.open(sequence);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("재고 저널을 열 수 없습니다: " + directory, e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * FileChannel 의 write 는 스레드 안전하며, APPEND 모드에서 레코드 단위로 원자적으로 기록된다.
+     *
+     * @return 기록 후 세그먼트 크기 ({@link #sync}에 전달)
+     */
+    public long append(Long productId, int delta) {
+        ByteBuffer record = ByteBuffer.allocate(RECORD_SIZE)
+                .putLong(productId)
+                .putInt(delta)
+                .flip();
+        FileChannel channel = stripes[stripeOf(productId)].channel;
+        if (channel == null) {
+            throw new IllegalStateException("재고 저널이 열려있지 않습니다.");
+        }
+        try {
+            while (record.hasRemaining()) {
+                channel.write(record);
+            }
+            return channel.size();
+        } catch (IOException e) {
+            throw new UncheckedIOException("재고 저널 기록에 실패했습니다.", e);
+        }
+    }
+
+    /**
+     * 상품의 stripe 세그먼트를 지정한 위치까지 디스크에 동기화한다. fsync 를 사용하지 않으면 아무것도 하지 않는다.
+     * <p>
+     * 먼저 들어온 요청의 fsync 가 이 위치까지 포함했다면 기다리기만 하고 반환한다.
+     * 세그먼트 교체(교체 시 fsync)와 겹치지 않도록 하는 것은 호출자가 보장한다.
+     */
+    public void sync(Long productId, long position) {
+        if (!fsync) {
+            return;
+        }
+        Stripe stripe = stripes[stripeOf(productId)];
+        if (stripe.synced >= position) {
+            return;
+        }
+        stripe.syncLock.lock();
+        try {
+            if (stripe.synced >= position) {
+                return;
+            }
+            long size = stripe.channel.size();
+            stripe.channel.force(false);
+            stripe.synced = size;
+        } catch (IOException e) {
+            throw new UncheckedIOException("재고 저널 동기화에 실패했습니다.", e);
+        } finally {
+            stripe.syncLock.unlock();
+        }
+    }
+
+    /**
+     * 다음 반영 주기에 모든 stripe 가 열어야 할 세그먼트 번호
+     * <p>
+     * 이전 교체가 일부 stripe 에서 실패해 번호가 어긋나 있어도 가장 큰 번호의 다음 값으로 다시 맞춘다.
+     */
+    public long nextSequence() {
+        long sequence = 0;
+        for (Stripe stripe : stripes) {
+            sequence = Math.max(sequence, stripe.sequence);
+        }
+        return sequence + 1;
+    }
+
+    /**
+     * stripe 의 현재 세그먼트를 디스크에 동기화하여 닫고 지정한 번호의 세그먼트를 연다.
+     */
+    public void rotate(int stripe, long next) {
+        Stripe target = stripes[stripe];
+        target.lock.lock();
+        try {
+            target.close();
+            target.open(next);
+        } catch (IOException e) {
+            throw new UncheckedIOException("재고 저널을 교체할 수 없습니다. stripe: " + stripe, e);
+        } finally {
+            target.lock.unlock();
+        }
+    }
+
+    /**
+     * 지정한 번호 이하의 닫힌 세그먼트를 삭제한다.
+     */
+    public void deleteUpTo(long sequence) {
+        lock.lock();
+        try {
+            for (long segment : segments()) {
+                if (segment <= sequence && !isOpen(segment)) {
+                    delete(segment);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 디렉터리에 남아있는 세그먼트 번호 목록 (오름차순, stripe 구분 없이 중복 제거)
+     */
+    public List<Long> segments() {
+        return segmentFiles().keySet().stream().toList();
+    }
+
+    /**
+     * 세그먼트(모든 stripe)에 기록된 변경분을 상품별로 합산한다.
+     * 마지막 레코드가 기록 도중 잘린 경우 해당 레코드는 무시한다.
+     */
+    public Map<Long, Long> readDeltas(long sequence) {
+        Map<Long, Long> deltas = new HashMap<>();
+        for (Path file : segmentFiles().getOrDefault(sequence, List.of())) {
+            try {
+                ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file));
+                while (buffer.remaining() >= RECORD_SIZE) {
+                    deltas.merge(buffer.getLong(), (long) buffer.getInt(), Long::sum);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("재고 저널을 읽을 수 없습니다: " + file, e);
+            }
+        }
+        return deltas;
+    }
+
+    public void delete(long sequence) {
+        for (Path file : segmentFiles().getOrDefault(sequence, List.of())) {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                throw new UncheckedIOException("재고 저널을 삭제할 수 없습니다: " + file, e);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            for (Stripe stripe : stripes) {
+                stripe.lock.lock();
+                try {
+                    stripe.close();
+                } catch (IOException e) {
+                    throw new UncheckedIOException("재고 저널을 닫을 수 없습니다.", e);
+                } finally {
+                    stripe.lock.unlock();
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean isOpen(long sequence) {
+        for (Stripe stripe : stripes) {
+            if (stripe.channel != null && stripe.sequence == sequence) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 세그먼트 번호별 파일 목록 (번호 오름차순)
+     */
+    private SortedMap<Long, List<Path>> segmentFiles() {
+        SortedMap<Long, List<Path>> files = new TreeMap<>();
+        if (!Files.isDirectory(directory)) {
+            return files;
+        }
+        try (Stream<Path> paths = Files.list(directory)) {
+            paths.forEach(file -> {
+                Matcher matcher = SEGMENT_NAME.matcher(file.getFileName().toString());
+                if (matcher.matches()) {
+                    files.computeIfAbsent(Long.parseLong(matcher.group(1)), segment -> new ArrayList<>()).add(file);
+                }
+            });
+            return files;
+        } catch (IOException e) {
+            throw new UncheckedIOException("재고 저널 목록을 읽을 수 없습니다: " + directory, e);
+        }
+    }
+
+    private final class Stripe {
+
+        private final int index;
+        private final ReentrantLock lock = new ReentrantLock();
+        private final ReentrantLock syncLock = new ReentrantLock();
+        private volatile FileChannel channel;
+        private volatile long sequence;
+        // 디스크에 동기화된 세그먼트 크기
+        private volatile long synced;
+
+        private Stripe(int index) {
+            this.index = index;
+        }
+
+        private void open(long sequence) throws IOException {
+            this.channel = FileChannel.open(directory.resolve("hot-stock-" + sequence + "-" + index + ".log"),
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+            this.sequence = sequence;
+            this.synced = 0;
+        }
+
+        private void close() throws IOException {
+            if (channel == null) {
+                return;
+            }
+            try {
+                channel.force(false);
+                channel.close();
+            } finally {
+                channel = null;
+            }
+        }
+    }
+}
@@ -0,0 +1,233 @@
+package com.examples.springbootmonolithicstarter.domains.product.stock;
+
+import com.examples.springbootmonolithicstarter.domains.product.exception.ProductOutOfStockException;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 인기 상품의 재고를 메모리에서 관리하는 원장
+ * <p>
+ * 등록된 상품의 재고는 이 원장이 기준 값이 되며, DB에는 주기적으로 누적 변경분만 반영된다.
+ * 가용 재고는 CAS 로만 차감하므로 재고 수량을 초과하여 예약되지 않는다.
+ * 단일 인스턴스 운영을 전제로 한다. (여러 인스턴스가 같은 상품을 원장으로 관리하면 안 된다)
+ * <p>
+ * 저널과 같은 기준으로 상품을 stripe 로 나누어, 저널 교체 중에는 해당 stripe 의 상품만 잠시 대기한다.
+ */
+@Component
+public class HotStockLedger {
+
+    private final HotStockJournal hotStockJournal;
+
+    private final Map<Long, StockCounter> counters = new ConcurrentHashMap<>();
+
+    // stripe 별로 재고 변경(read lock)과 저널 교체 + 변경분 수집(write lock)이 섞이지 않도록 보호
+    private final ReadWriteLock[] rotationLocks;
+    private final AtomicBoolean[] dirty;
+
+    public HotStockLedger(HotStockJournal hotStockJournal) {
+        this.hotStockJournal = hotStockJournal;
+        this.rotationLocks = new ReadWriteLock[hotStockJournal.stripeCount()];
+        this.dirty = new AtomicBoolean[hotStockJournal.stripeCount()];
+        for (int i = 0; i < rotationLocks.length; i++) {
+            rotationLocks[i] = new ReentrantReadWriteLock();
+            dirty[i] = new AtomicBoolean();
+        }
+    }
+
+    public boolean isHot(Long productId) {
+        return counters.containsKey(productId);
+    }
+
+    public void register(Long productId, int stockQuantity, boolean available) {
+        counters.put(productId, new StockCounter(hotStockJournal.stripeOf(productId), stockQuantity, available));
+    }
+
+    public int availableQuantity(Long productId) {
+        StockCounter counter = getCounter(productId);
+        return counter.available ? counter.quantity.get() : 0;
+    }
+
+    /**
+     * 원장에 등록된 상품이면 아직 DB에 반영되지 않은 변경분까지 포함한 재고 수량
+     */
+    public OptionalInt stockQuantity(Long productId) {
+        StockCounter counter = counters.get(productId);
+        return counter == null ? OptionalInt.empty() : OptionalInt.of(counter.quantity.get());
+    }
+
+    public void changeAvailability(Long productId, boolean available) {
+        StockCounter counter = counters.get(productId);
+        if (counter != null) {
+            counter.available = available;
+        }
+    }
+
+    public void reserve(Long productId, int quantity) {
+        if (quantity <= 0) {
+            throw new IllegalArgumentException("차감할 재고 수량은 0보다 커야 합니다.");
+        }
+        StockCounter counter = getCounter(productId);
+        ReadWriteLock rotationLock = rotationLocks[counter.stripe];
+        rotationLock.readLock().lock();
+        try {
+            if (!counter.tryDecrease(quantity)) {
+                int availableQuantity = counter.available ? counter.quantity.get() : 0;
+                throw new ProductOutOfStockException(productId, quantity, availableQuantity);
+            }
+            record(productId, counter, -quantity);
+        } finally {
+            rotationLock.readLock().unlock();
+        }
+    }
+
+    public void release(Long productId, int quantity) {
+        if (quantity <= 0) {
+            throw new IllegalArgumentException("추가할 재고 수량은 0보다 커야 합니다.");
+        }
+        StockCounter counter = getCounter(productId);
+        ReadWriteLock rotationLock = rotationLocks[counter.stripe];
+        rotationLock.readLock().lock();
+        try {
+            counter.quantity.addAndGet(quantity);
+            record(productId, counter, quantity);
+        } finally {
+            rotationLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 모든 stripe 의 현재 저널 세그먼트를 닫고, 그 세그먼트에 기록된 변경분을 상품별로 꺼낸다.
+     * stripe 는 하나씩 교체하므로 다른 stripe 의 재고 변경은 멈추지 않는다.
+     * 교체 도중 실패하면 이미 꺼낸 변경분을 되돌리고, 다음 수집에서 모든 stripe 를 다시 같은 번호로 맞춘다.
+     *
+     * @return 마지막 수집 이후 변경이 없으면 empty
+     */
+    public Optional<HotStockDrain> drain() {
+        if (!isDirty()) {
+            return Optional.empty();
+        }
+        long next = hotStockJournal.nextSequence();
+        Map<Long, Long> deltas = new HashMap<>();
+        try {
+            for (int stripe = 0; stripe < rotationLocks.length; stripe++) {
+                drainStripe(stripe, next, deltas);
+            }
+        } catch (RuntimeException e) {
+            restore(new HotStockDrain(next - 1, deltas));
+            throw e;
+        }
+        return Optional.of(new HotStockDrain(next - 1, deltas));
+    }
+    /**
+     * DB 반영이 끝난 세그먼트를 정리한다.
+     */
+    public void complete(HotStockDrain drain) {
+        hotStockJournal.deleteUpTo(drain.sequence());
+    }
+
+    /**
+     * DB 반영에 실패한 변경분을 되돌려 다음 주기에 다시 반영되도록 한다.
+     * 해당 세그먼트는 삭제되지 않으므로, 그 전에 장애가 나도 재기동 시 복구된다.
+     */
+    public void restore(HotStockDrain drain) {
+        drain.deltas().forEach((productId, delta) -> {
+            StockCounter counter = counters.get(productId);
+            if (counter != null) {
+                counter.pendingDelta.add(delta);
+            }
+        });
+        for (AtomicBoolean stripeDirty : dirty) {
+            stripeDirty.set(true);
+        }
+    }
+
+    private boolean isDirty() {
+        for (AtomicBoolean stripeDirty : dirty) {
+            if (stripeDirty.get()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void drainStripe(int stripe, long next, Map<Long, Long> deltas) {
+        ReadWriteLock rotationLock = rotationLocks[stripe];
+        rotationLock.writeLock().lock();
+        try {
+            hotStockJournal.rotate(stripe, next);
+            dirty[stripe].set(false);
+            counters.forEach((productId, counter) -> {
+                if (counter.stripe != stripe) {
+                    return;
+                }
+                long delta = counter.pendingDelta.sumThenReset();
+                if (delta != 0) {
+                    deltas.put(productId, delta);
+                }
+            });
+        } finally {
+            rotationLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 저널 기록에 실패하면 재고를 되돌린다.
+     * 기록 후 디스크 동기화에 실패하면 이미 저널에 쓰인 변경은 원장에도 남긴 채 실패로 응답한다. (원장과 저널이 어긋나지 않도록)
+     */
+    private void record(Long productId, StockCounter counter, int delta) {
+        long position;
+        try {
+            position = hotStockJournal.append(productId, delta);
+        } catch (RuntimeException e) {
+            counter.quantity.addAndGet(-delta);
+            throw e;
+        }
+        counter.pendingDelta.add(delta);
+        dirty[counter.stripe].lazySet(true);
+        hotStockJournal.sync(productId, position);
+    }
+
+    private StockCounter getCounter(Long productId) {
+        StockCounter counter = counters.get(productId);
+        if (counter == null) {
+            throw new IllegalStateException("메모리 원장에 등록되지 않은 상품입니다. ID: " + productId);
+        }
+        return counter;
+    }
+
+    private static final class StockCounter {
+
+        private final int stripe;
+        private final AtomicInteger quantity;
+        private final LongAdder pendingDelta = new LongAdder();
+        private volatile boolean available;
+
+        private StockCounter(int stripe, int quantity, boolean available) {
+            this.stripe = stripe;
+            this.quantity = new AtomicInteger(quantity);
+            this.available = available;
+        }
+
+        private boolean tryDecrease(int amount) {
+            while (true) {
+                int current = quantity.get();
+                if (!available || current < amount) {
+                    return false;
+                }
+                if (quantity.compareAndSet(current, current - amount)) {
+                    return true;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.examples.springbootmonolithicstarter.domains.product.stock;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 재고 차감 결과와 행 잠금 대기 시간 지표
+ * <p>
+ * product.stock.reservations: 재고 차감 요청 수 (result=reserved 는 커밋된 차감, rejected 는 재고 부족으로 거절)
+ * product.stock.lock.wait: 재고 변경 전 상품 행 잠금(SELECT ... FOR UPDATE) 획득까지 걸린 시간
+ * 낙관적 락 충돌 재시도는 optimistic.lock.retry 지표로 확인한다.
+ */
+@Component
+public class StockMetrics {
+
+    private final Counter reserved;
+    private final Counter rejected;
+    private final Timer lockWait;
+
+    public StockMetrics(MeterRegistry meterRegistry) {
+        this.reserved = reservations(meterRegistry, "reserved");
+        this.rejected = reservations(meterRegistry, "rejected");
+        this.lockWait = Timer.builder("product.stock.lock.wait")
+                .description("재고 변경 전 상품 행 잠금 획득까지 걸린 시간")
+                .publishPercentiles(0.5, 0.99, 0.999)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 트랜잭션 안이면 커밋된 후에 센다. (낙관적 락 충돌로 재시도되는 시도는 세지 않음)
+     */
+    public void recordReserved() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    reserved.increment();
+                }
+            });
+            return;
+        }
+        reserved.increment();
+    }
+
+    public void recordRejected() {
+        rejected.increment();
+    }
+
+    public void recordLockWait(long nanos) {
+        lockWait.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    private static Counter reservations(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("product.stock.reservations")
+                .description("재고 차감 요청 수")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,386 @@
+package com.examples.springbootmonolithicstarter.domains.product.stock;
+
+import com.examples.springbootmonolithicstarter.domains.product.config.StockBatchProperties;
+import com.examples.springbootmonolithicstarter.domains.product.exception.ProductNotFoundException;
+import com.examples.springbootmonolithicstarter.domains.product.model.Product;
+import com.examples.springbootmonolithicstarter.domains.product.repository.ProductRepository;
+import com.examples.springbootmonolithicstarter.domains.product.service.domain.StockService;
+import com.examples.springbootmonolithicstarter.global.exception.BusinessException;
+import com.examples.springbootmonolithicstarter.global.exception.CommonErrorCode;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 같은 상품에 대한 재고 변경 요청을 짧은 시간 동안 모아 한 트랜잭션으로 처리한다. (group commit)
+ * <p>
+ * 상품별 대기열에 쌓인 요청을 window 동안 또는 maxBatchSize 에 도달할 때까지 모은 뒤,
+ * 행을 한 번 잠그고(SELECT ... FOR UPDATE) 도착 순서대로 엔티티에 적용하여 커밋 시 UPDATE 한 번으로 반영한다.
+ * 각 요청의 성공/재고 부족 여부는 도착 순서 기준으로 개별 판정되며, 커밋이 끝난 후 호출자에게 전달된다.
+ * 상품별로 동시에 하나의 배치만 처리한다.
+ * <p>
+ * window 는 타이머 스레드가 기다리고 처리 스레드는 트랜잭션만 실행한다. (window 동안 처리 스레드를 점유하지 않음)
+ * timeout 안에 배치에 포함되지 못한 요청은 반영하지 않고 REQUEST_TIMEOUT 으로 실패한다.
+ * 이미 트랜잭션에 포함된 요청은 그 트랜잭션의 결과(커밋/롤백)를 기다린다.
+ */
+@Slf4j
+@Component
+public class StockMutationBatcher implements DisposableBean {
+
+    private final StockBatchProperties stockBatchProperties;
+    private final ProductRepository productRepository;
+    private final StockService stockService;
+    private final TransactionTemplate transactionTemplate;
+
+    private final DistributionSummary batchSize;
+    private final Timer queueWait;
+    private final ScheduledThreadPoolExecutor timer;
+    private final ExecutorService workers;
+    private final Map<Long, ProductQueue> queues = new ConcurrentHashMap<>();
+
+    public StockMutationBatcher(StockBatchProperties stockBatchProperties,
+                                ProductRepository productRepository,
+                                StockService stockService,
+                                TransactionTemplate transactionTemplate,
+                                MeterRegistry meterRegistry) {
+        this.stockBatchProperties = stockBatchProperties;
+        this.productRepository = productRepository;
+        this.stockService = stockService;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = DistributionSummary.builder("product.stock.batch.size")
+                .description("한 트랜잭션으로 처리한 재고 변경 요청 수")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.queueWait = Timer.builder("product.stock.batch.queue.wait")
+                .description("재고 변경 요청이 배치 처리 시작 전까지 대기한 시간")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        if (stockBatchProperties.enabled()) {
+            this.timer = new ScheduledThreadPoolExecutor(1, Thread.ofPlatform().name("stock-batch-timer").daemon().factory());
+            this.timer.setRemoveOnCancelPolicy(true);
+            this.workers = Executors.newFixedThreadPool(stockBatchProperties.workerThreads(), Thread.ofPlatform().name("stock-batch-", 0).factory());
+        } else {
+            this.timer = null;
+            this.workers = null;
+        }
+    }
+
+    public boolean isEnabled() {
+        return stockBatchProperties.enabled();
+    }
+
+    /**
+     * @throws BusinessException timeout 안에 처리되지 않은 경우 (REQUEST_TIMEOUT, 재고는 바뀌지 않음)
+     */
+    public void reserve(Long productId, int quantity) {
+        if (quantity <= 0) {
+            throw new IllegalArgumentException("차감할 재고 수량은 0보다 커야 합니다.");
+        }
+        await(submit(productId, -quantity));
+    }
+
+    /**
+     * @throws BusinessException timeout 안에 처리되지 않은 경우 (REQUEST_TIMEOUT, 재고는 바뀌지 않음)
+     */
+    public void release(Long productId, int quantity) {
+        if (quantity <= 0) {
+            throw new IllegalArgumentException("추가할 재고 수량은 0보다 커야 합니다.");
+        }
+        await(submit(productId, quantity));
+    }
+
+    private StockMutation submit(Long productId, int delta) {
+        StockMutation mutation = new StockMutation(delta, System.nanoTime());
+        while (true) {
+            ProductQueue queue = queues.computeIfAbsent(productId, ProductQueue::new);
+            queue.lock.lock();
+            try {
+                if (queue.removed) {
+                    // 마지막 배치를 끝낸 처리 스레드가 맵에서 제거한 대기열이므로 새 대기열로 다시 시도
+                    continue;
+                }
+                queue.pending.add(mutation);
+                if (!queue.scheduled) {
+                    queue.scheduled = true;
+                    queue.dispatched = false;
+                    long cycle = ++queue.cycle;
+                    try {
+                        queue.timer = timer.schedule(() -> dispatchOnWindow(queue, cycle),
+                                stockBatchProperties.window().toNanos(), TimeUnit.NANOSECONDS);
+                    } catch (RejectedExecutionException e) {
+                        // 종료 중
+                        queue.pending.remove(mutation);
+                        close(queue);
+                        throw new BusinessException(CommonErrorCode.REQUEST_TIMEOUT);
+                    }
+                } else if (!queue.dispatched && queue.pending.size() >= stockBatchProperties.maxBatchSize()) {
+                    // window 를 기다리지 않고 바로 처리
+                    queue.timer.cancel(false);
+                    dispatch(queue);
+                }
+                return mutation;
+            } finally {
+                queue.lock.unlock();
+            }
+        }
+    }
+
+    private void await(StockMutation mutation) {
+        try {
+            mutation.result().get(stockBatchProperties.timeout().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            if (mutation.cancel()) {
+                throw new BusinessException(CommonErrorCode.REQUEST_TIMEOUT);
+            }
+            // 이미 트랜잭션에 포함되어 결과가 정해지는 중이므로 그 결과를 전달
+            join(mutation.result());
+        } catch (ExecutionException e) {
+            throw unwrap(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            if (mutation.cancel()) {
+                throw new IllegalStateException("재고 변경 대기 중 인터럽트가 발생했습니다.", e);
+            }
+            join(mutation.result());
+        }
+    }
+
+    private void join(CompletableFuture<Void> result) {
+        try {
+            result.join();
+        } catch (CompletionException e) {
+            throw unwrap(e.getCause());
+        }
+    }
+
+    private RuntimeException unwrap(Throwable cause) {
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return new IllegalStateException(cause);
+    }
+
+    private void dispatchOnWindow(ProductQueue queue, long cycle) {
+        queue.lock.lock();
+        try {
+            // 이미 maxBatchSize 로 처리를 시작했거나 다음 주기로 넘어간 경우는 무시
+            if (queue.cycle == cycle && !queue.dispatched) {
+                dispatch(queue);
+            }
+        } finally {
+            queue.lock.unlock();
+        }
+    }
+
+    /**
+     * queue.lock 을 잡은 상태에서 호출한다.
+     */
+    private void dispatch(ProductQueue queue) {
+        queue.dispatched = true;
+        try {
+            workers.execute(() -> drain(queue));
+        } catch (RejectedExecutionException e) {
+            // 종료 중이면 대기 중인 요청을 실패시키고 대기열을 닫는다
+            RuntimeException failure = new BusinessException(CommonErrorCode.REQUEST_TIMEOUT);
+            queue.pending.forEach(mutation -> mutation.result().completeExceptionally(failure));
+            queue.pending.clear();
+            close(queue);
+        }
+    }
+
+    private void drain(ProductQueue queue) {
+        try {
+            List<StockMutation> batch;
+            queue.lock.lock();
+            try {
+                batch = queue.poll(stockBatchProperties.maxBatchSize());
+            } finally {
+                queue.lock.unlock();
+            }
+            apply(queue.productId, batch);
+        } catch (RuntimeException e) {
+            log.error("Stock batch failed. productId: {}", queue.productId, e);
+        } finally {
+            queue.lock.lock();
+            try {
+                if (queue.pending.isEmpty()) {
+                    close(queue);
+                } else {
+                    // 처리 중에 쌓인 요청은 이미 window 이상 기다렸을 수 있으므로 바로 다음 배치를 시작
+                    dispatch(queue);
+                }
+            } finally {
+                queue.lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * queue.lock 을 잡은 상태에서 호출한다. 이후 이 대기열에 도착한 요청은 새 대기열로 다시 제출된다.
+     */
+    private void close(ProductQueue queue) {
+        queue.scheduled = false;
+        queue.removed = true;
+        queues.remove(queue.productId, queue);
+    }
+
+    private void apply(Long productId, List<StockMutation> polled) {
+        // 제한 시간이 지나 호출자가 포기한 요청은 반영하지 않음
+        List<StockMutation> batch = new ArrayList<>(polled.size());
+        for (StockMutation mutation : polled) {
+            if (mutation.claim()) {
+                batch.add(mutation);
+            }
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+        long startedAt = System.nanoTime();
+        batch.forEach(mutation -> queueWait.record(startedAt - mutation.enqueuedAt(), TimeUnit.NANOSECONDS));
+        batchSize.record(batch.size());
+
+        List<RuntimeException> failures = new ArrayList<>(batch.size());
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                failures.clear();
+                Product product = productRepository.findByIdForUpdate(productId)
+                        .orElseThrow(() -> new ProductNotFoundException(productId));
+                for (StockMutation mutation : batch) {
+                    failures.add(applyMutation(product, mutation));
+                }
+            });
+        } catch (RuntimeException e) {
+            batch.forEach(mutation -> mutation.result().completeExceptionally(e));
+            return;
+        }
+
+        // 커밋이 끝난 뒤에 결과를 전달
+        for (int i = 0; i < batch.size(); i++) {
+            RuntimeException failure = failures.get(i);
+            if (failure == null) {
+                batch.get(i).result().complete(null);
+            } else {
+                batch.get(i).result().completeExceptionally(failure);
+            }
+        }
+    }
+
+    private RuntimeException applyMutation(Product product, StockMutation mutation) {
+        try {
+            if (mutation.delta() > 0) {
+                stockService.releaseStock(product, mutation.delta());
+            } else {
+                stockService.reserveStock(product, -mutation.delta());
+            }
+            return null;
+        } catch (BusinessException | IllegalArgumentException | IllegalStateException e) {
+            return e;
+        }
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        if (timer != null) {
+            timer.shutdown();
+        }
+        if (workers != null) {
+            workers.shutdown();
+            workers.awaitTermination(10, TimeUnit.SECONDS);
+        }
+    }
+
+    /**
+     * 처리 스레드가 배치에 포함(claim)하거나 호출자가 포기(cancel)하는 것 중 먼저 일어난 쪽만 성공한다.
+     */
+    private static final class StockMutation {
+
+        private static final int PENDING = 0;
+        private static final int CLAIMED = 1;
+        private static final int CANCELLED = 2;
+
+        private final int delta;
+        private final long enqueuedAt;
+        private final CompletableFuture<Void> result = new CompletableFuture<>();
+        private final AtomicInteger state = new AtomicInteger(PENDING);
+
+        private StockMutation(int delta, long enqueuedAt) {
+            this.delta = delta;
+            this.enqueuedAt = enqueuedAt;
+        }
+
+        private int delta() {
+            return delta;
+        }
+
+        private long enqueuedAt() {
+            return enqueuedAt;
+        }
+
+        private CompletableFuture<Void> result() {
+            return result;
+        }
+
+        private boolean claim() {
+            return state.compareAndSet(PENDING, CLAIMED);
+        }
+
+        private boolean cancel() {
+            return state.compareAndSet(PENDING, CANCELLED);
+        }
+    }
+
+    /**
+     * 아래 상태는 모두 lock 을 잡고 읽고 쓴다.
+     * scheduled: window 대기 또는 배치 처리 중, dispatched: 처리 스레드에 넘김, removed: 맵에서 제거되어 더 이상 쓰지 않음
+     */
+    private static final class ProductQueue {
+
+        private final Long productId;
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Queue<StockMutation> pending = new ArrayDeque<>();
+        private boolean scheduled;
+        private boolean dispatched;
+        private boolean removed;
+        private long cycle;
+        private ScheduledFuture<?> timer;
+
+        private ProductQueue(Long productId) {
+            this.productId = productId;
+        }
+
+        private List<StockMutation> poll(int maxSize) {
+            List<StockMutation> batch = new ArrayList<>(Math.min(maxSize, pending.size()));
+            StockMutation mutation;
+            while (batch.size() < maxSize && (mutation = pending.poll()) != null) {
+                batch.add(mutation);
+            }
+            return batch;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.examples.springbootmonolithicstarter.domains.product.store;
+
+import com.examples.springbootmonolithicstarter.domains.product.exception.ProductNotFoundException;
+import com.examples.springbootmonolithicstarter.domains.product.model.Product;
+import com.examples.springbootmonolithicstarter.domains.product.model.ProductStatus;
+import com.examples.springbootmonolithicstarter.domains.product.repository.ProductRepository;
+import com.examples.springbootmonolithicstarter.domains.product.repository.ProductRow;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 단일 DB 의 products 테이블 (product.sharding.enabled=false)
+ * <p>
+ * 조회는 프로젝션({@link ProductRow}), 변경은 엔티티 변경 감지로 처리하므로 호출자의 트랜잭션 안에서 사용한다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "product.sharding", name = "enabled", havingValue = "false", matchIfMissing = true)
+public class JpaProductStore implements ProductStore {
+
+    private final ProductRepository productRepository;
+
+    @Override
+    public ProductRow create(String name, String description, BigDecimal price, int stockQuantity) {
+        return ProductRow.from(productRepository.save(Product.create(name, description, price, stockQuantity)));
+    }
+
+    @Override
+    public Optional<ProductRow> findRowById(Long productId) {
+        return productRepository.findRowById(productId);
+    }
+
+    @Override
+    public List<ProductRow> findRowsByIdIn(Collection<Long> productIds) {
+        return productRepository.findRowsByIdIn(productIds);
+    }
+
+    @Override
+    public List<ProductRow> findRowsByIdGreaterThan(long lastId, int limit) {
+        return productRepository.findRowsByIdGreaterThan(lastId, Limit.of(limit));
+    }
+
+    @Override
+    public List<ProductRow> findRowsByStatusAndIdGreaterThan(ProductStatus status, long lastId, int limit) {
+        return productRepository.findRowsByStatusAndIdGreaterThan(status, lastId, Limit.of(limit));
+    }
+
+    @Override
+    public List<ProductRow> findRowsByNameContaining(String name, int limit) {
+        return productRepository.findRowsByNameContaining(name, Limit.of(limit));
+    }
+
+    @Override
+    public List<ProductRow> findRowsByNameStartingWith(String prefix, int limit) {
+        return productRepository.findByNameStartingWithOrderByNameAsc(prefix, Limit.of(limit)).stream()
+                .map(ProductRow::from)
+                .toList();
+    }
+
+    @Override
+    public ProductRow updateInfo(Long productId, String name, String description, BigDecimal price) {
+        Product product = findProductById(productId);
+        product.updateInfo(name, description, price);
+        return ProductRow.from(product);
+    }
+
+    @Override
+    public void changeStatus(Long productId, ProductStatus status) {
+        Product product = findProductById(productId);
+        switch (status) {
+            case AVAILABLE -> product.activate();
+            case DISCONTINUED -> product.discontinue();
+            default -> throw new IllegalArgumentException("변경할 수 없는 상태입니다: " + status);
+        }
+    }
+
+    private Product findProductById(Long productId) {
+        return productRepository.findById(productId)
+                .orElseThrow(() -> new ProductNotFoundException(productId));
+    }
+}
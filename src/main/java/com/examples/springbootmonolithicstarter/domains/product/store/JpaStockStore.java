@@ -0,0 +1,164 @@
+package com.examples.springbootmonolithicstarter.domains.product.store;
+
+import com.examples.springbootmonolithicstarter.domains.product.config.StockLockStrategy;
+import com.examples.springbootmonolithicstarter.domains.product.config.StockProperties;
+import com.examples.springbootmonolithicstarter.domains.product.event.ProductStockChangedEvent;
+import com.examples.springbootmonolithicstarter.domains.product.exception.ProductNotFoundException;
+import com.examples.springbootmonolithicstarter.domains.product.exception.ProductOutOfStockException;
+import com.examples.springbootmonolithicstarter.domains.product.exception.ProductStockShortageException;
+import com.examples.springbootmonolithicstarter.domains.product.exception.ProductStockShortageException.Shortage;
+import com.examples.springbootmonolithicstarter.domains.product.jfr.StockOperationEvent;
+import com.examples.springbootmonolithicstarter.domains.product.model.Product;
+import com.examples.springbootmonolithicstarter.domains.product.repository.ProductRepository;
+import com.examples.springbootmonolithicstarter.domains.product.service.domain.StockService;
+import com.examples.springbootmonolithicstarter.domains.product.stock.HotStockLedger;
+import com.examples.springbootmonolithicstarter.domains.product.stock.StockMetrics;
+import com.examples.springbootmonolithicstarter.domains.product.stock.StockMutationBatcher;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * 단일 DB 의 재고 변경 (product.sharding.enabled=false)
+ * <p>
+ * 인기 상품은 메모리 원장, 그 외 상품은 재고 변경 배치 또는 잠금 전략(product.stock.lock-strategy)으로 처리한다.
+ * DB 변경과 재고 변경 이벤트는 호출자의 트랜잭션에 참여하므로, 트랜잭션이 롤백되면 함께 취소된다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "product.sharding", name = "enabled", havingValue = "false", matchIfMissing = true)
+public class JpaStockStore implements StockStore {
+
+    private final ProductRepository productRepository;
+    private final StockService stockService;
+    private final StockProperties stockProperties;
+    private final HotStockLedger hotStockLedger;
+    private final StockMutationBatcher stockMutationBatcher;
+    private final StockMetrics stockMetrics;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    public void reserve(Long productId, int quantity, StockOperationEvent event) {
+        // 인기 상품은 메모리 원장에서 처리
+        // 트랜잭션 안이지만 커넥션 풀 auto-commit=false 와 hibernate provider_disables_autocommit 설정으로
+        // 첫 쿼리 전까지 커넥션을 얻지 않으므로 DB 커넥션을 획득하지 않음 (두 설정을 바꾸면 트랜잭션 시작 시 획득)
+        // 조회 응답은 원장 값을 덮어쓰므로 재고 변경 이벤트(캐시 무효화)는 DB 반영 시점에 발행
+        if (hotStockLedger.isHot(productId)) {
+            event.setPath(StockOperationEvent.PATH_HOT);
+            hotStockLedger.reserve(productId, quantity);
+            return;
+        }
+        // 변경이 실패하면 트랜잭션이 롤백되어 이벤트도 전달되지 않음
+        eventPublisher.publishEvent(new ProductStockChangedEvent(productId));
+        // 같은 상품의 동시 요청을 모아 한 트랜잭션으로 처리
+        if (stockMutationBatcher.isEnabled()) {
+            event.setPath(StockOperationEvent.PATH_BATCH);
+            stockMutationBatcher.reserve(productId, quantity);
+            return;
+        }
+        event.setPath(stockProperties.lockStrategy().name());
+        if (stockProperties.lockStrategy() == StockLockStrategy.ATOMIC_UPDATE) {
+            stockService.reserveStockAtomically(productId, quantity);
+            return;
+        }
+        Product product = findProductForStockUpdate(productId, event);
+        stockService.reserveStock(product, quantity);
+    }
+
+    @Override
+    public void release(Long productId, int quantity, StockOperationEvent event) {
+        if (hotStockLedger.isHot(productId)) {
+            event.setPath(StockOperationEvent.PATH_HOT);
+            hotStockLedger.release(productId, quantity);
+            return;
+        }
+        eventPublisher.publishEvent(new ProductStockChangedEvent(productId));
+        if (stockMutationBatcher.isEnabled()) {
+            event.setPath(StockOperationEvent.PATH_BATCH);
+            stockMutationBatcher.release(productId, quantity);
+            return;
+        }
+        event.setPath(stockProperties.lockStrategy().name());
+        if (stockProperties.lockStrategy() == StockLockStrategy.ATOMIC_UPDATE) {
+            stockService.releaseStockAtomically(productId, quantity);
+            return;
+        }
+        Product product = findProductForStockUpdate(productId, event);
+        stockService.releaseStock(product, quantity);
+    }
+
+    /**
+     * 상품은 한 번의 쿼리로 ID 오름차순으로 잠그므로 겹치는 주문 간 교착 상태가 발생하지 않는다.
+     */
+    @Override
+    public void reserveAll(Map<Long, Integer> quantities) {
+        Map<Long, Integer> lockedQuantities = new TreeMap<>();
+        Map<Long, Integer> hotQuantities = new TreeMap<>();
+        quantities.forEach((productId, quantity) ->
+                (hotStockLedger.isHot(productId) ? hotQuantities : lockedQuantities).put(productId, quantity));
+
+        if (!lockedQuantities.isEmpty()) {
+            long lockStart = System.nanoTime();
+            List<Product> products = productRepository.findAllByIdInForUpdate(lockedQuantities.keySet());
+            stockMetrics.recordLockWait(System.nanoTime() - lockStart);
+            stockService.reserveAll(lockedQuantities, products);
+            lockedQuantities.keySet().forEach(productId -> eventPublisher.publishEvent(new ProductStockChangedEvent(productId)));
+        }
+        reserveHotStocks(hotQuantities);
+    }
+
+    /**
+     * 메모리 원장 상품은 DB 잠금 이후 마지막에 차감하고, 트랜잭션이 롤백되면 차감분을 되돌린다.
+     */
+    private void reserveHotStocks(Map<Long, Integer> hotQuantities) {
+        List<Map.Entry<Long, Integer>> reserved = new ArrayList<>();
+        for (Map.Entry<Long, Integer> line : hotQuantities.entrySet()) {
+            try {
+                hotStockLedger.reserve(line.getKey(), line.getValue());
+            } catch (ProductOutOfStockException e) {
+                int availableQuantity = hotStockLedger.availableQuantity(line.getKey());
+                reserved.forEach(entry -> hotStockLedger.release(entry.getKey(), entry.getValue()));
+                throw new ProductStockShortageException(List.of(
+                        new Shortage(line.getKey(), true, line.getValue(), availableQuantity)));
+            }
+            reserved.add(line);
+        }
+
+        if (!reserved.isEmpty() && TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        reserved.forEach(entry -> hotStockLedger.release(entry.getKey(), entry.getValue()));
+                    }
+                }
+            });
+        }
+    }
+
+    /**
+     * PESSIMISTIC: SELECT ... FOR UPDATE 로 조회 (잠금 대기 시간은 product.stock.lock.wait 지표)
+     * OPTIMISTIC: 일반 조회 후 커밋 시점에 @Version 으로 충돌 검출
+     */
+    private Product findProductForStockUpdate(Long productId, StockOperationEvent event) {
+        if (stockProperties.lockStrategy() != StockLockStrategy.PESSIMISTIC) {
+            return productRepository.findById(productId)
+                    .orElseThrow(() -> new ProductNotFoundException(productId));
+        }
+        long lockStart = System.nanoTime();
+        Optional<Product> product = productRepository.findByIdForUpdate(productId);
+        long lockWait = System.nanoTime() - lockStart;
+        stockMetrics.recordLockWait(lockWait);
+        event.setLockWait(lockWait);
+        return product.orElseThrow(() -> new ProductNotFoundException(productId));
+    }
+}
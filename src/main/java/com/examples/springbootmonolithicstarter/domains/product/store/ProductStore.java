@@ -0,0 +1,57 @@
+package com.examples.springbootmonolithicstarter.domains.product.store;
+
+import com.examples.springbootmonolithicstarter.domains.product.model.ProductStatus;
+import com.examples.springbootmonolithicstarter.domains.product.repository.ProductRow;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 상품 등록/조회/변경 저장소
+ * <p>
+ * 구현은 설정(product.sharding.enabled)에 따라 하나만 등록된다.
+ * <ul>
+ *     <li>{@link JpaProductStore}: 단일 DB. 변경은 호출자의 트랜잭션에 참여한다.</li>
+ *     <li>{@link ShardedProductStore}: 샤드 DB. 변경은 문장마다 샤드에서 커밋되며 호출자의 트랜잭션이 롤백되어도 취소되지 않는다.</li>
+ * </ul>
+ */
+public interface ProductStore {
+
+    ProductRow create(String name, String description, BigDecimal price, int stockQuantity);
+
+    Optional<ProductRow> findRowById(Long productId);
+
+    /**
+     * 결과 순서는 보장하지 않는다.
+     */
+    List<ProductRow> findRowsByIdIn(Collection<Long> productIds);
+
+    List<ProductRow> findRowsByIdGreaterThan(long lastId, int limit);
+
+    List<ProductRow> findRowsByStatusAndIdGreaterThan(ProductStatus status, long lastId, int limit);
+
+    /**
+     * 상품명에 name 이 포함된 상품 (대소문자 구분 없음, 검색어의 %, _ 는 문자 그대로 비교)
+     */
+    List<ProductRow> findRowsByNameContaining(String name, int limit);
+
+    /**
+     * 상품명이 prefix 로 시작하는 상품을 이름 순으로 반환한다.
+     */
+    List<ProductRow> findRowsByNameStartingWith(String prefix, int limit);
+
+    /**
+     * @return 변경 후 상품
+     * @throws com.examples.springbootmonolithicstarter.domains.product.exception.ProductNotFoundException 상품이 없는 경우
+     */
+    ProductRow updateInfo(Long productId, String name, String description, BigDecimal price);
+
+    /**
+     * 판매 상태를 AVAILABLE 또는 DISCONTINUED 로 변경한다.
+     *
+     * @throws com.examples.springbootmonolithicstarter.domains.product.exception.ProductNotFoundException 상품이 없는 경우
+     */
+    void changeStatus(Long productId, ProductStatus status);
+}
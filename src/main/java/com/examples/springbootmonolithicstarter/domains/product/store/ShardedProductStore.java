@@ -0,0 +1,82 @@
+package com.examples.springbootmonolithicstarter.domains.product.store;
+
+import com.examples.springbootmonolithicstarter.domains.product.exception.ProductNotFoundException;
+import com.examples.springbootmonolithicstarter.domains.product.model.ProductStatus;
+import com.examples.springbootmonolithicstarter.domains.product.repository.ProductRow;
+import com.examples.springbootmonolithicstarter.domains.product.repository.shard.ShardedProductRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 샤드 저장소의 상품 (product.sharding.enabled=true)
+ * <p>
+ * 변경은 상품이 있는 샤드에서 문장마다 커밋되므로 호출자의 트랜잭션이 롤백되어도 취소되지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "product.sharding", name = "enabled", havingValue = "true")
+public class ShardedProductStore implements ProductStore {
+
+    private final ShardedProductRepository shardedProductRepository;
+
+    @Override
+    public ProductRow create(String name, String description, BigDecimal price, int stockQuantity) {
+        return shardedProductRepository.insert(name, description, price, stockQuantity);
+    }
+
+    @Override
+    public Optional<ProductRow> findRowById(Long productId) {
+        return shardedProductRepository.findRowById(productId);
+    }
+
+    @Override
+    public List<ProductRow> findRowsByIdIn(Collection<Long> productIds) {
+        return shardedProductRepository.findRowsByIdIn(productIds);
+    }
+
+    @Override
+    public List<ProductRow> findRowsByIdGreaterThan(long lastId, int limit) {
+        return shardedProductRepository.findRowsByIdGreaterThan(lastId, limit);
+    }
+
+    @Override
+    public List<ProductRow> findRowsByStatusAndIdGreaterThan(ProductStatus status, long lastId, int limit) {
+        return shardedProductRepository.findRowsByStatusAndIdGreaterThan(status, lastId, limit);
+    }
+
+    @Override
+    public List<ProductRow> findRowsByNameContaining(String name, int limit) {
+        return shardedProductRepository.findRowsByNameContaining(name, limit);
+    }
+
+    @Override
+    public List<ProductRow> findRowsByNameStartingWith(String prefix, int limit) {
+        return shardedProductRepository.findRowsByNameStartingWith(prefix, limit);
+    }
+
+    /**
+     * 변경 문장과 변경 후 조회는 서로 다른 문장이므로, 사이에 다른 요청이 바꾼 값이 조회될 수 있다.
+     */
+    @Override
+    public ProductRow updateInfo(Long productId, String name, String description, BigDecimal price) {
+        if (shardedProductRepository.updateInfo(productId, name, description, price, LocalDateTime.now()) == 0) {
+            throw new ProductNotFoundException(productId);
+        }
+        return shardedProductRepository.findRowById(productId)
+                .orElseThrow(() -> new ProductNotFoundException(productId));
+    }
+
+    @Override
+    public void changeStatus(Long productId, ProductStatus status) {
+        if (shardedProductRepository.changeStatus(productId, status, LocalDateTime.now()) == 0) {
+            throw new ProductNotFoundException(productId);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.examples.springbootmonolithicstarter.domains.product.store;
+
+import com.examples.springbootmonolithicstarter.domains.product.event.ProductStockChangedEvent;
+import com.examples.springbootmonolithicstarter.domains.product.jfr.StockOperationEvent;
+import com.examples.springbootmonolithicstarter.domains.product.service.domain.ShardedStockService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * 샤드 저장소의 재고 변경 (product.sharding.enabled=true)
+ * <p>
+ * 변경은 상품이 있는 샤드에서 문장마다 커밋되므로 호출자의 트랜잭션이 롤백되어도 취소되지 않는다.
+ * 인기 상품 메모리 원장과 재고 변경 배치는 사용하지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "product.sharding", name = "enabled", havingValue = "true")
+public class ShardedStockStore implements StockStore {
+
+    private final ShardedStockService shardedStockService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    public void reserve(Long productId, int quantity, StockOperationEvent event) {
+        event.setPath(StockOperationEvent.PATH_SHARDED);
+        shardedStockService.reserveStock(productId, quantity);
+        eventPublisher.publishEvent(new ProductStockChangedEvent(productId));
+    }
+
+    @Override
+    public void release(Long productId, int quantity, StockOperationEvent event) {
+        event.setPath(StockOperationEvent.PATH_SHARDED);
+        shardedStockService.releaseStock(productId, quantity);
+        eventPublisher.publishEvent(new ProductStockChangedEvent(productId));
+    }
+
+    @Override
+    public void reserveAll(Map<Long, Integer> quantities) {
+        shardedStockService.reserveAll(quantities);
+        quantities.keySet().forEach(productId -> eventPublisher.publishEvent(new ProductStockChangedEvent(productId)));
+    }
+}
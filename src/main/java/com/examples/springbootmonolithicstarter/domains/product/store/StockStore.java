@@ -0,0 +1,34 @@
+package com.examples.springbootmonolithicstarter.domains.product.store;
+
+import com.examples.springbootmonolithicstarter.domains.product.jfr.StockOperationEvent;
+
+import java.util.Map;
+
+/**
+ * 재고 차감/추가 저장소
+ * <p>
+ * 구현은 설정(product.sharding.enabled)에 따라 하나만 등록되며, 변경이 호출자의 트랜잭션에 참여하는지도 구현이 정한다.
+ * 변경된 상품은 구현이 {@link com.examples.springbootmonolithicstarter.domains.product.event.ProductStockChangedEvent}로 알린다.
+ * <ul>
+ *     <li>{@link JpaStockStore}: 단일 DB (잠금 전략, 재고 변경 배치, 인기 상품 메모리 원장). 트랜잭션에 참여한다.</li>
+ *     <li>{@link ShardedStockStore}: 샤드 DB. 문장마다 샤드에서 커밋되며, 여러 상품 차감은 실패 시 보상(되돌리기)으로 처리한다.</li>
+ * </ul>
+ */
+public interface StockStore {
+
+    /**
+     * @param event 처리 경로와 잠금 대기 시간을 기록할 JFR 이벤트
+     * @throws com.examples.springbootmonolithicstarter.domains.product.exception.ProductOutOfStockException 재고가 부족하거나 판매 중이 아닌 경우
+     */
+    void reserve(Long productId, int quantity, StockOperationEvent event);
+
+    void release(Long productId, int quantity, StockOperationEvent event);
+
+    /**
+     * 모든 상품의 재고가 충분할 때만 전부 차감한다. (all-or-nothing)
+     *
+     * @param quantities 상품 ID 오름차순으로 정렬된 상품별 차감 수량
+     * @throws com.examples.springbootmonolithicstarter.domains.product.exception.ProductStockShortageException 하나라도 부족한 경우
+     */
+    void reserveAll(Map<Long, Integer> quantities);
+}
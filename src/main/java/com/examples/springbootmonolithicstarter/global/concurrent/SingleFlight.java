@@ -0,0 +1,70 @@
+package com.examples.springbootmonolithicstarter.global.concurrent;
+
+import com.examples.springbootmonolithicstarter.global.exception.BusinessException;
+import com.examples.springbootmonolithicstarter.global.exception.CommonErrorCode;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키에 대한 동시 호출을 하나로 합친다. (single-flight)
+ * <p>
+ * 먼저 도착한 호출(leader)만 loader 를 실행하고, 실행 중에 도착한 호출은 그 결과를 기다려 함께 반환받는다.
+ * loader 에서 발생한 예외는 기다리던 모든 호출에 그대로 전달된다.
+ * 결과는 보관하지 않으므로 실행이 끝난 뒤에 도착한 호출은 loader 를 다시 실행한다.
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> calls = new ConcurrentHashMap<>();
+
+    /**
+     * @param timeout 다른 호출의 실행 결과를 기다리는 최대 시간 (leader 자신의 실행 시간은 제한하지 않음)
+     * @throws BusinessException 대기 시간이 초과된 경우 (REQUEST_TIMEOUT)
+     */
+    public V execute(K key, Duration timeout, Supplier<V> loader) {
+        CompletableFuture<V> call = new CompletableFuture<>();
+        CompletableFuture<V> inFlight = calls.putIfAbsent(key, call);
+        if (inFlight != null) {
+            return await(inFlight, timeout);
+        }
+        try {
+            V value = loader.get();
+            call.complete(value);
+            return value;
+        } catch (Throwable e) {
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            calls.remove(key, call);
+        }
+    }
+
+    public int inFlight() {
+        return calls.size();
+    }
+
+    private V await(CompletableFuture<V> inFlight, Duration timeout) {
+        try {
+            return inFlight.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            throw new BusinessException(CommonErrorCode.REQUEST_TIMEOUT);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("결과 대기 중 인터럽트가 발생했습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.examples.springbootmonolithicstarter.global.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 읽기 전용 트랜잭션을 복제본(replica)으로 보내는 DataSource 라우팅 설정
+ *
+ * @param enabled              활성화 여부 (비활성화하면 spring.datasource 하나만 사용)
+ * @param replica              복제본 접속 정보 (그 외 커넥션 풀 설정은 spring.datasource.hikari 를 따름)
+ * @param readYourWritesWindow 쓰기 커밋 후 같은 클라이언트의 읽기를 primary 로 보내는 시간
+ * @param maxReplicaLag        복제본을 사용할 수 있는 최대 복제 지연 (lagCheckInterval 의 2배보다 커야 함)
+ * @param lagCheckInterval     복제 지연 확인 주기 (지연은 이 주기 단위로 측정되므로 복제 지연이 있으면 측정값은 주기의 2배 이상)
+ */
+@ConfigurationProperties(prefix = "datasource.routing")
+public record DataSourceRoutingProperties(
+        @DefaultValue("false")
+        boolean enabled,
+
+        @DefaultValue
+        Replica replica,
+
+        @DefaultValue("5s")
+        Duration readYourWritesWindow,
+
+        @DefaultValue("1s")
+        Duration maxReplicaLag,
+
+        @DefaultValue("300ms")
+        Duration lagCheckInterval
+) {
+
+    /**
+     * @param maximumPoolSize 복제본 커넥션 풀 최대 크기
+     */
+    public record Replica(
+            String url,
+            String username,
+            String password,
+
+            @DefaultValue("10")
+            int maximumPoolSize
+    ) {
+    }
+}
@@ -0,0 +1,40 @@
+package com.examples.springbootmonolithicstarter.global.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * actuator jfr 엔드포인트(/actuator/jfr)로 시작하는 JFR recording 설정
+ *
+ * @param settings        JDK 기본 설정 이름 (default: 상시 수집 수준, profile: 메서드 샘플링 등 상세 수집)
+ * @param defaultDuration 기간을 지정하지 않고 시작했을 때의 기록 시간
+ * @param maxDuration     한 recording 의 최대 기록 시간 (더 긴 기간을 요청하면 이 값으로 줄임)
+ * @param maxSize         한 recording 이 디스크에 보관하는 최대 크기
+ * @param maxRecordings   동시에 보관하는 recording 수 (넘으면 가장 오래된 종료된 recording 을 지움)
+ * @param events          기본 설정과 관계없이 켜는 애플리케이션 이벤트 이름
+ */
+@ConfigurationProperties(prefix = "jfr.recording")
+public record FlightRecordingProperties(
+        @DefaultValue("profile")
+        String settings,
+
+        @DefaultValue("60s")
+        Duration defaultDuration,
+
+        @DefaultValue("10m")
+        Duration maxDuration,
+
+        @DefaultValue("100MB")
+        DataSize maxSize,
+
+        @DefaultValue("3")
+        int maxRecordings,
+
+        @DefaultValue({"com.examples.product.StockOperation", "com.examples.product.CacheLookup", "com.examples.product.BulkOperation"})
+        List<String> events
+) {
+}
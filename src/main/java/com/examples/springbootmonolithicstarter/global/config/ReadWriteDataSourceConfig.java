@@ -0,0 +1,92 @@
+package com.examples.springbootmonolithicstarter.global.config;
+
+import com.examples.springbootmonolithicstarter.global.datasource.ReadWriteRoutingDataSource;
+import com.examples.springbootmonolithicstarter.global.datasource.ReadYourWritesFilter;
+import com.examples.springbootmonolithicstarter.global.datasource.ReplicaLagMonitor;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * datasource.routing.enabled=true 일 때 spring.datasource 를 primary 로, datasource.routing.replica 를 복제본으로 구성하고
+ * 애플리케이션이 사용하는 DataSource 를 읽기/쓰기 라우팅 DataSource 로 교체한다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "datasource.routing", name = "enabled", havingValue = "true")
+public class ReadWriteDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    /**
+     * 접속 정보와 풀 크기 외의 설정(auto-commit 등)은 primary 와 같게 하고, 커넥션은 읽기 전용으로 연다.
+     */
+    @Bean
+    public HikariDataSource replicaDataSource(@Qualifier("primaryDataSource") HikariDataSource primaryDataSource,
+                                              DataSourceRoutingProperties dataSourceRoutingProperties) {
+        DataSourceRoutingProperties.Replica replica = dataSourceRoutingProperties.replica();
+        HikariDataSource dataSource = new HikariDataSource();
+        primaryDataSource.copyStateTo(dataSource);
+        dataSource.setPoolName("replica");
+        dataSource.setJdbcUrl(replica.url());
+        dataSource.setUsername(replica.username());
+        dataSource.setPassword(replica.password());
+        dataSource.setMaximumPoolSize(replica.maximumPoolSize());
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                               @Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                               DataSourceRoutingProperties dataSourceRoutingProperties,
+                                               MeterRegistry meterRegistry) {
+        return new ReplicaLagMonitor(primaryDataSource, replicaDataSource,
+                dataSourceRoutingProperties.maxReplicaLag(), dataSourceRoutingProperties.lagCheckInterval(), meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 @Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                 ReplicaLagMonitor replicaLagMonitor,
+                                 DataSourceRoutingProperties dataSourceRoutingProperties,
+                                 MeterRegistry meterRegistry) {
+        return new LazyConnectionDataSourceProxy(new ReadWriteRoutingDataSource(primaryDataSource, replicaDataSource,
+                replicaLagMonitor, dataSourceRoutingProperties.readYourWritesWindow(), meterRegistry));
+    }
+
+    @Bean
+    public ReadYourWritesFilter readYourWritesFilter(DataSourceRoutingProperties dataSourceRoutingProperties) {
+        return new ReadYourWritesFilter(dataSourceRoutingProperties.readYourWritesWindow());
+    }
+
+    /**
+     * 기본 모드(DELAYED_ACQUISITION_AND_HOLD)는 open-in-view 로 열린 세션이 요청 내내 첫 커넥션을 유지하므로,
+     * 트랜잭션마다 커넥션을 반납하여 다음 트랜잭션이 다시 라우팅되도록 한다.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer releaseConnectionAfterTransaction() {
+        return properties -> properties.put(AvailableSettings.CONNECTION_HANDLING,
+                PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION);
+    }
+}
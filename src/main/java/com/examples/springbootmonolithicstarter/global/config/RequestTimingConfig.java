@@ -0,0 +1,40 @@
+package com.examples.springbootmonolithicstarter.global.config;
+
+import com.examples.springbootmonolithicstarter.global.timing.RequestTimingFilter;
+import com.examples.springbootmonolithicstarter.global.timing.TimingDataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * request-timing.enabled=true 일 때 요청별 구간 시간 측정 필터를 등록하고, 애플리케이션이 사용하는 DataSource 를 감싼다.
+ * 커넥션 풀(Hikari)이 아닌 최종 DataSource(bean 이름 dataSource, 라우팅 사용 시 라우팅 DataSource)를 감싸므로
+ * primary/복제본 어느 쪽의 문장이든 한 번씩만 기록된다. 샤드 DataSource 는 감싸지 않는다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "request-timing", name = "enabled", havingValue = "true")
+public class RequestTimingConfig {
+
+    private static final String DATA_SOURCE_BEAN_NAME = "dataSource";
+
+    @Bean
+    public RequestTimingFilter requestTimingFilter(RequestTimingProperties requestTimingProperties) {
+        return new RequestTimingFilter(requestTimingProperties.slowThreshold());
+    }
+
+    @Bean
+    public static BeanPostProcessor timingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (DATA_SOURCE_BEAN_NAME.equals(beanName) && bean instanceof DataSource dataSource) {
+                    return new TimingDataSource(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,26 @@
+package com.examples.springbootmonolithicstarter.global.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 요청별 구간(DB 실행, 커밋, 응답 변환, 직렬화) 시간 측정 설정
+ *
+ * @param enabled            측정 여부 (비활성화하면 DataSource 를 감싸지 않고 필터도 등록하지 않음)
+ * @param serverTimingHeader 구간 시간을 Server-Timing 응답 헤더로 내려줄지 여부
+ * @param slowThreshold      요청 전체 시간이 이 이상이면 구간 시간을 로그로 남김
+ */
+@ConfigurationProperties(prefix = "request-timing")
+public record RequestTimingProperties(
+        @DefaultValue("false")
+        boolean enabled,
+
+        @DefaultValue("true")
+        boolean serverTimingHeader,
+
+        @DefaultValue("500ms")
+        Duration slowThreshold
+) {
+}
@@ -0,0 +1,28 @@
+package com.examples.springbootmonolithicstarter.global.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.web.embedded.undertow.UndertowServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+
+/**
+ * spring.threads.virtual.enabled=true 일 때 Undertow 의 서블릿 요청을 워커 풀 대신 요청마다 새 가상 스레드에서 처리한다.
+ * <p>
+ * Spring Boot 는 Tomcat/Jetty 에만 가상 스레드 설정을 제공하므로 Undertow 는 배포 executor 를 직접 교체한다.
+ * 요청 동시성은 워커 스레드 수에 묶이지 않지만, DB 작업의 동시성은 여전히 커넥션 풀 크기(hikari.maximum-pool-size)로 제한된다.
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class UndertowVirtualThreadsConfig {
+
+    @Bean
+    public WebServerFactoryCustomizer<UndertowServletWebServerFactory> undertowVirtualThreadsCustomizer() {
+        VirtualThreadTaskExecutor executor = new VirtualThreadTaskExecutor("undertow-");
+        return factory -> factory.addDeploymentInfoCustomizers(deploymentInfo -> deploymentInfo
+                .setExecutor(executor)
+                .setAsyncExecutor(executor));
+    }
+}
@@ -0,0 +1,9 @@
+package com.examples.springbootmonolithicstarter.global.datasource;
+
+/**
+ * 라우팅 대상 DataSource
+ */
+public enum DataSourceRole {
+    PRIMARY,
+    REPLICA
+}
@@ -0,0 +1,35 @@
+package com.examples.springbootmonolithicstarter.global.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * 읽기 전용 트랜잭션이라도 실행하는 동안 새로 얻는 커넥션을 primary 로 보낸다.
+ * <p>
+ * 조회 결과를 오래 보관하는 경우(캐시 적재 등)에 사용한다. 복제본에서 읽으면 최대 복제 지연만큼 오래된 값이
+ * 보관 기간 동안 남을 수 있기 때문이다. 이미 커넥션을 얻은 트랜잭션 안에서는 효과가 없다.
+ */
+public final class PrimaryRead {
+
+    private static final ThreadLocal<Boolean> ACTIVE = new ThreadLocal<>();
+
+    private PrimaryRead() {
+    }
+
+    public static <T> T execute(Supplier<T> reader) {
+        Boolean previous = ACTIVE.get();
+        ACTIVE.set(Boolean.TRUE);
+        try {
+            return reader.get();
+        } finally {
+            if (previous == null) {
+                ACTIVE.remove();
+            } else {
+                ACTIVE.set(previous);
+            }
+        }
+    }
+
+    static boolean isActive() {
+        return ACTIVE.get() != null;
+    }
+}
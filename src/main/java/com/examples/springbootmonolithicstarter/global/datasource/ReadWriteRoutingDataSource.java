@@ -0,0 +1,93 @@
+package com.examples.springbootmonolithicstarter.global.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * 읽기 전용 트랜잭션은 복제본, 그 외는 primary 에서 커넥션을 얻는다.
+ * <p>
+ * 트랜잭션의 readOnly 여부가 정해진 뒤 커넥션을 얻도록 {@link LazyConnectionDataSourceProxy} 로 감싸서 사용해야 한다.
+ * 읽기 전용이라도 다음 경우에는 primary 를 사용한다.
+ * <ul>
+ *     <li>같은 클라이언트가 readYourWritesWindow 안에 쓰기를 커밋한 경우 ({@link ReadYourWritesContext})</li>
+ *     <li>조회 결과를 보관하기 위해 primary 에서 읽도록 한 경우 ({@link PrimaryRead})</li>
+ *     <li>복제 지연이 허용치를 넘었거나 복제본을 확인할 수 없는 경우 ({@link ReplicaLagMonitor})</li>
+ * </ul>
+ * 실제 트랜잭션이 아닌 곳(트랜잭션 없이 실행되는 조회)에서 얻은 primary 커넥션은 쓰기로 보지 않으므로 read-your-writes 기한을 늘리지 않는다.
+ * 라우팅 결과는 datasource.routing 지표(target, reason)로 확인할 수 있다.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final ReplicaLagMonitor replicaLagMonitor;
+    private final Duration readYourWritesWindow;
+
+    private final Counter write;
+    private final Counter readYourWrites;
+    private final Counter primaryRead;
+    private final Counter replicaLag;
+    private final Counter replica;
+
+    public ReadWriteRoutingDataSource(DataSource primary,
+                                      DataSource replica,
+                                      ReplicaLagMonitor replicaLagMonitor,
+                                      Duration readYourWritesWindow,
+                                      MeterRegistry meterRegistry) {
+        this.replicaLagMonitor = replicaLagMonitor;
+        this.readYourWritesWindow = readYourWritesWindow;
+        this.write = counter(meterRegistry, DataSourceRole.PRIMARY, "write");
+        this.readYourWrites = counter(meterRegistry, DataSourceRole.PRIMARY, "read-your-writes");
+        this.primaryRead = counter(meterRegistry, DataSourceRole.PRIMARY, "primary-read");
+        this.replicaLag = counter(meterRegistry, DataSourceRole.PRIMARY, "replica-lag");
+        this.replica = counter(meterRegistry, DataSourceRole.REPLICA, "read-only");
+        setTargetDataSources(Map.of(DataSourceRole.PRIMARY, primary, DataSourceRole.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (TransactionSynchronizationManager.isActualTransactionActive()
+                    && TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        ReadYourWritesContext.written(System.currentTimeMillis() + readYourWritesWindow.toMillis());
+                    }
+                });
+            }
+            write.increment();
+            return DataSourceRole.PRIMARY;
+        }
+        if (PrimaryRead.isActive()) {
+            primaryRead.increment();
+            return DataSourceRole.PRIMARY;
+        }
+        if (ReadYourWritesContext.isPinnedToPrimary(System.currentTimeMillis())) {
+            readYourWrites.increment();
+            return DataSourceRole.PRIMARY;
+        }
+        if (!replicaLagMonitor.isReplicaAvailable()) {
+            replicaLag.increment();
+            return DataSourceRole.PRIMARY;
+        }
+        replica.increment();
+        return DataSourceRole.REPLICA;
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, DataSourceRole target, String reason) {
+        return Counter.builder("datasource.routing")
+                .description("커넥션을 얻은 DataSource 별 횟수")
+                .tag("target", target.name().toLowerCase())
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,62 @@
+package com.examples.springbootmonolithicstarter.global.datasource;
+
+import java.util.function.LongConsumer;
+
+/**
+ * 현재 스레드(요청)의 읽기를 primary 로 고정할 기한 (read-your-writes)
+ * <p>
+ * HTTP 요청에서는 {@link ReadYourWritesFilter} 가 클라이언트 쿠키의 기한으로 시작하고, 쓰기가 커밋되면 갱신된 기한을 쿠키로 돌려준다.
+ * 요청 밖의 스레드에서는 그 스레드에서 커밋한 쓰기만 추적한다. (다른 스레드에서 커밋된 쓰기는 알 수 없음)
+ */
+public final class ReadYourWritesContext {
+
+    private static final ThreadLocal<State> CURRENT = new ThreadLocal<>();
+
+    private ReadYourWritesContext() {
+    }
+
+    /**
+     * @param primaryUntilMillis 읽기를 primary 로 고정할 기한 (epoch millis, 없으면 0)
+     * @param onWritten          쓰기가 커밋되어 기한이 늘어났을 때 호출된다
+     */
+    public static void begin(long primaryUntilMillis, LongConsumer onWritten) {
+        CURRENT.set(new State(primaryUntilMillis, onWritten));
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    public static boolean isPinnedToPrimary(long nowMillis) {
+        State state = CURRENT.get();
+        return state != null && state.primaryUntilMillis > nowMillis;
+    }
+
+    /**
+     * 쓰기 트랜잭션이 커밋된 후 호출된다.
+     */
+    static void written(long primaryUntilMillis) {
+        State state = CURRENT.get();
+        if (state == null) {
+            CURRENT.set(new State(primaryUntilMillis, null));
+            return;
+        }
+        if (primaryUntilMillis > state.primaryUntilMillis) {
+            state.primaryUntilMillis = primaryUntilMillis;
+            if (state.onWritten != null) {
+                state.onWritten.accept(primaryUntilMillis);
+            }
+        }
+    }
+
+    private static final class State {
+
+        private long primaryUntilMillis;
+        private final LongConsumer onWritten;
+
+        private State(long primaryUntilMillis, LongConsumer onWritten) {
+            this.primaryUntilMillis = primaryUntilMillis;
+            this.onWritten = onWritten;
+        }
+    }
+}
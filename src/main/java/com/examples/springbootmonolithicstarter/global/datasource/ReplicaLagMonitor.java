@@ -0,0 +1,138 @@
+package com.examples.springbootmonolithicstarter.global.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * primary 에 주기적으로 기록한 heartbeat 가 복제본에 반영되었는지로 복제 지연을 확인한다.
+ * <p>
+ * 확인할 때마다 복제본의 heartbeat 를 먼저 읽어 직전에 기록한 값과 비교한 뒤, 새 값을 기록한다.
+ * 직전 값이 반영되었으면 지연은 0, 아니면 복제본에 반영된 마지막 heartbeat 이후 경과 시간이다.
+ * heartbeat 는 인스턴스마다 다른 행에 기록하고 자기 행만 읽으므로, 지연은 이 인스턴스의 시계로만 계산된다.
+ * <p>
+ * 직전 값이 반영되지 않았으면 복제본에 반영된 값은 그보다 한 주기 전의 것이므로, 측정값은 확인 주기의 2배 이상이 된다.
+ * 따라서 maxLag 는 확인 주기의 2배보다 커야 하며, 그렇지 않으면 생성 시 거부한다.
+ * 지연이 maxLag 를 넘거나 복제본 조회가 실패하면 복제본을 사용하지 않는다.
+ * 기동 후 첫 확인이 끝날 때까지는 복제본을 사용하지 않는다.
+ * 지표: datasource.replica.lag (ms, 확인 실패 시 -1), datasource.replica.available (1/0)
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    static final String HEARTBEAT_TABLE = "replication_heartbeats";
+    private static final long STALE_HEARTBEAT_MILLIS = Duration.ofDays(1).toMillis();
+
+    private final JdbcTemplate primary;
+    private final TransactionTemplate primaryTransaction;
+    private final JdbcTemplate replica;
+    private final Duration maxLag;
+    private final String instanceId = UUID.randomUUID().toString();
+    // 스케줄러가 가상 스레드일 수 있으므로 synchronized 대신 사용 (JDBC 대기 중 캐리어 스레드 고정 방지)
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private volatile boolean replicaAvailable;
+    private volatile long lagMillis = -1;
+    private long lastBeat;
+    private boolean initialized;
+
+    public ReplicaLagMonitor(DataSource primary, DataSource replica, Duration maxLag, Duration checkInterval,
+                             MeterRegistry meterRegistry) {
+        if (maxLag.compareTo(checkInterval.multipliedBy(2)) <= 0) {
+            throw new IllegalArgumentException("max-replica-lag 는 lag-check-interval 의 2배보다 커야 합니다. max-replica-lag: "
+                    + maxLag + ", lag-check-interval: " + checkInterval);
+        }
+        this.primary = new JdbcTemplate(primary);
+        // 커넥션 풀이 auto-commit=false 이므로 heartbeat 기록은 트랜잭션으로 커밋
+        this.primaryTransaction = new TransactionTemplate(new DataSourceTransactionManager(primary));
+        this.replica = new JdbcTemplate(replica);
+        this.maxLag = maxLag;
+        Gauge.builder("datasource.replica.lag", this, monitor -> monitor.lagMillis)
+                .description("복제본의 heartbeat 복제 지연 (ms)")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        Gauge.builder("datasource.replica.available", this, monitor -> monitor.replicaAvailable ? 1 : 0)
+                .description("읽기 전용 트랜잭션을 복제본으로 보내는지 여부")
+                .register(meterRegistry);
+    }
+
+    public boolean isReplicaAvailable() {
+        return replicaAvailable;
+    }
+
+    public long getLagMillis() {
+        return lagMillis;
+    }
+
+    String getInstanceId() {
+        return instanceId;
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.routing.lag-check-interval:300ms}")
+    public void check() {
+        lock.lock();
+        try {
+            measureLag();
+            beat();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void measureLag() {
+        try {
+            List<Long> seen = replica.queryForList(
+                    "select beat_at from " + HEARTBEAT_TABLE + " where instance_id = ?", Long.class, instanceId);
+            if (seen.isEmpty() || lastBeat == 0) {
+                update(-1, false);
+                return;
+            }
+            long replicated = seen.getFirst();
+            long lag = replicated >= lastBeat ? 0 : System.currentTimeMillis() - replicated;
+            update(lag, lag <= maxLag.toMillis());
+        } catch (DataAccessException e) {
+            log.warn("Replica lag check failed. Reads are routed to the primary.", e);
+            update(-1, false);
+        }
+    }
+
+    private void beat() {
+        long beat = System.currentTimeMillis();
+        try {
+            primaryTransaction.executeWithoutResult(status -> {
+                if (!initialized) {
+                    primary.execute("create table if not exists " + HEARTBEAT_TABLE
+                            + " (instance_id varchar(64) primary key, beat_at bigint not null)");
+                    // 종료된 인스턴스의 행 정리 (다른 인스턴스 시계와의 차이보다 충분히 긴 기준)
+                    primary.update("delete from " + HEARTBEAT_TABLE + " where beat_at < ?", beat - STALE_HEARTBEAT_MILLIS);
+                }
+                if (primary.update("update " + HEARTBEAT_TABLE + " set beat_at = ? where instance_id = ?", beat, instanceId) == 0) {
+                    primary.update("insert into " + HEARTBEAT_TABLE + " (instance_id, beat_at) values (?, ?)", instanceId, beat);
+                }
+            });
+            initialized = true;
+            lastBeat = beat;
+        } catch (DataAccessException e) {
+            log.warn("Replication heartbeat write failed.", e);
+        }
+    }
+
+    private void update(long lagMillis, boolean available) {
+        if (this.replicaAvailable != available) {
+            log.info("Replica {}. lag: {}ms, max: {}ms", available ? "available" : "unavailable", lagMillis, maxLag.toMillis());
+        }
+        this.lagMillis = lagMillis;
+        this.replicaAvailable = available;
+    }
+}
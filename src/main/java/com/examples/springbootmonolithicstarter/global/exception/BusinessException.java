@@ -2,18 +2,29 @@ package com.examples.springbootmonolithicstarter.global.exception;
 
 import lombok.Getter;
 
+import java.util.Map;
+
 @Getter
 public class BusinessException extends RuntimeException {
 
     private final ErrorCode errorCode;
+    private final Map<String, String> fieldErrors;
 
     public BusinessException(ErrorCode errorCode) {
         super(errorCode.getMessage());
         this.errorCode = errorCode;
+        this.fieldErrors = Map.of();
     }
 
     public BusinessException(ErrorCode errorCode, String message) {
         super(message);
         this.errorCode = errorCode;
+        this.fieldErrors = Map.of();
+    }
+
+    public BusinessException(ErrorCode errorCode, String message, Map<String, String> fieldErrors) {
+        super(message);
+        this.errorCode = errorCode;
+        this.fieldErrors = fieldErrors;
     }
 }
@@ -12,11 +12,16 @@ public enum CommonErrorCode implements ErrorCode {
     INVALID_INPUT_VALUE(HttpStatus.BAD_REQUEST, "C001", "잘못된 입력값입니다."),
     RESOURCE_NOT_FOUND(HttpStatus.NOT_FOUND, "C002", "리소스를 찾을 수 없습니다."),
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "C003", "서버 오류가 발생했습니다."),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "C004", "잘못된 페이지 커서입니다."),
+    REQUEST_TIMEOUT(HttpStatus.SERVICE_UNAVAILABLE, "C005", "요청을 제한 시간 내에 처리하지 못했습니다. 잠시 후 다시 시도해 주세요."),
 
     // Product
     PRODUCT_NOT_FOUND(HttpStatus.NOT_FOUND, "P001", "상품을 찾을 수 없습니다."),
     PRODUCT_INVALID_PRICE(HttpStatus.BAD_REQUEST, "P002", "상품 가격이 유효하지 않습니다."),
-    PRODUCT_OUT_OF_STOCK(HttpStatus.BAD_REQUEST, "P003", "상품 재고가 부족합니다.");
+    PRODUCT_OUT_OF_STOCK(HttpStatus.BAD_REQUEST, "P003", "상품 재고가 부족합니다."),
+    PRODUCT_STOCK_SHORTAGE(HttpStatus.BAD_REQUEST, "P004", "재고가 부족한 상품이 있습니다."),
+    PRODUCT_IMPORT_INVALID_FILE(HttpStatus.BAD_REQUEST, "P005", "상품 가져오기 파일 형식이 올바르지 않습니다."),
+    PRODUCT_SHARDING_UNSUPPORTED(HttpStatus.NOT_IMPLEMENTED, "P006", "샤드 저장소를 사용하는 동안에는 지원하지 않는 기능입니다.");
 
     // CommonErrorCode fields
     private final HttpStatus status;
@@ -19,6 +19,7 @@ public class GlobalExceptionHandler {
         log.error("BusinessException: {}", e.getMessage());
         ErrorCode errorCode = e.getErrorCode();
         ErrorResponse response = ErrorResponse.of(e.getErrorCode());
+        e.getFieldErrors().forEach(response::addFieldError);
         return ResponseEntity.status(errorCode.getStatus()).body(response);
     }
 
@@ -0,0 +1,213 @@
+package com.examples.springbootmonolithicstarter.global.jfr;
+
+import com.examples.springbootmonolithicstarter.global.config.FlightRecordingProperties;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.actuate.endpoint.Access;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * 기간이 정해진 JFR recording 을 시작/종료하고 기록 파일을 내려받는 actuator 엔드포인트
+ * <p>
+ * POST /actuator/jfr {"duration": "30s", "name": "..."} 로 시작하고 (기간이 지나면 자동 종료),
+ * GET /actuator/jfr/{id} 로 그때까지의 기록을 .jfr 파일로 받는다. (jfr print, JDK Mission Control 로 확인)
+ * DELETE /actuator/jfr/{id} 는 기록만 멈추며, 멈춘 recording 도 내려받을 수 있다.
+ * <p>
+ * 이 엔드포인트로 시작한 recording 만 다룬다. 기본 설정(profile)에 더해 애플리케이션 이벤트(상품 재고 변경,
+ * 캐시 조회, 대량 작업)를 켠다. 보관 개수를 넘으면 가장 오래된 종료된 recording 부터 지운다.
+ * <p>
+ * 기록 파일에는 스레드/클래스/힙 정보가 담기므로 기본적으로 접근할 수 없다. (management.endpoint.jfr.access 로 켬)
+ * 켤 때는 management.server.port 로 애플리케이션과 다른 내부 포트에서만 노출한다.
+ * 환경 변수, 시스템 속성, JVM 실행 인자에는 DB 비밀번호 등이 들어 있으므로 해당 이벤트는 설정과 관계없이 끈다.
+ */
+@Slf4j
+@Component
+@Endpoint(id = "jfr", defaultAccess = Access.NONE)
+public class FlightRecordingEndpoint implements DisposableBean {
+
+    /**
+     * 비밀 값(환경 변수, -D 시스템 속성, 명령행 인자)을 기록하는 JDK 이벤트
+     */
+    static final List<String> SENSITIVE_EVENTS = List.of(
+            "jdk.InitialEnvironmentVariable",
+            "jdk.InitialSystemProperty",
+            "jdk.JVMInformation"
+    );
+
+    private final FlightRecordingProperties flightRecordingProperties;
+    private final Map<Long, Recording> recordings = new ConcurrentSkipListMap<>();
+
+    public FlightRecordingEndpoint(FlightRecordingProperties flightRecordingProperties) {
+        this.flightRecordingProperties = flightRecordingProperties;
+    }
+
+    @ReadOperation
+    public List<RecordingDescriptor> recordings() {
+        recordings.values().removeIf(recording -> recording.getState() == RecordingState.CLOSED);
+        return recordings.values().stream()
+                .map(RecordingDescriptor::from)
+                .toList();
+    }
+
+    @WriteOperation
+    public synchronized RecordingDescriptor start(@Nullable Duration duration, @Nullable String name) {
+        Duration recordingDuration = duration != null ? duration : flightRecordingProperties.defaultDuration();
+        if (recordingDuration.isNegative() || recordingDuration.isZero()) {
+            throw new InvalidEndpointRequestException("duration must be positive", "기록 시간은 0보다 커야 합니다.");
+        }
+        if (recordingDuration.compareTo(flightRecordingProperties.maxDuration()) > 0) {
+            recordingDuration = flightRecordingProperties.maxDuration();
+        }
+        evictStoppedRecordings();
+
+        Recording recording = new Recording(loadConfiguration());
+        flightRecordingProperties.events().forEach(recording::enable);
+        SENSITIVE_EVENTS.forEach(recording::disable);
+        recording.setName(name != null ? name : "actuator-" + Instant.now());
+        recording.setToDisk(true);
+        recording.setMaxSize(flightRecordingProperties.maxSize().toBytes());
+        recording.setDuration(recordingDuration);
+        recording.start();
+        recordings.put(recording.getId(), recording);
+
+        log.info("Flight recording started. id: {}, name: {}, duration: {}", recording.getId(), recording.getName(), recordingDuration);
+        return RecordingDescriptor.from(recording);
+    }
+
+    @ReadOperation(produces = "application/octet-stream")
+    public WebEndpointResponse<Resource> dump(@Selector long id) throws IOException {
+        Recording recording = recordings.get(id);
+        if (recording == null || recording.getState() == RecordingState.CLOSED) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+        Path file = Files.createTempFile("recording-" + id + "-", ".jfr");
+        try {
+            recording.dump(file);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+        return new WebEndpointResponse<>(new TemporaryFileResource(file));
+    }
+
+    @DeleteOperation
+    public WebEndpointResponse<RecordingDescriptor> stop(@Selector long id) {
+        Recording recording = recordings.get(id);
+        if (recording == null || recording.getState() == RecordingState.CLOSED) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+        if (recording.getState() == RecordingState.RUNNING) {
+            recording.stop();
+            log.info("Flight recording stopped. id: {}", id);
+        }
+        return new WebEndpointResponse<>(RecordingDescriptor.from(recording));
+    }
+
+    @Override
+    public void destroy() {
+        recordings.values().forEach(Recording::close);
+        recordings.clear();
+    }
+
+    private Configuration loadConfiguration() {
+        try {
+            return Configuration.getConfiguration(flightRecordingProperties.settings());
+        } catch (IOException | ParseException e) {
+            throw new IllegalStateException("JFR 설정을 읽을 수 없습니다. settings: " + flightRecordingProperties.settings(), e);
+        }
+    }
+
+    /**
+     * 새 recording 을 위해 자리를 비운다. 모두 기록 중이면 시작하지 않는다.
+     */
+    private void evictStoppedRecordings() {
+        recordings.values().removeIf(recording -> recording.getState() == RecordingState.CLOSED);
+        while (recordings.size() >= flightRecordingProperties.maxRecordings()) {
+            Recording oldest = recordings.values().stream()
+                    .filter(recording -> recording.getState() == RecordingState.STOPPED)
+                    .min(Comparator.comparing(Recording::getStopTime))
+                    .orElseThrow(() -> new InvalidEndpointRequestException(
+                            "too many running recordings", "기록 중인 recording 이 너무 많습니다. 먼저 종료해 주세요."));
+            recordings.remove(oldest.getId());
+            oldest.close();
+        }
+    }
+
+    /**
+     * @param duration 기록 시간 (기록 중이면 설정한 기간, 멈췄으면 실제로 기록한 시간)
+     * @param size     디스크에 기록된 크기 (bytes)
+     */
+    public record RecordingDescriptor(
+            long id,
+            String name,
+            RecordingState state,
+            Instant startTime,
+            Duration duration,
+            long size
+    ) {
+
+        static RecordingDescriptor from(Recording recording) {
+            Duration duration = recording.getState() == RecordingState.STOPPED
+                    ? Duration.between(recording.getStartTime(), recording.getStopTime())
+                    : recording.getDuration();
+            return new RecordingDescriptor(recording.getId(), recording.getName(), recording.getState(),
+                    recording.getStartTime(), duration, recording.getSize());
+        }
+    }
+
+    /**
+     * 응답을 다 보낸 뒤(스트림을 닫을 때) 임시 파일을 지운다.
+     */
+    private static final class TemporaryFileResource extends FileSystemResource {
+
+        TemporaryFileResource(Path file) {
+            super(file);
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            return new FilterInputStream(super.getInputStream()) {
+                @Override
+                public void close() throws IOException {
+                    try {
+                        super.close();
+                    } finally {
+                        Files.deleteIfExists(getFile().toPath());
+                    }
+                }
+            };
+        }
+
+        @Override
+        public boolean isFile() {
+            // 파일 채널로 바로 보내지 않고 getInputStream() 으로 읽도록 하여 전송 후 삭제되게 함
+            return false;
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.examples.springbootmonolithicstarter.global.metrics;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 클래스의 모든 public 메서드 실행 시간을 service.method 타이머(class, method, outcome)로 기록한다.
+ * 같은 클래스 안에서의 호출(self-invocation)은 기록되지 않는다.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Measured {
+}
@@ -0,0 +1,71 @@
+package com.examples.springbootmonolithicstarter.global.metrics;
+
+import io.micrometer.core.instrument.Clock;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link Measured} 클래스의 public 메서드 실행 시간을 기록한다.
+ * <p>
+ * 재시도와 트랜잭션 커밋 시간까지 포함하도록 재시도/트랜잭션 어드바이스보다 바깥에서 실행한다.
+ * 정상 종료 타이머는 메서드별로 한 번만 만들어 두고 호출마다 레지스트리를 조회하지 않는다.
+ * 예외로 끝난 호출은 outcome 태그에 예외 클래스 이름을 기록한다.
+ */
+@Aspect
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 2) // OptimisticLockRetryAspect(LOWEST_PRECEDENCE - 1)보다 바깥에서 실행
+public class MeasuredAspect {
+
+    public static final String METRIC_NAME = "service.method";
+    static final String SUCCESS = "success";
+
+    private final MeterRegistry meterRegistry;
+    private final Clock clock;
+    private final Map<Method, Timer> successTimers = new ConcurrentHashMap<>();
+
+    public MeasuredAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.clock = meterRegistry.config().clock();
+    }
+
+    @Around("execution(public * *(..)) && @within(com.examples.springbootmonolithicstarter.global.metrics.Measured)")
+    public Object measure(ProceedingJoinPoint joinPoint) throws Throwable {
+        long start = clock.monotonicTime();
+        Object result;
+        try {
+            result = joinPoint.proceed();
+        } catch (Throwable e) {
+            timer(joinPoint, e.getClass().getSimpleName()).record(clock.monotonicTime() - start, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        Timer timer = successTimers.get(method);
+        if (timer == null) {
+            timer = successTimers.computeIfAbsent(method, key -> timer(joinPoint, SUCCESS));
+        }
+        timer.record(clock.monotonicTime() - start, TimeUnit.NANOSECONDS);
+        return result;
+    }
+
+    private Timer timer(ProceedingJoinPoint joinPoint, String outcome) {
+        return Timer.builder(METRIC_NAME)
+                .description("서비스 메서드 실행 시간 (재시도, 트랜잭션 커밋 포함)")
+                .tag("class", joinPoint.getSignature().getDeclaringType().getSimpleName())
+                .tag("method", joinPoint.getSignature().getName())
+                .tag("outcome", outcome)
+                .publishPercentiles(0.5, 0.99, 0.999)
+                .register(meterRegistry);
+    }
+}
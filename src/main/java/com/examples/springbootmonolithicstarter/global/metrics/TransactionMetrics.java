@@ -0,0 +1,84 @@
+package com.examples.springbootmonolithicstarter.global.metrics;
+
+import io.micrometer.core.instrument.Clock;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 트랜잭션 매니저의 시작/커밋/롤백을 받아 진행 중인 트랜잭션 수와 커밋 시간을 기록한다.
+ * (TransactionExecutionListener 빈은 Spring Boot 가 JPA 트랜잭션 매니저에 자동으로 등록)
+ * <p>
+ * 바깥 트랜잭션에 참여한 호출은 세지 않는다.
+ * 지표: transaction.active (진행 중인 트랜잭션 수), transaction.commit (커밋 시간, outcome)
+ * 커넥션 풀 대기는 Spring Boot 가 등록하는 hikari.connections.pending, hikari.connections.acquire 로 확인한다.
+ */
+@Component
+public class TransactionMetrics implements TransactionExecutionListener {
+
+    // 커밋 시작 시각 (커밋은 시작한 스레드에서 끝나며, 한 스레드에서 두 커밋이 겹치지 않음)
+    private static final ThreadLocal<long[]> COMMIT_START = ThreadLocal.withInitial(() -> new long[1]);
+
+    private final Clock clock;
+    private final AtomicInteger active = new AtomicInteger();
+    private final Timer committed;
+    private final Timer commitFailed;
+
+    public TransactionMetrics(MeterRegistry meterRegistry) {
+        this.clock = meterRegistry.config().clock();
+        Gauge.builder("transaction.active", active, AtomicInteger::get)
+                .description("진행 중인 트랜잭션 수")
+                .register(meterRegistry);
+        this.committed = commitTimer(meterRegistry, "success");
+        this.commitFailed = commitTimer(meterRegistry, "failure");
+    }
+
+    @Override
+    public void afterBegin(TransactionExecution transaction, Throwable beginFailure) {
+        if (transaction.isNewTransaction() && beginFailure == null) {
+            active.incrementAndGet();
+        }
+    }
+
+    @Override
+    public void beforeCommit(TransactionExecution transaction) {
+        if (transaction.isNewTransaction()) {
+            COMMIT_START.get()[0] = clock.monotonicTime();
+        }
+    }
+
+    @Override
+    public void afterCommit(TransactionExecution transaction, Throwable commitFailure) {
+        if (!transaction.isNewTransaction()) {
+            return;
+        }
+        active.decrementAndGet();
+        (commitFailure == null ? committed : commitFailed)
+                .record(clock.monotonicTime() - COMMIT_START.get()[0], TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void afterRollback(TransactionExecution transaction, Throwable rollbackFailure) {
+        if (transaction.isNewTransaction()) {
+            active.decrementAndGet();
+        }
+    }
+
+    public int getActiveCount() {
+        return active.get();
+    }
+
+    private static Timer commitTimer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder("transaction.commit")
+                .description("트랜잭션 커밋 시간")
+                .tag("outcome", outcome)
+                .publishPercentiles(0.5, 0.99, 0.999)
+                .register(meterRegistry);
+    }
+}
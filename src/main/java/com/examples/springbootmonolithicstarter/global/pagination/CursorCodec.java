@@ -0,0 +1,45 @@
+package com.examples.springbootmonolithicstarter.global.pagination;
+
+import com.examples.springbootmonolithicstarter.global.exception.BusinessException;
+import com.examples.springbootmonolithicstarter.global.exception.CommonErrorCode;
+
+import java.nio.ByteBuffer;
+import java.util.Base64;
+
+/**
+ * 키셋 페이지네이션의 마지막 키(ID)를 클라이언트에 노출하지 않는 불투명한 커서 문자열로 변환한다.
+ */
+public final class CursorCodec {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private CursorCodec() {
+    }
+
+    public static String encode(long lastId) {
+        return ENCODER.encodeToString(ByteBuffer.allocate(Long.BYTES).putLong(lastId).array());
+    }
+
+    /**
+     * @return 커서가 없으면 0 (첫 페이지)
+     */
+    public static long decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0L;
+        }
+        try {
+            byte[] bytes = DECODER.decode(cursor);
+            if (bytes.length != Long.BYTES) {
+                throw new IllegalArgumentException("cursor length: " + bytes.length);
+            }
+            long lastId = ByteBuffer.wrap(bytes).getLong();
+            if (lastId < 0) {
+                throw new IllegalArgumentException("cursor id: " + lastId);
+            }
+            return lastId;
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException(CommonErrorCode.INVALID_CURSOR, "잘못된 페이지 커서입니다: " + cursor);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.examples.springbootmonolithicstarter.global.response;
+
+import com.examples.springbootmonolithicstarter.global.pagination.CursorCodec;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * 키셋(커서) 기반 페이지 응답
+ *
+ * @param nextCursor 다음 페이지 요청 시 전달할 커서 (마지막 페이지면 null)
+ */
+public record CursorPageResponse<T>(
+        List<T> content,
+        int size,
+        boolean hasNext,
+        String nextCursor
+) {
+
+    /**
+     * 페이지 크기보다 한 건 더 조회한 결과로 다음 페이지 존재 여부를 판단한다. (COUNT 쿼리 없음)
+     *
+     * @param rows   size + 1 건까지 조회한 결과
+     * @param keyOf  커서로 사용할 정렬 키
+     * @param mapper 응답 변환 함수
+     */
+    public static <E, T> CursorPageResponse<T> of(List<E> rows, int size,
+                                                  ToLongFunction<E> keyOf, Function<E, T> mapper) {
+        boolean hasNext = rows.size() > size;
+        List<E> page = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? CursorCodec.encode(keyOf.applyAsLong(page.getLast())) : null;
+        return new CursorPageResponse<>(page.stream().map(mapper).toList(), page.size(), hasNext, nextCursor);
+    }
+}
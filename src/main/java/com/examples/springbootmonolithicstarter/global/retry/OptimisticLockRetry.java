@@ -0,0 +1,30 @@
+package com.examples.springbootmonolithicstarter.global.retry;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 낙관적 락 충돌(OptimisticLockingFailureException) 발생 시 메서드 전체를 재시도한다.
+ * 재시도마다 새로운 트랜잭션이 열리도록 @Transactional 보다 바깥에서 동작한다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface OptimisticLockRetry {
+
+    /**
+     * 최초 호출을 포함한 최대 시도 횟수
+     */
+    int maxAttempts() default 5;
+
+    /**
+     * 첫 재시도 전 대기 시간(ms), 이후 시도마다 2배씩 증가
+     */
+    long backoffMillis() default 10;
+
+    /**
+     * 재시도 대기 시간의 상한(ms)
+     */
+    long maxBackoffMillis() default 200;
+}
@@ -0,0 +1,81 @@
+package com.examples.springbootmonolithicstarter.global.retry;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 충돌로 재시도하거나 재시도를 모두 소진한 횟수는 optimistic.lock.retry 지표(method, result)로 확인할 수 있다.
+ */
+@Slf4j
+@Aspect
+@Component
+@RequiredArgsConstructor
+@Order(Ordered.LOWEST_PRECEDENCE - 1) // 트랜잭션 어드바이스(LOWEST_PRECEDENCE)보다 바깥에서 실행
+public class OptimisticLockRetryAspect {
+
+    private final MeterRegistry meterRegistry;
+
+    @Around("@annotation(retry)")
+    public Object retry(ProceedingJoinPoint joinPoint, OptimisticLockRetry retry) throws Throwable {
+        // 이미 바깥 트랜잭션에 참여 중이면 재시도해도 같은 트랜잭션이 롤백되므로 그대로 위임
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return joinPoint.proceed();
+        }
+
+        int attempt = 1;
+        while (true) {
+            try {
+                return joinPoint.proceed();
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= retry.maxAttempts()) {
+                    count(joinPoint, "exhausted");
+                    log.warn("Optimistic lock retry exhausted: {} (attempts: {})",
+                            joinPoint.getSignature().toShortString(), attempt);
+                    throw e;
+                }
+                count(joinPoint, "retried");
+                log.debug("Optimistic lock conflict: {} (attempt: {})",
+                        joinPoint.getSignature().toShortString(), attempt);
+                sleep(backoffMillis(retry, attempt));
+                attempt++;
+            }
+        }
+    }
+
+    private void count(ProceedingJoinPoint joinPoint, String result) {
+        Counter.builder("optimistic.lock.retry")
+                .description("낙관적 락 충돌로 재시도하거나 재시도를 모두 소진한 횟수")
+                .tag("method", joinPoint.getSignature().toShortString())
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private long backoffMillis(OptimisticLockRetry retry, int attempt) {
+        long exponential = retry.backoffMillis() << Math.min(attempt - 1, 20);
+        long capped = Math.min(exponential, retry.maxBackoffMillis());
+        // 동시에 충돌한 요청들이 같은 시점에 다시 부딪히지 않도록 지터 적용
+        return capped / 2 + ThreadLocalRandom.current().nextLong(capped / 2 + 1);
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("재시도 대기 중 인터럽트가 발생했습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.examples.springbootmonolithicstarter.global.timing;
+
+/**
+ * 현재 스레드(요청)의 구간별 소요 시간 누적
+ * <p>
+ * {@link RequestTimingFilter} 가 요청마다 시작하며, 시작되지 않은 스레드에서의 기록은 무시된다. (시각도 읽지 않음)
+ * 다른 스레드(샤드 병렬 조회, 재고 배치 처리 스레드 등)에서 실행된 구간은 포함되지 않는다.
+ * <pre>
+ * long start = RequestTiming.start();
+ * ...
+ * RequestTiming.stop(RequestTiming.Phase.DB, start);
+ * </pre>
+ */
+public final class RequestTiming {
+
+    public enum Phase {
+        /**
+         * JDBC 문장 실행 (MySQL 은 cursor fetch 가 아니면 실행 중에 결과 행을 모두 받음)
+         */
+        DB("db"),
+        /**
+         * JDBC 커밋
+         */
+        COMMIT("commit"),
+        /**
+         * 요청 시작부터 응답 본문을 쓰기 전까지 중 DB 실행과 커밋을 뺀 시간 (응답 DTO 변환 등 애플리케이션 처리)
+         * 구간을 직접 기록하지 않고 {@link ServerTimingAdvice} 에서 한 번 계산한다.
+         */
+        MAPPING("map"),
+        /**
+         * 응답 본문 직렬화와 전송 (응답 헤더를 보낸 뒤에 끝나므로 Server-Timing 헤더에는 포함되지 않음)
+         */
+        SERIALIZATION("ser");
+
+        private final String metricName;
+
+        Phase(String metricName) {
+            this.metricName = metricName;
+        }
+
+        public String getMetricName() {
+            return metricName;
+        }
+    }
+
+    private static final ThreadLocal<RequestTiming> CURRENT = new ThreadLocal<>();
+    private static final Phase[] PHASES = Phase.values();
+    private static final long INACTIVE = Long.MIN_VALUE;
+
+    private final long startNanos;
+    private final long[] nanos = new long[PHASES.length];
+    private final int[] counts = new int[PHASES.length];
+    private long bodyWriteStartNanos = INACTIVE;
+
+    private RequestTiming(long startNanos) {
+        this.startNanos = startNanos;
+    }
+
+    static RequestTiming begin() {
+        RequestTiming timing = new RequestTiming(System.nanoTime());
+        CURRENT.set(timing);
+        return timing;
+    }
+
+    static void clear() {
+        CURRENT.remove();
+    }
+
+    static RequestTiming current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * @return 구간 시작 시각 (요청 밖이면 측정하지 않는다는 표시값)
+     */
+    public static long start() {
+        return CURRENT.get() == null ? INACTIVE : System.nanoTime();
+    }
+
+    public static void stop(Phase phase, long start) {
+        if (start == INACTIVE) {
+            return;
+        }
+        RequestTiming timing = CURRENT.get();
+        if (timing != null) {
+            timing.add(phase, System.nanoTime() - start);
+        }
+    }
+
+    void add(Phase phase, long elapsedNanos) {
+        nanos[phase.ordinal()] += elapsedNanos;
+        counts[phase.ordinal()]++;
+    }
+
+    /**
+     * 응답 본문 쓰기 시작 시각을 기록한다. 요청이 끝날 때까지를 직렬화 구간으로 보고,
+     * 그 전까지 DB 실행과 커밋을 뺀 시간을 변환 구간으로 확정한다.
+     */
+    void markBodyWrite() {
+        bodyWriteStartNanos = System.nanoTime();
+        long elapsed = bodyWriteStartNanos - startNanos - nanos[Phase.DB.ordinal()] - nanos[Phase.COMMIT.ordinal()];
+        nanos[Phase.MAPPING.ordinal()] = Math.max(elapsed, 0);
+        counts[Phase.MAPPING.ordinal()] = 1;
+    }
+
+    /**
+     * 요청을 마치고 직렬화 구간을 확정한다.
+     *
+     * @return 요청 전체 소요 시간 (ns)
+     */
+    long finish() {
+        long now = System.nanoTime();
+        if (bodyWriteStartNanos != INACTIVE) {
+            add(Phase.SERIALIZATION, now - bodyWriteStartNanos);
+        }
+        return now - startNanos;
+    }
+
+    public long nanos(Phase phase) {
+        return nanos[phase.ordinal()];
+    }
+
+    public int count(Phase phase) {
+        return counts[phase.ordinal()];
+    }
+
+    /**
+     * 응답 헤더를 보내기 전까지의 구간 (ser 제외, app 은 요청 시작부터 지금까지)
+     * 예: db;dur=1.204;desc="2", commit;dur=0.310, map;dur=0.052, app;dur=2.871
+     */
+    String toServerTiming() {
+        StringBuilder header = new StringBuilder(96);
+        for (Phase phase : PHASES) {
+            if (phase == Phase.SERIALIZATION || counts[phase.ordinal()] == 0) {
+                continue;
+            }
+            appendMetric(header, phase.getMetricName(), nanos[phase.ordinal()]);
+            if (phase == Phase.DB) {
+                header.append(";desc=\"").append(counts[phase.ordinal()]).append('"');
+            }
+            header.append(", ");
+        }
+        appendMetric(header, "app", System.nanoTime() - startNanos);
+        return header.toString();
+    }
+
+    private static void appendMetric(StringBuilder header, String name, long elapsedNanos) {
+        long micros = elapsedNanos / 1_000;
+        header.append(name).append(";dur=").append(micros / 1_000).append('.');
+        long fraction = micros % 1_000;
+        if (fraction < 100) {
+            header.append('0');
+        }
+        if (fraction < 10) {
+            header.append('0');
+        }
+        header.append(fraction);
+    }
+}
@@ -0,0 +1,52 @@
+package com.examples.springbootmonolithicstarter.global.timing;
+
+import com.examples.springbootmonolithicstarter.global.timing.RequestTiming.Phase;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * 요청마다 {@link RequestTiming} 을 시작하고, 요청 전체 시간이 slowThreshold 이상이면 구간별 시간을 한 줄로 기록한다.
+ * (key=value 형식, 시간 단위 ms)
+ * <p>
+ * 비동기 요청(StreamingResponseBody 등)은 핸들러가 반환될 때까지만 측정한다.
+ */
+@Slf4j
+public class RequestTimingFilter extends OncePerRequestFilter {
+
+    private final long slowThresholdNanos;
+
+    public RequestTimingFilter(Duration slowThreshold) {
+        this.slowThresholdNanos = slowThreshold.toNanos();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        RequestTiming timing = RequestTiming.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestTiming.clear();
+            long totalNanos = timing.finish();
+            if (totalNanos >= slowThresholdNanos) {
+                log.warn("slow request method={} uri={} status={} total={} db={} dbStatements={} commit={} map={} ser={}",
+                        request.getMethod(), request.getRequestURI(), response.getStatus(), millis(totalNanos),
+                        millis(timing.nanos(Phase.DB)), timing.count(Phase.DB), millis(timing.nanos(Phase.COMMIT)),
+                        millis(timing.nanos(Phase.MAPPING)), millis(timing.nanos(Phase.SERIALIZATION)));
+            }
+        }
+    }
+
+    private static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.3f", nanos / 1_000_000.0);
+    }
+}
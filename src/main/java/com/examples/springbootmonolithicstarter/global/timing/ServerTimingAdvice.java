@@ -0,0 +1,51 @@
+package com.examples.springbootmonolithicstarter.global.timing;
+
+import com.examples.springbootmonolithicstarter.global.config.RequestTimingProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * 응답 본문을 쓰기 직전에 그때까지의 구간 시간을 Server-Timing 헤더로 추가하고, 직렬화 구간의 시작을 기록한다.
+ * 변환 구간(map)은 서비스/DTO 코드에서 재지 않고 여기서 그때까지의 시간에서 DB 실행과 커밋을 빼서 구한다.
+ * 헤더는 본문보다 먼저 전송되므로 직렬화 구간(ser)은 헤더에 포함되지 않고 느린 요청 로그에만 남는다.
+ */
+@ControllerAdvice
+@ConditionalOnProperty(prefix = "request-timing", name = "enabled", havingValue = "true")
+public class ServerTimingAdvice implements ResponseBodyAdvice<Object> {
+
+    public static final String HEADER_NAME = "Server-Timing";
+
+    private final boolean headerEnabled;
+
+    public ServerTimingAdvice(RequestTimingProperties requestTimingProperties) {
+        this.headerEnabled = requestTimingProperties.serverTimingHeader();
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body,
+                                  MethodParameter returnType,
+                                  MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request,
+                                  ServerHttpResponse response) {
+        RequestTiming timing = RequestTiming.current();
+        if (timing != null) {
+            timing.markBodyWrite();
+            if (headerEnabled) {
+                response.getHeaders().add(HEADER_NAME, timing.toServerTiming());
+            }
+        }
+        return body;
+    }
+}
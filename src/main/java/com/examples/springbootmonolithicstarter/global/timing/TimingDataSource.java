@@ -0,0 +1,118 @@
+package com.examples.springbootmonolithicstarter.global.timing;
+
+import com.examples.springbootmonolithicstarter.global.timing.RequestTiming.Phase;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * 커넥션과 문장을 감싸 JDBC 문장 실행(execute*)과 커밋 시간을 {@link RequestTiming} 에 기록한다.
+ * <p>
+ * 결과 행 읽기(ResultSet)는 감싸지 않는다. (행/컬럼마다 호출되어 요청당 비용이 커짐)
+ * {@link DelegatingDataSource} 이므로 Spring Boot 의 커넥션 풀 지표/상태 확인은 내부 DataSource 를 그대로 찾는다.
+ */
+public class TimingDataSource extends DelegatingDataSource {
+
+    public TimingDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return proxy(Connection.class, new ConnectionHandler(obtainTargetDataSource().getConnection()));
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return proxy(Connection.class, new ConnectionHandler(obtainTargetDataSource().getConnection(username, password)));
+    }
+
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(TimingDataSource.class.getClassLoader(), new Class<?>[]{type}, handler));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    private abstract static class DelegatingHandler implements InvocationHandler {
+
+        final Object target;
+
+        DelegatingHandler(Object target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            return switch (method.getName()) {
+                case "equals" -> proxy == args[0];
+                case "hashCode" -> System.identityHashCode(proxy);
+                case "toString" -> "Timing[" + target + "]";
+                default -> handle(proxy, method, args);
+            };
+        }
+
+        abstract Object handle(Object proxy, Method method, Object[] args) throws Throwable;
+    }
+
+    private static final class ConnectionHandler extends DelegatingHandler {
+
+        ConnectionHandler(Connection target) {
+            super(target);
+        }
+
+        @Override
+        Object handle(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.equals("commit")) {
+                long start = RequestTiming.start();
+                try {
+                    return TimingDataSource.invoke(target, method, args);
+                } finally {
+                    RequestTiming.stop(Phase.COMMIT, start);
+                }
+            }
+            Object result = TimingDataSource.invoke(target, method, args);
+            return switch (name) {
+                case "prepareStatement" -> proxy(PreparedStatement.class, new StatementHandler(result));
+                case "prepareCall" -> proxy(CallableStatement.class, new StatementHandler(result));
+                case "createStatement" -> proxy(Statement.class, new StatementHandler(result));
+                default -> result;
+            };
+        }
+    }
+
+    private static final class StatementHandler extends DelegatingHandler {
+
+        StatementHandler(Object target) {
+            super(target);
+        }
+
+        @Override
+        Object handle(Object proxy, Method method, Object[] args) throws Throwable {
+            if (!method.getName().startsWith("execute")) {
+                return TimingDataSource.invoke(target, method, args);
+            }
+            long start = RequestTiming.start();
+            try {
+                return TimingDataSource.invoke(target, method, args);
+            } finally {
+                RequestTiming.stop(Phase.DB, start);
+            }
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package com.examples.springbootmonolithicstarter.domains.product.cache;
+
+import com.examples.springbootmonolithicstarter.domains.product.config.ProductCacheProperties;
+import com.examples.springbootmonolithicstarter.domains.product.dto.response.ProductResponse;
+import com.examples.springbootmonolithicstarter.domains.product.exception.ProductNotFoundException;
+import com.examples.springbootmonolithicstarter.domains.product.model.ProductStatus;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jdk.jfr.consumer.RecordingStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ProductCache")
+class ProductCacheTest {
+
+    private MeterRegistry meterRegistry;
+    private AtomicInteger loads;
+    private Function<Long, ProductResponse> loader;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        loads = new AtomicInteger();
+        loader = id -> {
+            loads.incrementAndGet();
+            return createResponse(id);
+        };
+    }
+
+    @Nested
+    @DisplayName("조회")
+    class Get {
+
+        @Test
+        @DisplayName("처음 조회할 때만 loader 로 적재하고, 이후에는 캐시에서 반환한다")
+        void readThrough() {
+            ProductCache productCache = createCache(true, 100);
+
+            ProductResponse first = productCache.get(1L, loader);
+            ProductResponse second = productCache.get(1L, loader);
+
+            assertThat(second).isSameAs(first);
+            assertThat(loads).hasValue(1);
+        }
+
+        @Test
+        @DisplayName("무효화한 상품은 다시 loader 로 적재한다")
+        void invalidate() {
+            ProductCache productCache = createCache(true, 100);
+            productCache.get(1L, loader);
+
+            productCache.invalidate(1L);
+            productCache.get(1L, loader);
+
+            assertThat(loads).hasValue(2);
+        }
+
+        @Test
+        @DisplayName("loader 에서 발생한 예외는 그대로 전달되고 적재되지 않는다")
+        void loaderFailure() {
+            ProductCache productCache = createCache(true, 100);
+
+            assertThatThrownBy(() -> productCache.get(999L, id -> {
+                throw new ProductNotFoundException(id);
+            })).isInstanceOf(ProductNotFoundException.class);
+
+            assertThat(productCache.size()).isZero();
+        }
+
+        @Test
+        @DisplayName("적재 중에 무효화되면 조회 결과를 캐시에 넣지 않는다")
+        void invalidatedWhileLoading() {
+            ProductCache productCache = createCache(true, 100);
+
+            productCache.get(1L, id -> {
+                productCache.invalidate(id);
+                return loader.apply(id);
+            });
+            productCache.get(2L, id -> {
+                productCache.invalidateRange(1L, 10L);
+                return loader.apply(id);
+            });
+            productCache.get(1L, loader);
+            productCache.get(2L, loader);
+
+            assertThat(loads).hasValue(4);
+        }
+
+        @Test
+        @DisplayName("가상 스레드에서 loader 를 기다려도 캐리어 스레드를 고정하지 않는다")
+        void doesNotPinVirtualThreads() throws Exception {
+            ProductCache productCache = createCache(true, 100);
+            List<String> pinned = new CopyOnWriteArrayList<>();
+
+            try (RecordingStream recording = new RecordingStream()) {
+                recording.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ZERO);
+                recording.onEvent("jdk.VirtualThreadPinned", event -> pinned.add(String.valueOf(event.getStackTrace())));
+                recording.startAsync();
+
+                try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                    for (long id = 1; id <= 20; id++) {
+                        long productId = id;
+                        executor.submit(() -> productCache.get(productId, key -> {
+                            // DB 응답 대기
+                            LockSupport.parkNanos(Duration.ofMillis(20).toNanos());
+                            return loader.apply(key);
+                        }));
+                    }
+                }
+                recording.stop();
+            }
+
+            assertThat(loads).hasValue(20);
+            assertThat(pinned).isEmpty();
+        }
+
+        @Test
+        @DisplayName("비활성화하면 항상 loader 로 조회한다")
+        void disabled() {
+            ProductCache productCache = createCache(false, 100);
+
+            productCache.get(1L, loader);
+            productCache.get(1L, loader);
+
+            assertThat(loads).hasValue(2);
+        }
+
+        @Test
+        @DisplayName("getAllPresent 는 캐시된 상품만 반환하고 적재하지 않는다")
+        void getAllPresent() {
+            ProductCache productCache = createCache(true, 100);
+            productCache.get(1L, loader);
+
+            assertThat(productCache.getAllPresent(List.of(1L, 2L))).containsOnlyKeys(1L);
+            assertThat(productCache.size()).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("지표")
+    class Metrics {
+
+        @Test
+        @DisplayName("적중/미스 수를 cache.gets 지표로 기록한다")
+        void hitAndMiss() {
+            ProductCache productCache = createCache(true, 100);
+
+            productCache.get(1L, loader);
+            productCache.get(1L, loader);
+            productCache.get(1L, loader);
+
+            assertThat(functionCount("cache.gets", "hit")).isEqualTo(2);
+            assertThat(functionCount("cache.gets", "miss")).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("최대 크기를 넘으면 제거하고 cache.evictions 지표로 기록한다")
+        void eviction() {
+            ProductCache productCache = createCache(true, 10);
+
+            for (long id = 1; id <= 100; id++) {
+                productCache.get(id, loader);
+            }
+            productCache.cleanUp();
+
+            assertThat(productCache.size()).isLessThanOrEqualTo(10);
+            assertThat(meterRegistry.get("cache.evictions").tag("cache", ProductCache.NAME).functionCounter().count())
+                    .isGreaterThanOrEqualTo(90);
+        }
+
+        private double functionCount(String name, String result) {
+            return meterRegistry.get(name)
+                    .tag("cache", ProductCache.NAME)
+                    .tag("result", result)
+                    .functionCounter()
+                    .count();
+        }
+    }
+
+    private ProductCache createCache(boolean enabled, long maximumSize) {
+        return new ProductCache(new ProductCacheProperties(enabled, maximumSize, Duration.ofMinutes(10), Duration.ofSeconds(3)), meterRegistry);
+    }
+
+    private static ProductResponse createResponse(Long id) {
+        LocalDateTime now = LocalDateTime.now();
+        return new ProductResponse(id, "상품 " + id, "설명", BigDecimal.valueOf(10000), 100,
+                ProductStatus.AVAILABLE, true, now, now);
+    }
+}
@@ -1,33 +1,65 @@
 package com.examples.springbootmonolithicstarter.domains.product.controller;
 
+import com.examples.springbootmonolithicstarter.domains.product.dto.request.BulkChangeStatusRequest;
+import com.examples.springbootmonolithicstarter.domains.product.dto.request.BulkCreateProductRequest;
+import com.examples.springbootmonolithicstarter.domains.product.dto.request.BulkRepriceRequest;
 import com.examples.springbootmonolithicstarter.domains.product.dto.request.CreateProductRequest;
+import com.examples.springbootmonolithicstarter.domains.product.dto.request.QuoteRequest;
+import com.examples.springbootmonolithicstarter.domains.product.dto.request.ReserveStockRequest;
 import com.examples.springbootmonolithicstarter.domains.product.dto.request.UpdateProductRequest;
+import com.examples.springbootmonolithicstarter.domains.product.dto.response.BulkCreateProductResponse;
+import com.examples.springbootmonolithicstarter.domains.product.dto.response.BulkUpdateProductResponse;
+import com.examples.springbootmonolithicstarter.domains.product.dto.response.ProductImportResponse;
 import com.examples.springbootmonolithicstarter.domains.product.dto.response.ProductResponse;
+import com.examples.springbootmonolithicstarter.domains.product.dto.response.ProductSuggestionResponse;
+import com.examples.springbootmonolithicstarter.domains.product.dto.response.QuoteResponse;
+import com.examples.springbootmonolithicstarter.domains.product.exception.InvalidProductImportFileException;
 import com.examples.springbootmonolithicstarter.domains.product.exception.ProductNotFoundException;
+import com.examples.springbootmonolithicstarter.domains.product.exception.ProductStockShortageException;
+import com.examples.springbootmonolithicstarter.domains.product.exception.ProductStockShortageException.Shortage;
 import com.examples.springbootmonolithicstarter.domains.product.model.ProductStatus;
+import com.examples.springbootmonolithicstarter.domains.product.export.ProductExportFormat;
+import com.examples.springbootmonolithicstarter.domains.product.importer.ProductImportError;
 import com.examples.springbootmonolithicstarter.domains.product.service.application.ProductApplicationService;
+import com.examples.springbootmonolithicstarter.domains.product.service.application.ProductBulkService;
+import com.examples.springbootmonolithicstarter.domains.product.service.application.ProductBulkUpdateService;
+import com.examples.springbootmonolithicstarter.domains.product.service.application.ProductExportService;
+import com.examples.springbootmonolithicstarter.domains.product.service.application.ProductImportService;
+import com.examples.springbootmonolithicstarter.global.exception.BusinessException;
+import com.examples.springbootmonolithicstarter.global.exception.CommonErrorCode;
+import com.examples.springbootmonolithicstarter.global.response.CursorPageResponse;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.io.OutputStream;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.List;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
 import static org.mockito.BDDMockito.willDoNothing;
 import static org.mockito.BDDMockito.willThrow;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @DisplayName("ProductController 통합 테스트")
@@ -43,6 +75,116 @@ class ProductControllerTest {
     @MockitoBean
     private ProductApplicationService productApplicationService;
 
+    @MockitoBean
+    private ProductExportService productExportService;
+
+    @MockitoBean
+    private ProductBulkService productBulkService;
+
+    @MockitoBean
+    private ProductBulkUpdateService productBulkUpdateService;
+
+    @MockitoBean
+    private ProductImportService productImportService;
+
+    @Nested
+    @DisplayName("POST /api/products/bulk")
+    class CreateProducts {
+
+        @Test
+        @DisplayName("여러 상품을 한 번에 등록할 수 있다")
+        void createProducts() throws Exception {
+            // given
+            BulkCreateProductRequest request = new BulkCreateProductRequest(List.of(
+                    new CreateProductRequest("상품1", "설명", BigDecimal.valueOf(10000), 10),
+                    new CreateProductRequest("상품2", "설명", BigDecimal.valueOf(20000), 20)
+            ));
+            given(productBulkService.createProducts(request.products()))
+                    .willReturn(BulkCreateProductResponse.of(List.of(101L, 102L)));
+
+            // when & then
+            mockMvc.perform(post("/api/products/bulk")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andDo(print())
+                    .andExpect(status().isCreated())
+                    .andExpect(jsonPath("$.data.createdCount").value(2))
+                    .andExpect(jsonPath("$.data.ids[0]").value(101))
+                    .andExpect(jsonPath("$.data.ids[1]").value(102));
+        }
+
+        @Test
+        @DisplayName("유효하지 않은 상품이 포함되면 아무것도 등록하지 않고 400 에러가 발생한다")
+        void createProductsWithInvalidProduct() throws Exception {
+            // given
+            BulkCreateProductRequest request = new BulkCreateProductRequest(List.of(
+                    new CreateProductRequest("상품1", "설명", BigDecimal.valueOf(10000), 10),
+                    new CreateProductRequest("", "설명", BigDecimal.valueOf(-1), 10)
+            ));
+
+            // when & then
+            mockMvc.perform(post("/api/products/bulk")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andDo(print())
+                    .andExpect(status().isBadRequest());
+            then(productBulkService).shouldHaveNoInteractions();
+        }
+    }
+
+    @Nested
+    @DisplayName("POST /api/products/bulk/reprice, /bulk/status")
+    class BulkUpdate {
+
+        @Test
+        @DisplayName("조건에 맞는 상품의 가격을 일괄 변경하고 변경된 상품 수를 반환한다")
+        void repriceProducts() throws Exception {
+            // given
+            BulkRepriceRequest request = new BulkRepriceRequest(BigDecimal.valueOf(7), ProductStatus.AVAILABLE, null, null, null);
+            given(productBulkUpdateService.reprice(request)).willReturn(new BulkUpdateProductResponse(1500, 2));
+
+            // when & then
+            mockMvc.perform(post("/api/products/bulk/reprice")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andDo(print())
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.updatedCount").value(1500))
+                    .andExpect(jsonPath("$.data.statementCount").value(2));
+        }
+
+        @Test
+        @DisplayName("가격 변경률이 -100% 미만이면 400 에러가 발생한다")
+        void repriceProductsWithInvalidPercent() throws Exception {
+            // given
+            BulkRepriceRequest request = new BulkRepriceRequest(BigDecimal.valueOf(-101), null, null, null, null);
+
+            // when & then
+            mockMvc.perform(post("/api/products/bulk/reprice")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andDo(print())
+                    .andExpect(status().isBadRequest());
+            then(productBulkUpdateService).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("여러 상품의 판매 상태를 일괄 변경하고 변경된 상품 수를 반환한다")
+        void changeProductStatuses() throws Exception {
+            // given
+            BulkChangeStatusRequest request = new BulkChangeStatusRequest(List.of(1L, 2L, 3L), ProductStatus.DISCONTINUED);
+            given(productBulkUpdateService.changeStatus(request)).willReturn(new BulkUpdateProductResponse(2, 1));
+
+            // when & then
+            mockMvc.perform(post("/api/products/bulk/status")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andDo(print())
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.updatedCount").value(2));
+        }
+    }
+
     @Nested
     @DisplayName("POST /api/products")
     class CreateProduct {
@@ -153,22 +295,115 @@ class ProductControllerTest {
     class GetAllProducts {
 
         @Test
-        @DisplayName("모든 상품을 조회할 수 있다")
+        @DisplayName("커서 기반으로 상품 목록을 조회할 수 있다")
         void getAllProducts() throws Exception {
             // given
             List<ProductResponse> responses = List.of(
                     createProductResponse(1L, "상품1", BigDecimal.valueOf(10000), 100),
                     createProductResponse(2L, "상품2", BigDecimal.valueOf(20000), 200)
             );
-            given(productApplicationService.getAllProducts()).willReturn(responses);
+            given(productApplicationService.getAllProducts(null, 2))
+                    .willReturn(new CursorPageResponse<>(responses, 2, true, "next-cursor"));
 
             // when & then
-            mockMvc.perform(get("/api/products"))
+            mockMvc.perform(get("/api/products")
+                            .param("size", "2"))
                     .andDo(print())
                     .andExpect(status().isOk())
                     .andExpect(jsonPath("$.success").value(true))
-                    .andExpect(jsonPath("$.data").isArray())
-                    .andExpect(jsonPath("$.data.length()").value(2));
+                    .andExpect(jsonPath("$.data.content.length()").value(2))
+                    .andExpect(jsonPath("$.data.hasNext").value(true))
+                    .andExpect(jsonPath("$.data.nextCursor").value("next-cursor"));
+        }
+
+        @Test
+        @DisplayName("잘못된 커서로 조회하면 400 에러가 발생한다")
+        void getAllProductsWithInvalidCursor() throws Exception {
+            // given
+            given(productApplicationService.getAllProducts("invalid", 20))
+                    .willThrow(new BusinessException(CommonErrorCode.INVALID_CURSOR));
+
+            // when & then
+            mockMvc.perform(get("/api/products")
+                            .param("cursor", "invalid"))
+                    .andDo(print())
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.code").value("C004"));
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /api/products/export")
+    class ExportProducts {
+
+        @Test
+        @DisplayName("요청한 형식으로 상품 목록을 스트리밍한다")
+        void exportProductsAsCsv() throws Exception {
+            // given
+            given(productExportService.export(eq(ProductExportFormat.CSV), any())).willAnswer(invocation -> {
+                OutputStream outputStream = invocation.getArgument(1);
+                outputStream.write("id,name\n1,상품1\n".getBytes(StandardCharsets.UTF_8));
+                return 1L;
+            });
+
+            // when
+            MvcResult result = mockMvc.perform(get("/api/products/export")
+                            .param("format", "CSV"))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+
+            // then
+            assertThat(result.getRequest().getAsyncContext().getTimeout())
+                    .isEqualTo(ProductController.EXPORT_TIMEOUT.toMillis());
+            mockMvc.perform(asyncDispatch(result))
+                    .andDo(print())
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentTypeCompatibleWith("text/csv"))
+                    .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"products.csv\""))
+                    .andExpect(content().string("id,name\n1,상품1\n"));
+        }
+    }
+
+    @Nested
+    @DisplayName("POST /api/products/import")
+    class ImportProducts {
+
+        @Test
+        @DisplayName("업로드한 CSV 파일을 가져오고 행 단위 오류를 함께 반환한다")
+        void importProducts() throws Exception {
+            // given
+            MockMultipartFile file = new MockMultipartFile("file", "products.csv", "text/csv",
+                    "name,description,price,stockQuantity\n상품1,설명,1000,10\n,설명,-1,10\n".getBytes(StandardCharsets.UTF_8));
+            ProductImportResponse response = new ProductImportResponse("import-1", "products.csv", true,
+                    2, 1, 0, 1, List.of(new ProductImportError(3, "상품명은 필수입니다.")), false,
+                    LocalDateTime.now(), 5);
+            given(productImportService.importCsv(eq("products.csv"), any())).willReturn(response);
+
+            // when & then
+            mockMvc.perform(multipart("/api/products/import").file(file))
+                    .andDo(print())
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.readRows").value(2))
+                    .andExpect(jsonPath("$.data.createdRows").value(1))
+                    .andExpect(jsonPath("$.data.failedRows").value(1))
+                    .andExpect(jsonPath("$.data.errors[0].lineNumber").value(3))
+                    .andExpect(jsonPath("$.data.errors[0].message").value("상품명은 필수입니다."));
+        }
+
+        @Test
+        @DisplayName("CSV 헤더에 필수 컬럼이 없으면 400 에러가 발생한다")
+        void importProductsWithInvalidHeader() throws Exception {
+            // given
+            MockMultipartFile file = new MockMultipartFile("file", "products.csv", "text/csv",
+                    "name,description\n상품1,설명\n".getBytes(StandardCharsets.UTF_8));
+            given(productImportService.importCsv(eq("products.csv"), any()))
+                    .willThrow(new InvalidProductImportFileException("CSV 헤더에 필수 컬럼(name, price, stockQuantity)이 없습니다."));
+
+            // when & then
+            mockMvc.perform(multipart("/api/products/import").file(file))
+                    .andDo(print())
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.code").value("P005"));
         }
     }
 
@@ -184,7 +419,7 @@ class ProductControllerTest {
             List<ProductResponse> responses = List.of(
                     createProductResponse(1L, "노트북 프로", BigDecimal.valueOf(1000000), 10)
             );
-            given(productApplicationService.searchProducts(searchName)).willReturn(responses);
+            given(productApplicationService.searchProducts(searchName, 20)).willReturn(responses);
 
             // when & then
             mockMvc.perform(get("/api/products/search")
@@ -195,6 +430,30 @@ class ProductControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("GET /api/products/suggest")
+    class SuggestProducts {
+
+        @Test
+        @DisplayName("접두사로 상품명을 자동완성할 수 있다")
+        void suggestProducts() throws Exception {
+            // given
+            given(productApplicationService.suggestProducts("노트", 10)).willReturn(List.of(
+                    new ProductSuggestionResponse(1L, "노트북", true),
+                    new ProductSuggestionResponse(2L, "노트북 파우치", false)
+            ));
+
+            // when & then
+            mockMvc.perform(get("/api/products/suggest")
+                            .param("prefix", "노트"))
+                    .andDo(print())
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.length()").value(2))
+                    .andExpect(jsonPath("$.data[0].name").value("노트북"))
+                    .andExpect(jsonPath("$.data[1].available").value(false));
+        }
+    }
+
     @Nested
     @DisplayName("PUT /api/products/{productId}")
     class UpdateProduct {
@@ -258,6 +517,110 @@ class ProductControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("POST /api/products/quote")
+    class Quote {
+
+        @Test
+        @DisplayName("줄별 금액과 합계를 반환한다")
+        void quote() throws Exception {
+            // given
+            QuoteRequest request = new QuoteRequest(List.of(new QuoteRequest.Line(1L, 3)));
+            QuoteResponse response = new QuoteResponse(List.of(new QuoteResponse.Line(
+                    1L, "테스트 상품", BigDecimal.valueOf(10000), 3, BigDecimal.valueOf(30000), true)),
+                    BigDecimal.valueOf(30000));
+            given(productApplicationService.quote(any())).willReturn(response);
+
+            // when & then
+            mockMvc.perform(post("/api/products/quote")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andDo(print())
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.lines[0].lineTotal").value(30000))
+                    .andExpect(jsonPath("$.data.totalPrice").value(30000));
+        }
+
+        @Test
+        @DisplayName("견적할 상품이 없으면 400 에러가 발생한다")
+        void quoteWithoutLines() throws Exception {
+            // given
+            QuoteRequest request = new QuoteRequest(List.of());
+
+            // when & then
+            mockMvc.perform(post("/api/products/quote")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andDo(print())
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
+    @Nested
+    @DisplayName("POST /api/products/stock/reserve")
+    class ReserveStocks {
+
+        @Test
+        @DisplayName("여러 상품의 재고를 한 번에 예약할 수 있다")
+        void reserveStocks() throws Exception {
+            // given
+            ReserveStockRequest request = new ReserveStockRequest(List.of(
+                    new ReserveStockRequest.Line(1L, 3),
+                    new ReserveStockRequest.Line(2L, 5)
+            ));
+            willDoNothing().given(productApplicationService).reserveStocks(any());
+
+            // when & then
+            mockMvc.perform(post("/api/products/stock/reserve")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andDo(print())
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.success").value(true));
+        }
+
+        @Test
+        @DisplayName("재고가 부족한 상품이 있으면 상품별 부족 내역과 함께 400 에러가 발생한다")
+        void reserveStocksWithShortage() throws Exception {
+            // given
+            ReserveStockRequest request = new ReserveStockRequest(List.of(
+                    new ReserveStockRequest.Line(1L, 3),
+                    new ReserveStockRequest.Line(2L, 5)
+            ));
+            willThrow(new ProductStockShortageException(List.of(
+                    new Shortage(1L, true, 3, 1),
+                    new Shortage(2L, false, 5, 0)
+            ))).given(productApplicationService).reserveStocks(any());
+
+            // when & then
+            mockMvc.perform(post("/api/products/stock/reserve")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andDo(print())
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.code").value("P004"))
+                    .andExpect(jsonPath("$.errors[0].field").value("1"))
+                    .andExpect(jsonPath("$.errors[0].message").value("요청: 3, 가용: 1"))
+                    .andExpect(jsonPath("$.errors[1].field").value("2"));
+        }
+
+        @Test
+        @DisplayName("수량이 1 미만이면 400 에러가 발생한다")
+        void reserveStocksWithInvalidQuantity() throws Exception {
+            // given
+            ReserveStockRequest request = new ReserveStockRequest(List.of(
+                    new ReserveStockRequest.Line(1L, 0)
+            ));
+
+            // when & then
+            mockMvc.perform(post("/api/products/stock/reserve")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andDo(print())
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
     @Nested
     @DisplayName("POST /api/products/{productId}/discontinue")
     class DiscontinueProduct {
@@ -0,0 +1,223 @@
+package com.examples.springbootmonolithicstarter.domains.product.controller;
+
+import com.examples.springbootmonolithicstarter.domains.product.cache.ProductCache;
+import com.examples.springbootmonolithicstarter.domains.product.dto.request.CreateProductRequest;
+import com.examples.springbootmonolithicstarter.domains.product.dto.request.QuoteRequest;
+import com.examples.springbootmonolithicstarter.domains.product.dto.request.ReserveStockRequest;
+import com.examples.springbootmonolithicstarter.domains.product.dto.request.UpdateProductRequest;
+import com.examples.springbootmonolithicstarter.domains.product.repository.ProductRepository;
+import com.examples.springbootmonolithicstarter.domains.product.service.application.ProductApplicationService;
+import com.examples.springbootmonolithicstarter.support.sql.QueryBudget;
+import com.examples.springbootmonolithicstarter.support.sql.RecordedStatements;
+import com.examples.springbootmonolithicstarter.support.sql.SqlStatementCounter;
+import com.examples.springbootmonolithicstarter.support.sql.StatementCountingConfig;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 상품 API 요청 하나가 실행하는 SQL 문장 수를 종류별로 고정한다. (N+1, 불필요한 추가 조회 회귀 방지)
+ * <p>
+ * 예산과 다르면 실행된 문장 목록과 함께 실패한다. 쿼리를 줄였다면 예산도 함께 줄인다.
+ * 기본 설정(캐시 사용, 메모리 검색 색인 사용, PESSIMISTIC 재고 잠금)에서의 예산이며,
+ * 변경은 커밋 시점 flush 의 JDBC 배치 한 번을 문장 하나로 센다.
+ */
+@DisplayName("상품 API SQL 문장 수 예산")
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.show_sql=false"
+})
+@AutoConfigureMockMvc
+@Import(StatementCountingConfig.class)
+class ProductQueryBudgetTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ProductApplicationService productApplicationService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductCache productCache;
+
+    private final List<Long> productIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        // 상품 ID 시퀀스 블록도 여기서 할당되므로 상품 등록 요청에는 시퀀스 조회가 포함되지 않음
+        for (int i = 0; i < 3; i++) {
+            productIds.add(productApplicationService.createProduct(
+                    new CreateProductRequest("예산 상품 " + i, "설명", BigDecimal.valueOf(10000), 100)).id());
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        productIds.forEach(productCache::invalidate);
+        productRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("상품 단건 조회: 캐시에 없으면 SELECT 1회, 캐시에 있으면 쿼리 없음")
+    void getProduct() throws Exception {
+        RecordedStatements miss = perform(get("/api/products/{productId}", productIds.get(0)), status().isOk());
+        RecordedStatements hit = perform(get("/api/products/{productId}", productIds.get(0)), status().isOk());
+
+        miss.assertExactly(QueryBudget.ofSelects(1));
+        assertThat(miss.fetchedRows()).isEqualTo(1);
+        hit.assertExactly(QueryBudget.none());
+    }
+
+    @Test
+    @DisplayName("없는 상품 조회: SELECT 1회")
+    void getProductNotFound() throws Exception {
+        RecordedStatements statements = perform(get("/api/products/{productId}", Long.MAX_VALUE), status().isNotFound());
+
+        statements.assertExactly(QueryBudget.ofSelects(1));
+    }
+
+    @Test
+    @DisplayName("상품 목록 조회: 페이지 크기와 관계없이 SELECT 1회 (다음 페이지 확인용으로 한 행 더 읽음)")
+    void getAllProducts() throws Exception {
+        RecordedStatements statements = perform(get("/api/products").param("size", "2"), status().isOk());
+
+        statements.assertExactly(QueryBudget.ofSelects(1));
+        assertThat(statements.fetchedRows()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("판매 가능 상품 목록 조회: SELECT 1회")
+    void getAvailableProducts() throws Exception {
+        RecordedStatements statements = perform(get("/api/products/available").param("size", "2"), status().isOk());
+
+        statements.assertExactly(QueryBudget.ofSelects(1));
+        assertThat(statements.fetchedRows()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("상품 검색: 색인에서 찾은 상품을 SELECT 1회로 조회 (결과 수만큼 조회하지 않음)")
+    void searchProducts() throws Exception {
+        RecordedStatements statements = perform(get("/api/products/search").param("name", "예산"), status().isOk());
+
+        statements.assertExactly(QueryBudget.ofSelects(1));
+    }
+
+    @Test
+    @DisplayName("상품 자동완성: 색인에서 처리하여 쿼리 없음")
+    void suggestProducts() throws Exception {
+        RecordedStatements statements = perform(get("/api/products/suggest").param("prefix", "예산"), status().isOk());
+
+        statements.assertExactly(QueryBudget.none());
+    }
+
+    @Test
+    @DisplayName("가격 견적: 캐시에 없는 상품을 SELECT 1회로 조회")
+    void quote() throws Exception {
+        QuoteRequest request = new QuoteRequest(List.of(
+                new QuoteRequest.Line(productIds.get(0), 1),
+                new QuoteRequest.Line(productIds.get(1), 2)));
+
+        RecordedStatements statements = perform(postJson("/api/products/quote", request), status().isOk());
+
+        statements.assertExactly(QueryBudget.ofSelects(1));
+    }
+
+    @Test
+    @DisplayName("상품 등록: INSERT 1회")
+    void createProduct() throws Exception {
+        CreateProductRequest request = new CreateProductRequest("새 상품", "설명", BigDecimal.valueOf(10000), 10);
+
+        RecordedStatements statements = perform(postJson("/api/products", request), status().isCreated());
+
+        statements.assertExactly(QueryBudget.none().andInserts(1));
+    }
+
+    @Test
+    @DisplayName("상품 정보 수정: SELECT 1회 + UPDATE 1회")
+    void updateProduct() throws Exception {
+        UpdateProductRequest request = new UpdateProductRequest("수정된 상품", "설명", BigDecimal.valueOf(20000));
+
+        RecordedStatements statements = perform(put("/api/products/{productId}", productIds.get(0))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)), status().isOk());
+
+        statements.assertExactly(QueryBudget.ofSelects(1).andUpdates(1));
+    }
+
+    @Test
+    @DisplayName("재고 차감: SELECT ... FOR UPDATE 1회 + UPDATE 1회")
+    void removeStock() throws Exception {
+        RecordedStatements statements = perform(post("/api/products/{productId}/stock/remove", productIds.get(0))
+                .param("quantity", "1"), status().isOk());
+
+        statements.assertExactly(QueryBudget.ofSelects(1).andUpdates(1));
+    }
+
+    @Test
+    @DisplayName("재고 추가: SELECT ... FOR UPDATE 1회 + UPDATE 1회")
+    void addStock() throws Exception {
+        RecordedStatements statements = perform(post("/api/products/{productId}/stock/add", productIds.get(0))
+                .param("quantity", "1"), status().isOk());
+
+        statements.assertExactly(QueryBudget.ofSelects(1).andUpdates(1));
+    }
+
+    @Test
+    @DisplayName("여러 상품 재고 예약: 상품 수와 관계없이 SELECT ... FOR UPDATE 1회 + UPDATE 배치 1회")
+    void reserveStocks() throws Exception {
+        ReserveStockRequest request = new ReserveStockRequest(List.of(
+                new ReserveStockRequest.Line(productIds.get(0), 1),
+                new ReserveStockRequest.Line(productIds.get(1), 1),
+                new ReserveStockRequest.Line(productIds.get(2), 1)));
+
+        RecordedStatements statements = perform(postJson("/api/products/stock/reserve", request), status().isOk());
+
+        statements.assertExactly(QueryBudget.ofSelects(1).andUpdates(1));
+        assertThat(statements.fetchedRows()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("판매 중지: SELECT 1회 + UPDATE 1회")
+    void discontinueProduct() throws Exception {
+        RecordedStatements statements = perform(post("/api/products/{productId}/discontinue", productIds.get(0)),
+                status().isOk());
+
+        statements.assertExactly(QueryBudget.ofSelects(1).andUpdates(1));
+    }
+
+    private RequestBuilder postJson(String uri, Object body) throws Exception {
+        return post(uri)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(body));
+    }
+
+    private RecordedStatements perform(RequestBuilder request, ResultMatcher expectedStatus) throws Exception {
+        return SqlStatementCounter.count(() -> mockMvc.perform(request).andExpect(expectedStatus));
+    }
+}
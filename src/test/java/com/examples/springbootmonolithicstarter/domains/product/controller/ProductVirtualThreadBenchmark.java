@@ -0,0 +1,213 @@
+package com.examples.springbootmonolithicstarter.domains.product.controller;
+
+import com.examples.springbootmonolithicstarter.SpringBootMonolithicStarterApplication;
+import com.examples.springbootmonolithicstarter.support.benchmark.HttpLoadClient;
+import com.examples.springbootmonolithicstarter.support.benchmark.ProductTableSeeder;
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jdk.jfr.consumer.RecordingStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 조회 쿼리마다 DB 왕복 지연(200ms)이 있을 때, 10,000개의 상품 단건 조회 요청을 동시에 보내
+ * Undertow 워커 풀(플랫폼 스레드)과 요청마다 가상 스레드로 처리하는 방식의 동시 처리 수와 지연 시간을 비교한다.
+ * <p>
+ * 지연은 H2 드라이버 밖(PreparedStatement 프록시)에서 주입한다. H2 는 내부적으로 synchronized 를 사용하므로
+ * 드라이버 안에서 대기시키면 가상 스레드가 고정되지만, 운영 드라이버(mysql-connector-j 9.x)는 소켓 I/O 경로에 synchronized 를 쓰지 않는다.
+ * 두 방식 모두 커넥션 풀 크기는 200 으로 같고 캐시는 비활성화하며, 부하 클라이언트는 파일 디스크립터 한도 때문에 별도 프로세스로 실행한다.
+ * 가상 스레드 방식은 대기 대신 CPU(요청 처리 + 연결 수립)가 한계가 되므로, 결과는 실행 환경의 코어 수에 크게 좌우된다.
+ * <p>
+ * 실행: ./gradlew benchmark --tests "*.ProductVirtualThreadBenchmark"
+ */
+@Tag("benchmark")
+@DisplayName("가상 스레드 요청 처리 벤치마크")
+class ProductVirtualThreadBenchmark {
+
+    private static final int REQUESTS = 10_000;
+    private static final int WARM_UP_REQUESTS = 2_000;
+    private static final int POOL_SIZE = 200;
+    private static final Duration QUERY_LATENCY = Duration.ofMillis(200);
+    private static final Duration CLIENT_TIMEOUT = Duration.ofMinutes(5);
+
+    @ParameterizedTest(name = "virtual={0}")
+    @ValueSource(booleans = {false, true})
+    void concurrentSlowRequests(boolean virtual) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(
+                SpringBootMonolithicStarterApplication.class, SlowDatabaseConfig.class)
+                .run(arguments(virtual))) {
+            long firstId = seed(context);
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            List<String> urls = new ArrayList<>(REQUESTS);
+            for (int i = 0; i < REQUESTS; i++) {
+                urls.add("http://localhost:" + port + "/api/products/" + (firstId + i));
+            }
+            SlowQueries slowQueries = context.getBean(SlowQueries.class);
+            InFlightRequests inFlightRequests = context.getBean(InFlightRequests.class);
+
+            System.out.println("[WarmUp] " + HttpLoadClient.runInNewProcess(urls.subList(0, WARM_UP_REQUESTS), CLIENT_TIMEOUT));
+            slowQueries.latencyNanos = QUERY_LATENCY.toNanos();
+            inFlightRequests.peak.set(0);
+
+            AtomicLong pinnedEvents = new AtomicLong();
+            String result;
+            try (RecordingStream recording = new RecordingStream()) {
+                recording.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ZERO);
+                recording.onEvent("jdk.VirtualThreadPinned", event -> pinnedEvents.incrementAndGet());
+                recording.startAsync();
+                result = HttpLoadClient.runInNewProcess(urls, CLIENT_TIMEOUT);
+                recording.stop();
+            }
+
+            System.out.printf("[%s] requests=%d %s peakConcurrentRequests=%d pinnedEvents=%d%n",
+                    virtual ? "VirtualThreads" : "PlatformWorkerPool", REQUESTS, result,
+                    inFlightRequests.peak.get(), pinnedEvents.get());
+            assertThat(result).startsWith("completed=" + REQUESTS + " failed=0");
+        }
+    }
+
+    /**
+     * application.yml 보다 우선하도록 명령행 인자로 전달
+     */
+    private static String[] arguments(boolean virtual) {
+        return new String[]{
+                "--server.port=0",
+                "--server.undertow.options.socket.BACKLOG=" + REQUESTS,
+                "--spring.threads.virtual.enabled=" + virtual,
+                "--spring.datasource.url=jdbc:h2:mem:virtual-thread-benchmark-" + virtual + ";DB_CLOSE_DELAY=-1",
+                "--spring.datasource.hikari.maximum-pool-size=" + POOL_SIZE,
+                "--spring.jpa.show-sql=false",
+                "--spring.jpa.properties.hibernate.show_sql=false",
+                "--product.cache.enabled=false",
+                "--product.search.index-enabled=false",
+                "--logging.level.org.springframework=warn",
+                "--logging.level.org.hibernate.SQL=warn",
+                "--logging.level.org.hibernate.orm.jdbc.bind=warn",
+                "--logging.level.com.examples=warn"
+        };
+    }
+
+    private static long seed(ConfigurableApplicationContext context) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> rows = new ArrayList<>(REQUESTS);
+        for (int i = 0; i < REQUESTS; i++) {
+            rows.add(new Object[]{"상품 " + i, "설명", 10000, 100, "AVAILABLE", now, now, 0L});
+        }
+        return ProductTableSeeder.insert(context.getBean(JdbcTemplate.class), context.getBean(TransactionTemplate.class), rows);
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    static class SlowDatabaseConfig {
+
+        @Bean
+        static SlowQueries slowQueries() {
+            return new SlowQueries();
+        }
+
+        @Bean
+        InFlightRequests inFlightRequests() {
+            return new InFlightRequests();
+        }
+    }
+
+    /**
+     * 조회 쿼리(executeQuery) 실행 전에 DB 왕복 지연만큼 대기한다. (커넥션을 점유한 채 대기)
+     */
+    static class SlowQueries implements BeanPostProcessor {
+
+        private volatile long latencyNanos;
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (!(bean instanceof DataSource dataSource)) {
+                return bean;
+            }
+            return new DelegatingDataSource(dataSource) {
+                @Override
+                public Connection getConnection() throws SQLException {
+                    return slow(super.getConnection());
+                }
+            };
+        }
+
+        private Connection slow(Connection connection) {
+            return proxy(Connection.class, (proxy, method, args) -> {
+                Object result = invoke(connection, method, args);
+                return method.getName().equals("prepareStatement") ? slow((PreparedStatement) result) : result;
+            });
+        }
+
+        private PreparedStatement slow(PreparedStatement statement) {
+            return proxy(PreparedStatement.class, (proxy, method, args) -> {
+                long latency = latencyNanos;
+                if (latency > 0 && method.getName().equals("executeQuery")) {
+                    Thread.sleep(Duration.ofNanos(latency));
+                }
+                return invoke(statement, method, args);
+            });
+        }
+
+        private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+            return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler));
+        }
+
+        private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+
+    /**
+     * 서버에서 동시에 처리 중인 요청 수의 최댓값을 기록한다.
+     */
+    static class InFlightRequests implements Filter {
+
+        private final AtomicInteger current = new AtomicInteger();
+        private final AtomicInteger peak = new AtomicInteger();
+
+        @Override
+        public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain) throws IOException, ServletException {
+            peak.accumulateAndGet(current.incrementAndGet(), Math::max);
+            try {
+                chain.doFilter(request, response);
+            } finally {
+                current.decrementAndGet();
+            }
+        }
+    }
+}
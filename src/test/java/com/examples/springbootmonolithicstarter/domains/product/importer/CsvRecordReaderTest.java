@@ -0,0 +1,85 @@
+package com.examples.springbootmonolithicstarter.domains.product.importer;
+
+import com.examples.springbootmonolithicstarter.domains.product.importer.CsvRecordReader.RawRecord;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("CsvRecordReader")
+class CsvRecordReaderTest {
+
+    private static List<RawRecord> readAll(String csv) throws IOException {
+        CsvRecordReader reader = new CsvRecordReader(new StringReader(csv));
+        List<RawRecord> records = new ArrayList<>();
+        RawRecord record;
+        while ((record = reader.next()) != null) {
+            records.add(record);
+        }
+        return records;
+    }
+
+    @Nested
+    @DisplayName("next")
+    class Next {
+
+        @Test
+        @DisplayName("줄 단위로 레코드를 나누고, 레코드가 시작하는 줄 번호를 함께 반환한다")
+        void splitLines() throws IOException {
+            List<RawRecord> records = readAll("a,b\r\n1,2\r\n3,4");
+
+            assertThat(records).containsExactly(
+                    new RawRecord(1, "a,b"),
+                    new RawRecord(2, "1,2"),
+                    new RawRecord(3, "3,4")
+            );
+        }
+
+        @Test
+        @DisplayName("따옴표 안의 줄바꿈은 레코드를 나누지 않는다")
+        void quotedNewline() throws IOException {
+            List<RawRecord> records = readAll("name,description\n상품,\"첫 줄\n둘째 줄\"\n다음,설명\n");
+
+            assertThat(records).containsExactly(
+                    new RawRecord(1, "name,description"),
+                    new RawRecord(2, "상품,\"첫 줄\n둘째 줄\""),
+                    new RawRecord(4, "다음,설명")
+            );
+        }
+
+        @Test
+        @DisplayName("빈 줄은 건너뛴다")
+        void skipBlankLines() throws IOException {
+            List<RawRecord> records = readAll("a\n\n\r\nb\n");
+
+            assertThat(records).containsExactly(new RawRecord(1, "a"), new RawRecord(4, "b"));
+        }
+    }
+
+    @Nested
+    @DisplayName("parseFields")
+    class ParseFields {
+
+        @Test
+        @DisplayName("쉼표로 필드를 나누고, 따옴표로 감싼 필드의 쉼표와 이스케이프된 따옴표를 처리한다")
+        void parse() {
+            assertThat(CsvRecordReader.parseFields("상품,\"설명, \"\"인기\"\"\",1000,"))
+                    .containsExactly("상품", "설명, \"인기\"", "1000", "");
+        }
+
+        @Test
+        @DisplayName("따옴표가 닫히지 않으면 예외가 발생한다")
+        void unclosedQuote() {
+            assertThatThrownBy(() -> CsvRecordReader.parseFields("상품,\"설명"))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("따옴표가 닫히지 않았습니다.");
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package com.examples.springbootmonolithicstarter.domains.product.importer;
+
+import com.examples.springbootmonolithicstarter.domains.product.config.ProductImportProperties;
+import com.examples.springbootmonolithicstarter.domains.product.exception.InvalidProductImportFileException;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ProductImportPipeline")
+class ProductImportPipelineTest {
+
+    private static final ProductImportProperties PROPERTIES = new ProductImportProperties(3, 10, 2, 100);
+
+    private final Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+    private final List<ProductImportRow> written = Collections.synchronizedList(new ArrayList<>());
+
+    private ProductUpsertResult writeAll(List<ProductImportRow> rows) {
+        written.addAll(rows);
+        return new ProductUpsertResult(rows.size(), 0, List.of());
+    }
+
+    @Test
+    @DisplayName("유효한 행은 저장하고, 변환/검증에 실패한 행은 줄 번호와 사유를 기록한다")
+    void importRows() throws IOException {
+        // given
+        String csv = """
+                name,description,price,stockQuantity
+                상품1,설명,1000,10
+                ,설명,1000,10
+                상품3,설명,abc,10
+                상품4,"설명, 쉼표",2000,-1
+                상품5,설명,3000
+                상품6,,4000,0
+                """;
+        ProductImportProgress progress = new ProductImportProgress("import-1", "products.csv", 100);
+        ProductImportPipeline pipeline = new ProductImportPipeline(PROPERTIES, validator, this::writeAll);
+
+        // when
+        pipeline.run(new StringReader(csv), progress);
+
+        // then
+        assertThat(progress.getReadRows()).isEqualTo(6);
+        assertThat(progress.getCreatedRows()).isEqualTo(2);
+        assertThat(progress.getFailedRows()).isEqualTo(4);
+        assertThat(written).extracting(row -> row.request().name()).containsExactlyInAnyOrder("상품1", "상품6");
+        assertThat(progress.getErrors()).containsExactly(
+                new ProductImportError(3, "상품명은 필수입니다."),
+                new ProductImportError(4, "가격 형식이 올바르지 않습니다: abc"),
+                new ProductImportError(5, "재고 수량은 0 이상이어야 합니다."),
+                new ProductImportError(6, "컬럼 수가 헤더와 다릅니다. (헤더: 4, 행: 3)")
+        );
+    }
+
+    @Test
+    @DisplayName("id 컬럼 값이 있는 행은 수정 대상으로 전달된다")
+    void rowsWithId() throws IOException {
+        // given
+        String csv = """
+                id,name,price,stockQuantity
+                7,수정 상품,1000,10
+                ,새 상품,2000,20
+                """;
+        ProductImportProgress progress = new ProductImportProgress("import-1", "products.csv", 100);
+        ProductImportPipeline pipeline = new ProductImportPipeline(PROPERTIES, validator, this::writeAll);
+
+        // when
+        pipeline.run(new StringReader(csv), progress);
+
+        // then
+        assertThat(written).extracting(ProductImportRow::productId).containsExactlyInAnyOrder(7L, null);
+    }
+
+    @Test
+    @DisplayName("필수 컬럼이 헤더에 없으면 아무 행도 읽지 않고 예외가 발생한다")
+    void missingColumn() {
+        ProductImportProgress progress = new ProductImportProgress("import-1", "products.csv", 100);
+        ProductImportPipeline pipeline = new ProductImportPipeline(PROPERTIES, validator, this::writeAll);
+
+        assertThatThrownBy(() -> pipeline.run(new StringReader("name,description\n상품,설명\n"), progress))
+                .isInstanceOf(InvalidProductImportFileException.class);
+        assertThat(progress.getReadRows()).isZero();
+    }
+
+    @Test
+    @DisplayName("저장에 실패한 청크의 행은 모두 실패로 기록되고, 나머지 청크는 계속 저장된다")
+    void chunkFailure() throws IOException {
+        // given
+        ProductImportProgress progress = new ProductImportProgress("import-1", "products.csv", 100);
+        ProductImportPipeline pipeline = new ProductImportPipeline(PROPERTIES, validator, rows -> {
+            if (rows.stream().anyMatch(row -> row.request().name().equals("실패"))) {
+                throw new IllegalStateException("DB 오류");
+            }
+            return writeAll(rows);
+        });
+        StringBuilder csv = new StringBuilder("name,price,stockQuantity\n");
+        for (int i = 0; i < 30; i++) {
+            csv.append(i == 0 ? "실패" : "상품" + i).append(",1000,1\n");
+        }
+
+        // when
+        pipeline.run(new StringReader(csv.toString()), progress);
+
+        // then
+        assertThat(progress.getCreatedRows() + progress.getFailedRows()).isEqualTo(30);
+        assertThat(progress.getFailedRows()).isPositive();
+        assertThat(progress.getErrors()).allSatisfy(error -> assertThat(error.message()).isEqualTo("저장에 실패했습니다: DB 오류"));
+    }
+
+    @Test
+    @DisplayName("저장이 느리면 읽기가 대기하여, 읽었지만 저장되지 않은 행 수가 큐 크기로 제한된다")
+    void backpressure() throws IOException {
+        // given
+        int rows = 2_000;
+        AtomicLong maxPending = new AtomicLong();
+        ProductImportProgress progress = new ProductImportProgress("import-1", "products.csv", 100);
+        ProductImportPipeline pipeline = new ProductImportPipeline(PROPERTIES, validator, chunk -> {
+            long pending = progress.getReadRows() - progress.getCreatedRows();
+            maxPending.accumulateAndGet(pending, Math::max);
+            sleep(1);
+            return new ProductUpsertResult(chunk.size(), 0, List.of());
+        });
+
+        // when
+        pipeline.run(new GeneratedCsvReader(rows), progress);
+
+        // then
+        // 큐 2개(각 2청크) + 파싱 중 3청크 + 저장 중 1청크 + 읽는 중 1청크
+        long bound = (2L * PROPERTIES.queueCapacity() + PROPERTIES.parserThreads() + 2) * PROPERTIES.chunkSize();
+        assertThat(progress.getCreatedRows()).isEqualTo(rows);
+        assertThat(maxPending.get()).isLessThanOrEqualTo(bound);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 필요한 만큼만 행을 만들어 내는 입력 (전체 내용을 메모리에 만들지 않음)
+     */
+    private static final class GeneratedCsvReader extends Reader {
+
+        private final int rows;
+        private int next = -1;
+        private String current = "";
+        private int position;
+
+        private GeneratedCsvReader(int rows) {
+            this.rows = rows;
+        }
+
+        @Override
+        public int read(char[] buffer, int offset, int length) {
+            if (position == current.length()) {
+                if (next == rows) {
+                    return -1;
+                }
+                current = next < 0 ? "name,price,stockQuantity\n" : "상품" + next + ",1000,1\n";
+                next++;
+                position = 0;
+            }
+            int count = Math.min(length, current.length() - position);
+            current.getChars(position, position + count, buffer, offset);
+            position += count;
+            return count;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -5,6 +5,8 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -118,4 +120,96 @@ class MoneyTest {
             assertThat(money2.isGreaterThan(money1)).isFalse();
         }
     }
+
+    /**
+     * long 으로 계산한 결과가 기존 BigDecimal 연산(값, scale, 예외)과 같은지 경계값을 포함한 모든 조합으로 확인한다.
+     */
+    @Nested
+    @DisplayName("BigDecimal 연산과의 동등성")
+    class BigDecimalEquivalence {
+
+        private static final int[] QUANTITIES = {0, 1, 2, 3, 7, 10, 999, -1, -3, Integer.MAX_VALUE, Integer.MIN_VALUE};
+
+        private final List<BigDecimal> amounts = amounts();
+
+        @Test
+        @DisplayName("곱셈은 BigDecimal.multiply 와 값과 scale 이 같다")
+        void multiply() {
+            for (BigDecimal amount : amounts) {
+                for (int quantity : QUANTITIES) {
+                    BigDecimal expected = amount.multiply(BigDecimal.valueOf(quantity));
+
+                    assertThat(Money.of(amount).multiply(quantity).getAmount())
+                            .as("%s × %d", amount, quantity)
+                            .isEqualTo(expected);
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("덧셈, 뺄셈, 비교, 동등성은 BigDecimal 과 같다")
+        void binaryOperations() {
+            for (BigDecimal left : amounts) {
+                for (BigDecimal right : amounts) {
+                    Money leftMoney = Money.of(left);
+                    Money rightMoney = Money.of(right);
+
+                    assertThat(leftMoney.add(rightMoney).getAmount()).as("%s + %s", left, right).isEqualTo(left.add(right));
+                    assertSubtract(leftMoney, rightMoney, left.subtract(right));
+                    assertThat(leftMoney.isGreaterThan(rightMoney)).as("%s > %s", left, right).isEqualTo(left.compareTo(right) > 0);
+                    assertThat(leftMoney.isLessThan(rightMoney)).as("%s < %s", left, right).isEqualTo(left.compareTo(right) < 0);
+                    assertThat(leftMoney.equals(rightMoney)).as("%s equals %s", left, right).isEqualTo(left.equals(right));
+                    if (left.equals(right)) {
+                        assertThat(leftMoney.hashCode()).isEqualTo(rightMoney.hashCode());
+                    }
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("계산 결과가 long 범위를 벗어나도 BigDecimal 로 이어서 계산한다")
+        void overflow() {
+            Money max = Money.of(BigDecimal.valueOf(Long.MAX_VALUE, 2));
+
+            Money doubled = max.add(max);
+            Money multiplied = max.multiply(Integer.MAX_VALUE);
+
+            assertThat(doubled.getAmount()).isEqualTo(BigDecimal.valueOf(Long.MAX_VALUE, 2).multiply(BigDecimal.TWO));
+            assertThat(doubled.subtract(max)).isEqualTo(max);
+            assertThat(multiplied.isGreaterThan(doubled)).isTrue();
+            assertThat(doubled.multiply(0).getAmount()).isEqualTo(new BigDecimal("0.00"));
+        }
+
+        private void assertSubtract(Money left, Money right, BigDecimal expected) {
+            if (expected.signum() < 0) {
+                assertThatThrownBy(() -> left.subtract(right))
+                        .isInstanceOf(IllegalArgumentException.class);
+                return;
+            }
+            assertThat(left.subtract(right).getAmount()).isEqualTo(expected);
+        }
+
+        /**
+         * 0 ~ 40 의 unscaled 값 × scale -1 ~ 3 과, long 경계 근처 및 long 범위를 벗어나는 금액
+         */
+        private static List<BigDecimal> amounts() {
+            List<BigDecimal> amounts = new ArrayList<>();
+            for (int scale = -1; scale <= 3; scale++) {
+                for (long unscaled = 0; unscaled <= 40; unscaled++) {
+                    amounts.add(BigDecimal.valueOf(unscaled, scale));
+                }
+            }
+            for (long unscaled : new long[]{Long.MAX_VALUE, Long.MAX_VALUE - 1, Long.MAX_VALUE / 10, Long.MAX_VALUE / 3, 1L << 62}) {
+                amounts.add(BigDecimal.valueOf(unscaled, 0));
+                amounts.add(BigDecimal.valueOf(unscaled, 2));
+                amounts.add(BigDecimal.valueOf(unscaled, 18));
+            }
+            amounts.add(new BigDecimal("12345.67"));
+            amounts.add(new BigDecimal("9223372036854775808"));
+            amounts.add(new BigDecimal("92233720368547758.08"));
+            amounts.add(new BigDecimal("1E+20"));
+            amounts.add(new BigDecimal("0.000000000000000000001"));
+            return amounts;
+        }
+    }
 }
@@ -5,15 +5,23 @@ import com.examples.springbootmonolithicstarter.domains.product.model.ProductSta
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+/**
+ * 내장 DB로 교체하지 않고 테스트 DataSource(Hikari, auto-commit=false)를 그대로 사용한다.
+ * (교체하면 auto-commit=true 커넥션이 되어 provider_disables_autocommit 설정과 맞지 않음)
+ */
 @DisplayName("ProductRepository 통합 테스트")
 @DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
 class ProductRepositoryTest {
 
     @Autowired
@@ -58,6 +66,45 @@ class ProductRepositoryTest {
         assertThat(discontinuedProducts.get(0).getName()).isEqualTo("판매중지 상품");
     }
 
+    @Test
+    @DisplayName("마지막 ID 이후의 상품을 ID 순으로 지정한 개수만큼 조회할 수 있다")
+    void findRowsByIdGreaterThanWithLimit() {
+        // given
+        List<Long> ids = List.of(
+                productRepository.save(Product.create("상품1", "설명", BigDecimal.valueOf(10000), 10)).getId(),
+                productRepository.save(Product.create("상품2", "설명", BigDecimal.valueOf(10000), 10)).getId(),
+                productRepository.save(Product.create("상품3", "설명", BigDecimal.valueOf(10000), 10)).getId(),
+                productRepository.save(Product.create("상품4", "설명", BigDecimal.valueOf(10000), 10)).getId()
+        );
+
+        productRepository.flush(); // 프로젝션 쿼리는 조회 전에 자동 flush 하지 않음
+
+        // when
+        List<ProductRow> page = productRepository.findRowsByIdGreaterThan(ids.get(0), Limit.of(2));
+
+        // then
+        assertThat(page).extracting(ProductRow::id).containsExactly(ids.get(1), ids.get(2));
+    }
+
+    @Test
+    @DisplayName("상태별로 마지막 ID 이후의 상품을 조회할 수 있다")
+    void findRowsByStatusAndIdGreaterThan() {
+        // given
+        Product first = productRepository.save(Product.create("판매중 상품1", "설명", BigDecimal.valueOf(10000), 10));
+        Product discontinued = Product.create("판매중지 상품", "설명", BigDecimal.valueOf(10000), 10);
+        discontinued.discontinue();
+        productRepository.save(discontinued);
+        Product second = productRepository.save(Product.create("판매중 상품2", "설명", BigDecimal.valueOf(10000), 10));
+        productRepository.flush(); // 프로젝션 쿼리는 조회 전에 자동 flush 하지 않음
+
+        // when
+        List<ProductRow> page = productRepository.findRowsByStatusAndIdGreaterThan(
+                ProductStatus.AVAILABLE, first.getId(), Limit.of(10));
+
+        // then
+        assertThat(page).extracting(ProductRow::id).containsExactly(second.getId());
+    }
+
     @Test
     @DisplayName("이름으로 상품을 검색할 수 있다")
     void findByNameContaining() {
@@ -75,6 +122,66 @@ class ProductRepositoryTest {
                 .containsExactlyInAnyOrder("노트북 프로", "노트북 에어");
     }
 
+    @Test
+    @DisplayName("조회 전용 행(ProductRow)으로 키셋 페이지를 조회할 수 있다")
+    void findRowsByIdGreaterThan() {
+        // given
+        Product first = productRepository.save(Product.create("상품1", "설명", BigDecimal.valueOf(10000), 10));
+        Product soldOut = productRepository.save(Product.create("상품2", "설명2", BigDecimal.valueOf(25000), 0));
+        Product discontinued = Product.create("상품3", "설명", BigDecimal.valueOf(10000), 10);
+        discontinued.discontinue();
+        productRepository.save(discontinued);
+        productRepository.flush(); // 프로젝션 쿼리는 조회 전에 자동 flush 하지 않음
+
+        // when
+        List<ProductRow> all = productRepository.findRowsByIdGreaterThan(first.getId(), Limit.of(10));
+        List<ProductRow> available = productRepository.findRowsByStatusAndIdGreaterThan(
+                ProductStatus.AVAILABLE, first.getId(), Limit.of(10));
+
+        // then
+        assertThat(all).extracting(ProductRow::id).containsExactly(soldOut.getId(), discontinued.getId());
+        assertThat(all.get(0).name()).isEqualTo("상품2");
+        assertThat(all.get(0).description()).isEqualTo("설명2");
+        assertThat(all.get(0).price()).isEqualByComparingTo(BigDecimal.valueOf(25000));
+        assertThat(all).extracting(ProductRow::isAvailable).containsExactly(false, false);
+        assertThat(available).extracting(ProductRow::id).containsExactly(soldOut.getId());
+    }
+
+    @Test
+    @DisplayName("조회 전용 행은 ID 목록과 이름으로 조회할 수 있고, 검색어의 % 는 문자 그대로 비교한다")
+    void findRowsByIdInAndName() {
+        // given
+        Product first = productRepository.save(Product.create("노트북 100%", "설명", BigDecimal.valueOf(1000000), 10));
+        Product second = productRepository.save(Product.create("노트북 1000", "설명", BigDecimal.valueOf(800000), 20));
+        productRepository.flush(); // 프로젝션 쿼리는 조회 전에 자동 flush 하지 않음
+
+        // when
+        List<ProductRow> byIds = productRepository.findRowsByIdIn(List.of(first.getId(), second.getId()));
+        List<ProductRow> byName = productRepository.findRowsByNameContaining("100%", Limit.of(10));
+
+        // then
+        assertThat(byIds).extracting(ProductRow::id).containsExactlyInAnyOrder(first.getId(), second.getId());
+        assertThat(byName).extracting(ProductRow::id).containsExactly(first.getId());
+        assertThat(productRepository.findRowById(first.getId())).get()
+                .extracting(ProductRow::isAvailable).isEqualTo(true);
+    }
+
+    @Test
+    @DisplayName("조회 전용 행의 이름 검색은 메모리 역색인처럼 대소문자를 구분하지 않는다")
+    void findRowsByNameContainingIgnoresCase() {
+        // given
+        Product product = productRepository.save(Product.create("Galaxy Book", "설명", BigDecimal.valueOf(1500000), 10));
+        productRepository.flush(); // 프로젝션 쿼리는 조회 전에 자동 flush 하지 않음
+
+        // when
+        List<ProductRow> lower = productRepository.findRowsByNameContaining("galaxy", Limit.of(10));
+        List<ProductRow> upper = productRepository.findRowsByNameContaining("BOOK", Limit.of(10));
+
+        // then
+        assertThat(lower).extracting(ProductRow::id).containsExactly(product.getId());
+        assertThat(upper).extracting(ProductRow::id).containsExactly(product.getId());
+    }
+
     @Test
     @DisplayName("상품 정보를 수정할 수 있다")
     void updateProduct() {
@@ -108,4 +215,41 @@ class ProductRepositoryTest {
         // then
         assertThat(productRepository.findById(productId)).isEmpty();
     }
+
+    @Test
+    @DisplayName("재고가 충분하면 조건부 UPDATE 로 재고를 차감할 수 있다")
+    void decreaseStock() {
+        // given
+        Product savedProduct = productRepository.save(
+                Product.create("재고 상품", "설명", BigDecimal.valueOf(10000), 10));
+
+        // when
+        int updated = productRepository.decreaseStock(savedProduct.getId(), 7, LocalDateTime.now());
+
+        // then
+        Product foundProduct = productRepository.findById(savedProduct.getId()).orElseThrow();
+        assertThat(updated).isEqualTo(1);
+        assertThat(foundProduct.getStockQuantity()).isEqualTo(3);
+        assertThat(foundProduct.getVersion()).isEqualTo(savedProduct.getVersion() + 1);
+    }
+
+    @Test
+    @DisplayName("재고가 부족하거나 판매 중지된 상품은 조건부 UPDATE 로 차감되지 않는다")
+    void decreaseStockRejected() {
+        // given
+        Product lowStockProduct = productRepository.save(
+                Product.create("재고 부족 상품", "설명", BigDecimal.valueOf(10000), 5));
+        Product discontinuedProduct = Product.create("판매중지 상품", "설명", BigDecimal.valueOf(10000), 100);
+        discontinuedProduct.discontinue();
+        productRepository.save(discontinuedProduct);
+
+        // when
+        int lowStockUpdated = productRepository.decreaseStock(lowStockProduct.getId(), 6, LocalDateTime.now());
+        int discontinuedUpdated = productRepository.decreaseStock(discontinuedProduct.getId(), 1, LocalDateTime.now());
+
+        // then
+        assertThat(lowStockUpdated).isZero();
+        assertThat(discontinuedUpdated).isZero();
+        assertThat(productRepository.findById(lowStockProduct.getId()).orElseThrow().getStockQuantity()).isEqualTo(5);
+    }
 }
@@ -0,0 +1,189 @@
+package com.examples.springbootmonolithicstarter.domains.product.repository.shard;
+
+import com.examples.springbootmonolithicstarter.domains.product.model.ProductStatus;
+import com.examples.springbootmonolithicstarter.domains.product.repository.ProductRow;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ShardedProductRepository 샤드 상품 저장소")
+class ShardedProductRepositoryTest {
+
+    private static final int SHARDS = 3;
+
+    private ProductShards shards;
+    private ShardedProductRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        String database = UUID.randomUUID().toString();
+        List<DataSource> dataSources = new ArrayList<>();
+        for (int shard = 0; shard < SHARDS; shard++) {
+            HikariDataSource dataSource = new HikariDataSource();
+            dataSource.setJdbcUrl("jdbc:h2:mem:" + database + "-" + shard);
+            dataSource.setMaximumPoolSize(4);
+            dataSources.add(dataSource);
+        }
+        shards = new ProductShards(dataSources, 100);
+        repository = new ShardedProductRepository(shards, 4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        repository.destroy();
+    }
+
+    @Nested
+    @DisplayName("등록")
+    class Insert {
+
+        @Test
+        @DisplayName("새 상품은 샤드를 돌아가며 저장하고, ID 로 저장된 샤드를 찾을 수 있다")
+        void routesById() {
+            List<ProductRow> rows = insert(6);
+
+            for (int shard = 0; shard < SHARDS; shard++) {
+                assertThat(countOn(shard)).isEqualTo(2);
+            }
+            rows.forEach(row -> assertThat(shards.jdbcTemplate(shards.shardOf(row.id())).queryForObject(
+                    "select name from products where id = ?", String.class, row.id())).isEqualTo(row.name()));
+        }
+
+        @Test
+        @DisplayName("ID 블록을 모두 사용하면 다음 블록을 할당받고, 다른 인스턴스와 ID 가 겹치지 않는다")
+        void allocatesBlocks() {
+            ShardedProductRepository otherInstance = new ShardedProductRepository(shards, 4);
+
+            List<Long> ids = new ArrayList<>();
+            for (int i = 0; i < 30; i++) {
+                ids.add(repository.insert("상품", null, BigDecimal.ONE, 1).id());
+                ids.add(otherInstance.insert("상품", null, BigDecimal.ONE, 1).id());
+            }
+
+            assertThat(ids).doesNotHaveDuplicates();
+            assertThat(IntStream.range(0, SHARDS).map(this::countOn).sum()).isEqualTo(60);
+        }
+
+        private int countOn(int shard) {
+            return shards.jdbcTemplate(shard).queryForObject("select count(*) from products", Integer.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("단일 샤드 변경")
+    class SingleShard {
+
+        @Test
+        @DisplayName("재고가 충분하고 판매 중일 때만 재고를 차감한다")
+        void decreaseStock() {
+            ProductRow row = repository.insert("상품", null, BigDecimal.TEN, 5);
+
+            assertThat(repository.decreaseStock(row.id(), 3, LocalDateTime.now())).isEqualTo(1);
+            assertThat(repository.decreaseStock(row.id(), 3, LocalDateTime.now())).isZero();
+            repository.changeStatus(row.id(), ProductStatus.DISCONTINUED, LocalDateTime.now());
+            assertThat(repository.decreaseStock(row.id(), 1, LocalDateTime.now())).isZero();
+
+            assertThat(repository.findRowById(row.id())).get()
+                    .extracting(ProductRow::stockQuantity, ProductRow::status)
+                    .containsExactly(2, ProductStatus.DISCONTINUED);
+        }
+
+        @Test
+        @DisplayName("존재하지 않는 상품은 변경되지 않는다")
+        void missingProduct() {
+            assertThat(repository.increaseStock(999L, 1, LocalDateTime.now())).isZero();
+            assertThat(repository.updateInfo(999L, "상품", null, BigDecimal.ONE, LocalDateTime.now())).isZero();
+            assertThat(repository.findRowById(999L)).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("전체 샤드 조회 (scatter-gather)")
+    class ScatterGather {
+
+        @Test
+        @DisplayName("키셋 페이지네이션은 모든 샤드의 상품을 ID 순으로 병합한다")
+        void paginatesInIdOrder() {
+            List<Long> ids = insert(10).stream().map(ProductRow::id).sorted().toList();
+
+            List<Long> paged = new ArrayList<>();
+            long lastId = 0;
+            List<ProductRow> page;
+            while (!(page = repository.findRowsByIdGreaterThan(lastId, 4)).isEmpty()) {
+                assertThat(page).hasSizeLessThanOrEqualTo(4);
+                page.forEach(row -> paged.add(row.id()));
+                lastId = page.getLast().id();
+            }
+
+            assertThat(paged).containsExactlyElementsOf(ids);
+        }
+
+        @Test
+        @DisplayName("상태별 조회와 스트리밍 조회는 조건에 맞는 상품만 ID 순으로 반환한다")
+        void filtersByStatus() {
+            List<ProductRow> rows = insert(9);
+            List<Long> discontinued = rows.stream().map(ProductRow::id).filter(id -> id % 2 == 0).sorted().toList();
+            discontinued.forEach(id -> repository.changeStatus(id, ProductStatus.DISCONTINUED, LocalDateTime.now()));
+
+            assertThat(repository.findRowsByStatusAndIdGreaterThan(ProductStatus.DISCONTINUED, 0, 100))
+                    .extracting(ProductRow::id)
+                    .containsExactlyElementsOf(discontinued);
+            try (Stream<ProductRow> stream = repository.streamByStatus(ProductStatus.DISCONTINUED)) {
+                assertThat(stream.map(ProductRow::id).toList()).containsExactlyElementsOf(discontinued);
+            }
+            try (Stream<ProductRow> stream = repository.streamAll()) {
+                assertThat(stream.map(ProductRow::id).toList()).isSorted().hasSize(9);
+            }
+        }
+
+        @Test
+        @DisplayName("상품명 검색은 모든 샤드에서 찾고, 검색어의 %, _ 는 문자 그대로 비교한다")
+        void searchesByName() {
+            repository.insert("할인 10% 노트북", null, BigDecimal.ONE, 1);
+            repository.insert("할인 100 노트북", null, BigDecimal.ONE, 1);
+            repository.insert("노트북 가방", null, BigDecimal.ONE, 1);
+            repository.insert("노트북", null, BigDecimal.ONE, 1);
+
+            assertThat(repository.findRowsByNameContaining("10%", 10))
+                    .extracting(ProductRow::name)
+                    .containsExactly("할인 10% 노트북");
+            assertThat(repository.findRowsByNameContaining("노트북", 2)).hasSize(2);
+            assertThat(repository.findRowsByNameStartingWith("노트북", 10))
+                    .extracting(ProductRow::name)
+                    .containsExactly("노트북", "노트북 가방");
+        }
+
+        @Test
+        @DisplayName("ID 목록 조회는 상품이 있는 샤드에서만 조회한다")
+        void findsByIds() {
+            List<ProductRow> rows = insert(5);
+
+            assertThat(repository.findRowsByIdIn(List.of(rows.get(0).id(), rows.get(3).id(), 999L)))
+                    .extracting(ProductRow::id)
+                    .containsExactlyInAnyOrder(rows.get(0).id(), rows.get(3).id());
+            assertThat(repository.findRowsByIdIn(List.of())).isEmpty();
+        }
+    }
+
+    private List<ProductRow> insert(int count) {
+        List<ProductRow> rows = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            rows.add(repository.insert("상품 " + i, "설명", BigDecimal.valueOf(1000 + i), 10));
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,144 @@
+package com.examples.springbootmonolithicstarter.domains.product.repository.shard;
+
+import com.examples.springbootmonolithicstarter.support.benchmark.ConcurrentLoadRunner;
+import com.examples.springbootmonolithicstarter.support.benchmark.ConcurrentLoadRunner.LoadResult;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 샤드 수 1 / 2 / 4 에서 여러 상품의 재고 차감(조건부 UPDATE) 처리량을 측정한다.
+ * <p>
+ * 샤드는 H2 메모리 DB 이며, DB 노드 하나의 쓰기 용량(커넥션 풀 크기 / 커밋 지연)을 흉내 내기 위해
+ * 샤드마다 커넥션 풀을 POOL_SIZE 로 제한하고 UPDATE 마다 COMMIT_LATENCY 만큼 커넥션을 점유한 채 대기한다.
+ * 처리량은 샤드 수에 비례하여 POOL_SIZE × 샤드 수 / COMMIT_LATENCY 에 가까워진다.
+ * <p>
+ * 실행: ./gradlew benchmark --tests "*.ShardedStockWriteBenchmark"
+ */
+@Tag("benchmark")
+@DisplayName("샤드 수별 재고 쓰기 처리량 벤치마크")
+class ShardedStockWriteBenchmark {
+
+    private static final int PRODUCTS = 1024;
+    private static final int INITIAL_STOCK = 1_000_000;
+    private static final int POOL_SIZE = 4;
+    private static final Duration COMMIT_LATENCY = Duration.ofMillis(5);
+    private static final int CONCURRENCY = 64;
+    private static final int OPERATIONS_PER_WORKER = 64;
+
+    @ParameterizedTest(name = "shards={0}")
+    @ValueSource(ints = {1, 2, 4})
+    void reserveStocks(int shardCount) {
+        List<SlowCommits> slowCommits = new ArrayList<>();
+        List<DataSource> dataSources = new ArrayList<>();
+        String database = UUID.randomUUID().toString();
+        for (int shard = 0; shard < shardCount; shard++) {
+            SlowCommits slow = new SlowCommits(new DriverManagerDataSource("jdbc:h2:mem:" + database + "-" + shard));
+            HikariDataSource dataSource = new HikariDataSource();
+            dataSource.setDataSource(slow);
+            dataSource.setMaximumPoolSize(POOL_SIZE);
+            slowCommits.add(slow);
+            dataSources.add(dataSource);
+        }
+        ShardedProductRepository repository = new ShardedProductRepository(new ProductShards(dataSources, 1000), 100);
+        try {
+            long[] productIds = new long[PRODUCTS];
+            for (int i = 0; i < PRODUCTS; i++) {
+                productIds[i] = repository.insert("상품 " + i, null, BigDecimal.valueOf(1000), INITIAL_STOCK).id();
+            }
+            slowCommits.forEach(slow -> slow.latencyNanos = COMMIT_LATENCY.toNanos());
+
+            LoadResult result = ConcurrentLoadRunner.run("shards=" + shardCount, CONCURRENCY, OPERATIONS_PER_WORKER,
+                    (worker, iteration) -> {
+                        long productId = productIds[ThreadLocalRandom.current().nextInt(PRODUCTS)];
+                        if (repository.decreaseStock(productId, 1, LocalDateTime.now()) == 0) {
+                            throw new IllegalStateException("재고 차감 실패: " + productId);
+                        }
+                    });
+
+            System.out.println(result.summary());
+            long remaining = 0;
+            for (long productId : productIds) {
+                remaining += repository.findRowById(productId).orElseThrow().stockQuantity();
+            }
+            assertThat(result.failures()).isZero();
+            assertThat((long) PRODUCTS * INITIAL_STOCK - remaining).isEqualTo(result.operations());
+        } finally {
+            repository.destroy();
+        }
+    }
+
+    /**
+     * 쓰기 문장(executeUpdate) 실행 후 커밋 지연만큼 대기한다. (커넥션을 점유한 채 대기)
+     */
+    static class SlowCommits extends DelegatingDataSource {
+
+        private volatile long latencyNanos;
+
+        SlowCommits(DataSource dataSource) {
+            super(dataSource);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return slow(super.getConnection());
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return slow(super.getConnection(username, password));
+        }
+
+        private Connection slow(Connection connection) {
+            return proxy(Connection.class, (proxy, method, args) -> {
+                Object result = invoke(connection, method, args);
+                return method.getName().equals("prepareStatement") ? slow((PreparedStatement) result) : result;
+            });
+        }
+
+        private PreparedStatement slow(PreparedStatement statement) {
+            return proxy(PreparedStatement.class, (proxy, method, args) -> {
+                Object result = invoke(statement, method, args);
+                long latency = latencyNanos;
+                if (latency > 0 && method.getName().equals("executeUpdate")) {
+                    Thread.sleep(Duration.ofNanos(latency));
+                }
+                return result;
+            });
+        }
+
+        private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+            return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler));
+        }
+
+        private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.examples.springbootmonolithicstarter.domains.product.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ProductSearchIndex")
+class ProductSearchIndexTest {
+
+    private ProductSearchIndex productSearchIndex;
+
+    @BeforeEach
+    void setUp() {
+        productSearchIndex = new ProductSearchIndex();
+    }
+
+    @Nested
+    @DisplayName("검색")
+    class Search {
+
+        @Test
+        @DisplayName("띄어쓰기 없이 붙여 쓴 한글 상품명도 부분 일치로 찾는다")
+        void findKoreanSubstring() {
+            productSearchIndex.index(1L, "초경량게이밍노트북", null);
+            productSearchIndex.index(2L, "무선 마우스", null);
+
+            assertThat(productSearchIndex.search("노트북", 10)).containsExactly(1L);
+        }
+
+        @Test
+        @DisplayName("상품명 일치, 상품명 토큰 일치, 설명 일치 순으로 정렬한다")
+        void rankByField() {
+            productSearchIndex.index(1L, "키보드", "노트북 거치대와 함께 사용");
+            productSearchIndex.index(2L, "북노트 트북노", null);
+            productSearchIndex.index(3L, "게이밍 노트북", null);
+            productSearchIndex.index(4L, "노트북 파우치", "노트북 보호용");
+
+            assertThat(productSearchIndex.search("노트북", 10)).containsExactly(4L, 3L, 2L, 1L);
+        }
+
+        @Test
+        @DisplayName("최대 개수만큼만 반환한다")
+        void limit() {
+            for (long id = 1; id <= 10; id++) {
+                productSearchIndex.index(id, "노트북 " + id, null);
+            }
+
+            assertThat(productSearchIndex.search("노트북", 3)).containsExactly(1L, 2L, 3L);
+        }
+
+        @Test
+        @DisplayName("검색어의 토큰 중 하나라도 색인에 없으면 결과가 없다")
+        void noMatch() {
+            productSearchIndex.index(1L, "노트북", null);
+
+            assertThat(productSearchIndex.search("노북", 10)).isEmpty();
+            assertThat(productSearchIndex.search("  ", 10)).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("색인 갱신")
+    class Update {
+
+        @Test
+        @DisplayName("다시 색인하면 이전 상품명으로는 검색되지 않는다")
+        void reindex() {
+            productSearchIndex.index(1L, "노트북", null);
+
+            productSearchIndex.index(1L, "태블릿", null);
+
+            assertThat(productSearchIndex.search("노트북", 10)).isEmpty();
+            assertThat(productSearchIndex.search("태블릿", 10)).containsExactly(1L);
+        }
+
+        @Test
+        @DisplayName("이미 색인된 상품은 indexIfAbsent 로 덮어쓰지 않는다")
+        void indexIfAbsent() {
+            productSearchIndex.index(1L, "태블릿", null);
+
+            productSearchIndex.indexIfAbsent(1L, "노트북", null);
+
+            assertThat(productSearchIndex.search("태블릿", 10)).containsExactly(1L);
+            assertThat(productSearchIndex.search("노트북", 10)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("삭제한 상품은 검색되지 않는다")
+        void remove() {
+            productSearchIndex.index(1L, "노트북", "노트북");
+
+            productSearchIndex.remove(1L);
+
+            assertThat(productSearchIndex.search("노트북", 10)).isEmpty();
+            assertThat(productSearchIndex.size()).isZero();
+            assertThat(productSearchIndex.postingsBytes()).isZero();
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.examples.springbootmonolithicstarter.domains.product.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DisplayName("ProductSuggestIndex")
+class ProductSuggestIndexTest {
+
+    private ProductSuggestIndex productSuggestIndex;
+
+    @BeforeEach
+    void setUp() {
+        productSuggestIndex = new ProductSuggestIndex();
+    }
+
+    @Nested
+    @DisplayName("자동완성")
+    class Suggest {
+
+        @Test
+        @DisplayName("판매 가능 상품을 먼저, 같은 그룹에서는 이름 순으로 반환한다")
+        void availableFirstThenName() {
+            productSuggestIndex.put(1L, "노트북 파우치", true);
+            productSuggestIndex.put(2L, "노트북 거치대", false);
+            productSuggestIndex.put(3L, "노트북", true);
+            productSuggestIndex.put(4L, "마우스", true);
+
+            List<Suggestion> suggestions = productSuggestIndex.suggest("노트", 10);
+
+            assertThat(suggestions).extracting(Suggestion::productId).containsExactly(3L, 1L, 2L);
+            assertThat(suggestions).extracting(Suggestion::available).containsExactly(true, true, false);
+        }
+
+        @Test
+        @DisplayName("대소문자를 구분하지 않고, 원래 상품명을 반환한다")
+        void caseInsensitive() {
+            productSuggestIndex.put(1L, "MacBook Pro", true);
+
+            assertThat(productSuggestIndex.suggest("macb", 10))
+                    .extracting(Suggestion::name)
+                    .containsExactly("MacBook Pro");
+        }
+
+        @Test
+        @DisplayName("최대 개수만큼만 반환한다")
+        void limit() {
+            productSuggestIndex.put(1L, "a1", false);
+            productSuggestIndex.put(2L, "a2", true);
+            productSuggestIndex.put(3L, "a3", true);
+
+            assertThat(productSuggestIndex.suggest("a", 2))
+                    .extracting(Suggestion::productId)
+                    .containsExactly(2L, 3L);
+        }
+    }
+
+    @Nested
+    @DisplayName("색인 갱신")
+    class Update {
+
+        @Test
+        @DisplayName("이름을 바꾸면 이전 이름으로는 검색되지 않는다")
+        void rename() {
+            productSuggestIndex.put(1L, "노트북", true);
+
+            productSuggestIndex.put(1L, "태블릿", true);
+
+            assertThat(productSuggestIndex.suggest("노트", 10)).isEmpty();
+            assertThat(productSuggestIndex.suggest("태블", 10)).extracting(Suggestion::productId).containsExactly(1L);
+            assertThat(productSuggestIndex.size()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("판매 중지하면 판매 가능 상품 뒤로 밀린다")
+        void changeAvailability() {
+            productSuggestIndex.put(1L, "노트북 A", true);
+            productSuggestIndex.put(2L, "노트북 B", true);
+
+            productSuggestIndex.changeAvailability(1L, false);
+
+            assertThat(productSuggestIndex.suggest("노트북", 10))
+                    .extracting(Suggestion::productId)
+                    .containsExactly(2L, 1L);
+        }
+
+        @Test
+        @DisplayName("모아 둔 변경이 많으면 배열을 병합하여 한 번에 반영한다")
+        void applyBatch() {
+            productSuggestIndex.put(1L, "노트북 A", true);
+            productSuggestIndex.put(2L, "노트북 B", true);
+            productSuggestIndex.put(3L, "노트북 C", true);
+            ProductSuggestIndex.Updates updates = new ProductSuggestIndex.Updates();
+            for (long id = 100; id < 100 + ProductSuggestIndex.BATCH_THRESHOLD; id++) {
+                updates.put(id, "마우스 " + id, id % 2 == 0);
+            }
+            updates.put(1L, "태블릿", true);
+            updates.changeAvailability(2L, false);
+            updates.remove(3L);
+
+            productSuggestIndex.apply(updates);
+
+            assertThat(productSuggestIndex.size()).isEqualTo(2 + ProductSuggestIndex.BATCH_THRESHOLD);
+            assertThat(productSuggestIndex.suggest("노트북", 10))
+                    .extracting(Suggestion::productId, Suggestion::available)
+                    .containsExactly(tuple(2L, false));
+            assertThat(productSuggestIndex.suggest("태블릿", 10)).extracting(Suggestion::productId).containsExactly(1L);
+            assertThat(productSuggestIndex.suggest("마우스 10", 3))
+                    .extracting(Suggestion::productId)
+                    .containsExactly(100L, 102L, 104L);
+
+            productSuggestIndex.put(100L, "키보드", false);
+            assertThat(productSuggestIndex.suggest("키보드", 10)).extracting(Suggestion::productId).containsExactly(100L);
+        }
+
+        @Test
+        @DisplayName("일괄 적재 시 이미 반영된 상품은 덮어쓰지 않는다")
+        void loadKeepsNewerEntries() {
+            productSuggestIndex.put(1L, "태블릿", true);
+
+            productSuggestIndex.load(List.of(
+                    new ProductSuggestIndex.LoadEntry(1L, "노트북", true),
+                    new ProductSuggestIndex.LoadEntry(2L, "노트북 파우치", false)
+            ));
+
+            assertThat(productSuggestIndex.isReady()).isTrue();
+            assertThat(productSuggestIndex.suggest("노트북", 10)).extracting(Suggestion::productId).containsExactly(2L);
+            assertThat(productSuggestIndex.suggest("태블릿", 10)).extracting(Suggestion::productId).containsExactly(1L);
+        }
+
+        @Test
+        @DisplayName("다시 적재하는 동안 반영된 변경은 스냅샷 적재 후 다시 반영된다")
+        void reloadReplaysChanges() {
+            productSuggestIndex.load(List.of(new ProductSuggestIndex.LoadEntry(1L, "노트북 A", true)));
+
+            productSuggestIndex.beginLoad();
+            productSuggestIndex.changeAvailability(1L, false);
+            productSuggestIndex.put(2L, "노트북 B", true);
+            productSuggestIndex.load(List.of(new ProductSuggestIndex.LoadEntry(1L, "노트북 A", true)));
+
+            assertThat(productSuggestIndex.suggest("노트북", 10))
+                    .extracting(Suggestion::productId, Suggestion::available)
+                    .containsExactly(tuple(2L, true), tuple(1L, false));
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.examples.springbootmonolithicstarter.domains.product.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ProductTokenizer")
+class ProductTokenizerTest {
+
+    @Test
+    @DisplayName("단어를 2글자씩 겹쳐 나눈다")
+    void bigrams() {
+        assertThat(ProductTokenizer.grams("노트북 pro"))
+                .containsExactly("노트", "트북", "pr", "ro");
+    }
+
+    @Test
+    @DisplayName("한 글자 단어는 그대로 토큰이 되고, 문자/숫자가 아닌 문자는 구분자로 사용된다")
+    void singleCharacterWordsAndSeparators() {
+        assertThat(ProductTokenizer.grams("a-4k/펜"))
+                .containsExactly("a", "4k", "펜");
+    }
+
+    @Test
+    @DisplayName("한 글자 단어가 있는 검색어를 구분한다")
+    void singleCharacterWord() {
+        assertThat(ProductTokenizer.hasSingleCharacterWord("책")).isTrue();
+        assertThat(ProductTokenizer.hasSingleCharacterWord("노트북 a")).isTrue();
+        assertThat(ProductTokenizer.hasSingleCharacterWord("노트북 pro")).isFalse();
+        assertThat(ProductTokenizer.hasSingleCharacterWord("  ")).isFalse();
+    }
+
+    @Test
+    @DisplayName("대소문자와 유니코드 조합 형태를 통일한다")
+    void normalize() {
+        String decomposed = "\u1100\u1161\u11AB"; // '간' (자모 분리형)
+
+        assertThat(ProductTokenizer.normalize("  MacBook " + decomposed)).isEqualTo("macbook 간");
+    }
+}
@@ -0,0 +1,87 @@
+package com.examples.springbootmonolithicstarter.domains.product.service.application;
+
+import com.examples.springbootmonolithicstarter.domains.product.dto.request.ReserveStockRequest;
+import com.examples.springbootmonolithicstarter.domains.product.model.Product;
+import com.examples.springbootmonolithicstarter.domains.product.repository.ProductRepository;
+import com.examples.springbootmonolithicstarter.support.benchmark.ConcurrentLoadRunner;
+import com.examples.springbootmonolithicstarter.support.benchmark.ConcurrentLoadRunner.LoadResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 주문 한 건의 상품 수(1 / 5 / 10 / 30)에 따라
+ * 상품별 개별 차감과 일괄 예약의 처리량과 p99 지연 시간을 비교한다.
+ * <p>
+ * 실행: ./gradlew benchmark --tests "*.BasketReservationBenchmark"
+ */
+@Tag("benchmark")
+@DisplayName("여러 상품 재고 일괄 예약 벤치마크")
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.show_sql=false",
+        "logging.level.org.hibernate.SQL=warn",
+        "logging.level.org.hibernate.orm.jdbc.bind=warn",
+        "logging.level.com.examples=warn"
+})
+class BasketReservationBenchmark {
+
+    private static final int CONCURRENCY = 16;
+    private static final int ORDERS_PER_WORKER = 64;
+    private static final int INITIAL_STOCK = CONCURRENCY * ORDERS_PER_WORKER;
+
+    @Autowired
+    private ProductApplicationService productApplicationService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @AfterEach
+    void tearDown() {
+        productRepository.deleteAll();
+    }
+
+    @ParameterizedTest(name = "lines={0}")
+    @ValueSource(ints = {1, 5, 10, 30})
+    void reservePerLine(int lineCount) {
+        List<Long> productIds = saveProducts(lineCount);
+
+        LoadResult result = ConcurrentLoadRunner.run("PerLine-" + lineCount, CONCURRENCY, ORDERS_PER_WORKER,
+                (worker, iteration) -> productIds.forEach(productId -> productApplicationService.removeStock(productId, 1)));
+
+        System.out.println(result.summary());
+        assertThat(result.failures()).isZero();
+    }
+
+    @ParameterizedTest(name = "lines={0}")
+    @ValueSource(ints = {1, 5, 10, 30})
+    void reserveBasket(int lineCount) {
+        List<Long> productIds = saveProducts(lineCount);
+        ReserveStockRequest request = new ReserveStockRequest(productIds.stream()
+                .map(productId -> new ReserveStockRequest.Line(productId, 1))
+                .toList());
+
+        LoadResult result = ConcurrentLoadRunner.run("Basket-" + lineCount, CONCURRENCY, ORDERS_PER_WORKER,
+                (worker, iteration) -> productApplicationService.reserveStocks(request));
+
+        System.out.println(result.summary());
+        assertThat(result.failures()).isZero();
+    }
+
+    private List<Long> saveProducts(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> productRepository.save(
+                        Product.create("상품 " + i, "설명", BigDecimal.valueOf(10000), INITIAL_STOCK)).getId())
+                .toList();
+    }
+}
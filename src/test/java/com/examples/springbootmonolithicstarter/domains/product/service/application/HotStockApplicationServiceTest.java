@@ -0,0 +1,173 @@
+package com.examples.springbootmonolithicstarter.domains.product.service.application;
+
+import com.examples.springbootmonolithicstarter.domains.product.dto.request.CreateProductRequest;
+import com.examples.springbootmonolithicstarter.domains.product.event.ProductStockChangedEvent;
+import com.examples.springbootmonolithicstarter.domains.product.importer.ProductImportRow;
+import com.examples.springbootmonolithicstarter.domains.product.importer.ProductUpsertResult;
+import com.examples.springbootmonolithicstarter.domains.product.model.HotStockCheckpoint;
+import com.examples.springbootmonolithicstarter.domains.product.model.Product;
+import com.examples.springbootmonolithicstarter.domains.product.repository.HotStockCheckpointRepository;
+import com.examples.springbootmonolithicstarter.domains.product.repository.ProductRepository;
+import com.examples.springbootmonolithicstarter.domains.product.stock.HotStockJournal;
+import com.examples.springbootmonolithicstarter.domains.product.stock.HotStockLedger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.web.context.WebServerGracefulShutdownLifecycle;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.event.EventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("HotStockApplicationService 통합 테스트")
+@SpringBootTest(properties = {
+        "product.stock.hot.enabled=true",
+        "product.stock.hot.flush-interval=1h",
+        "product.stock.hot.journal-directory=build/tmp/hot-stock-journal-test"
+})
+class HotStockApplicationServiceTest {
+
+    private static final AtomicBoolean FAIL_AFTER_COMMIT = new AtomicBoolean();
+
+    @Autowired
+    private HotStockApplicationService hotStockApplicationService;
+
+    @Autowired
+    private HotStockLedger hotStockLedger;
+
+    @Autowired
+    private HotStockJournal hotStockJournal;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private HotStockCheckpointRepository hotStockCheckpointRepository;
+
+    @Autowired
+    private ProductBulkService productBulkService;
+
+    @AfterEach
+    void tearDown() {
+        productRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("메모리 원장의 누적 변경분을 DB에 반영한다")
+    void flush() {
+        // given
+        Product product = productRepository.save(Product.create("인기 상품", "설명", BigDecimal.valueOf(10000), 100));
+        hotStockLedger.register(product.getId(), 100, true);
+        hotStockLedger.reserve(product.getId(), 30);
+        hotStockLedger.release(product.getId(), 5);
+
+        // when
+        hotStockApplicationService.flush();
+
+        // then
+        assertThat(productRepository.findById(product.getId()).orElseThrow().getStockQuantity()).isEqualTo(75);
+    }
+
+    @Test
+    @DisplayName("커밋 후 예외로 반영에 실패해도 체크포인트를 확인하여 같은 변경분을 두 번 반영하지 않는다")
+    void flushFailsAfterCommit() {
+        // given
+        Product product = productRepository.save(Product.create("인기 상품", "설명", BigDecimal.valueOf(10000), 100));
+        hotStockLedger.register(product.getId(), 100, true);
+        hotStockLedger.reserve(product.getId(), 30);
+        FAIL_AFTER_COMMIT.set(true);
+        try {
+            hotStockApplicationService.flush();
+        } finally {
+            FAIL_AFTER_COMMIT.set(false);
+        }
+
+        // when
+        hotStockLedger.reserve(product.getId(), 5);
+        hotStockApplicationService.flush();
+
+        // then
+        assertThat(productRepository.findById(product.getId()).orElseThrow().getStockQuantity()).isEqualTo(65);
+    }
+
+    @Test
+    @DisplayName("웹 서버가 요청을 받기 전에 원장을 시작한다")
+    void startsBeforeWebServer() {
+        assertThat(hotStockApplicationService.isRunning()).isTrue();
+        assertThat(hotStockApplicationService.getPhase())
+                .isLessThan(WebServerGracefulShutdownLifecycle.SMART_LIFECYCLE_PHASE - 1024);
+    }
+
+    @Test
+    @DisplayName("가져오기는 메모리 원장 상품을 수정하지 않고 오류로 돌려준다")
+    void upsertSkipsHotProducts() {
+        // given
+        Product product = productRepository.save(Product.create("인기 상품", "설명", BigDecimal.valueOf(10000), 100));
+        hotStockLedger.register(product.getId(), 100, true);
+
+        // when
+        ProductUpsertResult result = productBulkService.upsertProducts(List.of(new ProductImportRow(2, product.getId(),
+                new CreateProductRequest("이름 변경", "설명", BigDecimal.valueOf(20000), 0))));
+
+        // then
+        assertThat(result.updatedCount()).isZero();
+        assertThat(result.errors()).singleElement().satisfies(error -> assertThat(error.lineNumber()).isEqualTo(2));
+        assertThat(productRepository.findById(product.getId()).orElseThrow().getName()).isEqualTo("인기 상품");
+    }
+
+    @Test
+    @DisplayName("재기동 시 DB에 반영되지 않은 저널을 복구하고 체크포인트를 갱신한다")
+    void recoverOnStartup() {
+        // given - 저널에만 기록되고 DB 반영 전에 프로세스가 종료된 상황
+        Product product = productRepository.save(Product.create("인기 상품", "설명", BigDecimal.valueOf(10000), 100));
+        hotStockJournal.append(product.getId(), -30);
+        hotStockJournal.append(product.getId(), -10);
+        hotStockJournal.close();
+
+        // when
+        hotStockApplicationService.start();
+
+        // then
+        long checkpoint = hotStockCheckpointRepository.findById(HotStockCheckpoint.SINGLETON_ID).orElseThrow()
+                .getLastSequence();
+        assertThat(productRepository.findById(product.getId()).orElseThrow().getStockQuantity()).isEqualTo(60);
+        assertThat(hotStockJournal.segments()).containsExactly(checkpoint + 1);
+    }
+
+    @TestConfiguration
+    static class FailAfterCommitConfig {
+
+        /**
+         * 반영 트랜잭션이 커밋된 뒤 예외를 던져, 커밋 결과를 받지 못한 상황을 만든다.
+         */
+        @Bean
+        FailAfterCommitListener failAfterCommitListener() {
+            return new FailAfterCommitListener();
+        }
+    }
+
+    static class FailAfterCommitListener {
+
+        @EventListener
+        public void onStockChanged(ProductStockChangedEvent event) {
+            if (!FAIL_AFTER_COMMIT.get()) {
+                return;
+            }
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    throw new IllegalStateException("커밋 후 실패");
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.examples.springbootmonolithicstarter.domains.product.service.application;
+
+import com.examples.springbootmonolithicstarter.domains.product.model.Product;
+import com.examples.springbootmonolithicstarter.domains.product.repository.ProductRepository;
+import com.examples.springbootmonolithicstarter.domains.product.stock.HotStockLedger;
+import com.examples.springbootmonolithicstarter.support.benchmark.ConcurrentLoadRunner;
+import com.examples.springbootmonolithicstarter.support.benchmark.ConcurrentLoadRunner.LoadResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 인기 상품 한 개에 대한 재고 차감 처리량을 메모리 원장 경로와 DB 경로(비관적 락)로 비교한다.
+ * <p>
+ * 실행: ./gradlew benchmark --tests "*.HotStockBenchmark"
+ */
+@Tag("benchmark")
+@DisplayName("인기 상품 메모리 원장 벤치마크")
+@SpringBootTest(properties = {
+        "product.stock.hot.enabled=true",
+        "product.stock.hot.journal-directory=build/tmp/hot-stock-journal-benchmark",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.show_sql=false",
+        "logging.level.org.hibernate.SQL=warn",
+        "logging.level.org.hibernate.orm.jdbc.bind=warn",
+        "logging.level.com.examples=warn"
+})
+class HotStockBenchmark {
+
+    private static final int TOTAL_OPERATIONS = 20_000;
+
+    @Autowired
+    private ProductApplicationService productApplicationService;
+
+    @Autowired
+    private HotStockApplicationService hotStockApplicationService;
+
+    @Autowired
+    private HotStockLedger hotStockLedger;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @AfterEach
+    void tearDown() {
+        productRepository.deleteAll();
+    }
+
+    @ParameterizedTest(name = "concurrency={0}")
+    @ValueSource(ints = {16, 256})
+    void compareReservationThroughput(int concurrency) {
+        Long coldProductId = saveProduct();
+        Long hotProductId = saveProduct();
+        hotStockLedger.register(hotProductId, TOTAL_OPERATIONS, true);
+        int operationsPerWorker = TOTAL_OPERATIONS / concurrency;
+
+        LoadResult db = ConcurrentLoadRunner.run("db", concurrency, operationsPerWorker,
+                (worker, iteration) -> productApplicationService.removeStock(coldProductId, 1));
+        LoadResult hot = ConcurrentLoadRunner.run("hot-ledger", concurrency, operationsPerWorker,
+                (worker, iteration) -> productApplicationService.removeStock(hotProductId, 1));
+        hotStockApplicationService.flush();
+
+        System.out.println(db.summary());
+        System.out.println(hot.summary());
+        System.out.printf("hot-ledger / db throughput = %.1fx%n", hot.throughputPerSecond() / db.throughputPerSecond());
+        int remaining = productRepository.findById(hotProductId).orElseThrow().getStockQuantity();
+        assertThat(hot.operations() - hot.failures()).isEqualTo(TOTAL_OPERATIONS - remaining);
+    }
+
+    private Long saveProduct() {
+        return productRepository.save(
+                Product.create("인기 상품", "설명", BigDecimal.valueOf(10000), TOTAL_OPERATIONS)).getId();
+    }
+}
@@ -0,0 +1,100 @@
+package com.examples.springbootmonolithicstarter.domains.product.service.application;
+
+import com.examples.springbootmonolithicstarter.domains.product.repository.ProductRepository;
+import com.examples.springbootmonolithicstarter.global.pagination.CursorCodec;
+import com.examples.springbootmonolithicstarter.support.benchmark.ConcurrentLoadRunner;
+import com.examples.springbootmonolithicstarter.support.benchmark.ConcurrentLoadRunner.LoadResult;
+import com.examples.springbootmonolithicstarter.support.benchmark.ProductTableSeeder;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 1 / 10 / 100 / 1,000 / 10,000 번째 페이지를 조회하며
+ * 키셋 페이지네이션과 OFFSET + COUNT 페이지네이션의 페이지당 지연 시간을 비교한다.
+ * <p>
+ * 실행: ./gradlew benchmark --tests "*.KeysetPaginationBenchmark"
+ */
+@Tag("benchmark")
+@DisplayName("키셋 페이지네이션 벤치마크")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.show_sql=false",
+        "logging.level.org.hibernate.SQL=warn",
+        "logging.level.org.hibernate.orm.jdbc.bind=warn",
+        "logging.level.com.examples=warn"
+})
+class KeysetPaginationBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+    private static final int PAGES = 10_000;
+    private static final int REQUESTS = 50;
+
+    @Autowired
+    private ProductApplicationService productApplicationService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private long firstId;
+
+    @BeforeAll
+    void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < PAGE_SIZE * PAGES; i++) {
+            rows.add(new Object[]{"상품 " + i, "설명", 10000, 100, "AVAILABLE", now, now, 0L});
+        }
+        firstId = ProductTableSeeder.insert(jdbcTemplate, transactionTemplate, rows);
+    }
+
+    @AfterAll
+    void tearDown() {
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.update("delete from products"));
+    }
+
+    @ParameterizedTest(name = "page={0}")
+    @ValueSource(ints = {1, 10, 100, 1_000, 10_000})
+    void keyset(int page) {
+        String cursor = page == 1 ? null : CursorCodec.encode(firstId - 1 + (long) (page - 1) * PAGE_SIZE);
+
+        LoadResult result = ConcurrentLoadRunner.run("Keyset-page-" + page, 1, REQUESTS,
+                (worker, iteration) -> productApplicationService.getAllProducts(cursor, PAGE_SIZE));
+
+        System.out.println(result.summary());
+        assertThat(result.failures()).isZero();
+    }
+
+    @ParameterizedTest(name = "page={0}")
+    @ValueSource(ints = {1, 10, 100, 1_000, 10_000})
+    void offset(int page) {
+        LoadResult result = ConcurrentLoadRunner.run("Offset-page-" + page, 1, REQUESTS,
+                (worker, iteration) -> transactionTemplate.executeWithoutResult(status ->
+                        productRepository.findAll(PageRequest.of(page - 1, PAGE_SIZE))));
+
+        System.out.println(result.summary());
+        assertThat(result.failures()).isZero();
+    }
+}
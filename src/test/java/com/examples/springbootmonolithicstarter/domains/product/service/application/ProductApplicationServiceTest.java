@@ -1,38 +1,74 @@
 package com.examples.springbootmonolithicstarter.domains.product.service.application;
 
+import com.examples.springbootmonolithicstarter.domains.product.cache.ProductCache;
+import com.examples.springbootmonolithicstarter.domains.product.config.StockLockStrategy;
+import com.examples.springbootmonolithicstarter.domains.product.config.StockProperties;
 import com.examples.springbootmonolithicstarter.domains.product.dto.request.CreateProductRequest;
+import com.examples.springbootmonolithicstarter.domains.product.dto.request.QuoteRequest;
+import com.examples.springbootmonolithicstarter.domains.product.dto.request.ReserveStockRequest;
 import com.examples.springbootmonolithicstarter.domains.product.dto.request.UpdateProductRequest;
 import com.examples.springbootmonolithicstarter.domains.product.dto.response.ProductResponse;
+import com.examples.springbootmonolithicstarter.domains.product.dto.response.ProductSuggestionResponse;
+import com.examples.springbootmonolithicstarter.domains.product.dto.response.QuoteResponse;
+import com.examples.springbootmonolithicstarter.domains.product.event.ProductChangedEvent;
+import com.examples.springbootmonolithicstarter.domains.product.event.ProductStatusChangedEvent;
+import com.examples.springbootmonolithicstarter.domains.product.event.ProductStockChangedEvent;
 import com.examples.springbootmonolithicstarter.domains.product.exception.ProductNotFoundException;
+import com.examples.springbootmonolithicstarter.domains.product.exception.ProductOutOfStockException;
+import com.examples.springbootmonolithicstarter.domains.product.exception.ProductStockShortageException;
 import com.examples.springbootmonolithicstarter.domains.product.model.Product;
 import com.examples.springbootmonolithicstarter.domains.product.model.ProductStatus;
 import com.examples.springbootmonolithicstarter.domains.product.repository.ProductRepository;
+import com.examples.springbootmonolithicstarter.domains.product.repository.ProductRow;
 import com.examples.springbootmonolithicstarter.domains.product.service.domain.StockService;
+import com.examples.springbootmonolithicstarter.domains.product.search.ProductSearchIndex;
+import com.examples.springbootmonolithicstarter.domains.product.search.ProductSuggestIndex;
+import com.examples.springbootmonolithicstarter.domains.product.search.Suggestion;
+import com.examples.springbootmonolithicstarter.domains.product.stock.HotStockLedger;
+import com.examples.springbootmonolithicstarter.domains.product.stock.StockMetrics;
+import com.examples.springbootmonolithicstarter.domains.product.stock.StockMutationBatcher;
+import com.examples.springbootmonolithicstarter.domains.product.store.JpaProductStore;
+import com.examples.springbootmonolithicstarter.domains.product.store.JpaStockStore;
+import com.examples.springbootmonolithicstarter.global.exception.BusinessException;
+import com.examples.springbootmonolithicstarter.global.pagination.CursorCodec;
+import com.examples.springbootmonolithicstarter.global.response.CursorPageResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.function.Function;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willDoNothing;
+import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.never;
 
 @DisplayName("ProductApplicationService")
 @ExtendWith(MockitoExtension.class)
 class ProductApplicationServiceTest {
 
-    @InjectMocks
     private ProductApplicationService productApplicationService;
 
     @Mock
@@ -41,6 +77,47 @@ class ProductApplicationServiceTest {
     @Mock
     private StockService stockService;
 
+    @Mock
+    private HotStockLedger hotStockLedger;
+
+    @Mock
+    private StockMutationBatcher stockMutationBatcher;
+
+    @Mock
+    private ProductSearchIndex productSearchIndex;
+
+    @Mock
+    private ProductSuggestIndex productSuggestIndex;
+
+    @Mock
+    private ProductCache productCache;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private StockProperties stockProperties = new StockProperties(StockLockStrategy.PESSIMISTIC);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy
+    private StockMetrics stockMetrics = new StockMetrics(meterRegistry);
+
+    @BeforeEach
+    void setUp() {
+        productApplicationService = new ProductApplicationService(
+                new JpaProductStore(productRepository),
+                new JpaStockStore(productRepository, stockService, stockProperties, hotStockLedger,
+                        stockMutationBatcher, stockMetrics, eventPublisher),
+                hotStockLedger,
+                stockMetrics,
+                productSearchIndex,
+                productSuggestIndex,
+                productCache,
+                eventPublisher
+        );
+    }
+
     @Nested
     @DisplayName("상품 생성")
     class CreateProduct {
@@ -83,8 +160,8 @@ class ProductApplicationServiceTest {
         void getProductById() {
             // given
             Long productId = 1L;
-            Product product = createProduct();
-            given(productRepository.findById(productId)).willReturn(Optional.of(product));
+            givenCacheMiss(productId);
+            given(productRepository.findRowById(productId)).willReturn(Optional.of(createRow(productId)));
 
             // when
             ProductResponse response = productApplicationService.getProduct(productId);
@@ -93,12 +170,45 @@ class ProductApplicationServiceTest {
             assertThat(response.name()).isEqualTo("테스트 상품");
         }
 
+        @Test
+        @DisplayName("캐시에 있는 상품은 DB를 조회하지 않는다")
+        void getCachedProduct() {
+            // given
+            Long productId = 1L;
+            ProductResponse cached = ProductResponse.from(createProduct(productId));
+            given(productCache.get(eq(productId), any())).willReturn(cached);
+
+            // when
+            ProductResponse response = productApplicationService.getProduct(productId);
+
+            // then
+            assertThat(response).isSameAs(cached);
+            then(productRepository).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("인기 상품은 캐시의 재고 대신 메모리 원장의 재고를 반환한다")
+        void getHotProduct() {
+            // given
+            Long productId = 1L;
+            given(productCache.get(eq(productId), any())).willReturn(ProductResponse.from(createProduct(productId)));
+            given(hotStockLedger.stockQuantity(productId)).willReturn(OptionalInt.of(0));
+
+            // when
+            ProductResponse response = productApplicationService.getProduct(productId);
+
+            // then
+            assertThat(response.stockQuantity()).isZero();
+            assertThat(response.available()).isFalse();
+        }
+
         @Test
         @DisplayName("존재하지 않는 상품을 조회하면 예외가 발생한다")
         void getProductNotFound() {
             // given
             Long productId = 999L;
-            given(productRepository.findById(productId)).willReturn(Optional.empty());
+            givenCacheMiss(productId);
+            given(productRepository.findRowById(productId)).willReturn(Optional.empty());
 
             // when & then
             assertThatThrownBy(() -> productApplicationService.getProduct(productId))
@@ -106,32 +216,145 @@ class ProductApplicationServiceTest {
         }
 
         @Test
-        @DisplayName("모든 상품을 조회할 수 있다")
+        @DisplayName("페이지 크기보다 한 건 더 조회하여 다음 페이지 커서를 만든다")
         void getAllProducts() {
             // given
-            List<Product> products = List.of(createProduct(), createProduct());
-            given(productRepository.findAll()).willReturn(products);
+            List<ProductRow> rows = List.of(createRow(1L), createRow(2L), createRow(3L));
+            given(productRepository.findRowsByIdGreaterThan(0L, Limit.of(3))).willReturn(rows);
 
             // when
-            List<ProductResponse> responses = productApplicationService.getAllProducts();
+            CursorPageResponse<ProductResponse> response = productApplicationService.getAllProducts(null, 2);
 
             // then
-            assertThat(responses).hasSize(2);
+            assertThat(response.content()).extracting(ProductResponse::id).containsExactly(1L, 2L);
+            assertThat(response.hasNext()).isTrue();
+            assertThat(response.nextCursor()).isEqualTo(CursorCodec.encode(2L));
+        }
+
+        @Test
+        @DisplayName("커서가 있으면 커서의 ID 이후부터 조회하고, 최대 페이지 크기를 넘지 않는다")
+        void getAllProductsAfterCursor() {
+            // given
+            given(productRepository.findRowsByIdGreaterThan(2L, Limit.of(101))).willReturn(List.of());
+
+            // when
+            CursorPageResponse<ProductResponse> response =
+                    productApplicationService.getAllProducts(CursorCodec.encode(2L), 1000);
+
+            // then
+            assertThat(response.content()).isEmpty();
+            assertThat(response.hasNext()).isFalse();
+            assertThat(response.nextCursor()).isNull();
         }
 
         @Test
         @DisplayName("판매 가능한 상품만 조회할 수 있다")
         void getAvailableProducts() {
             // given
-            List<Product> products = List.of(createProduct());
-            given(productRepository.findByStatus(ProductStatus.AVAILABLE)).willReturn(products);
+            given(productRepository.findRowsByStatusAndIdGreaterThan(ProductStatus.AVAILABLE, 0L, Limit.of(21)))
+                    .willReturn(List.of(createRow(1L)));
 
             // when
-            List<ProductResponse> responses = productApplicationService.getAvailableProducts();
+            CursorPageResponse<ProductResponse> response = productApplicationService.getAvailableProducts(null, 20);
+
+            // then
+            assertThat(response.content()).hasSize(1);
+            assertThat(response.hasNext()).isFalse();
+        }
+
+        @Test
+        @DisplayName("잘못된 커서로 조회하면 예외가 발생한다")
+        void getAllProductsWithInvalidCursor() {
+            assertThatThrownBy(() -> productApplicationService.getAllProducts("not-a-cursor", 20))
+                    .isInstanceOf(BusinessException.class);
+            then(productRepository).shouldHaveNoInteractions();
+        }
+    }
+
+    @Nested
+    @DisplayName("상품 검색")
+    class SearchProducts {
+
+        @Test
+        @DisplayName("색인이 준비되면 색인의 순위대로 상품을 반환한다")
+        void searchWithIndex() {
+            // given
+            given(productSearchIndex.isReady()).willReturn(true);
+            given(productSearchIndex.search("노트북", 20)).willReturn(List.of(2L, 1L));
+            given(productRepository.findRowsByIdIn(List.of(2L, 1L)))
+                    .willReturn(List.of(createRow(1L), createRow(2L)));
+
+            // when
+            List<ProductResponse> responses = productApplicationService.searchProducts("노트북", 20);
+
+            // then
+            assertThat(responses).extracting(ProductResponse::id).containsExactly(2L, 1L);
+            then(productRepository).should(never()).findRowsByNameContaining(any(), any(Limit.class));
+        }
+
+        @Test
+        @DisplayName("색인이 준비되지 않았으면 DB 에서 검색한다")
+        void searchWithoutIndex() {
+            // given
+            given(productSearchIndex.isReady()).willReturn(false);
+            given(productRepository.findRowsByNameContaining("노트북", Limit.of(20))).willReturn(List.of(createRow(1L)));
+
+            // when
+            List<ProductResponse> responses = productApplicationService.searchProducts("노트북", 20);
 
             // then
             assertThat(responses).hasSize(1);
-            then(productRepository).should().findByStatus(ProductStatus.AVAILABLE);
+            then(productSearchIndex).should(never()).search(any(), anyInt());
+        }
+
+        @Test
+        @DisplayName("한 글자 검색어는 색인이 준비되어 있어도 DB 에서 검색한다")
+        void searchSingleCharacter() {
+            // given
+            given(productSearchIndex.isReady()).willReturn(true);
+            given(productRepository.findRowsByNameContaining("책", Limit.of(20))).willReturn(List.of(createRow(1L)));
+
+            // when
+            List<ProductResponse> responses = productApplicationService.searchProducts("책", 20);
+
+            // then
+            assertThat(responses).extracting(ProductResponse::id).containsExactly(1L);
+            then(productSearchIndex).should(never()).search(any(), anyInt());
+        }
+    }
+
+    @Nested
+    @DisplayName("상품명 자동완성")
+    class SuggestProducts {
+
+        @Test
+        @DisplayName("색인이 준비되면 색인에서 최대 20건까지 반환한다")
+        void suggestWithIndex() {
+            // given
+            given(productSuggestIndex.isReady()).willReturn(true);
+            given(productSuggestIndex.suggest("노트", 20)).willReturn(List.of(new Suggestion(1L, "노트북", true)));
+
+            // when
+            List<ProductSuggestionResponse> responses = productApplicationService.suggestProducts("노트", 100);
+
+            // then
+            assertThat(responses).containsExactly(new ProductSuggestionResponse(1L, "노트북", true));
+            then(productRepository).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("색인이 준비되지 않았으면 DB 에서 조회한다")
+        void suggestWithoutIndex() {
+            // given
+            given(productSuggestIndex.isReady()).willReturn(false);
+            given(productRepository.findByNameStartingWithOrderByNameAsc("노트", Limit.of(10)))
+                    .willReturn(List.of(createProduct(1L)));
+
+            // when
+            List<ProductSuggestionResponse> responses = productApplicationService.suggestProducts("노트", 10);
+
+            // then
+            assertThat(responses).extracting(ProductSuggestionResponse::id).containsExactly(1L);
         }
     }
 
@@ -158,6 +381,8 @@ class ProductApplicationServiceTest {
             // then
             assertThat(response.name()).isEqualTo("수정된 상품");
             assertThat(response.price()).isEqualByComparingTo(BigDecimal.valueOf(20000));
+            then(eventPublisher).should().publishEvent(
+                    new ProductChangedEvent(null, "수정된 상품", "수정된 설명", ProductStatus.AVAILABLE));
         }
     }
 
@@ -171,13 +396,14 @@ class ProductApplicationServiceTest {
             // given
             Long productId = 1L;
             Product product = createProduct();
-            given(productRepository.findById(productId)).willReturn(Optional.of(product));
+            given(productRepository.findByIdForUpdate(productId)).willReturn(Optional.of(product));
 
             // when
             productApplicationService.addStock(productId, 50);
 
             // then
             then(stockService).should().releaseStock(product, 50);
+            then(eventPublisher).should().publishEvent(new ProductStockChangedEvent(productId));
         }
 
         @Test
@@ -186,13 +412,31 @@ class ProductApplicationServiceTest {
             // given
             Long productId = 1L;
             Product product = createProduct();
-            given(productRepository.findById(productId)).willReturn(Optional.of(product));
+            given(productRepository.findByIdForUpdate(productId)).willReturn(Optional.of(product));
 
             // when
             productApplicationService.removeStock(productId, 30);
 
             // then
             then(stockService).should().reserveStock(product, 30);
+            assertThat(reservations("reserved")).isEqualTo(1);
+            assertThat(meterRegistry.get("product.stock.lock.wait").timer().count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("재고가 부족하여 거절된 차감은 rejected 로 센다")
+        void removeStockRejected() {
+            // given
+            Long productId = 1L;
+            Product product = createProduct();
+            given(productRepository.findByIdForUpdate(productId)).willReturn(Optional.of(product));
+            willThrow(new ProductOutOfStockException(productId, 30, 10)).given(stockService).reserveStock(product, 30);
+
+            // when & then
+            assertThatThrownBy(() -> productApplicationService.removeStock(productId, 30))
+                    .isInstanceOf(ProductOutOfStockException.class);
+            assertThat(reservations("rejected")).isEqualTo(1);
+            assertThat(reservations("reserved")).isZero();
         }
 
         @Test
@@ -200,13 +444,185 @@ class ProductApplicationServiceTest {
         void addStockToNonExistentProduct() {
             // given
             Long productId = 999L;
-            given(productRepository.findById(productId)).willReturn(Optional.empty());
+            given(productRepository.findByIdForUpdate(productId)).willReturn(Optional.empty());
 
             // when & then
             assertThatThrownBy(() -> productApplicationService.addStock(productId, 50))
                     .isInstanceOf(ProductNotFoundException.class);
             then(stockService).should(never()).releaseStock(any(), anyInt());
         }
+
+        @Test
+        @DisplayName("낙관적 락 전략이면 잠금 없이 조회한 상품의 재고를 차감한다")
+        void removeStockWithOptimisticStrategy() {
+            // given
+            Long productId = 1L;
+            Product product = createProduct();
+            given(stockProperties.lockStrategy()).willReturn(StockLockStrategy.OPTIMISTIC);
+            given(productRepository.findById(productId)).willReturn(Optional.of(product));
+
+            // when
+            productApplicationService.removeStock(productId, 30);
+
+            // then
+            then(stockService).should().reserveStock(product, 30);
+            then(productRepository).should(never()).findByIdForUpdate(any());
+        }
+
+        @Test
+        @DisplayName("조건부 UPDATE 전략이면 상품을 조회하지 않고 재고를 차감한다")
+        void removeStockWithAtomicUpdateStrategy() {
+            // given
+            Long productId = 1L;
+            given(stockProperties.lockStrategy()).willReturn(StockLockStrategy.ATOMIC_UPDATE);
+
+            // when
+            productApplicationService.removeStock(productId, 30);
+
+            // then
+            then(stockService).should().reserveStockAtomically(productId, 30);
+            then(productRepository).should(never()).findById(any());
+        }
+
+        @Test
+        @DisplayName("인기 상품은 DB를 조회하지 않고 메모리 원장에서 재고를 차감한다")
+        void removeStockOfHotProduct() {
+            // given
+            Long productId = 1L;
+            given(hotStockLedger.isHot(productId)).willReturn(true);
+
+            // when
+            productApplicationService.removeStock(productId, 30);
+
+            // then
+            then(hotStockLedger).should().reserve(productId, 30);
+            then(productRepository).shouldHaveNoInteractions();
+            then(stockService).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("배치 처리가 활성화되면 재고 차감 요청을 배치 처리기에 위임한다")
+        void removeStockWithBatching() {
+            // given
+            Long productId = 1L;
+            given(stockMutationBatcher.isEnabled()).willReturn(true);
+
+            // when
+            productApplicationService.removeStock(productId, 30);
+
+            // then
+            then(stockMutationBatcher).should().reserve(productId, 30);
+            then(productRepository).shouldHaveNoInteractions();
+        }
+    }
+
+    @Nested
+    @DisplayName("여러 상품 재고 일괄 예약")
+    class ReserveStocks {
+
+        @Test
+        @DisplayName("같은 상품의 요청은 합산하고 상품 ID 순으로 한 번에 잠근다")
+        void reserveStocksInIdOrder() {
+            // given
+            ReserveStockRequest request = new ReserveStockRequest(List.of(
+                    new ReserveStockRequest.Line(2L, 5),
+                    new ReserveStockRequest.Line(1L, 3),
+                    new ReserveStockRequest.Line(2L, 1)
+            ));
+            List<Product> products = List.of(createProduct(), createProduct());
+            given(productRepository.findAllByIdInForUpdate(any())).willReturn(products);
+
+            // when
+            productApplicationService.reserveStocks(request);
+
+            // then
+            then(productRepository).should()
+                    .findAllByIdInForUpdate(argThat(ids -> List.copyOf(ids).equals(List.of(1L, 2L))));
+            then(stockService).should().reserveAll(Map.of(1L, 3, 2L, 6), products);
+            then(productRepository).should(never()).findByIdForUpdate(any());
+        }
+
+        @Test
+        @DisplayName("인기 상품의 재고가 부족하면 먼저 차감한 인기 상품 재고를 되돌린다")
+        void reserveHotStocksWithShortage() {
+            // given
+            ReserveStockRequest request = new ReserveStockRequest(List.of(
+                    new ReserveStockRequest.Line(1L, 3),
+                    new ReserveStockRequest.Line(2L, 5)
+            ));
+            given(hotStockLedger.isHot(any())).willReturn(true);
+            willDoNothing().given(hotStockLedger).reserve(1L, 3);
+            willThrow(new ProductOutOfStockException(2L, 5, 1)).given(hotStockLedger).reserve(2L, 5);
+            given(hotStockLedger.availableQuantity(2L)).willReturn(1);
+
+            // when & then
+            assertThatThrownBy(() -> productApplicationService.reserveStocks(request))
+                    .isInstanceOf(ProductStockShortageException.class);
+            then(hotStockLedger).should().release(1L, 3);
+            then(hotStockLedger).should(never()).release(eq(2L), anyInt());
+            then(productRepository).shouldHaveNoInteractions();
+            assertThat(reservations("rejected")).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("상품 견적")
+    class Quote {
+
+        @Test
+        @DisplayName("캐시에 없는 상품만 한 번에 조회하고, 줄마다 가격 × 수량과 합계를 계산한다")
+        void quote() {
+            // given
+            QuoteRequest request = new QuoteRequest(List.of(
+                    new QuoteRequest.Line(1L, 3),
+                    new QuoteRequest.Line(2L, 2),
+                    new QuoteRequest.Line(1L, 1)
+            ));
+            ProductResponse cached = new ProductResponse(1L, "캐시 상품", "설명", new BigDecimal("1234.50"), 10,
+                    ProductStatus.AVAILABLE, true, LocalDateTime.now(), null);
+            given(productCache.getAllPresent(any())).willReturn(Map.of(1L, cached));
+            given(productRepository.findRowsByIdIn(List.of(2L))).willReturn(List.of(createRow(2L)));
+
+            // when
+            QuoteResponse response = productApplicationService.quote(request);
+
+            // then
+            assertThat(response.lines()).extracting(QuoteResponse.Line::productId).containsExactly(1L, 2L, 1L);
+            assertThat(response.lines()).extracting(QuoteResponse.Line::lineTotal)
+                    .containsExactly(new BigDecimal("3703.50"), BigDecimal.valueOf(20000), new BigDecimal("1234.50"));
+            assertThat(response.totalPrice()).isEqualTo(new BigDecimal("24938.00"));
+        }
+
+        @Test
+        @DisplayName("모든 상품이 캐시에 있으면 DB를 조회하지 않는다")
+        void quoteCachedProducts() {
+            // given
+            QuoteRequest request = new QuoteRequest(List.of(new QuoteRequest.Line(1L, 2)));
+            given(productCache.getAllPresent(any())).willReturn(Map.of(1L, ProductResponse.from(createProduct(1L))));
+
+            // when
+            QuoteResponse response = productApplicationService.quote(request);
+
+            // then
+            assertThat(response.totalPrice()).isEqualByComparingTo("20000");
+            then(productRepository).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("존재하지 않는 상품이 있으면 예외가 발생한다")
+        void quoteProductNotFound() {
+            // given
+            QuoteRequest request = new QuoteRequest(List.of(
+                    new QuoteRequest.Line(1L, 1),
+                    new QuoteRequest.Line(999L, 1)
+            ));
+            given(productRepository.findRowsByIdIn(List.of(1L, 999L))).willReturn(List.of(createRow(1L)));
+
+            // when & then
+            assertThatThrownBy(() -> productApplicationService.quote(request))
+                    .isInstanceOf(ProductNotFoundException.class)
+                    .hasMessageContaining("999");
+        }
     }
 
     @Nested
@@ -226,6 +642,8 @@ class ProductApplicationServiceTest {
 
             // then
             assertThat(product.getStatus()).isEqualTo(ProductStatus.DISCONTINUED);
+            then(eventPublisher).should()
+                    .publishEvent(new ProductStatusChangedEvent(productId, ProductStatus.DISCONTINUED));
         }
 
         @Test
@@ -245,7 +663,27 @@ class ProductApplicationServiceTest {
         }
     }
 
+    private void givenCacheMiss(Long productId) {
+        given(productCache.get(eq(productId), any())).willAnswer(invocation ->
+                invocation.<Function<Long, ProductResponse>>getArgument(1).apply(productId));
+    }
+
+    private double reservations(String result) {
+        return meterRegistry.get("product.stock.reservations").tag("result", result).counter().count();
+    }
+
+    private ProductRow createRow(Long id) {
+        return new ProductRow(id, "테스트 상품", "설명", BigDecimal.valueOf(10000), 100,
+                ProductStatus.AVAILABLE, LocalDateTime.now(), null);
+    }
+
     private Product createProduct() {
         return Product.create("테스트 상품", "설명", BigDecimal.valueOf(10000), 100);
     }
+
+    private Product createProduct(Long id) {
+        Product product = createProduct();
+        ReflectionTestUtils.setField(product, "id", id);
+        return product;
+    }
 }
@@ -0,0 +1,88 @@
+package com.examples.springbootmonolithicstarter.domains.product.service.application;
+
+import com.examples.springbootmonolithicstarter.domains.product.dto.request.CreateProductRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 20,000개 상품을 등록하며 요청당 1건 등록(createProduct)과 대량 등록(createProducts)의 초당 등록 건수를 비교한다.
+ * <p>
+ * H2 메모리 DB 기준이므로 네트워크 왕복이 있는 MySQL(rewriteBatchedStatements)에서는 차이가 더 커진다.
+ * 실행: ./gradlew benchmark --tests "*.ProductBulkCreateBenchmark"
+ */
+@Tag("benchmark")
+@DisplayName("상품 대량 등록 벤치마크")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.show_sql=false",
+        "logging.level.org.hibernate.SQL=warn",
+        "logging.level.org.hibernate.orm.jdbc.bind=warn",
+        "logging.level.com.examples=warn",
+        "product.search.index-enabled=false"
+})
+class ProductBulkCreateBenchmark {
+
+    private static final int PRODUCTS = 20_000;
+
+    @Autowired
+    private ProductApplicationService productApplicationService;
+
+    @Autowired
+    private ProductBulkService productBulkService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private final List<CreateProductRequest> requests = IntStream.range(0, PRODUCTS)
+            .mapToObj(i -> new CreateProductRequest("공급사 상품 " + i, "공급사 상품 설명 " + i, BigDecimal.valueOf(10000 + i), 100))
+            .toList();
+
+    @AfterEach
+    void tearDown() {
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.update("delete from products"));
+    }
+
+    @Test
+    void perRequest() {
+        long startedAt = System.nanoTime();
+        requests.forEach(productApplicationService::createProduct);
+        report("PerRequest", startedAt);
+    }
+
+    @ParameterizedTest(name = "chunk={0}")
+    @ValueSource(ints = {1_000, 10_000})
+    void bulk(int chunkSize) {
+        long startedAt = System.nanoTime();
+        for (int from = 0; from < PRODUCTS; from += chunkSize) {
+            productBulkService.createProducts(requests.subList(from, Math.min(from + chunkSize, PRODUCTS)));
+        }
+        report("Bulk-chunk-" + chunkSize, startedAt);
+    }
+
+    private void report(String name, long startedAt) {
+        long elapsedNanos = System.nanoTime() - startedAt;
+        long rows = jdbcTemplate.queryForObject("select count(*) from products", Long.class);
+        System.out.printf("[%s] rows=%d elapsed=%dms throughput=%.0f rows/s%n",
+                name, rows, elapsedNanos / 1_000_000, rows / (elapsedNanos / 1_000_000_000.0));
+        assertThat(rows).isEqualTo(PRODUCTS);
+    }
+}
@@ -0,0 +1,96 @@
+package com.examples.springbootmonolithicstarter.domains.product.service.application;
+
+import com.examples.springbootmonolithicstarter.domains.product.dto.request.CreateProductRequest;
+import com.examples.springbootmonolithicstarter.domains.product.dto.response.BulkCreateProductResponse;
+import com.examples.springbootmonolithicstarter.domains.product.dto.response.ProductResponse;
+import com.examples.springbootmonolithicstarter.domains.product.model.Product;
+import com.examples.springbootmonolithicstarter.domains.product.repository.ProductRepository;
+import com.examples.springbootmonolithicstarter.domains.product.search.ProductSearchIndex;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ProductBulkService 통합 테스트")
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "product.bulk.batch-size=50",
+        "product.bulk.flush-size=100"
+})
+class ProductBulkServiceTest {
+
+    private static final int PRODUCTS = 250;
+
+    @Autowired
+    private ProductBulkService productBulkService;
+
+    @Autowired
+    private ProductApplicationService productApplicationService;
+
+    @Autowired
+    private ProductSearchIndex productSearchIndex;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @AfterEach
+    void tearDown() {
+        productRepository.findAll().forEach(product -> productSearchIndex.remove(product.getId()));
+        productRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("여러 상품을 JDBC 배치로 등록하고, 요청 순서대로 생성된 ID 를 반환한다")
+    void createProducts() {
+        // given
+        List<CreateProductRequest> requests = IntStream.range(0, PRODUCTS)
+                .mapToObj(i -> new CreateProductRequest("대량 상품 " + i, "설명", BigDecimal.valueOf(1000 + i), i))
+                .toList();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // when
+        BulkCreateProductResponse response = productBulkService.createProducts(requests);
+
+        // then
+        assertThat(response.createdCount()).isEqualTo(PRODUCTS);
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(PRODUCTS);
+        // INSERT 는 배치(50건) 단위로 준비되고, ID 는 시퀀스에서 100개씩 할당받음
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(PRODUCTS / 50 + PRODUCTS / Product.ID_ALLOCATION_SIZE + 2);
+
+        List<Long> ids = response.ids();
+        assertThat(ids).doesNotHaveDuplicates();
+        List<String> names = new ArrayList<>();
+        for (Long id : List.of(ids.get(0), ids.get(PRODUCTS - 1))) {
+            names.add(productApplicationService.getProduct(id).name());
+        }
+        assertThat(names).containsExactly("대량 상품 0", "대량 상품 " + (PRODUCTS - 1));
+    }
+
+    @Test
+    @DisplayName("등록한 상품은 커밋 후 검색 색인에 반영된다")
+    void indexAfterCommit() {
+        // when
+        BulkCreateProductResponse response = productBulkService.createProducts(List.of(
+                new CreateProductRequest("대량등록키보드", "설명", BigDecimal.valueOf(50000), 10)));
+
+        // then
+        assertThat(productApplicationService.searchProducts("대량등록키보드", 10))
+                .extracting(ProductResponse::id)
+                .containsExactly(response.ids().get(0));
+    }
+}
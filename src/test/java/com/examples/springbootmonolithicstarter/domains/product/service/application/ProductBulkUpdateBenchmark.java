@@ -0,0 +1,124 @@
+package com.examples.springbootmonolithicstarter.domains.product.service.application;
+
+import com.examples.springbootmonolithicstarter.domains.product.dto.request.BulkChangeStatusRequest;
+import com.examples.springbootmonolithicstarter.domains.product.dto.request.BulkRepriceRequest;
+import com.examples.springbootmonolithicstarter.domains.product.dto.request.UpdateProductRequest;
+import com.examples.springbootmonolithicstarter.domains.product.dto.response.BulkUpdateProductResponse;
+import com.examples.springbootmonolithicstarter.domains.product.dto.response.ProductResponse;
+import com.examples.springbootmonolithicstarter.domains.product.model.ProductStatus;
+import com.examples.springbootmonolithicstarter.support.benchmark.ProductTableSeeder;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 1,000,000개 상품 기준으로 상품별 수정(updateProduct / discontinueProduct 반복)과
+ * 청크 단위 UPDATE 문(reprice / changeStatus)의 처리 시간을 비교한다.
+ * 상품별 수정은 10,000건만 실행하여 1,000,000건 처리 시간을 추정한다.
+ * <p>
+ * 실행: ./gradlew benchmark --tests "*.ProductBulkUpdateBenchmark"
+ */
+@Tag("benchmark")
+@DisplayName("상품 일괄 변경 벤치마크")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.show_sql=false",
+        "logging.level.org.hibernate.SQL=warn",
+        "logging.level.org.hibernate.orm.jdbc.bind=warn",
+        "logging.level.com.examples=warn",
+        "product.search.index-enabled=false"
+})
+class ProductBulkUpdateBenchmark {
+
+    private static final int PRODUCTS = 1_000_000;
+    private static final int PER_ENTITY_SAMPLE = 10_000;
+    private static final int DISCONTINUE_IDS = 50_000;
+
+    @Autowired
+    private ProductBulkUpdateService productBulkUpdateService;
+
+    @Autowired
+    private ProductApplicationService productApplicationService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private long firstId;
+
+    @BeforeAll
+    void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> rows = new ArrayList<>(PRODUCTS);
+        for (int i = 0; i < PRODUCTS; i++) {
+            rows.add(new Object[]{"상품 " + i, "설명", 10000, 100, "AVAILABLE", now, now, 0L});
+        }
+        firstId = ProductTableSeeder.insert(jdbcTemplate, transactionTemplate, rows);
+    }
+
+    @AfterAll
+    void tearDown() {
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.update("delete from products"));
+    }
+
+    @Test
+    void perEntityReprice() {
+        long startedAt = System.nanoTime();
+        for (long id = firstId; id < firstId + PER_ENTITY_SAMPLE; id++) {
+            ProductResponse product = productApplicationService.getProduct(id);
+            BigDecimal price = product.price().multiply(BigDecimal.valueOf(1.07)).setScale(2, RoundingMode.HALF_UP);
+            productApplicationService.updateProduct(id, new UpdateProductRequest(product.name(), product.description(), price));
+        }
+        long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+        System.out.printf("[PerEntity-reprice] rows=%d elapsed=%dms estimated-%d=%ds%n",
+                PER_ENTITY_SAMPLE, elapsedMillis, PRODUCTS, elapsedMillis * (PRODUCTS / PER_ENTITY_SAMPLE) / 1000);
+    }
+
+    @Test
+    void setBasedReprice() {
+        long startedAt = System.nanoTime();
+        BulkUpdateProductResponse response = productBulkUpdateService.reprice(
+                new BulkRepriceRequest(BigDecimal.valueOf(7), ProductStatus.AVAILABLE, null, null, null));
+        long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+
+        System.out.printf("[SetBased-reprice] rows=%d statements=%d elapsed=%dms%n",
+                response.updatedCount(), response.statementCount(), elapsedMillis);
+        assertThat(response.updatedCount()).isGreaterThanOrEqualTo(PRODUCTS - DISCONTINUE_IDS);
+    }
+
+    @Test
+    void setBasedDiscontinue() {
+        List<Long> ids = LongStream.range(0, DISCONTINUE_IDS)
+                .map(i -> firstId + PRODUCTS - 1 - i * 2)
+                .boxed()
+                .toList();
+
+        long startedAt = System.nanoTime();
+        BulkUpdateProductResponse response = productBulkUpdateService.changeStatus(
+                new BulkChangeStatusRequest(ids, ProductStatus.DISCONTINUED));
+        long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+
+        System.out.printf("[SetBased-discontinue] rows=%d statements=%d elapsed=%dms%n",
+                response.updatedCount(), response.statementCount(), elapsedMillis);
+        assertThat(response.updatedCount()).isEqualTo(DISCONTINUE_IDS);
+    }
+}
@@ -0,0 +1,169 @@
+package com.examples.springbootmonolithicstarter.domains.product.service.application;
+
+import com.examples.springbootmonolithicstarter.domains.product.dto.request.BulkChangeStatusRequest;
+import com.examples.springbootmonolithicstarter.domains.product.dto.request.BulkRepriceRequest;
+import com.examples.springbootmonolithicstarter.domains.product.dto.request.CreateProductRequest;
+import com.examples.springbootmonolithicstarter.domains.product.dto.response.BulkUpdateProductResponse;
+import com.examples.springbootmonolithicstarter.domains.product.dto.response.ProductResponse;
+import com.examples.springbootmonolithicstarter.domains.product.model.ProductStatus;
+import com.examples.springbootmonolithicstarter.domains.product.repository.ProductRepository;
+import com.examples.springbootmonolithicstarter.domains.product.search.ProductSearchIndex;
+import com.examples.springbootmonolithicstarter.domains.product.search.ProductSuggestIndex;
+import com.examples.springbootmonolithicstarter.global.exception.BusinessException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ProductBulkUpdateService 통합 테스트")
+@SpringBootTest(properties = "product.bulk.update-chunk-size=3")
+class ProductBulkUpdateServiceTest {
+
+    @Autowired
+    private ProductBulkUpdateService productBulkUpdateService;
+
+    @Autowired
+    private ProductApplicationService productApplicationService;
+
+    @Autowired
+    private ProductSearchIndex productSearchIndex;
+
+    @Autowired
+    private ProductSuggestIndex productSuggestIndex;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @AfterEach
+    void tearDown() {
+        productRepository.findAll().forEach(product -> {
+            productSearchIndex.remove(product.getId());
+            productSuggestIndex.remove(product.getId());
+        });
+        productRepository.deleteAll();
+    }
+
+    private ProductResponse create(String name, long price) {
+        return productApplicationService.createProduct(
+                new CreateProductRequest(name, "설명", BigDecimal.valueOf(price), 10));
+    }
+
+    @Nested
+    @DisplayName("reprice")
+    class Reprice {
+
+        @Test
+        @DisplayName("조건에 맞는 상품의 가격만 비율로 변경하고, 청크마다 UPDATE 한 문장을 실행한다")
+        void repriceMatchingProducts() {
+            // given
+            List<ProductResponse> shirts = List.of(create("여름 셔츠 1", 10000), create("여름 셔츠 2", 999), create("여름 셔츠 3", 20000));
+            ProductResponse discontinued = create("여름 셔츠 4", 10000);
+            productApplicationService.discontinueProduct(discontinued.id());
+            ProductResponse pants = create("바지", 10000);
+            BulkRepriceRequest request = new BulkRepriceRequest(BigDecimal.valueOf(7), ProductStatus.AVAILABLE, "셔츠", null, null);
+
+            // when
+            BulkUpdateProductResponse response = productBulkUpdateService.reprice(request);
+
+            // then
+            assertThat(response.updatedCount()).isEqualTo(3);
+            assertThat(response.statementCount()).isEqualTo(2);
+            assertThat(productApplicationService.getProduct(shirts.get(0).id()).price()).isEqualByComparingTo("10700");
+            assertThat(productApplicationService.getProduct(shirts.get(1).id()).price()).isEqualByComparingTo("1068.93");
+            assertThat(productApplicationService.getProduct(shirts.get(2).id()).price()).isEqualByComparingTo("21400");
+            assertThat(productApplicationService.getProduct(discontinued.id()).price()).isEqualByComparingTo("10000");
+            assertThat(productApplicationService.getProduct(pants.id()).price()).isEqualByComparingTo("10000");
+        }
+
+        @Test
+        @DisplayName("캐시된 상품도 변경 후 조회하면 새 가격이 반환된다")
+        void invalidateCache() {
+            // given
+            ProductResponse product = create("캐시 상품", 10000);
+            productApplicationService.getProduct(product.id());
+
+            // when
+            productBulkUpdateService.reprice(new BulkRepriceRequest(BigDecimal.valueOf(-10), null, null, null, null));
+
+            // then
+            assertThat(productApplicationService.getProduct(product.id()).price()).isEqualByComparingTo("9000");
+        }
+
+        @Test
+        @DisplayName("상품명 조건의 %, _ 는 문자 그대로 비교하고, 가격 구간 조건을 함께 적용한다")
+        void nameAndPriceFilter() {
+            // given
+            ProductResponse matched = create("100% 면 티셔츠", 5000);
+            ProductResponse notMatchedName = create("100 면 티셔츠", 5000);
+            ProductResponse notMatchedPrice = create("100% 면 바지", 50000);
+
+            // when
+            BulkUpdateProductResponse response = productBulkUpdateService.reprice(
+                    new BulkRepriceRequest(BigDecimal.valueOf(-100), null, "100%", BigDecimal.ZERO, BigDecimal.valueOf(10000)));
+
+            // then
+            assertThat(response.updatedCount()).isEqualTo(1);
+            assertThat(productApplicationService.getProduct(matched.id()).price()).isEqualByComparingTo("0");
+            assertThat(productApplicationService.getProduct(notMatchedName.id()).price()).isEqualByComparingTo("5000");
+            assertThat(productApplicationService.getProduct(notMatchedPrice.id()).price()).isEqualByComparingTo("50000");
+        }
+
+        @Test
+        @DisplayName("상품이 없으면 UPDATE 를 실행하지 않는다")
+        void noProducts() {
+            BulkUpdateProductResponse response = productBulkUpdateService.reprice(
+                    new BulkRepriceRequest(BigDecimal.TEN, null, null, null, null));
+
+            assertThat(response).isEqualTo(new BulkUpdateProductResponse(0, 0));
+        }
+    }
+
+    @Nested
+    @DisplayName("changeStatus")
+    class ChangeStatus {
+
+        @Test
+        @DisplayName("상태가 다른 상품만 변경하고, 변경 후 조회와 자동완성에 반영된다")
+        void discontinueProducts() {
+            // given
+            List<Long> ids = List.of(
+                    create("판매중지 대상 1", 1000).id(),
+                    create("판매중지 대상 2", 1000).id(),
+                    create("판매중지 대상 3", 1000).id(),
+                    create("판매중지 대상 4", 1000).id()
+            );
+            productApplicationService.discontinueProduct(ids.get(0));
+            productApplicationService.getProduct(ids.get(1));
+
+            // when
+            BulkUpdateProductResponse response = productBulkUpdateService.changeStatus(
+                    new BulkChangeStatusRequest(List.of(ids.get(0), ids.get(1), ids.get(2), ids.get(3), 999_999_999L), ProductStatus.DISCONTINUED));
+
+            // then
+            assertThat(response.updatedCount()).isEqualTo(3);
+            assertThat(response.statementCount()).isEqualTo(2);
+            assertThat(ids).allSatisfy(id ->
+                    assertThat(productApplicationService.getProduct(id).status()).isEqualTo(ProductStatus.DISCONTINUED));
+            assertThat(productApplicationService.suggestProducts("판매중지", 10))
+                    .hasSize(4)
+                    .allSatisfy(suggestion -> assertThat(suggestion.available()).isFalse());
+        }
+
+        @Test
+        @DisplayName("AVAILABLE, DISCONTINUED 이외의 상태로는 변경할 수 없다")
+        void invalidStatus() {
+            assertThatThrownBy(() -> productBulkUpdateService.changeStatus(
+                    new BulkChangeStatusRequest(List.of(1L), ProductStatus.OUT_OF_STOCK)))
+                    .isInstanceOf(BusinessException.class)
+                    .hasMessage("변경할 수 있는 상태는 AVAILABLE, DISCONTINUED 입니다.");
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.examples.springbootmonolithicstarter.domains.product.service.application;
+
+import com.examples.springbootmonolithicstarter.domains.product.cache.ProductCache;
+import com.examples.springbootmonolithicstarter.domains.product.dto.request.CreateProductRequest;
+import com.examples.springbootmonolithicstarter.domains.product.dto.request.ReserveStockRequest;
+import com.examples.springbootmonolithicstarter.domains.product.dto.request.UpdateProductRequest;
+import com.examples.springbootmonolithicstarter.domains.product.dto.response.ProductResponse;
+import com.examples.springbootmonolithicstarter.domains.product.exception.ProductOutOfStockException;
+import com.examples.springbootmonolithicstarter.domains.product.model.ProductStatus;
+import com.examples.springbootmonolithicstarter.domains.product.repository.ProductRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("상품 조회 캐시 무효화 통합 테스트")
+@SpringBootTest
+class ProductCacheInvalidationTest {
+
+    @Autowired
+    private ProductApplicationService productApplicationService;
+
+    @Autowired
+    private ProductCache productCache;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Long productId;
+
+    @BeforeEach
+    void setUp() {
+        productId = productApplicationService.createProduct(
+                new CreateProductRequest("캐시 상품", "설명", BigDecimal.valueOf(10000), 100)).id();
+        productApplicationService.getProduct(productId);
+    }
+
+    @AfterEach
+    void tearDown() {
+        productCache.invalidate(productId);
+        productRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("캐시된 상품은 DB 에서 직접 변경되어도 이전 값을 반환한다")
+    void cached() {
+        // given
+        double hitsBefore = hits();
+        transactionTemplate.executeWithoutResult(status ->
+                productRepository.adjustStock(productId, -10, LocalDateTime.now()));
+
+        // when
+        ProductResponse response = productApplicationService.getProduct(productId);
+
+        // then
+        assertThat(response.stockQuantity()).isEqualTo(100);
+        assertThat(hits()).isEqualTo(hitsBefore + 1);
+    }
+
+    @Test
+    @DisplayName("상품 정보 수정이 커밋되면 다음 조회에서 변경된 값을 반환한다")
+    void invalidateOnUpdate() {
+        productApplicationService.updateProduct(productId,
+                new UpdateProductRequest("수정된 상품", "설명", BigDecimal.valueOf(20000)));
+
+        assertThat(productApplicationService.getProduct(productId).name()).isEqualTo("수정된 상품");
+    }
+
+    @Test
+    @DisplayName("재고 추가/차감이 커밋되면 다음 조회에서 변경된 재고를 반환한다")
+    void invalidateOnStockChange() {
+        productApplicationService.removeStock(productId, 30);
+        assertThat(productApplicationService.getProduct(productId).stockQuantity()).isEqualTo(70);
+
+        productApplicationService.addStock(productId, 5);
+        assertThat(productApplicationService.getProduct(productId).stockQuantity()).isEqualTo(75);
+
+        productApplicationService.reserveStocks(new ReserveStockRequest(List.of(new ReserveStockRequest.Line(productId, 5))));
+        assertThat(productApplicationService.getProduct(productId).stockQuantity()).isEqualTo(70);
+    }
+
+    @Test
+    @DisplayName("판매 중지/활성화가 커밋되면 다음 조회에서 변경된 상태를 반환한다")
+    void invalidateOnStatusChange() {
+        productApplicationService.discontinueProduct(productId);
+        assertThat(productApplicationService.getProduct(productId).status()).isEqualTo(ProductStatus.DISCONTINUED);
+
+        productApplicationService.activateProduct(productId);
+        assertThat(productApplicationService.getProduct(productId).status()).isEqualTo(ProductStatus.AVAILABLE);
+    }
+
+    @Test
+    @DisplayName("재고 차감이 롤백되면 캐시된 값을 그대로 사용한다")
+    void keepOnRollback() {
+        // given
+        double hitsBefore = hits();
+
+        // when
+        assertThatThrownBy(() -> productApplicationService.removeStock(productId, 1000))
+                .isInstanceOf(ProductOutOfStockException.class);
+        ProductResponse response = productApplicationService.getProduct(productId);
+
+        // then
+        assertThat(response.stockQuantity()).isEqualTo(100);
+        assertThat(hits()).isEqualTo(hitsBefore + 1);
+    }
+
+    private double hits() {
+        return meterRegistry.get("cache.gets")
+                .tag("cache", ProductCache.NAME)
+                .tag("result", "hit")
+                .functionCounter()
+                .count();
+    }
+}
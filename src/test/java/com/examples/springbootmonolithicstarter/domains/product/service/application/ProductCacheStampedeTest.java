@@ -0,0 +1,69 @@
+package com.examples.springbootmonolithicstarter.domains.product.service.application;
+
+import com.examples.springbootmonolithicstarter.domains.product.cache.ProductCache;
+import com.examples.springbootmonolithicstarter.domains.product.dto.response.ProductResponse;
+import com.examples.springbootmonolithicstarter.domains.product.model.Product;
+import com.examples.springbootmonolithicstarter.domains.product.repository.ProductRepository;
+import com.examples.springbootmonolithicstarter.support.benchmark.ConcurrentLoadRunner;
+import com.examples.springbootmonolithicstarter.support.benchmark.ConcurrentLoadRunner.LoadResult;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("상품 조회 캐시 동시 미스 통합 테스트")
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class ProductCacheStampedeTest {
+
+    private static final int CONCURRENCY = 500;
+
+    @Autowired
+    private ProductApplicationService productApplicationService;
+
+    @Autowired
+    private ProductCache productCache;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Long productId;
+
+    @AfterEach
+    void tearDown() {
+        productCache.invalidate(productId);
+        productRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("캐시에 없는 상품을 500개 스레드가 동시에 조회해도 DB 조회는 한 번만 실행된다")
+    void singleQueryUnderStampede() {
+        // given
+        productId = productRepository.save(Product.create("인기 상품", "설명", BigDecimal.valueOf(10000), 100)).getId();
+        productCache.invalidate(productId);
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        Set<ProductResponse> responses = ConcurrentHashMap.newKeySet();
+
+        // when
+        LoadResult result = ConcurrentLoadRunner.run("Stampede", CONCURRENCY, 1,
+                (worker, iteration) -> responses.add(productApplicationService.getProduct(productId)));
+
+        // then
+        assertThat(result.failures()).isZero();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(responses).hasSize(1);
+    }
+}
@@ -0,0 +1,153 @@
+package com.examples.springbootmonolithicstarter.domains.product.service.application;
+
+import com.examples.springbootmonolithicstarter.domains.product.dto.response.ProductResponse;
+import com.examples.springbootmonolithicstarter.domains.product.export.ProductExportFormat;
+import com.examples.springbootmonolithicstarter.domains.product.repository.ProductRepository;
+import com.examples.springbootmonolithicstarter.support.benchmark.ProductTableSeeder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 상품 수(100,000 / 300,000)에 따라 스트리밍 내보내기와 전체 목록 직렬화의
+ * 처리 시간과 최대 힙 증가량을 비교한다.
+ * <p>
+ * 실행: ./gradlew benchmark --tests "*.ProductExportBenchmark"
+ */
+@Tag("benchmark")
+@DisplayName("상품 내보내기 벤치마크")
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.show_sql=false",
+        "logging.level.org.hibernate.SQL=warn",
+        "logging.level.org.hibernate.orm.jdbc.bind=warn",
+        "logging.level.com.examples=warn"
+})
+class ProductExportBenchmark {
+
+    @Autowired
+    private ProductExportService productExportService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @AfterEach
+    void tearDown() {
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.update("delete from products"));
+    }
+
+    @ParameterizedTest(name = "rows={0}")
+    @ValueSource(ints = {100_000, 300_000})
+    void streaming(int rows) throws Exception {
+        insertProducts(rows);
+        DiscardingOutputStream outputStream = new DiscardingOutputStream();
+
+        long count = measure("Streaming-" + rows, outputStream,
+                () -> productExportService.export(ProductExportFormat.NDJSON, outputStream));
+
+        assertThat(count).isEqualTo(rows);
+    }
+
+    @ParameterizedTest(name = "rows={0}")
+    @ValueSource(ints = {100_000, 300_000})
+    void materialized(int rows) throws Exception {
+        insertProducts(rows);
+        DiscardingOutputStream outputStream = new DiscardingOutputStream();
+
+        long count = measure("Materialized-" + rows, outputStream, () -> transactionTemplate.execute(status -> {
+            List<ProductResponse> responses = productRepository.findAll().stream()
+                    .map(ProductResponse::from)
+                    .toList();
+            try {
+                outputStream.write(objectMapper.writeValueAsBytes(responses));
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+            return (long) responses.size();
+        }));
+
+        assertThat(count).isEqualTo(rows);
+    }
+
+    private long measure(String name, DiscardingOutputStream outputStream, Export export) throws Exception {
+        Runtime runtime = Runtime.getRuntime();
+        System.gc();
+        long baseline = runtime.totalMemory() - runtime.freeMemory();
+        AtomicLong peak = new AtomicLong(baseline);
+        AtomicBoolean running = new AtomicBoolean(true);
+        Thread sampler = Thread.ofPlatform().daemon().start(() -> {
+            while (running.get()) {
+                peak.accumulateAndGet(runtime.totalMemory() - runtime.freeMemory(), Math::max);
+                Thread.onSpinWait();
+            }
+        });
+
+        long startedAt = System.nanoTime();
+        long count;
+        try {
+            count = export.run();
+        } finally {
+            running.set(false);
+            sampler.join();
+        }
+        long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+
+        System.out.printf("[%s] rows=%d bytes=%d elapsed=%dms peakHeapIncrease=%dMB%n",
+                name, count, outputStream.written, elapsedMillis, (peak.get() - baseline) / (1024 * 1024));
+        return count;
+    }
+
+    private void insertProducts(int rows) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> batch = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            batch.add(new Object[]{"상품 " + i, "설명", 10000, 100, "AVAILABLE", now, now, 0L});
+        }
+        ProductTableSeeder.insert(jdbcTemplate, transactionTemplate, batch);
+    }
+
+    @FunctionalInterface
+    private interface Export {
+        long run() throws Exception;
+    }
+
+    private static final class DiscardingOutputStream extends OutputStream {
+
+        private long written;
+
+        @Override
+        public void write(int b) {
+            written++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            written += len;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.examples.springbootmonolithicstarter.domains.product.service.application;
+
+import com.examples.springbootmonolithicstarter.domains.product.export.ProductExportFormat;
+import com.examples.springbootmonolithicstarter.domains.product.model.Product;
+import com.examples.springbootmonolithicstarter.domains.product.repository.ProductRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ProductExportService 통합 테스트")
+@SpringBootTest
+class ProductExportServiceTest {
+
+    @Autowired
+    private ProductExportService productExportService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Long firstId;
+    private Long secondId;
+
+    @BeforeEach
+    void setUp() {
+        firstId = productRepository.save(
+                Product.create("노트북", "가볍고, \"빠른\" 노트북", BigDecimal.valueOf(1500000), 10)).getId();
+        secondId = productRepository.save(
+                Product.create("마우스", null, BigDecimal.valueOf(30000), 100)).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        productRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("NDJSON 으로 내보내면 상품마다 한 줄의 JSON 을 ID 순으로 기록한다")
+    void exportNdjson() throws Exception {
+        // given
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // when
+        long count = productExportService.export(ProductExportFormat.NDJSON, outputStream);
+
+        // then
+        List<String> lines = outputStream.toString(StandardCharsets.UTF_8).lines().toList();
+        assertThat(count).isEqualTo(2);
+        assertThat(lines).hasSize(2);
+        JsonNode first = objectMapper.readTree(lines.get(0));
+        assertThat(first.get("id").asLong()).isEqualTo(firstId);
+        assertThat(first.get("description").asText()).isEqualTo("가볍고, \"빠른\" 노트북");
+        assertThat(objectMapper.readTree(lines.get(1)).get("id").asLong()).isEqualTo(secondId);
+    }
+
+    @Test
+    @DisplayName("CSV 로 내보내면 헤더와 함께 쉼표와 큰따옴표가 포함된 값을 이스케이프하여 기록한다")
+    void exportCsv() throws Exception {
+        // given
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // when
+        productExportService.export(ProductExportFormat.CSV, outputStream);
+
+        // then
+        List<String> lines = outputStream.toString(StandardCharsets.UTF_8).lines().toList();
+        assertThat(lines).hasSize(3);
+        assertThat(lines.get(0)).isEqualTo("id,name,description,price,stockQuantity,status,createdAt,updatedAt");
+        assertThat(lines.get(1)).startsWith(firstId + ",노트북,\"가볍고, \"\"빠른\"\" 노트북\",1500000.00,10,AVAILABLE,");
+        assertThat(lines.get(2)).startsWith(secondId + ",마우스,,30000.00,100,AVAILABLE,");
+    }
+}
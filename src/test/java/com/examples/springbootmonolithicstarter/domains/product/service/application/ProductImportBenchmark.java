@@ -0,0 +1,202 @@
+package com.examples.springbootmonolithicstarter.domains.product.service.application;
+
+import com.examples.springbootmonolithicstarter.domains.product.dto.response.ProductImportResponse;
+import com.examples.springbootmonolithicstarter.domains.product.importer.CsvRecordReader;
+import com.examples.springbootmonolithicstarter.domains.product.importer.ProductCsvColumns;
+import com.examples.springbootmonolithicstarter.domains.product.importer.ProductImportRow;
+import com.examples.springbootmonolithicstarter.support.benchmark.ProductTableSeeder;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 입력 크기(32MB / 128MB)에 따라 스트리밍 가져오기와 파일 전체를 메모리에 올린 뒤 처리하는 방식의
+ * 처리량과 최대 힙 증가량을 비교한다.
+ * <p>
+ * 테이블 크기가 입력 크기에 따라 커지지 않도록, 미리 등록한 상품을 반복해서 수정하는 행으로 구성한다.
+ * <p>
+ * 실행: ./gradlew benchmark --tests "*.ProductImportBenchmark"
+ */
+@Tag("benchmark")
+@DisplayName("상품 CSV 가져오기 벤치마크")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.show_sql=false",
+        "logging.level.org.hibernate.SQL=warn",
+        "logging.level.org.hibernate.orm.jdbc.bind=warn",
+        "logging.level.com.examples=warn"
+})
+class ProductImportBenchmark {
+
+    private static final int PRODUCTS = 10_000;
+    private static final int CHUNK_SIZE = 1_000;
+    private static final String DESCRIPTION = "가져오기 벤치마크용 상품 설명입니다. 실제 카탈로그 파일과 비슷한 길이가 되도록 채운 문장입니다.";
+
+    @Autowired
+    private ProductImportService productImportService;
+
+    @Autowired
+    private ProductBulkService productBulkService;
+
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private long firstId;
+
+    @BeforeAll
+    void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> rows = new ArrayList<>(PRODUCTS);
+        for (int i = 0; i < PRODUCTS; i++) {
+            rows.add(new Object[]{"상품 " + i, "설명", 10000, 100, "AVAILABLE", now, now, 0L});
+        }
+        firstId = ProductTableSeeder.insert(jdbcTemplate, transactionTemplate, rows);
+    }
+
+    @AfterAll
+    void tearDown() {
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.update("delete from products"));
+    }
+
+    @ParameterizedTest(name = "megabytes={0}")
+    @ValueSource(ints = {32, 128})
+    void streaming(int megabytes) throws Exception {
+        GeneratedCsvInputStream input = new GeneratedCsvInputStream(firstId, megabytes * 1024L * 1024);
+
+        long updated = measure("Streaming-" + megabytes + "MB", input, () -> {
+            ProductImportResponse response = productImportService.importCsv("products.csv", input);
+            assertThat(response.failedRows()).isZero();
+            return response.updatedRows();
+        });
+
+        assertThat(updated).isEqualTo(input.rows);
+    }
+
+    @ParameterizedTest(name = "megabytes={0}")
+    @ValueSource(ints = {32, 128})
+    void buffered(int megabytes) throws Exception {
+        GeneratedCsvInputStream input = new GeneratedCsvInputStream(firstId, megabytes * 1024L * 1024);
+
+        long updated = measure("Buffered-" + megabytes + "MB", input, () -> {
+            String[] lines = new String(input.readAllBytes(), StandardCharsets.UTF_8).split("\n");
+            ProductCsvColumns columns = ProductCsvColumns.of(CsvRecordReader.parseFields(lines[0]));
+            List<ProductImportRow> rows = new ArrayList<>(lines.length);
+            for (int i = 1; i < lines.length; i++) {
+                ProductImportRow row = columns.toRow(i + 1, CsvRecordReader.parseFields(lines[i]));
+                if (validator.validate(row.request()).isEmpty()) {
+                    rows.add(row);
+                }
+            }
+            long count = 0;
+            for (int from = 0; from < rows.size(); from += CHUNK_SIZE) {
+                count += productBulkService.upsertProducts(rows.subList(from, Math.min(from + CHUNK_SIZE, rows.size()))).updatedCount();
+            }
+            return count;
+        });
+
+        assertThat(updated).isEqualTo(input.rows);
+    }
+
+    private long measure(String name, GeneratedCsvInputStream input, Import task) throws Exception {
+        Runtime runtime = Runtime.getRuntime();
+        System.gc();
+        long baseline = runtime.totalMemory() - runtime.freeMemory();
+        AtomicLong peak = new AtomicLong(baseline);
+        AtomicBoolean running = new AtomicBoolean(true);
+        Thread sampler = Thread.ofPlatform().daemon().start(() -> {
+            while (running.get()) {
+                peak.accumulateAndGet(runtime.totalMemory() - runtime.freeMemory(), Math::max);
+                Thread.onSpinWait();
+            }
+        });
+
+        long startedAt = System.nanoTime();
+        long count;
+        try {
+            count = task.run();
+        } finally {
+            running.set(false);
+            sampler.join();
+        }
+        long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+
+        System.out.printf("[%s] rows=%d elapsed=%dms throughput=%.0f rows/s peakHeapIncrease=%dMB%n",
+                name, count, elapsedMillis, count * 1000.0 / Math.max(elapsedMillis, 1),
+                (peak.get() - baseline) / (1024 * 1024));
+        return count;
+    }
+
+    @FunctionalInterface
+    private interface Import {
+        long run() throws Exception;
+    }
+
+    /**
+     * 지정한 크기에 도달할 때까지 상품 수정 행을 만들어 내는 입력 (전체 내용을 메모리에 만들지 않음)
+     */
+    private static final class GeneratedCsvInputStream extends InputStream {
+
+        private final long firstId;
+        private final long limit;
+        private long produced;
+        private long rows;
+        private byte[] current = "id,name,description,price,stockQuantity\n".getBytes(StandardCharsets.UTF_8);
+        private int position;
+
+        private GeneratedCsvInputStream(long firstId, long limit) {
+            this.firstId = firstId;
+            this.limit = limit;
+        }
+
+        @Override
+        public int read() {
+            byte[] single = new byte[1];
+            return read(single, 0, 1) < 0 ? -1 : single[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) {
+            if (position == current.length) {
+                if (produced >= limit) {
+                    return -1;
+                }
+                long id = firstId + rows % PRODUCTS;
+                current = (id + ",수정 상품 " + rows + ",\"" + DESCRIPTION + "\"," + (1000 + rows % 1000) + ",1\n")
+                        .getBytes(StandardCharsets.UTF_8);
+                position = 0;
+                rows++;
+            }
+            int count = Math.min(length, current.length - position);
+            System.arraycopy(current, position, buffer, offset, count);
+            position += count;
+            produced += count;
+            return count;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.examples.springbootmonolithicstarter.domains.product.service.application;
+
+import com.examples.springbootmonolithicstarter.domains.product.dto.request.CreateProductRequest;
+import com.examples.springbootmonolithicstarter.domains.product.dto.response.ProductImportResponse;
+import com.examples.springbootmonolithicstarter.domains.product.dto.response.ProductResponse;
+import com.examples.springbootmonolithicstarter.domains.product.importer.ProductImportError;
+import com.examples.springbootmonolithicstarter.domains.product.model.Product;
+import com.examples.springbootmonolithicstarter.domains.product.repository.ProductRepository;
+import com.examples.springbootmonolithicstarter.domains.product.search.ProductSearchIndex;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ProductImportService 통합 테스트")
+@SpringBootTest(properties = {
+        "product.import.parser-threads=2",
+        "product.import.chunk-size=50",
+        "product.import.queue-capacity=2"
+})
+class ProductImportServiceTest {
+
+    @Autowired
+    private ProductImportService productImportService;
+
+    @Autowired
+    private ProductApplicationService productApplicationService;
+
+    @Autowired
+    private ProductSearchIndex productSearchIndex;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @AfterEach
+    void tearDown() {
+        productRepository.findAll().forEach(product -> productSearchIndex.remove(product.getId()));
+        productRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("id 가 없는 행은 등록하고, id 가 있는 행은 상품 정보를 수정하며, 실패한 행은 사유와 함께 반환한다")
+    void importCsv() throws IOException {
+        // given
+        ProductResponse existing = productApplicationService.createProduct(
+                new CreateProductRequest("기존 상품", "기존 설명", BigDecimal.valueOf(1000), 10));
+        StringBuilder csv = new StringBuilder("id,name,description,price,stockQuantity\n");
+        csv.append(existing.id()).append(",수정된 상품,\"수정된 설명, 쉼표 포함\",1500,999\n");
+        csv.append("999999999,없는 상품,설명,1000,1\n");
+        csv.append(",가격 오류,설명,-100,1\n");
+        for (int i = 0; i < 120; i++) {
+            csv.append(",가져온 상품 ").append(i).append(",설명,").append(1000 + i).append(',').append(i).append('\n');
+        }
+
+        // when
+        ProductImportResponse response = productImportService.importCsv("products.csv",
+                new ByteArrayInputStream(csv.toString().getBytes(StandardCharsets.UTF_8)));
+
+        // then
+        assertThat(response.completed()).isTrue();
+        assertThat(response.readRows()).isEqualTo(123);
+        assertThat(response.createdRows()).isEqualTo(120);
+        assertThat(response.updatedRows()).isEqualTo(1);
+        assertThat(response.failedRows()).isEqualTo(2);
+        assertThat(response.errors()).containsExactly(
+                new ProductImportError(3, "상품을 찾을 수 없습니다. ID: 999999999"),
+                new ProductImportError(4, "가격은 0 이상이어야 합니다.")
+        );
+
+        // 수정 행의 재고는 반영하지 않음
+        ProductResponse updated = productApplicationService.getProduct(existing.id());
+        assertThat(updated.name()).isEqualTo("수정된 상품");
+        assertThat(updated.description()).isEqualTo("수정된 설명, 쉼표 포함");
+        assertThat(updated.price()).isEqualByComparingTo("1500");
+        assertThat(updated.stockQuantity()).isEqualTo(10);
+
+        assertThat(productRepository.count()).isEqualTo(121);
+        List<Product> imported = productRepository.findByNameContaining("가져온 상품 119");
+        assertThat(imported).singleElement()
+                .satisfies(product -> assertThat(product.getStockQuantity()).isEqualTo(119));
+        assertThat(productApplicationService.searchProducts("수정된", 10))
+                .extracting(ProductResponse::id)
+                .containsExactly(existing.id());
+        assertThat(productImportService.getRunningImports()).isEmpty();
+    }
+}
@@ -0,0 +1,120 @@
+package com.examples.springbootmonolithicstarter.domains.product.service.application;
+
+import com.examples.springbootmonolithicstarter.domains.product.cache.ProductCache;
+import com.examples.springbootmonolithicstarter.domains.product.dto.request.QuoteRequest;
+import com.examples.springbootmonolithicstarter.domains.product.dto.response.QuoteResponse;
+import com.examples.springbootmonolithicstarter.support.benchmark.ProductTableSeeder;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 1,000줄 견적의 요청당 CPU 시간과 할당량 (캐시에 없는 상품을 한 번에 조회 / 모두 캐시 적중)
+ * <p>
+ * 실행: ./gradlew benchmark --tests "*.ProductQuoteBenchmark"
+ */
+@Tag("benchmark")
+@DisplayName("상품 견적 벤치마크")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.show_sql=false",
+        "logging.level.org.hibernate.SQL=warn",
+        "logging.level.org.hibernate.orm.jdbc.bind=warn",
+        "logging.level.com.examples=warn"
+})
+class ProductQuoteBenchmark {
+
+    private static final int LINES = 1_000;
+    private static final int WARMUP = 500;
+    private static final int MEASURED = 500;
+
+    @Autowired
+    private ProductApplicationService productApplicationService;
+
+    @Autowired
+    private ProductCache productCache;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private long firstId;
+    private QuoteRequest request;
+
+    enum PriceSource {
+        DATABASE, CACHE
+    }
+
+    @BeforeAll
+    void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < LINES; i++) {
+            rows.add(new Object[]{"상품 " + i, "상품 설명 " + i, 10000 + i + (i % 100) / 100.0, 100, "AVAILABLE", now, now, 0L});
+        }
+        firstId = ProductTableSeeder.insert(jdbcTemplate, new TransactionTemplate(transactionManager), rows);
+
+        List<QuoteRequest.Line> lines = new ArrayList<>(LINES);
+        for (int i = 0; i < LINES; i++) {
+            lines.add(new QuoteRequest.Line(firstId + i, 1 + i % 5));
+        }
+        request = new QuoteRequest(lines);
+    }
+
+    @AfterAll
+    void tearDown() {
+        for (int i = 0; i < LINES; i++) {
+            productCache.invalidate(firstId + i);
+        }
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> jdbcTemplate.update("delete from products"));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @EnumSource(PriceSource.class)
+    void quote(PriceSource source) {
+        for (int i = 0; i < LINES; i++) {
+            if (source == PriceSource.CACHE) {
+                productApplicationService.getProduct(firstId + i);
+            } else {
+                productCache.invalidate(firstId + i);
+            }
+        }
+
+        for (int i = 0; i < WARMUP; i++) {
+            productApplicationService.quote(request);
+        }
+
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long cpuBefore = threads.getCurrentThreadCpuTime();
+        long allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+        QuoteResponse response = null;
+        for (int i = 0; i < MEASURED; i++) {
+            response = productApplicationService.quote(request);
+        }
+        double cpuMicrosPerQuote = (threads.getCurrentThreadCpuTime() - cpuBefore) / 1_000.0 / MEASURED;
+        long bytesPerQuote = (threads.getCurrentThreadAllocatedBytes() - allocatedBefore) / MEASURED;
+
+        System.out.printf("[%s] lines=%d cpu=%.1fus/quote allocated=%.1fKB/quote%n",
+                source, LINES, cpuMicrosPerQuote, bytesPerQuote / 1024.0);
+        assertThat(response.lines()).hasSize(LINES);
+    }
+}
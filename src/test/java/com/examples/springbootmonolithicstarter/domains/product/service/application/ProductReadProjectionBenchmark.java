@@ -0,0 +1,134 @@
+package com.examples.springbootmonolithicstarter.domains.product.service.application;
+
+import com.examples.springbootmonolithicstarter.domains.product.dto.response.ProductResponse;
+import com.examples.springbootmonolithicstarter.domains.product.model.Product;
+import com.examples.springbootmonolithicstarter.domains.product.repository.ProductRepository;
+import com.examples.springbootmonolithicstarter.support.benchmark.ConcurrentLoadRunner;
+import com.examples.springbootmonolithicstarter.support.benchmark.ConcurrentLoadRunner.LoadResult;
+import com.examples.springbootmonolithicstarter.support.benchmark.ProductTableSeeder;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 읽기 전용 트랜잭션에서 100건 페이지를 조회할 때
+ * 엔티티 조회 후 변환(기존 방식)과 ProductRow 프로젝션의 요청당 할당량과 처리량을 비교한다.
+ * (애플리케이션은 엔티티 키셋 조회를 쓰지 않으므로 비교용 엔티티 쿼리는 이 클래스에서 직접 실행)
+ * <p>
+ * 실행: ./gradlew benchmark --tests "*.ProductReadProjectionBenchmark"
+ */
+@Tag("benchmark")
+@DisplayName("조회 프로젝션 벤치마크")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.show_sql=false",
+        "logging.level.org.hibernate.SQL=warn",
+        "logging.level.org.hibernate.orm.jdbc.bind=warn",
+        "logging.level.com.examples=warn"
+})
+class ProductReadProjectionBenchmark {
+
+    private static final int PRODUCTS = 100_000;
+    private static final int PAGE_SIZE = 100;
+    private static final int WARMUP = 2_000;
+    private static final int MEASURED = 2_000;
+    private static final int CONCURRENCY = 8;
+    private static final int REQUESTS_PER_WORKER = 500;
+    private static final String SELECT_ENTITY_PAGE = "select p from Product p where p.id > :lastId order by p.id";
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate readOnly;
+    private long firstId;
+
+    enum ReadPath {
+        ENTITY, PROJECTION
+    }
+
+    @BeforeAll
+    void setUp() {
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < PRODUCTS; i++) {
+            rows.add(new Object[]{"상품 " + i, "상품 설명 " + i, 10000 + i, 100, "AVAILABLE", now, now, 0L});
+        }
+        firstId = ProductTableSeeder.insert(jdbcTemplate, new TransactionTemplate(transactionManager), rows);
+    }
+
+    @AfterAll
+    void tearDown() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> jdbcTemplate.update("delete from products"));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @EnumSource(ReadPath.class)
+    void page(ReadPath path) {
+        LongFunction<List<ProductResponse>> page = switch (path) {
+            case ENTITY -> lastId -> readOnly.execute(status ->
+                    entityManager.createQuery(SELECT_ENTITY_PAGE, Product.class)
+                            .setParameter("lastId", lastId)
+                            .setMaxResults(PAGE_SIZE)
+                            .getResultList().stream()
+                            .map(ProductResponse::from)
+                            .toList());
+            case PROJECTION -> lastId -> readOnly.execute(status ->
+                    productRepository.findRowsByIdGreaterThan(lastId, Limit.of(PAGE_SIZE)).stream()
+                            .map(ProductResponse::from)
+                            .toList());
+        };
+
+        for (int i = 0; i < WARMUP; i++) {
+            page.apply(cursorOf(i));
+        }
+
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < MEASURED; i++) {
+            assertThat(page.apply(cursorOf(i))).hasSize(PAGE_SIZE);
+        }
+        long bytesPerRequest = (threads.getCurrentThreadAllocatedBytes() - allocatedBefore) / MEASURED;
+
+        LoadResult result = ConcurrentLoadRunner.run(path.name(), CONCURRENCY, REQUESTS_PER_WORKER,
+                (worker, iteration) -> page.apply(cursorOf(worker * REQUESTS_PER_WORKER + iteration)));
+
+        System.out.println(result.summary() + String.format(" allocated=%.1fKB/request", bytesPerRequest / 1024.0));
+        assertThat(result.failures()).isZero();
+    }
+
+    private long cursorOf(int request) {
+        return firstId - 1 + (long) request * PAGE_SIZE % (PRODUCTS - PAGE_SIZE);
+    }
+}
@@ -0,0 +1,86 @@
+package com.examples.springbootmonolithicstarter.domains.product.service.application;
+
+import com.examples.springbootmonolithicstarter.domains.product.dto.request.CreateProductRequest;
+import com.examples.springbootmonolithicstarter.domains.product.dto.request.UpdateProductRequest;
+import com.examples.springbootmonolithicstarter.domains.product.dto.response.ProductResponse;
+import com.examples.springbootmonolithicstarter.domains.product.dto.response.ProductSuggestionResponse;
+import com.examples.springbootmonolithicstarter.domains.product.repository.ProductRepository;
+import com.examples.springbootmonolithicstarter.domains.product.search.ProductSearchIndex;
+import com.examples.springbootmonolithicstarter.domains.product.search.ProductSuggestIndex;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DisplayName("상품 검색/자동완성 색인 통합 테스트")
+@SpringBootTest
+class ProductSearchApplicationServiceTest {
+
+    @Autowired
+    private ProductApplicationService productApplicationService;
+
+    @Autowired
+    private ProductSearchIndex productSearchIndex;
+
+    @Autowired
+    private ProductSuggestIndex productSuggestIndex;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @AfterEach
+    void tearDown() {
+        productRepository.findAll().forEach(product -> {
+            productSearchIndex.remove(product.getId());
+            productSuggestIndex.remove(product.getId());
+        });
+        productRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("상품 생성과 수정이 커밋되면 색인에 반영된다")
+    void indexOnCommit() {
+        // given
+        ProductResponse created = productApplicationService.createProduct(
+                new CreateProductRequest("초경량노트북", "설명", BigDecimal.valueOf(1000000), 10));
+
+        // when
+        List<ProductResponse> beforeUpdate = productApplicationService.searchProducts("노트북", 10);
+        productApplicationService.updateProduct(created.id(),
+                new UpdateProductRequest("태블릿", "설명", BigDecimal.valueOf(500000)));
+        List<ProductResponse> afterUpdate = productApplicationService.searchProducts("노트북", 10);
+
+        // then
+        assertThat(productSearchIndex.isReady()).isTrue();
+        assertThat(beforeUpdate).extracting(ProductResponse::id).containsExactly(created.id());
+        assertThat(afterUpdate).isEmpty();
+        assertThat(productApplicationService.searchProducts("태블릿", 10))
+                .extracting(ProductResponse::name)
+                .containsExactly("태블릿");
+    }
+
+    @Test
+    @DisplayName("판매 중지가 커밋되면 자동완성에서 판매 가능 상품 뒤로 밀린다")
+    void suggestAfterDiscontinue() {
+        // given
+        ProductResponse first = productApplicationService.createProduct(
+                new CreateProductRequest("노트북 A", "설명", BigDecimal.valueOf(1000000), 10));
+        ProductResponse second = productApplicationService.createProduct(
+                new CreateProductRequest("노트북 B", "설명", BigDecimal.valueOf(1000000), 10));
+
+        // when
+        productApplicationService.discontinueProduct(first.id());
+
+        // then
+        assertThat(productApplicationService.suggestProducts("노트북", 10))
+                .extracting(ProductSuggestionResponse::id, ProductSuggestionResponse::available)
+                .containsExactly(tuple(second.id(), true), tuple(first.id(), false));
+    }
+}
@@ -0,0 +1,130 @@
+package com.examples.springbootmonolithicstarter.domains.product.service.application;
+
+import com.examples.springbootmonolithicstarter.domains.product.repository.ProductRepository;
+import com.examples.springbootmonolithicstarter.domains.product.search.ProductSearchIndex;
+import com.examples.springbootmonolithicstarter.domains.product.search.ProductSuggestIndex;
+import com.examples.springbootmonolithicstarter.support.benchmark.ConcurrentLoadRunner;
+import com.examples.springbootmonolithicstarter.support.benchmark.ConcurrentLoadRunner.LoadResult;
+import com.examples.springbootmonolithicstarter.support.benchmark.ProductTableSeeder;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 상품 1,000,000 건에서 메모리 역색인 검색과 DB LIKE '%검색어%' 검색의 지연 시간을 비교하고,
+ * 상품명 자동완성의 지연 시간과 상품명 100만 건당 메모리 사용량을 측정한다.
+ * <p>
+ * 실행: ./gradlew benchmark --tests "*.ProductSearchBenchmark"
+ */
+@Tag("benchmark")
+@DisplayName("상품 검색 벤치마크")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.show_sql=false",
+        "logging.level.org.hibernate.SQL=warn",
+        "logging.level.org.hibernate.orm.jdbc.bind=warn",
+        "logging.level.com.examples=warn"
+})
+class ProductSearchBenchmark {
+
+    private static final int PRODUCTS = 1_000_000;
+    private static final int LIMIT = 20;
+    private static final int REQUESTS = 200;
+    private static final int SUGGESTIONS = 10;
+    private static final int SUGGEST_REQUESTS = 10_000;
+
+    private static final String[] ADJECTIVES = {"초경량", "무선", "게이밍", "프리미엄", "휴대용"};
+    private static final String[] CATEGORIES = {"노트북", "마우스", "키보드", "모니터", "이어폰", "충전기", "태블릿", "스피커"};
+    private static final String[] BRANDS = {"삼성", "엘지", "애플", "로지텍", "소니"};
+
+    @Autowired
+    private ProductSearchApplicationService productSearchApplicationService;
+
+    @Autowired
+    private ProductSearchIndex productSearchIndex;
+
+    @Autowired
+    private ProductSuggestIndex productSuggestIndex;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeAll
+    void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        for (int offset = 0; offset < PRODUCTS; offset += 100_000) {
+            List<Object[]> rows = new ArrayList<>(100_000);
+            for (int i = offset; i < offset + 100_000; i++) {
+                String name = ADJECTIVES[i % ADJECTIVES.length] + CATEGORIES[i % CATEGORIES.length]
+                        + " " + BRANDS[i % BRANDS.length] + " M" + i;
+                rows.add(new Object[]{name, "설명", 10000, 100, "AVAILABLE", now, now, 0L});
+            }
+            ProductTableSeeder.insert(jdbcTemplate, transactionTemplate, rows);
+        }
+
+        long startedAt = System.currentTimeMillis();
+        productSearchApplicationService.rebuild();
+        System.out.printf("[Index] products=%d build=%dms postings=%dMB%n", productSearchIndex.size(),
+                System.currentTimeMillis() - startedAt, productSearchIndex.postingsBytes() / (1024 * 1024));
+        System.out.printf("[Suggest] names=%d memory=%dMB per 1M names%n", productSuggestIndex.size(),
+                productSuggestIndex.estimatedBytes() * 1_000_000 / productSuggestIndex.size() / (1024 * 1024));
+    }
+
+    @AfterAll
+    void tearDown() {
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.update("delete from products"));
+    }
+
+    @ParameterizedTest(name = "query={0}")
+    @ValueSource(strings = {"노트북", "게이밍노트북", "M777777"})
+    void invertedIndex(String query) {
+        LoadResult result = ConcurrentLoadRunner.run("Index-" + query, 1, REQUESTS,
+                (worker, iteration) -> assertThat(productSearchIndex.search(query, LIMIT)).isNotEmpty());
+
+        System.out.println(result.summary());
+        assertThat(result.failures()).isZero();
+    }
+
+    @ParameterizedTest(name = "query={0}")
+    @ValueSource(strings = {"노트북", "게이밍노트북", "M777777"})
+    void likeQuery(String query) {
+        LoadResult result = ConcurrentLoadRunner.run("Like-" + query, 1, REQUESTS,
+                (worker, iteration) -> transactionTemplate.executeWithoutResult(status ->
+                        assertThat(productRepository.findRowsByNameContaining(query, Limit.of(LIMIT))).isNotEmpty()));
+
+        System.out.println(result.summary());
+        assertThat(result.failures()).isZero();
+    }
+
+    @ParameterizedTest(name = "prefix={0}")
+    @ValueSource(strings = {"초", "게이밍노", "게이밍노트북 애플 m9"})
+    void suggest(String prefix) {
+        LoadResult result = ConcurrentLoadRunner.run("Suggest-" + prefix, 1, SUGGEST_REQUESTS,
+                (worker, iteration) -> assertThat(productSuggestIndex.suggest(prefix, SUGGESTIONS)).isNotEmpty());
+
+        System.out.println(result.summary());
+        assertThat(result.failures()).isZero();
+    }
+}
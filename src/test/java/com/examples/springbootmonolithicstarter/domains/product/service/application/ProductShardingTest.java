@@ -0,0 +1,126 @@
+package com.examples.springbootmonolithicstarter.domains.product.service.application;
+
+import com.examples.springbootmonolithicstarter.domains.product.dto.request.BulkChangeStatusRequest;
+import com.examples.springbootmonolithicstarter.domains.product.dto.request.CreateProductRequest;
+import com.examples.springbootmonolithicstarter.domains.product.dto.request.ReserveStockRequest;
+import com.examples.springbootmonolithicstarter.domains.product.dto.response.ProductResponse;
+import com.examples.springbootmonolithicstarter.domains.product.exception.ProductShardingUnsupportedException;
+import com.examples.springbootmonolithicstarter.domains.product.exception.ProductStockShortageException;
+import com.examples.springbootmonolithicstarter.domains.product.export.ProductExportFormat;
+import com.examples.springbootmonolithicstarter.domains.product.model.ProductStatus;
+import com.examples.springbootmonolithicstarter.domains.product.repository.ProductRepository;
+import com.examples.springbootmonolithicstarter.domains.product.repository.shard.ShardedProductRepository;
+import com.examples.springbootmonolithicstarter.global.response.CursorPageResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("상품 샤딩 통합 테스트")
+@SpringBootTest(properties = {
+        "product.sharding.enabled=true",
+        "product.sharding.shards[0].url=jdbc:h2:mem:product-shard-0;DB_CLOSE_DELAY=-1",
+        "product.sharding.shards[0].username=sa",
+        "product.sharding.shards[1].url=jdbc:h2:mem:product-shard-1;DB_CLOSE_DELAY=-1",
+        "product.sharding.shards[1].username=sa"
+})
+class ProductShardingTest {
+
+    @Autowired
+    private ProductApplicationService productApplicationService;
+
+    @Autowired
+    private ShardedProductRepository shardedProductRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductBulkService productBulkService;
+
+    @Autowired
+    private ProductBulkUpdateService productBulkUpdateService;
+
+    @Autowired
+    private ProductImportService productImportService;
+
+    @Autowired
+    private ProductExportService productExportService;
+
+    @Test
+    @DisplayName("상품은 샤드에 저장되고, 목록은 모든 샤드의 상품을 ID 순으로 반환한다")
+    void storesOnShards() {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            ids.add(create("샤드 상품 " + i, 10).id());
+        }
+
+        assertThat(productRepository.count()).isZero();
+        assertThat(productApplicationService.getProduct(ids.getFirst()).name()).isEqualTo("샤드 상품 0");
+        CursorPageResponse<ProductResponse> page = productApplicationService.getAllProducts(null, 3);
+        assertThat(page.content()).extracting(ProductResponse::id).isSorted().hasSize(3);
+        assertThat(page.hasNext()).isTrue();
+    }
+
+    @Test
+    @DisplayName("여러 샤드에 걸친 재고 차감은 하나라도 부족하면 모두 되돌린다")
+    void reserveStocksAcrossShards() {
+        Long first = create("재고 상품 A", 10).id();
+        Long second = create("재고 상품 B", 1).id();
+        assertThat(shardedProductRepository.shardCount()).isEqualTo(2);
+
+        assertThatThrownBy(() -> productApplicationService.reserveStocks(new ReserveStockRequest(List.of(
+                new ReserveStockRequest.Line(first, 3),
+                new ReserveStockRequest.Line(second, 2)))))
+                .isInstanceOf(ProductStockShortageException.class);
+
+        assertThat(stockOf(first)).isEqualTo(10);
+        assertThat(stockOf(second)).isEqualTo(1);
+
+        productApplicationService.reserveStocks(new ReserveStockRequest(List.of(
+                new ReserveStockRequest.Line(first, 3),
+                new ReserveStockRequest.Line(second, 1))));
+
+        assertThat(stockOf(first)).isEqualTo(7);
+        assertThat(stockOf(second)).isZero();
+    }
+
+    @Test
+    @DisplayName("단일 DB 를 직접 다루는 대량 등록/변경, 가져오기, 내보내기는 거부한다")
+    void rejectsSingleDatabaseFeatures() {
+        Long productId = create("대량 작업 상품", 10).id();
+
+        assertThatThrownBy(() -> productBulkService.createProducts(List.of(
+                new CreateProductRequest("대량 등록 상품", "설명", BigDecimal.valueOf(1000), 1))))
+                .isInstanceOf(ProductShardingUnsupportedException.class);
+        assertThatThrownBy(() -> productBulkUpdateService.changeStatus(
+                new BulkChangeStatusRequest(List.of(productId), ProductStatus.DISCONTINUED)))
+                .isInstanceOf(ProductShardingUnsupportedException.class);
+        assertThatThrownBy(() -> productImportService.importCsv("products.csv", new ByteArrayInputStream(
+                "name,description,price,stockQuantity\n가져오기 상품,설명,1000,1\n".getBytes(StandardCharsets.UTF_8))))
+                .isInstanceOf(ProductShardingUnsupportedException.class);
+        assertThatThrownBy(() -> productExportService.export(ProductExportFormat.CSV, new ByteArrayOutputStream()))
+                .isInstanceOf(ProductShardingUnsupportedException.class);
+
+        assertThat(shardedProductRepository.findRowById(productId).orElseThrow().status()).isEqualTo(ProductStatus.AVAILABLE);
+    }
+
+    private ProductResponse create(String name, int stockQuantity) {
+        return productApplicationService.createProduct(
+                new CreateProductRequest(name, "설명", BigDecimal.valueOf(1000), stockQuantity));
+    }
+
+    private int stockOf(Long productId) {
+        return shardedProductRepository.findRowById(productId).orElseThrow().stockQuantity();
+    }
+}
@@ -0,0 +1,136 @@
+package com.examples.springbootmonolithicstarter.domains.product.service.application;
+
+import com.examples.springbootmonolithicstarter.domains.product.dto.request.ReserveStockRequest;
+import com.examples.springbootmonolithicstarter.domains.product.model.Product;
+import com.examples.springbootmonolithicstarter.domains.product.repository.ProductRepository;
+import com.examples.springbootmonolithicstarter.support.benchmark.ConcurrentLoadRunner;
+import com.examples.springbootmonolithicstarter.support.benchmark.ConcurrentLoadRunner.LoadResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("재고 동시성 제어 통합 테스트")
+@SpringBootTest
+class ProductStockConcurrencyTest {
+
+    private static final int INITIAL_STOCK = 50;
+    private static final int CONCURRENCY = 64;
+
+    @Nested
+    @DisplayName("비관적 락 (SELECT ... FOR UPDATE)")
+    @TestPropertySource(properties = "product.stock.lock-strategy=PESSIMISTIC")
+    class Pessimistic extends ConcurrencyScenario {
+
+        @Test
+        @DisplayName("동시에 차감해도 재고 수량만큼만 성공한다")
+        void exactlyStockQuantitySucceeds() {
+            LoadResult result = reserveConcurrently();
+
+            assertThat(result.operations() - result.failures()).isEqualTo(INITIAL_STOCK);
+            assertThat(currentStock()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("낙관적 락 (@Version + 재시도)")
+    @TestPropertySource(properties = "product.stock.lock-strategy=OPTIMISTIC")
+    class Optimistic extends ConcurrencyScenario {
+
+        @Test
+        @DisplayName("동시에 차감해도 초과 판매나 갱신 손실이 발생하지 않는다")
+        void noOversellOrLostUpdate() {
+            LoadResult result = reserveConcurrently();
+
+            long succeeded = result.operations() - result.failures();
+            assertThat(currentStock()).isGreaterThanOrEqualTo(0);
+            assertThat(succeeded).isEqualTo(INITIAL_STOCK - currentStock());
+        }
+    }
+
+    @Nested
+    @DisplayName("조건부 UPDATE")
+    @TestPropertySource(properties = "product.stock.lock-strategy=ATOMIC_UPDATE")
+    class AtomicUpdate extends ConcurrencyScenario {
+
+        @Test
+        @DisplayName("동시에 차감해도 재고 수량만큼만 성공한다")
+        void exactlyStockQuantitySucceeds() {
+            LoadResult result = reserveConcurrently();
+
+            assertThat(result.operations() - result.failures()).isEqualTo(INITIAL_STOCK);
+            assertThat(currentStock()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("여러 상품 일괄 예약")
+    class ReserveStocks {
+
+        @Autowired
+        private ProductApplicationService productApplicationService;
+
+        @Autowired
+        private ProductRepository productRepository;
+
+        @AfterEach
+        void tearDown() {
+            productRepository.deleteAll();
+        }
+
+        @Test
+        @DisplayName("서로 반대 순서로 요청해도 교착 상태 없이 모든 상품이 함께 차감된다")
+        void reverseOrderedBasketsDoNotDeadlock() {
+            Long first = productRepository.save(
+                    Product.create("상품 A", "설명", BigDecimal.valueOf(10000), INITIAL_STOCK)).getId();
+            Long second = productRepository.save(
+                    Product.create("상품 B", "설명", BigDecimal.valueOf(10000), INITIAL_STOCK)).getId();
+            ReserveStockRequest forward = new ReserveStockRequest(List.of(
+                    new ReserveStockRequest.Line(first, 1), new ReserveStockRequest.Line(second, 1)));
+            ReserveStockRequest reverse = new ReserveStockRequest(List.of(
+                    new ReserveStockRequest.Line(second, 1), new ReserveStockRequest.Line(first, 1)));
+
+            LoadResult result = ConcurrentLoadRunner.run("ReserveStocks", CONCURRENCY, 1,
+                    (worker, iteration) -> productApplicationService.reserveStocks(worker % 2 == 0 ? forward : reverse));
+
+            assertThat(result.operations() - result.failures()).isEqualTo(INITIAL_STOCK);
+            assertThat(productRepository.findById(first).orElseThrow().getStockQuantity()).isZero();
+            assertThat(productRepository.findById(second).orElseThrow().getStockQuantity()).isZero();
+        }
+    }
+
+    abstract static class ConcurrencyScenario {
+
+        @Autowired
+        private ProductApplicationService productApplicationService;
+
+        @Autowired
+        private ProductRepository productRepository;
+
+        private Long productId;
+
+        @AfterEach
+        void tearDown() {
+            productRepository.deleteAll();
+        }
+
+        LoadResult reserveConcurrently() {
+            productId = productRepository.save(
+                    Product.create("한정 수량 상품", "설명", BigDecimal.valueOf(10000), INITIAL_STOCK)).getId();
+            return ConcurrentLoadRunner.run(getClass().getSimpleName(), CONCURRENCY, 1,
+                    (worker, iteration) -> productApplicationService.removeStock(productId, 1));
+        }
+
+        int currentStock() {
+            return productRepository.findById(productId).orElseThrow().getStockQuantity();
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.examples.springbootmonolithicstarter.domains.product.service.application;
+
+import com.examples.springbootmonolithicstarter.domains.product.model.Product;
+import com.examples.springbootmonolithicstarter.domains.product.repository.ProductRepository;
+import com.examples.springbootmonolithicstarter.support.benchmark.ConcurrentLoadRunner;
+import com.examples.springbootmonolithicstarter.support.benchmark.ConcurrentLoadRunner.LoadResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 하나의 인기 상품에 대해 1 / 16 / 256 개의 동시 요청으로 재고를 차감하며
+ * 전략별 처리량과 p99 지연 시간을 측정한다.
+ * <p>
+ * 실행: ./gradlew benchmark --tests "*.StockConcurrencyBenchmark"
+ */
+@Tag("benchmark")
+@DisplayName("재고 동시성 전략 벤치마크")
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.show_sql=false",
+        "logging.level.org.hibernate.SQL=warn",
+        "logging.level.org.hibernate.orm.jdbc.bind=warn",
+        "logging.level.com.examples=warn"
+})
+class StockConcurrencyBenchmark {
+
+    private static final int TOTAL_OPERATIONS = 4096;
+
+    @Nested
+    @TestPropertySource(properties = "product.stock.lock-strategy=PESSIMISTIC")
+    class Pessimistic extends BenchmarkScenario {
+    }
+
+    @Nested
+    @TestPropertySource(properties = "product.stock.lock-strategy=OPTIMISTIC")
+    class Optimistic extends BenchmarkScenario {
+    }
+
+    @Nested
+    @TestPropertySource(properties = "product.stock.lock-strategy=ATOMIC_UPDATE")
+    class AtomicUpdate extends BenchmarkScenario {
+    }
+
+    abstract static class BenchmarkScenario {
+
+        @Autowired
+        private ProductApplicationService productApplicationService;
+
+        @Autowired
+        private ProductRepository productRepository;
+
+        @AfterEach
+        void tearDown() {
+            productRepository.deleteAll();
+        }
+
+        @ParameterizedTest(name = "concurrency={0}")
+        @ValueSource(ints = {1, 16, 256})
+        void reserveHotProduct(int concurrency) {
+            Long productId = productRepository.save(
+                    Product.create("인기 상품", "설명", BigDecimal.valueOf(10000), TOTAL_OPERATIONS)).getId();
+            int operationsPerWorker = Math.max(1, TOTAL_OPERATIONS / concurrency);
+
+            LoadResult result = ConcurrentLoadRunner.run(getClass().getSimpleName(), concurrency, operationsPerWorker,
+                    (worker, iteration) -> productApplicationService.removeStock(productId, 1));
+
+            System.out.println(result.summary());
+            int remaining = productRepository.findById(productId).orElseThrow().getStockQuantity();
+            assertThat(result.operations() - result.failures()).isEqualTo(TOTAL_OPERATIONS - remaining);
+        }
+    }
+}
@@ -1,25 +1,44 @@
 package com.examples.springbootmonolithicstarter.domains.product.service.domain;
 
+import com.examples.springbootmonolithicstarter.domains.product.exception.ProductNotFoundException;
 import com.examples.springbootmonolithicstarter.domains.product.exception.ProductOutOfStockException;
+import com.examples.springbootmonolithicstarter.domains.product.exception.ProductStockShortageException;
+import com.examples.springbootmonolithicstarter.domains.product.exception.ProductStockShortageException.Shortage;
 import com.examples.springbootmonolithicstarter.domains.product.model.Product;
+import com.examples.springbootmonolithicstarter.domains.product.repository.ProductRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import org.springframework.test.util.ReflectionTestUtils;
+
 import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 
 @DisplayName("StockService 도메인 서비스")
 class StockServiceTest {
 
+    private ProductRepository productRepository;
     private StockService stockService;
 
     @BeforeEach
     void setUp() {
-        stockService = new StockService();
+        productRepository = mock(ProductRepository.class);
+        stockService = new StockService(productRepository);
     }
 
     @Nested
@@ -71,6 +90,97 @@ class StockServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("여러 상품 재고 일괄 예약")
+    class ReserveAll {
+
+        @Test
+        @DisplayName("모든 상품의 재고가 충분하면 전부 차감한다")
+        void reserveAllSuccessfully() {
+            Product first = createProduct(1L, 100);
+            Product second = createProduct(2L, 10);
+
+            stockService.reserveAll(Map.of(1L, 30, 2L, 10), List.of(first, second));
+
+            assertThat(first.getStockQuantity()).isEqualTo(70);
+            assertThat(second.getStockQuantity()).isZero();
+        }
+
+        @Test
+        @DisplayName("하나라도 부족하면 아무것도 차감하지 않고 부족한 상품을 모두 알려준다")
+        void reserveAllWithShortage() {
+            Product first = createProduct(1L, 100);
+            Product second = createProduct(2L, 5);
+            Product third = createProduct(3L, 100);
+            third.discontinue();
+
+            assertThatThrownBy(() -> stockService.reserveAll(
+                    Map.of(1L, 30, 2L, 10, 3L, 1, 4L, 1), List.of(first, second, third)))
+                    .isInstanceOf(ProductStockShortageException.class)
+                    .satisfies(e -> assertThat(((ProductStockShortageException) e).getShortages())
+                            .containsExactlyInAnyOrder(
+                                    new Shortage(2L, true, 10, 5),
+                                    new Shortage(3L, true, 1, 0),
+                                    new Shortage(4L, false, 1, 0)
+                            ));
+            assertThat(first.getStockQuantity()).isEqualTo(100);
+            assertThat(second.getStockQuantity()).isEqualTo(5);
+        }
+    }
+
+    @Nested
+    @DisplayName("조건부 UPDATE 재고 변경")
+    class AtomicStockUpdate {
+
+        @Test
+        @DisplayName("조건부 UPDATE 가 성공하면 상품을 조회하지 않는다")
+        void reserveStockAtomically() {
+            given(productRepository.decreaseStock(eq(1L), eq(30), any())).willReturn(1);
+
+            stockService.reserveStockAtomically(1L, 30);
+
+            then(productRepository).should(never()).findById(anyLong());
+        }
+
+        @Test
+        @DisplayName("재고가 부족하면 현재 재고와 함께 예외가 발생한다")
+        void reserveStockAtomicallyWithInsufficientStock() {
+            given(productRepository.decreaseStock(eq(1L), eq(20), any())).willReturn(0);
+            given(productRepository.findById(1L)).willReturn(Optional.of(createProduct(10)));
+
+            assertThatThrownBy(() -> stockService.reserveStockAtomically(1L, 20))
+                    .isInstanceOf(ProductOutOfStockException.class)
+                    .hasMessageContaining("가용: 10");
+        }
+
+        @Test
+        @DisplayName("존재하지 않는 상품이면 예외가 발생한다")
+        void reserveStockAtomicallyForNonExistentProduct() {
+            given(productRepository.decreaseStock(eq(999L), eq(10), any())).willReturn(0);
+            given(productRepository.findById(999L)).willReturn(Optional.empty());
+
+            assertThatThrownBy(() -> stockService.reserveStockAtomically(999L, 10))
+                    .isInstanceOf(ProductNotFoundException.class);
+        }
+
+        @Test
+        @DisplayName("0 이하의 수량은 UPDATE 를 실행하지 않고 예외가 발생한다")
+        void reserveStockAtomicallyWithZeroQuantity() {
+            assertThatThrownBy(() -> stockService.reserveStockAtomically(1L, 0))
+                    .isInstanceOf(IllegalArgumentException.class);
+            then(productRepository).should(never()).decreaseStock(anyLong(), anyInt(), any());
+        }
+
+        @Test
+        @DisplayName("존재하지 않는 상품의 재고를 추가하면 예외가 발생한다")
+        void releaseStockAtomicallyForNonExistentProduct() {
+            given(productRepository.increaseStock(eq(999L), eq(10), any())).willReturn(0);
+
+            assertThatThrownBy(() -> stockService.releaseStockAtomically(999L, 10))
+                    .isInstanceOf(ProductNotFoundException.class);
+        }
+    }
+
     @Nested
     @DisplayName("재고 확인")
     class CheckStock {
@@ -110,4 +220,10 @@ class StockServiceTest {
     private Product createProduct(int stockQuantity) {
         return Product.create("테스트 상품", "설명", BigDecimal.valueOf(10000), stockQuantity);
     }
+
+    private Product createProduct(Long id, int stockQuantity) {
+        Product product = createProduct(stockQuantity);
+        ReflectionTestUtils.setField(product, "id", id);
+        return product;
+    }
 }
@@ -0,0 +1,141 @@
+package com.examples.springbootmonolithicstarter.domains.product.stock;
+
+import com.examples.springbootmonolithicstarter.domains.product.config.HotStockProperties;
+import com.examples.springbootmonolithicstarter.domains.product.exception.ProductOutOfStockException;
+import com.examples.springbootmonolithicstarter.support.benchmark.ConcurrentLoadRunner;
+import com.examples.springbootmonolithicstarter.support.benchmark.ConcurrentLoadRunner.LoadResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("HotStockLedger 인기 상품 재고 원장")
+class HotStockLedgerTest {
+
+    private static final Long PRODUCT_ID = 1L;
+
+    @TempDir
+    private Path journalDirectory;
+
+    private HotStockJournal journal;
+    private HotStockLedger ledger;
+
+    @BeforeEach
+    void setUp() {
+        journal = new HotStockJournal(new HotStockProperties(true, Set.of(PRODUCT_ID), Duration.ofMillis(100), journalDirectory, 4, true));
+        journal.open(1);
+        ledger = new HotStockLedger(journal);
+    }
+
+    @AfterEach
+    void tearDown() {
+        journal.close();
+    }
+
+    @Nested
+    @DisplayName("재고 예약")
+    class Reserve {
+
+        @Test
+        @DisplayName("가용 재고를 초과하여 예약하면 예외가 발생한다")
+        void reserveExceedingStock() {
+            ledger.register(PRODUCT_ID, 10, true);
+            ledger.reserve(PRODUCT_ID, 7);
+
+            assertThatThrownBy(() -> ledger.reserve(PRODUCT_ID, 4))
+                    .isInstanceOf(ProductOutOfStockException.class)
+                    .hasMessageContaining("가용: 3");
+        }
+
+        @Test
+        @DisplayName("판매 중지된 상품은 예약할 수 없다")
+        void reserveUnavailableProduct() {
+            ledger.register(PRODUCT_ID, 10, true);
+            ledger.changeAvailability(PRODUCT_ID, false);
+
+            assertThatThrownBy(() -> ledger.reserve(PRODUCT_ID, 1))
+                    .isInstanceOf(ProductOutOfStockException.class);
+        }
+
+        @Test
+        @DisplayName("동시에 예약해도 재고 수량만큼만 성공한다")
+        void noOversellUnderContention() {
+            ledger.register(PRODUCT_ID, 1_000, true);
+
+            LoadResult result = ConcurrentLoadRunner.run("ledger", 32, 100,
+                    (worker, iteration) -> ledger.reserve(PRODUCT_ID, 1));
+
+            assertThat(result.operations() - result.failures()).isEqualTo(1_000);
+            assertThat(ledger.drain().orElseThrow().deltas()).containsEntry(PRODUCT_ID, -1_000L);
+        }
+    }
+
+    @Nested
+    @DisplayName("변경분 수집")
+    class Drain {
+
+        @Test
+        @DisplayName("예약과 해제의 순 변경분을 수집하고 저널에도 같은 값이 남는다")
+        void drainNetDelta() {
+            ledger.register(PRODUCT_ID, 100, true);
+            ledger.reserve(PRODUCT_ID, 30);
+            ledger.release(PRODUCT_ID, 10);
+
+            HotStockDrain drain = ledger.drain().orElseThrow();
+
+            assertThat(drain.deltas()).containsEntry(PRODUCT_ID, -20L);
+            assertThat(journal.readDeltas(drain.sequence())).containsEntry(PRODUCT_ID, -20L);
+        }
+
+        @Test
+        @DisplayName("여러 stripe 에 나뉜 상품의 변경분을 한 번에 수집하고 모든 stripe 가 같은 번호로 교체된다")
+        void drainAcrossStripes() {
+            Long otherProductId = PRODUCT_ID + 1;
+            assertThat(journal.stripeOf(otherProductId)).isNotEqualTo(journal.stripeOf(PRODUCT_ID));
+            ledger.register(PRODUCT_ID, 100, true);
+            ledger.register(otherProductId, 100, true);
+            ledger.reserve(PRODUCT_ID, 3);
+            ledger.reserve(otherProductId, 7);
+
+            HotStockDrain drain = ledger.drain().orElseThrow();
+            ledger.complete(drain);
+
+            assertThat(drain.deltas()).containsEntry(PRODUCT_ID, -3L).containsEntry(otherProductId, -7L);
+            assertThat(journal.segments()).containsExactly(drain.sequence() + 1);
+        }
+
+        @Test
+        @DisplayName("변경이 없으면 저널을 교체하지 않는다")
+        void drainWithoutChanges() {
+            ledger.register(PRODUCT_ID, 100, true);
+
+            assertThat(ledger.drain()).isEmpty();
+            assertThat(journal.segments()).containsExactly(1L);
+        }
+
+        @Test
+        @DisplayName("반영에 실패한 변경분은 다음 수집에 다시 포함된다")
+        void restoreFailedDrain() {
+            ledger.register(PRODUCT_ID, 100, true);
+            ledger.reserve(PRODUCT_ID, 30);
+            HotStockDrain failed = ledger.drain().orElseThrow();
+
+            ledger.restore(failed);
+            ledger.reserve(PRODUCT_ID, 5);
+            HotStockDrain next = ledger.drain().orElseThrow();
+            ledger.complete(next);
+
+            assertThat(next.deltas()).containsEntry(PRODUCT_ID, -35L);
+            assertThat(journal.segments()).containsExactly(next.sequence() + 1);
+        }
+    }
+}
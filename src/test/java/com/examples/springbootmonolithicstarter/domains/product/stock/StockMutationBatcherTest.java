@@ -0,0 +1,93 @@
+package com.examples.springbootmonolithicstarter.domains.product.stock;
+
+import com.examples.springbootmonolithicstarter.domains.product.exception.ProductNotFoundException;
+import com.examples.springbootmonolithicstarter.domains.product.model.Product;
+import com.examples.springbootmonolithicstarter.domains.product.repository.ProductRepository;
+import com.examples.springbootmonolithicstarter.support.benchmark.ConcurrentLoadRunner;
+import com.examples.springbootmonolithicstarter.support.benchmark.ConcurrentLoadRunner.LoadResult;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("StockMutationBatcher 통합 테스트")
+@SpringBootTest(properties = {
+        "product.stock.batch.enabled=true",
+        "product.stock.batch.window=5ms",
+        "product.stock.batch.max-batch-size=64"
+})
+class StockMutationBatcherTest {
+
+    @Autowired
+    private StockMutationBatcher stockMutationBatcher;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @AfterEach
+    void tearDown() {
+        productRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("동시 요청을 배치로 묶어 처리하고, 재고 수량을 넘는 요청만 개별적으로 실패한다")
+    void batchConcurrentReservations() {
+        // given
+        Long productId = saveProduct(150);
+        DistributionSummary batchSize = meterRegistry.get("product.stock.batch.size").summary();
+        long batchesBefore = batchSize.count();
+
+        // when
+        LoadResult result = ConcurrentLoadRunner.run("batch", 200, 1,
+                (worker, iteration) -> stockMutationBatcher.reserve(productId, 1));
+
+        // then
+        assertThat(result.operations() - result.failures()).isEqualTo(150);
+        assertThat(productRepository.findById(productId).orElseThrow().getStockQuantity()).isZero();
+        assertThat(batchSize.count() - batchesBefore).isLessThan(200);
+        assertThat(meterRegistry.get("product.stock.batch.queue.wait").timer().count()).isGreaterThanOrEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("차감과 추가 요청이 섞여도 순 변경분이 반영된다")
+    void batchMixedMutations() {
+        // given
+        Long productId = saveProduct(200);
+
+        // when
+        LoadResult result = ConcurrentLoadRunner.run("mixed", 40, 5, (worker, iteration) -> {
+            if (worker % 2 == 0) {
+                stockMutationBatcher.reserve(productId, 2);
+            } else {
+                stockMutationBatcher.release(productId, 1);
+            }
+        });
+
+        // then
+        assertThat(result.failures()).isZero();
+        assertThat(productRepository.findById(productId).orElseThrow().getStockQuantity()).isEqualTo(200 - 200 + 100);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 상품이면 예외가 전달된다")
+    void reserveNonExistentProduct() {
+        assertThatThrownBy(() -> stockMutationBatcher.reserve(999_999L, 1))
+                .isInstanceOf(ProductNotFoundException.class);
+    }
+
+    private Long saveProduct(int stockQuantity) {
+        return productRepository.save(
+                Product.create("배치 상품", "설명", BigDecimal.valueOf(10000), stockQuantity)).getId();
+    }
+}
@@ -0,0 +1,85 @@
+package com.examples.springbootmonolithicstarter.domains.product.stock;
+
+import com.examples.springbootmonolithicstarter.domains.product.model.Product;
+import com.examples.springbootmonolithicstarter.domains.product.repository.ProductRepository;
+import com.examples.springbootmonolithicstarter.global.exception.BusinessException;
+import com.examples.springbootmonolithicstarter.global.exception.CommonErrorCode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("StockMutationBatcher 제한 시간 테스트")
+@SpringBootTest(properties = {
+        "product.stock.batch.enabled=true",
+        "product.stock.batch.window=5ms",
+        "product.stock.batch.timeout=300ms"
+})
+class StockMutationBatcherTimeoutTest {
+
+    @Autowired
+    private StockMutationBatcher stockMutationBatcher;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @AfterEach
+    void tearDown() {
+        productRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("제한 시간 안에 배치에 포함되지 못한 요청은 반영하지 않고 실패하며, 처리 중인 배치의 요청은 결과를 기다린다")
+    void timeoutBeforeBatch() throws Exception {
+        // given
+        Long productId = productRepository.save(
+                Product.create("배치 상품", "설명", BigDecimal.valueOf(10000), 10)).getId();
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch unlock = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            // 다른 트랜잭션이 행을 잠가 첫 배치가 끝나지 못하게 함
+            Future<?> holder = executor.submit(() -> transactionTemplate.executeWithoutResult(status -> {
+                productRepository.findByIdForUpdate(productId).orElseThrow();
+                locked.countDown();
+                try {
+                    unlock.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }));
+            locked.await();
+            Future<?> first = executor.submit(() -> stockMutationBatcher.reserve(productId, 1));
+            Thread.sleep(100);
+
+            // when & then
+            assertThatThrownBy(() -> stockMutationBatcher.reserve(productId, 2))
+                    .isInstanceOf(BusinessException.class)
+                    .extracting(e -> ((BusinessException) e).getErrorCode())
+                    .isEqualTo(CommonErrorCode.REQUEST_TIMEOUT);
+
+            unlock.countDown();
+            holder.get(5, TimeUnit.SECONDS);
+            first.get(5, TimeUnit.SECONDS);
+            assertThat(productRepository.findById(productId).orElseThrow().getStockQuantity()).isEqualTo(9);
+        } finally {
+            unlock.countDown();
+            executor.shutdownNow();
+        }
+    }
+}
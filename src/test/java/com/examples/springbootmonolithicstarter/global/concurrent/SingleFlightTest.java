@@ -0,0 +1,145 @@
+package com.examples.springbootmonolithicstarter.global.concurrent;
+
+import com.examples.springbootmonolithicstarter.global.exception.BusinessException;
+import com.examples.springbootmonolithicstarter.global.exception.CommonErrorCode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("SingleFlight")
+class SingleFlightTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    private SingleFlight<Long, String> singleFlight;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        singleFlight = new SingleFlight<>();
+        executor = Executors.newFixedThreadPool(8);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("실행 중인 호출이 있으면 loader 를 다시 실행하지 않고 그 결과를 함께 반환받는다")
+    void coalesce() throws Exception {
+        // given
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger loads = new AtomicInteger();
+        Future<String> leader = executor.submit(() -> singleFlight.execute(1L, TIMEOUT, () -> {
+            loads.incrementAndGet();
+            loading.countDown();
+            await(release);
+            return "상품";
+        }));
+        loading.await();
+
+        // when
+        List<Future<String>> followers = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            followers.add(executor.submit(() -> singleFlight.execute(1L, TIMEOUT, () -> {
+                loads.incrementAndGet();
+                return "중복 조회";
+            })));
+        }
+        awaitWaiting(followers);
+        release.countDown();
+
+        // then
+        assertThat(leader.get()).isEqualTo("상품");
+        for (Future<String> follower : followers) {
+            assertThat(follower.get()).isEqualTo("상품");
+        }
+        assertThat(loads).hasValue(1);
+        assertThat(singleFlight.inFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("loader 에서 발생한 예외를 기다리던 호출에도 전달하고, 다음 호출은 다시 실행한다")
+    void propagateFailure() throws Exception {
+        // given
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<String> leader = executor.submit(() -> singleFlight.execute(1L, TIMEOUT, () -> {
+            loading.countDown();
+            await(release);
+            throw new IllegalStateException("조회 실패");
+        }));
+        loading.await();
+        Future<String> follower = executor.submit(() -> singleFlight.execute(1L, TIMEOUT, () -> "중복 조회"));
+        awaitWaiting(List.of(follower));
+
+        // when
+        release.countDown();
+
+        // then
+        assertThatThrownBy(leader::get).hasCauseInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(follower::get).hasRootCauseMessage("조회 실패");
+        assertThat(singleFlight.execute(1L, TIMEOUT, () -> "재조회")).isEqualTo("재조회");
+    }
+
+    @Test
+    @DisplayName("대기 시간이 초과되면 REQUEST_TIMEOUT 예외가 발생한다")
+    void timeout() throws Exception {
+        // given
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        executor.submit(() -> singleFlight.execute(1L, TIMEOUT, () -> {
+            loading.countDown();
+            await(release);
+            return "상품";
+        }));
+        loading.await();
+
+        // when & then
+        assertThatThrownBy(() -> singleFlight.execute(1L, Duration.ofMillis(50), () -> "중복 조회"))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(CommonErrorCode.REQUEST_TIMEOUT);
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("다른 키는 합치지 않는다")
+    void differentKeys() {
+        assertThat(singleFlight.execute(1L, TIMEOUT, () -> "1")).isEqualTo("1");
+        assertThat(singleFlight.execute(2L, TIMEOUT, () -> "2")).isEqualTo("2");
+    }
+
+    /**
+     * 대기 중인 호출은 아직 완료되지 않아야 하므로, 잠시 기다린 뒤에도 완료되지 않았는지 확인한다.
+     */
+    private static void awaitWaiting(List<Future<String>> futures) throws InterruptedException {
+        TimeUnit.MILLISECONDS.sleep(100);
+        assertThat(futures).noneMatch(Future::isDone);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
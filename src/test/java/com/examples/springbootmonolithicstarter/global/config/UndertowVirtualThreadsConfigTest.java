@@ -0,0 +1,67 @@
+package com.examples.springbootmonolithicstarter.global.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Undertow 가상 스레드 설정 통합 테스트")
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.threads.virtual.enabled=true"
+)
+@Import(UndertowVirtualThreadsConfigTest.CurrentThreadController.class)
+class UndertowVirtualThreadsConfigTest {
+
+    @LocalServerPort
+    private int port;
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    @Test
+    @DisplayName("가상 스레드를 활성화하면 서블릿 요청을 워커 스레드가 아닌 가상 스레드에서 처리한다")
+    void handlesRequestOnVirtualThread() throws Exception {
+        // when
+        String body = get("/test/current-thread");
+
+        // then
+        assertThat(body).startsWith("virtual=true").contains("undertow-");
+    }
+
+    @Test
+    @DisplayName("상품 API 도 가상 스레드에서 정상 처리된다")
+    void productApi() throws Exception {
+        // when
+        HttpResponse<String> response = httpClient.send(
+                HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/products?size=1")).build(),
+                HttpResponse.BodyHandlers.ofString());
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(200);
+    }
+
+    private String get(String path) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path)).build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofString()).body();
+    }
+
+    @RestController
+    static class CurrentThreadController {
+
+        @GetMapping("/test/current-thread")
+        String currentThread() {
+            Thread thread = Thread.currentThread();
+            return "virtual=" + thread.isVirtual() + ", name=" + thread.getName();
+        }
+    }
+}
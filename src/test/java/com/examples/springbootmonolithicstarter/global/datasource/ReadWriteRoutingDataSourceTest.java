@@ -0,0 +1,293 @@
+package com.examples.springbootmonolithicstarter.global.datasource;
+
+import com.examples.springbootmonolithicstarter.domains.product.dto.request.QuoteRequest;
+import com.examples.springbootmonolithicstarter.domains.product.model.Product;
+import com.examples.springbootmonolithicstarter.domains.product.repository.ProductRepository;
+import com.examples.springbootmonolithicstarter.domains.product.service.application.ProductApplicationService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.simple.SimpleJdbcInsert;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 두 개의 H2 메모리 DB 를 primary(testdb) / 복제본(replica)으로 사용한다.
+ * 복제는 primary 의 heartbeat 를 복제본에 복사하는 것으로 흉내 낸다.
+ */
+@DisplayName("읽기/쓰기 DataSource 라우팅 통합 테스트")
+@SpringBootTest(properties = {
+        "datasource.routing.enabled=true",
+        "datasource.routing.replica.url=jdbc:h2:mem:replica;DB_CLOSE_DELAY=-1",
+        "datasource.routing.replica.username=sa",
+        "datasource.routing.replica.password=",
+        "datasource.routing.max-replica-lag=3h",
+        "datasource.routing.lag-check-interval=1h"
+})
+class ReadWriteRoutingDataSourceTest {
+
+    private static final String PRIMARY = "TESTDB";
+    private static final String REPLICA = "REPLICA";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ReplicaLagMonitor replicaLagMonitor;
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private DataSource primaryDataSource;
+
+    @Autowired
+    private ProductApplicationService productApplicationService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    // 복제본 커넥션 풀은 읽기 전용이므로 복제를 흉내 낼 때는 별도 커넥션(auto-commit)을 사용
+    private final DataSource replicationDataSource =
+            new DriverManagerDataSource("jdbc:h2:mem:replica;DB_CLOSE_DELAY=-1", "sa", "");
+    private final JdbcTemplate replication = new JdbcTemplate(replicationDataSource);
+
+    private TransactionTemplate readOnly;
+    private TransactionTemplate readWrite;
+
+    @BeforeEach
+    void setUp() {
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        readWrite = new TransactionTemplate(transactionManager);
+        replicaLagMonitor.check();
+        replicate();
+        replicaLagMonitor.check();
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReadYourWritesContext.clear();
+    }
+
+    @Nested
+    @DisplayName("트랜잭션 종류별 라우팅")
+    class ByTransaction {
+
+        @Test
+        @DisplayName("읽기 전용 트랜잭션은 복제본에서 실행한다")
+        void readOnlyToReplica() {
+            assertThat(replicaLagMonitor.isReplicaAvailable()).isTrue();
+
+            assertThat(databaseIn(readOnly)).isEqualTo(REPLICA);
+        }
+
+        @Test
+        @DisplayName("쓰기 트랜잭션과 트랜잭션 밖의 조회는 primary 에서 실행한다")
+        void readWriteToPrimary() {
+            assertThat(databaseIn(readWrite)).isEqualTo(PRIMARY);
+            assertThat(currentDatabase()).isEqualTo(PRIMARY);
+        }
+    }
+
+    @Nested
+    @DisplayName("read-your-writes")
+    class ReadYourWrites {
+
+        @Test
+        @DisplayName("쓰기를 커밋한 뒤 window 동안의 읽기 전용 트랜잭션은 primary 에서 실행한다")
+        void pinnedAfterWrite() {
+            readWrite.executeWithoutResult(status -> currentDatabase());
+
+            assertThat(databaseIn(readOnly)).isEqualTo(PRIMARY);
+        }
+
+        @Test
+        @DisplayName("롤백된 쓰기 트랜잭션은 읽기를 primary 로 고정하지 않는다")
+        void notPinnedAfterRollback() {
+            readWrite.executeWithoutResult(status -> {
+                currentDatabase();
+                status.setRollbackOnly();
+            });
+
+            assertThat(databaseIn(readOnly)).isEqualTo(REPLICA);
+        }
+
+        @Test
+        @DisplayName("기한이 지나면 다시 복제본에서 읽는다")
+        void expires() {
+            ReadYourWritesContext.begin(System.currentTimeMillis() - 1, primaryUntil -> {
+            });
+
+            assertThat(databaseIn(readOnly)).isEqualTo(REPLICA);
+        }
+    }
+
+    @Nested
+    @DisplayName("복제 지연")
+    class ReplicaLag {
+
+        @Test
+        @DisplayName("복제 지연이 허용치를 넘으면 읽기 전용 트랜잭션도 primary 에서 실행한다")
+        void fallbackWhenLagging() {
+            replicate(Duration.ofHours(4));
+            replicaLagMonitor.check();
+
+            assertThat(replicaLagMonitor.isReplicaAvailable()).isFalse();
+            assertThat(databaseIn(readOnly)).isEqualTo(PRIMARY);
+
+            replicate();
+            replicaLagMonitor.check();
+
+            assertThat(databaseIn(readOnly)).isEqualTo(REPLICA);
+        }
+
+        @Test
+        @DisplayName("복제본의 heartbeat 를 확인할 수 없으면 primary 에서 실행한다")
+        void fallbackWhenReplicaUnreachable() {
+            replication.execute("drop table replication_heartbeats");
+
+            replicaLagMonitor.check();
+
+            assertThat(replicaLagMonitor.isReplicaAvailable()).isFalse();
+            assertThat(replicaLagMonitor.getLagMillis()).isEqualTo(-1);
+            assertThat(databaseIn(readOnly)).isEqualTo(PRIMARY);
+        }
+
+        @Test
+        @DisplayName("다른 인스턴스의 heartbeat 는 이 인스턴스의 지연 계산에 사용하지 않는다")
+        void ignoresOtherInstances() {
+            replication.update("merge into replication_heartbeats (instance_id, beat_at) key (instance_id) values (?, ?)",
+                    "other-instance", System.currentTimeMillis() + Duration.ofHours(10).toMillis());
+            replicate(Duration.ofHours(4));
+
+            replicaLagMonitor.check();
+
+            assertThat(replicaLagMonitor.isReplicaAvailable()).isFalse();
+        }
+
+        @Test
+        @DisplayName("최대 지연이 확인 주기의 2배 이하이면 생성하지 않는다")
+        void rejectsMaxLagWithinTwoIntervals() {
+            assertThatThrownBy(() -> new ReplicaLagMonitor(primaryDataSource, primaryDataSource,
+                    Duration.ofSeconds(2), Duration.ofSeconds(1), new SimpleMeterRegistry()))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("상품 조회 서비스")
+    class ProductReads {
+
+        private Long productId;
+
+        @BeforeEach
+        void setUp() {
+            productId = productRepository.save(
+                    Product.create("primary 상품", "설명", BigDecimal.valueOf(10000), 10)).getId();
+            copyProductToReplica(productId, "복제본 상품");
+            // 상품 저장(쓰기 커밋)으로 생긴 read-your-writes 기한을 지움
+            ReadYourWritesContext.clear();
+        }
+
+        @AfterEach
+        void tearDown() {
+            replication.execute("drop table if exists products");
+            productRepository.deleteById(productId);
+        }
+
+        @Test
+        @DisplayName("캐시에 없는 견적 조회는 복제본에서 읽고, 쓰기로 취급하지 않는다")
+        void quoteFromReplica() {
+            double writes = routingCount("write");
+
+            String name = productApplicationService.quote(
+                    new QuoteRequest(List.of(new QuoteRequest.Line(productId, 1)))).lines().getFirst().name();
+
+            assertThat(name).isEqualTo("복제본 상품");
+            assertThat(routingCount("write")).isEqualTo(writes);
+            assertThat(ReadYourWritesContext.isPinnedToPrimary(System.currentTimeMillis())).isFalse();
+        }
+
+        @Test
+        @DisplayName("단건 조회의 캐시 적재는 primary 에서 읽고, read-your-writes 기한을 늘리지 않는다")
+        void cacheLoadFromPrimary() {
+            double writes = routingCount("write");
+
+            String name = productApplicationService.getProduct(productId).name();
+
+            assertThat(name).isEqualTo("primary 상품");
+            assertThat(routingCount("write")).isEqualTo(writes);
+            assertThat(ReadYourWritesContext.isPinnedToPrimary(System.currentTimeMillis())).isFalse();
+        }
+
+        private double routingCount(String reason) {
+            return meterRegistry.get("datasource.routing").tag("target", "primary").tag("reason", reason).counter().count();
+        }
+
+        /**
+         * primary 의 상품 테이블 구조와 행을 복제본에 만들고, 어느 DB 에서 읽었는지 알 수 있도록 이름만 바꾼다.
+         */
+        private void copyProductToReplica(Long id, String name) {
+            List<String> script = jdbcTemplate.queryForList("script nodata table products", String.class);
+            script.stream()
+                    .filter(statement -> statement.startsWith("CREATE MEMORY TABLE") || statement.startsWith("CREATE CACHED TABLE")
+                            || statement.startsWith("ALTER TABLE"))
+                    .forEach(replication::execute);
+            Map<String, Object> row = new HashMap<>(jdbcTemplate.queryForMap("select * from products where id = ?", id));
+            row.put("NAME", name);
+            new SimpleJdbcInsert(replicationDataSource).withTableName("PRODUCTS").execute(row);
+        }
+    }
+
+    private String databaseIn(TransactionTemplate transactionTemplate) {
+        return transactionTemplate.execute(status -> currentDatabase());
+    }
+
+    private String currentDatabase() {
+        return jdbcTemplate.queryForObject("select database()", String.class);
+    }
+
+    /**
+     * primary 의 heartbeat 를 복제본에 반영한다.
+     */
+    private void replicate() {
+        replicate(Duration.ZERO);
+    }
+
+    /**
+     * 복제가 delay 만큼 늦은 것처럼 이 인스턴스의 heartbeat 를 그만큼 이전 값으로 복제본에 기록한다.
+     */
+    private void replicate(Duration delay) {
+        Long beat = new JdbcTemplate(primaryDataSource).queryForObject(
+                "select beat_at from replication_heartbeats where instance_id = ?", Long.class,
+                replicaLagMonitor.getInstanceId());
+        replication.execute("create table if not exists replication_heartbeats"
+                + " (instance_id varchar(64) primary key, beat_at bigint not null)");
+        replication.update("merge into replication_heartbeats (instance_id, beat_at) key (instance_id) values (?, ?)",
+                replicaLagMonitor.getInstanceId(), beat - delay.toMillis());
+    }
+}
@@ -0,0 +1,66 @@
+package com.examples.springbootmonolithicstarter.global.datasource;
+
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ReadYourWritesFilter")
+class ReadYourWritesFilterTest {
+
+    private final ReadYourWritesFilter filter = new ReadYourWritesFilter(Duration.ofSeconds(5));
+
+    @Test
+    @DisplayName("요청 중 쓰기가 커밋되면 primary 고정 기한을 쿠키로 내려준다")
+    void issuesCookieAfterWrite() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        long until = System.currentTimeMillis() + 5000;
+
+        filter.doFilter(new MockHttpServletRequest(), response, (servletRequest, servletResponse) ->
+                ReadYourWritesContext.written(until));
+
+        Cookie cookie = response.getCookie(ReadYourWritesFilter.COOKIE_NAME);
+        assertThat(cookie).isNotNull();
+        assertThat(cookie.getValue()).isEqualTo(String.valueOf(until));
+        assertThat(cookie.getMaxAge()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("쿠키의 기한이 남아 있으면 요청 동안 읽기를 primary 로 고정하고, 요청이 끝나면 해제한다")
+    void pinsWhileCookieValid() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(new Cookie(ReadYourWritesFilter.COOKIE_NAME, String.valueOf(System.currentTimeMillis() + 3000)));
+        AtomicBoolean pinned = new AtomicBoolean();
+
+        filter.doFilter(request, new MockHttpServletResponse(), (servletRequest, servletResponse) ->
+                pinned.set(ReadYourWritesContext.isPinnedToPrimary(System.currentTimeMillis())));
+
+        assertThat(pinned).isTrue();
+        assertThat(ReadYourWritesContext.isPinnedToPrimary(System.currentTimeMillis())).isFalse();
+    }
+
+    @Test
+    @DisplayName("쿠키의 기한은 window 이내로 제한하고, 형식이 잘못된 쿠키는 무시한다")
+    void limitsCookie() throws Exception {
+        MockHttpServletRequest farFuture = new MockHttpServletRequest();
+        farFuture.setCookies(new Cookie(ReadYourWritesFilter.COOKIE_NAME, String.valueOf(Long.MAX_VALUE)));
+        MockHttpServletRequest malformed = new MockHttpServletRequest();
+        malformed.setCookies(new Cookie(ReadYourWritesFilter.COOKIE_NAME, "forever"));
+        AtomicBoolean pinnedAfterWindow = new AtomicBoolean(true);
+        AtomicBoolean pinnedByMalformed = new AtomicBoolean(true);
+
+        filter.doFilter(farFuture, new MockHttpServletResponse(), (servletRequest, servletResponse) ->
+                pinnedAfterWindow.set(ReadYourWritesContext.isPinnedToPrimary(System.currentTimeMillis() + 6000)));
+        filter.doFilter(malformed, new MockHttpServletResponse(), (servletRequest, servletResponse) ->
+                pinnedByMalformed.set(ReadYourWritesContext.isPinnedToPrimary(System.currentTimeMillis())));
+
+        assertThat(pinnedAfterWindow).isFalse();
+        assertThat(pinnedByMalformed).isFalse();
+    }
+}
@@ -0,0 +1,99 @@
+package com.examples.springbootmonolithicstarter.global.jfr;
+
+import com.examples.springbootmonolithicstarter.domains.product.jfr.StockOperationEvent;
+import com.examples.springbootmonolithicstarter.global.config.FlightRecordingProperties;
+import com.examples.springbootmonolithicstarter.global.jfr.FlightRecordingEndpoint.RecordingDescriptor;
+import jdk.jfr.RecordingState;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.core.io.Resource;
+import org.springframework.util.unit.DataSize;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("FlightRecordingEndpoint")
+class FlightRecordingEndpointTest {
+
+    private final FlightRecordingEndpoint endpoint = new FlightRecordingEndpoint(new FlightRecordingProperties(
+            "default", Duration.ofSeconds(60), Duration.ofMinutes(10), DataSize.ofMegabytes(10), 2,
+            List.of(StockOperationEvent.NAME)));
+
+    @AfterEach
+    void tearDown() {
+        endpoint.destroy();
+    }
+
+    @Test
+    @DisplayName("시작한 recording 을 멈춘 뒤 내려받으면 재고 변경 이벤트가 기록되어 있고, 환경 변수/시스템 속성은 없다")
+    void startStopAndDump() throws Exception {
+        RecordingDescriptor started = endpoint.start(Duration.ofSeconds(30), "test");
+        StockOperationEvent event = new StockOperationEvent(1L, 3, StockOperationEvent.RESERVE);
+        event.begin();
+        event.setPath("PESSIMISTIC");
+        event.finish(StockOperationEvent.SUCCESS);
+
+        WebEndpointResponse<RecordingDescriptor> stopped = endpoint.stop(started.id());
+        WebEndpointResponse<Resource> dump = endpoint.dump(started.id());
+
+        assertThat(started.state()).isEqualTo(RecordingState.RUNNING);
+        assertThat(stopped.getBody().state()).isEqualTo(RecordingState.STOPPED);
+        assertThat(endpoint.recordings()).extracting(RecordingDescriptor::id).containsExactly(started.id());
+        Path file = Files.createTempFile("dump-", ".jfr");
+        try (InputStream in = dump.getBody().getInputStream()) {
+            Files.copy(in, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+        List<RecordedEvent> recorded = RecordingFile.readAllEvents(file);
+        List<RecordedEvent> events = recorded.stream()
+                .filter(event -> event.getEventType().getName().equals(StockOperationEvent.NAME))
+                .toList();
+        Files.delete(file);
+        assertThat(recorded).extracting(event -> event.getEventType().getName())
+                .doesNotContainAnyElementsOf(FlightRecordingEndpoint.SENSITIVE_EVENTS);
+        assertThat(events).singleElement().satisfies(event -> {
+            assertThat(event.getLong("productId")).isEqualTo(1L);
+            assertThat(event.getString("outcome")).isEqualTo(StockOperationEvent.SUCCESS);
+        });
+    }
+
+    @Test
+    @DisplayName("최대 기록 시간보다 긴 기간을 요청하면 최대 기록 시간으로 줄인다")
+    void capsDuration() {
+        RecordingDescriptor started = endpoint.start(Duration.ofHours(1), null);
+
+        assertThat(started.duration()).isEqualTo(Duration.ofMinutes(10));
+    }
+
+    @Test
+    @DisplayName("보관 개수를 넘으면 가장 오래된 종료된 recording 을 지우고, 모두 기록 중이면 시작하지 않는다")
+    void evictsStoppedRecordings() {
+        RecordingDescriptor first = endpoint.start(null, "first");
+        RecordingDescriptor second = endpoint.start(null, "second");
+        endpoint.stop(first.id());
+
+        RecordingDescriptor third = endpoint.start(null, "third");
+
+        assertThat(endpoint.recordings()).extracting(RecordingDescriptor::id).containsExactly(second.id(), third.id());
+        assertThatThrownBy(() -> endpoint.start(null, "fourth"))
+                .isInstanceOf(InvalidEndpointRequestException.class);
+    }
+
+    @Test
+    @DisplayName("없는 recording 은 404 로 응답한다")
+    void unknownRecording() throws Exception {
+        assertThat(endpoint.dump(Long.MAX_VALUE).getStatus()).isEqualTo(WebEndpointResponse.STATUS_NOT_FOUND);
+        assertThat(endpoint.stop(Long.MAX_VALUE).getStatus()).isEqualTo(WebEndpointResponse.STATUS_NOT_FOUND);
+    }
+}
@@ -0,0 +1,68 @@
+package com.examples.springbootmonolithicstarter.global.metrics;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("MeasuredAspect")
+class MeasuredAspectTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private SampleService service;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        AspectJProxyFactory factory = new AspectJProxyFactory(new SampleService());
+        factory.addAspect(new MeasuredAspect(meterRegistry));
+        service = factory.getProxy();
+    }
+
+    @Test
+    @DisplayName("public 메서드 실행 시간을 클래스/메서드별 success 타이머로 기록한다")
+    void recordsSuccess() {
+        service.work();
+        service.work();
+
+        Timer timer = timer("work", MeasuredAspect.SUCCESS);
+        assertThat(timer.count()).isEqualTo(2);
+        assertThat(timer.takeSnapshot().percentileValues()).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("예외로 끝난 호출은 outcome 에 예외 클래스 이름을 기록하고 예외를 그대로 전달한다")
+    void recordsFailure() {
+        assertThatThrownBy(() -> service.fail())
+                .isInstanceOf(IllegalStateException.class);
+
+        assertThat(timer("fail", "IllegalStateException").count()).isEqualTo(1);
+        assertThat(meterRegistry.find(MeasuredAspect.METRIC_NAME).tag("method", "fail")
+                .tag("outcome", MeasuredAspect.SUCCESS).timer()).isNull();
+    }
+
+    private Timer timer(String method, String outcome) {
+        return meterRegistry.get(MeasuredAspect.METRIC_NAME)
+                .tag("class", "SampleService")
+                .tag("method", method)
+                .tag("outcome", outcome)
+                .timer();
+    }
+
+    @Measured
+    static class SampleService {
+
+        public String work() {
+            return "done";
+        }
+
+        public void fail() {
+            throw new IllegalStateException("실패");
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.examples.springbootmonolithicstarter.global.timing;
+
+import com.examples.springbootmonolithicstarter.global.config.RequestTimingProperties;
+import com.examples.springbootmonolithicstarter.global.timing.RequestTiming.Phase;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("RequestTimingFilter")
+class RequestTimingFilterTest {
+
+    private final RequestTimingFilter filter = new RequestTimingFilter(Duration.ofMillis(500));
+    private final ServerTimingAdvice advice = new ServerTimingAdvice(
+            new RequestTimingProperties(true, true, Duration.ofMillis(500)));
+
+    @Test
+    @DisplayName("응답 본문을 쓰기 전까지의 구간 시간을 Server-Timing 헤더로 내려주고, 요청이 끝나면 정리한다")
+    void addsServerTimingHeader() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/products");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        AtomicReference<RequestTiming> current = new AtomicReference<>();
+
+        filter.doFilter(request, response, (servletRequest, servletResponse) -> {
+            current.set(RequestTiming.current());
+            RequestTiming.current().add(Phase.DB, 1_204_000);
+            RequestTiming.current().add(Phase.DB, 1_000);
+            ServletServerHttpResponse serverResponse = new ServletServerHttpResponse(response);
+            advice.beforeBodyWrite("body", null, MediaType.APPLICATION_JSON, null,
+                    new ServletServerHttpRequest(request), serverResponse);
+            serverResponse.flush();
+        });
+
+        String header = response.getHeader(ServerTimingAdvice.HEADER_NAME);
+        assertThat(header).startsWith("db;dur=1.205;desc=\"2\", map;dur=").contains(", app;dur=");
+        assertThat(header).doesNotContain("commit", "ser");
+        assertThat(current.get().count(Phase.MAPPING)).isEqualTo(1);
+        assertThat(current.get().count(Phase.SERIALIZATION)).isEqualTo(1);
+        assertThat(RequestTiming.current()).isNull();
+    }
+
+    @Test
+    @DisplayName("요청 밖에서는 구간을 기록하지 않는다")
+    void ignoresOutsideRequest() {
+        long start = RequestTiming.start();
+
+        RequestTiming.stop(Phase.DB, start);
+
+        assertThat(RequestTiming.current()).isNull();
+    }
+}
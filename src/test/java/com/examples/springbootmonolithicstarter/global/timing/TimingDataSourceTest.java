@@ -0,0 +1,79 @@
+package com.examples.springbootmonolithicstarter.global.timing;
+
+import com.examples.springbootmonolithicstarter.global.timing.RequestTiming.Phase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("TimingDataSource")
+class TimingDataSourceTest {
+
+    private TimingDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        dataSource = new TimingDataSource(new DriverManagerDataSource(
+                "jdbc:h2:mem:timing;DB_CLOSE_DELAY=-1", "sa", ""));
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE IF NOT EXISTS items (id BIGINT PRIMARY KEY, name VARCHAR(20))");
+            statement.execute("DELETE FROM items");
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestTiming.clear();
+    }
+
+    @Test
+    @DisplayName("요청 중 실행한 문장 수/시간과 커밋 시간을 기록한다")
+    void recordsStatementsAndCommit() throws Exception {
+        RequestTiming timing = RequestTiming.begin();
+
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try (PreparedStatement insert = connection.prepareStatement("INSERT INTO items VALUES (?, ?)")) {
+                insert.setLong(1, 1L);
+                insert.setString(2, "상품");
+                insert.executeUpdate();
+            }
+            try (PreparedStatement select = connection.prepareStatement("SELECT name FROM items WHERE id = ?")) {
+                select.setLong(1, 1L);
+                try (ResultSet resultSet = select.executeQuery()) {
+                    assertThat(resultSet.next()).isTrue();
+                    assertThat(resultSet.getString(1)).isEqualTo("상품");
+                }
+            }
+            connection.commit();
+        }
+
+        assertThat(timing.count(Phase.DB)).isEqualTo(2);
+        assertThat(timing.nanos(Phase.DB)).isPositive();
+        assertThat(timing.count(Phase.COMMIT)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("요청 밖에서는 기록하지 않고 그대로 위임하며, 드라이버 예외는 그대로 전달한다")
+    void delegatesOutsideRequest() throws Exception {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            assertThat(statement.executeUpdate("INSERT INTO items VALUES (2, 'a')")).isEqualTo(1);
+            assertThat(connection.unwrap(Connection.class)).isNotNull();
+            assertThatThrownBy(() -> statement.execute("SELECT * FROM missing_table"))
+                    .isInstanceOf(SQLException.class);
+        }
+        assertThat(RequestTiming.current()).isNull();
+    }
+}
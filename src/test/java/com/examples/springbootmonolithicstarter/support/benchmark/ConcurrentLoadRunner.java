@@ -0,0 +1,109 @@
+package com.examples.springbootmonolithicstarter.support.benchmark;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 동일한 작업을 N개의 스레드로 동시에 실행하고 처리량과 지연 시간 분포를 측정한다.
+ * 작업에서 예외가 발생하면 실패로 집계한다.
+ */
+public final class ConcurrentLoadRunner {
+
+    private ConcurrentLoadRunner() {
+    }
+
+    @FunctionalInterface
+    public interface Operation {
+        void run(int workerIndex, int iteration) throws Exception;
+    }
+
+    public static LoadResult run(String name, int concurrency, int operationsPerWorker, Operation operation) {
+        long[][] latencies = new long[concurrency][operationsPerWorker];
+        AtomicLong failures = new AtomicLong();
+        CountDownLatch ready = new CountDownLatch(concurrency);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(concurrency);
+
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+        try {
+            for (int worker = 0; worker < concurrency; worker++) {
+                int workerIndex = worker;
+                executor.execute(() -> {
+                    ready.countDown();
+                    try {
+                        start.await();
+                        for (int i = 0; i < operationsPerWorker; i++) {
+                            long begin = System.nanoTime();
+                            try {
+                                operation.run(workerIndex, i);
+                            } catch (Exception e) {
+                                failures.incrementAndGet();
+                            }
+                            latencies[workerIndex][i] = System.nanoTime() - begin;
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        done.countDown();
+                    }
+                });
+            }
+
+            ready.await();
+            long begin = System.nanoTime();
+            start.countDown();
+            done.await();
+            Duration elapsed = Duration.ofNanos(System.nanoTime() - begin);
+
+            long[] merged = Arrays.stream(latencies).flatMapToLong(Arrays::stream).sorted().toArray();
+            return new LoadResult(name, concurrency, merged.length, failures.get(), elapsed, merged);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } finally {
+            executor.shutdownNow();
+            awaitTermination(executor);
+        }
+    }
+
+    private static void awaitTermination(ExecutorService executor) {
+        try {
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public record LoadResult(
+            String name,
+            int concurrency,
+            long operations,
+            long failures,
+            Duration elapsed,
+            long[] sortedLatenciesNanos
+    ) {
+
+        public double throughputPerSecond() {
+            return operations / (elapsed.toNanos() / 1_000_000_000.0);
+        }
+
+        public double percentileMillis(double percentile) {
+            if (sortedLatenciesNanos.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(percentile / 100.0 * sortedLatenciesNanos.length) - 1;
+            return sortedLatenciesNanos[Math.max(0, index)] / 1_000_000.0;
+        }
+
+        public String summary() {
+            return String.format("[%s] concurrency=%d ops=%d failures=%d throughput=%.1f ops/s p50=%.3fms p99=%.3fms",
+                    name, concurrency, operations, failures, throughputPerSecond(),
+                    percentileMillis(50), percentileMillis(99));
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.examples.springbootmonolithicstarter.support.benchmark;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 별도 JVM 프로세스에서 HTTP GET 요청을 한꺼번에 동시에 보내고 지연 시간 분포를 출력한다.
+ * <p>
+ * 요청마다 새 연결을 사용하므로 동시 요청 수만큼 소켓(파일 디스크립터)이 필요하다.
+ * 서버와 같은 프로세스에서 보내면 양쪽 소켓이 한 프로세스의 파일 디스크립터 한도를 함께 쓰게 되므로 프로세스를 분리한다.
+ * 출력: completed=.. failed=.. elapsed=..ms p50=..ms p99=..ms max=..ms
+ */
+public final class HttpLoadClient {
+
+    private HttpLoadClient() {
+    }
+
+    /**
+     * 현재 JVM 과 같은 java 로 클라이언트 프로세스를 실행하고 결과 줄을 반환한다.
+     *
+     * @param urls 동시에 보낼 요청 URL 목록
+     */
+    public static String runInNewProcess(List<String> urls, Duration timeout) throws Exception {
+        Path classes = Path.of(HttpLoadClient.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+        List<String> command = List.of(
+                ProcessHandle.current().info().command().orElse("java"),
+                "-Xmx512m",
+                "-cp", classes.toString(),
+                HttpLoadClient.class.getName(),
+                String.valueOf(timeout.toSeconds()));
+        Process process = new ProcessBuilder(command)
+                .redirectError(ProcessBuilder.Redirect.INHERIT)
+                .start();
+        try (var stdin = process.outputWriter()) {
+            for (String url : urls) {
+                stdin.write(url);
+                stdin.newLine();
+            }
+        }
+        String output = new String(process.getInputStream().readAllBytes()).strip();
+        if (process.waitFor() != 0) {
+            throw new IllegalStateException("부하 클라이언트가 실패했습니다: " + output);
+        }
+        return output;
+    }
+
+    /**
+     * args[0]: 요청 타임아웃(초), 표준 입력: 요청 URL (한 줄에 하나)
+     */
+    public static void main(String[] args) throws Exception {
+        Duration timeout = Duration.ofSeconds(Long.parseLong(args[0]));
+        List<URI> uris = new String(System.in.readAllBytes()).lines().map(URI::create).toList();
+
+        long[] latencies = new long[uris.size()];
+        AtomicLong failures = new AtomicLong();
+        CountDownLatch start = new CountDownLatch(1);
+        long startedAt;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient client = HttpClient.newBuilder()
+                     .version(HttpClient.Version.HTTP_1_1)
+                     .connectTimeout(timeout)
+                     .build()) {
+            for (int i = 0; i < uris.size(); i++) {
+                int index = i;
+                executor.execute(() -> {
+                    HttpRequest request = HttpRequest.newBuilder(uris.get(index)).timeout(timeout).build();
+                    try {
+                        start.await();
+                        long requestedAt = System.nanoTime();
+                        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                        if (response.statusCode() == 200) {
+                            latencies[index] = System.nanoTime() - requestedAt;
+                        } else {
+                            failures.incrementAndGet();
+                        }
+                    } catch (Exception e) {
+                        failures.incrementAndGet();
+                    }
+                });
+            }
+            startedAt = System.nanoTime();
+            start.countDown();
+            executor.shutdown();
+            executor.awaitTermination(timeout.toSeconds() * 2, TimeUnit.SECONDS);
+        }
+        long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+
+        long[] completed = Arrays.stream(latencies).filter(latency -> latency > 0).sorted().toArray();
+        System.out.printf("completed=%d failed=%d elapsed=%dms p50=%dms p99=%dms max=%dms%n",
+                completed.length, failures.get(), elapsedMillis,
+                percentile(completed, 0.50), percentile(completed, 0.99), percentile(completed, 1.0));
+    }
+
+    private static long percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(index, 0)] / 1_000_000;
+    }
+}
@@ -0,0 +1,49 @@
+package com.examples.springbootmonolithicstarter.support.benchmark;
+
+import com.examples.springbootmonolithicstarter.domains.product.model.Product;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 벤치마크용 상품 데이터를 JPA 를 거치지 않고 JDBC 배치로 직접 INSERT 한다. (H2 전용)
+ * <p>
+ * 상품 ID 는 시퀀스로 할당하므로 연속된 ID 를 직접 부여하고,
+ * 이후 JPA 로 등록하는 상품과 겹치지 않도록 시퀀스를 부여한 ID 뒤로 옮긴다.
+ */
+public final class ProductTableSeeder {
+
+    private ProductTableSeeder() {
+    }
+
+    /**
+     * @param rows (name, description, price, stock_quantity, status, created_at, updated_at, version)
+     * @return 부여한 첫 번째 ID (이후 행은 1씩 증가)
+     */
+    public static long insert(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate, List<Object[]> rows) {
+        // 이미 할당된 ID 블록보다 뒤에서 시작하도록 시퀀스 값을 하나 소비
+        long reserved = jdbcTemplate.queryForObject("select next value for products_seq", Long.class);
+        long maxId = jdbcTemplate.queryForObject("select coalesce(max(id), 0) from products", Long.class);
+        long firstId = Math.max(reserved, maxId + 1);
+
+        List<Object[]> rowsWithId = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            Object[] row = rows.get(i);
+            Object[] rowWithId = new Object[row.length + 1];
+            rowWithId[0] = firstId + i;
+            System.arraycopy(row, 0, rowWithId, 1, row.length);
+            rowsWithId.add(rowWithId);
+        }
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate("""
+                insert into products (id, name, description, price, stock_quantity, status, created_at, updated_at, version)
+                values (?, ?, ?, ?, ?, ?, ?, ?, ?)
+                """, rowsWithId));
+
+        // pooled 최적화는 시퀀스 값 V 에 대해 (V - 할당 크기, V] 구간을 사용하므로 할당 크기만큼 더 뒤로 이동
+        long lastId = firstId + rows.size() - 1;
+        jdbcTemplate.execute("alter sequence products_seq restart with " + (lastId + Product.ID_ALLOCATION_SIZE + 1));
+        return firstId;
+    }
+}
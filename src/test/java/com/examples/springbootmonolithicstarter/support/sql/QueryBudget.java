@@ -0,0 +1,40 @@
+package com.examples.springbootmonolithicstarter.support.sql;
+
+/**
+ * 요청 하나가 실행할 수 있는 종류별 SQL 문장 수
+ * <p>
+ * 예: {@code QueryBudget.ofSelects(1).andUpdates(1)} (조회 1회 + 변경 1회)
+ */
+public record QueryBudget(
+        int selects,
+        int inserts,
+        int updates,
+        int deletes,
+        int others
+) {
+
+    public static QueryBudget none() {
+        return new QueryBudget(0, 0, 0, 0, 0);
+    }
+
+    public static QueryBudget ofSelects(int selects) {
+        return new QueryBudget(selects, 0, 0, 0, 0);
+    }
+
+    public QueryBudget andInserts(int inserts) {
+        return new QueryBudget(selects, inserts, updates, deletes, others);
+    }
+
+    public QueryBudget andUpdates(int updates) {
+        return new QueryBudget(selects, inserts, updates, deletes, others);
+    }
+
+    public QueryBudget andDeletes(int deletes) {
+        return new QueryBudget(selects, inserts, updates, deletes, others);
+    }
+
+    @Override
+    public String toString() {
+        return "select=%d insert=%d update=%d delete=%d other=%d".formatted(selects, inserts, updates, deletes, others);
+    }
+}
@@ -0,0 +1,74 @@
+package com.examples.springbootmonolithicstarter.support.sql;
+
+import com.examples.springbootmonolithicstarter.support.sql.SqlStatementCounter.SqlType;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link SqlStatementCounter#count} 로 집계한 문장 목록과 읽은 행 수
+ * <p>
+ * JDBC 배치(executeBatch)는 DB 왕복 한 번이므로 문장 하나로 센다.
+ */
+public final class RecordedStatements {
+
+    private final Map<SqlType, Integer> counts = new EnumMap<>(SqlType.class);
+    private final List<String> statements = new ArrayList<>();
+    private long fetchedRows;
+
+    RecordedStatements() {
+    }
+
+    void add(SqlType type, String sql) {
+        counts.merge(type, 1, Integer::sum);
+        statements.add(sql);
+    }
+
+    void addFetchedRow() {
+        fetchedRows++;
+    }
+
+    public int count(SqlType type) {
+        return counts.getOrDefault(type, 0);
+    }
+
+    public int total() {
+        return statements.size();
+    }
+
+    /**
+     * 조회 결과(ResultSet)에서 읽은 행 수
+     */
+    public long fetchedRows() {
+        return fetchedRows;
+    }
+
+    public List<String> statements() {
+        return Collections.unmodifiableList(statements);
+    }
+
+    public QueryBudget toBudget() {
+        return new QueryBudget(count(SqlType.SELECT), count(SqlType.INSERT), count(SqlType.UPDATE),
+                count(SqlType.DELETE), count(SqlType.OTHER));
+    }
+
+    /**
+     * 종류별 문장 수가 예산과 정확히 같은지 확인한다. 다르면 실행된 문장 목록과 함께 실패한다.
+     * (예산보다 적어진 경우도 실패하므로, 개선했다면 예산을 함께 줄인다)
+     */
+    public void assertExactly(QueryBudget budget) {
+        QueryBudget actual = toBudget();
+        if (!actual.equals(budget)) {
+            throw new AssertionError("SQL 문장 수가 예산과 다릅니다.%n expected: %s%n   actual: %s%n%s"
+                    .formatted(budget, actual, String.join(System.lineSeparator(), statements)));
+        }
+    }
+
+    @Override
+    public String toString() {
+        return toBudget() + " rows=" + fetchedRows;
+    }
+}
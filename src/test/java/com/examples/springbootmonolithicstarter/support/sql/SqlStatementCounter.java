@@ -0,0 +1,85 @@
+package com.examples.springbootmonolithicstarter.support.sql;
+
+import java.util.Locale;
+
+/**
+ * 작업 하나를 실행하는 동안 현재 스레드에서 실행된 JDBC 문장을 종류별로 센다.
+ * ({@link StatementCountingDataSource} 를 거친 커넥션만 집계)
+ * <p>
+ * MockMvc 요청은 테스트 스레드에서 처리되므로 요청 하나의 문장 수가 그대로 집계되고,
+ * 스케줄 작업 등 다른 스레드의 문장은 섞이지 않는다.
+ */
+public final class SqlStatementCounter {
+
+    private static final ThreadLocal<RecordedStatements> CURRENT = new ThreadLocal<>();
+
+    private SqlStatementCounter() {
+    }
+
+    @FunctionalInterface
+    public interface Action {
+        void run() throws Exception;
+    }
+
+    public static RecordedStatements count(Action action) throws Exception {
+        RecordedStatements recorded = new RecordedStatements();
+        RecordedStatements previous = CURRENT.get();
+        CURRENT.set(recorded);
+        try {
+            action.run();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+        return recorded;
+    }
+
+    static void executed(String sql) {
+        RecordedStatements recorded = CURRENT.get();
+        if (recorded != null) {
+            recorded.add(SqlType.of(sql), sql);
+        }
+    }
+
+    static void rowFetched() {
+        RecordedStatements recorded = CURRENT.get();
+        if (recorded != null) {
+            recorded.addFetchedRow();
+        }
+    }
+
+    public enum SqlType {
+        SELECT, INSERT, UPDATE, DELETE, OTHER;
+
+        /**
+         * 앞쪽 주석(use_sql_comments)과 공백을 건너뛴 첫 단어로 분류한다.
+         */
+        static SqlType of(String sql) {
+            if (sql == null) {
+                return OTHER;
+            }
+            String statement = sql.strip();
+            while (statement.startsWith("/*")) {
+                int end = statement.indexOf("*/");
+                if (end < 0) {
+                    return OTHER;
+                }
+                statement = statement.substring(end + 2).strip();
+            }
+            int space = 0;
+            while (space < statement.length() && !Character.isWhitespace(statement.charAt(space))) {
+                space++;
+            }
+            return switch (statement.substring(0, space).toLowerCase(Locale.ROOT)) {
+                case "select", "with" -> SELECT;
+                case "insert" -> INSERT;
+                case "update" -> UPDATE;
+                case "delete" -> DELETE;
+                default -> OTHER;
+            };
+        }
+    }
+}